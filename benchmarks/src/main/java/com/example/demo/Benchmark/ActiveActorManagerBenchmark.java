@@ -0,0 +1,69 @@
+package com.example.demo.Benchmark;
+
+import com.example.demo.Level.LevelManager.ActiveActorManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ActiveActorManager#updateActors()} over enemy planes, user projectiles and enemy projectiles.
+ * <p>
+ * The actors keep moving from one invocation to the next, which costs the same wherever they are, so the
+ * population is only rebuilt at the start of every iteration to keep the positions in a realistic range.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActiveActorManagerBenchmark {
+
+    /**
+     * The number of actors in each of the enemy unit, user projectile and enemy projectile lists.
+     */
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    /**
+     * The manager holding the actors.
+     */
+    private ActiveActorManager activeActorManager;
+
+    /**
+     * Fills a new manager with actors at random positions.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        BenchmarkActors.enableHeadless();
+        Random random = new Random(BenchmarkActors.SEED);
+        activeActorManager = new ActiveActorManager();
+        activeActorManager.getEnemyUnits().addAll(BenchmarkActors.enemyPlanes(random, size));
+        activeActorManager.getUserProjectiles().addAll(BenchmarkActors.userProjectiles(random, size));
+        activeActorManager.getEnemyProjectiles().addAll(BenchmarkActors.enemyProjectiles(random, size));
+    }
+
+    /**
+     * Updates every actor once, as one tick of the game does.
+     *
+     * @return the manager, so the work cannot be dropped.
+     */
+    @Benchmark
+    public ActiveActorManager updateActors() {
+        activeActorManager.updateActors();
+        return activeActorManager;
+    }
+}
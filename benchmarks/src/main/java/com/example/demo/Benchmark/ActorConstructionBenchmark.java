@@ -0,0 +1,85 @@
+package com.example.demo.Benchmark;
+
+import com.example.demo.Actor.Plane.EnemyPlane;
+import com.example.demo.Actor.Projectile.UserProjectile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of bringing an actor into the game: constructing a new {@link UserProjectile} or
+ * {@link EnemyPlane}, and taking one from its pool and returning it, as the spawners and the user plane do.
+ * <p>
+ * Run with {@code -prof gc} to see the bytes allocated by each path next to its time.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActorConstructionBenchmark {
+
+    /**
+     * Switches to headless mode, so no images are decoded.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkActors.enableHeadless();
+    }
+
+    /**
+     * Constructs a new user projectile.
+     *
+     * @return the projectile, so the construction cannot be dropped.
+     */
+    @Benchmark
+    public UserProjectile newUserProjectile() {
+        return new UserProjectile(100, 100, 50, 50);
+    }
+
+    /**
+     * Constructs a new enemy plane.
+     *
+     * @return the plane, so the construction cannot be dropped.
+     */
+    @Benchmark
+    public EnemyPlane newEnemyPlane() {
+        return new EnemyPlane(1000, 100);
+    }
+
+    /**
+     * Takes a user projectile from its pool and returns it, as a shot that leaves the screen does.
+     *
+     * @return the projectile, so the work cannot be dropped.
+     */
+    @Benchmark
+    public UserProjectile obtainAndRecycleUserProjectile() {
+        UserProjectile projectile = UserProjectile.obtain(100, 100, 50, 50, 1);
+        projectile.recycle();
+        return projectile;
+    }
+
+    /**
+     * Takes an enemy plane from its pool and returns it, as a plane that is shot down does.
+     *
+     * @return the plane, so the work cannot be dropped.
+     */
+    @Benchmark
+    public EnemyPlane obtainAndRecycleEnemyPlane() {
+        EnemyPlane plane = EnemyPlane.obtain(1000, 100);
+        plane.recycle();
+        return plane;
+    }
+}
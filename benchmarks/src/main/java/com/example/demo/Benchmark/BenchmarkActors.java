@@ -0,0 +1,160 @@
+package com.example.demo.Benchmark;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.Plane.EnemyPlane;
+import com.example.demo.Actor.Projectile.EnemyProjectile;
+import com.example.demo.Actor.Projectile.UserProjectile;
+import com.example.demo.Controller.GameRuntime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds the actor populations the benchmarks run on.
+ * <p>
+ * Every population is drawn from a seeded {@link Random}, so two runs of the same benchmark measure the same
+ * scene. The benchmarks run headless (see {@link GameRuntime#setHeadless(boolean)}): actors are plain simulation
+ * objects, with no images decoded and no JavaFX toolkit started.
+ * </p>
+ */
+final class BenchmarkActors {
+
+    /**
+     * The width of the area the actors are spread over, the same as the game screen.
+     */
+    static final double SCREEN_WIDTH = 1300;
+
+    /**
+     * The height of the area the actors are spread over, the same as the game screen.
+     */
+    static final double SCREEN_HEIGHT = 750;
+
+    /**
+     * The seed of the random positions, fixed so every run measures the same scene.
+     */
+    static final long SEED = 2024L;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private BenchmarkActors() {
+    }
+
+    /**
+     * Switches the game to headless mode. Must be called before any actor is created.
+     */
+    static void enableHeadless() {
+        GameRuntime.setHeadless(true);
+    }
+
+    /**
+     * Creates enemy planes at random positions on the screen.
+     *
+     * @param random the source of the positions.
+     * @param count the number of planes.
+     * @return the new planes.
+     */
+    static List<ActiveActorDestructible> enemyPlanes(Random random, int count) {
+        List<ActiveActorDestructible> planes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            planes.add(new EnemyPlane(random.nextDouble() * SCREEN_WIDTH, random.nextDouble() * SCREEN_HEIGHT));
+        }
+        return planes;
+    }
+
+    /**
+     * Creates user projectiles at random positions on the screen.
+     *
+     * @param random the source of the positions.
+     * @param count the number of projectiles.
+     * @return the new projectiles.
+     */
+    static List<ActiveActorDestructible> userProjectiles(Random random, int count) {
+        List<ActiveActorDestructible> projectiles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            projectiles.add(new UserProjectile(random.nextDouble() * SCREEN_WIDTH, random.nextDouble() * SCREEN_HEIGHT,
+                    50, 50));
+        }
+        return projectiles;
+    }
+
+    /**
+     * Creates enemy projectiles at random positions on the screen.
+     *
+     * @param random the source of the positions.
+     * @param count the number of projectiles.
+     * @return the new projectiles.
+     */
+    static List<ActiveActorDestructible> enemyProjectiles(Random random, int count) {
+        List<ActiveActorDestructible> projectiles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            projectiles.add(new EnemyProjectile(random.nextDouble() * SCREEN_WIDTH,
+                    random.nextDouble() * SCREEN_HEIGHT));
+        }
+        return projectiles;
+    }
+
+    /**
+     * Creates inert actors at random positions on the screen, with sizes from a projectile to a small plane.
+     * Hits on these actors do nothing, so the same population can be checked for collisions again and again.
+     *
+     * @param random the source of the positions and sizes.
+     * @param count the number of actors.
+     * @return the new actors.
+     */
+    static List<ActiveActorDestructible> inertActors(Random random, int count) {
+        List<ActiveActorDestructible> actors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            actors.add(new InertActor(random.nextDouble() * SCREEN_WIDTH, random.nextDouble() * SCREEN_HEIGHT,
+                    10 + random.nextInt(140), 10 + random.nextInt(60)));
+        }
+        return actors;
+    }
+
+    /**
+     * An actor that never moves and ignores damage, so benchmarks that hit it do not change the scene they measure.
+     */
+    static final class InertActor extends ActiveActorDestructible {
+
+        /**
+         * The number of hits taken, read by the benchmarks so the hits cannot be optimized away.
+         */
+        int hits;
+
+        /**
+         * Constructs an inert actor whose hitbox covers its whole image.
+         *
+         * @param initialXPos the X position of the actor.
+         * @param initialYPos the Y position of the actor.
+         * @param width the width of the actor.
+         * @param height the height of the actor.
+         */
+        InertActor(double initialXPos, double initialYPos, double width, double height) {
+            super("userplane.png", width, (int) height, initialXPos, initialYPos);
+            getState().setSize(width, height);
+        }
+
+        /**
+         * Does nothing; inert actors never move.
+         */
+        @Override
+        public void updatePosition() {
+        }
+
+        /**
+         * Does nothing; inert actors never move.
+         */
+        @Override
+        public void updateActor() {
+        }
+
+        /**
+         * Counts the hit without changing the state of the actor.
+         */
+        @Override
+        public void takeDamage() {
+            hits++;
+        }
+    }
+}
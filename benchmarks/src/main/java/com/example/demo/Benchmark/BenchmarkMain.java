@@ -0,0 +1,61 @@
+package com.example.demo.Benchmark;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Entry point of the benchmark jar.
+ * <p>
+ * Accepts the usual JMH command line (for example {@code -p size=100} or a benchmark name pattern), and records the
+ * results as JSON to {@link #DEFAULT_RESULT_FILE}, relative to the working directory, unless a result format or file
+ * is given on the command line, so every run leaves numbers that can be compared with the previous one.
+ * </p>
+ */
+public final class BenchmarkMain {
+
+    /**
+     * The file the results are written to when none is given on the command line.
+     */
+    static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    /**
+     * Private constructor to prevent instantiation of this entry point.
+     */
+    private BenchmarkMain() {
+    }
+
+    /**
+     * Runs the benchmarks selected by the command line.
+     *
+     * @param args the JMH command line arguments.
+     * @throws CommandLineOptionException if the command line cannot be parsed.
+     * @throws RunnerException if a benchmark fails to run.
+     * @throws IOException if the benchmark list cannot be read.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListWithParams()
+                || commandLine.shouldListProfilers() || commandLine.shouldListResultFormats()) {
+            // Nothing to run, let JMH print what was asked for
+            Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.demo.Benchmark;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.Plane.EnemyPlane;
+import com.example.demo.Actor.Projectile.EnemyProjectile;
+import com.example.demo.Actor.Projectile.UserProjectile;
+import com.example.demo.Level.LevelManager.ActiveActorManager;
+import com.example.demo.Level.LevelManager.CleanDestroyedManager;
+import com.example.demo.Level.LevelManager.SceneLayer;
+import com.example.demo.Level.LevelManager.SceneLayerManager;
+import com.example.demo.Level.LevelManager.SceneUpdateManager;
+import javafx.scene.Group;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures the two clean-up passes of {@link CleanDestroyedManager}:
+ * {@link CleanDestroyedManager#cleanObjAndProjectile()} and {@link CleanDestroyedManager#removeAllDestroyedActors()}.
+ * <p>
+ * Both passes remove actors, so the population is rebuilt before every invocation and the setup is not measured.
+ * A share of the actors, given by {@link #removedPercent}, is set up to be removed: for the boundary pass those
+ * projectiles are on a boundary, for the destroyed pass those actors are destroyed. With no actor to remove, the
+ * numbers show the cost of the scan alone, which is what most ticks pay.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CleanDestroyedBenchmark {
+
+    /**
+     * The x position at which a user projectile touches the right boundary after one update.
+     */
+    private static final double AT_RIGHT_BOUNDARY_X = 1290;
+
+    /**
+     * The x position at which an enemy projectile touches the left boundary after one update.
+     */
+    private static final double AT_LEFT_BOUNDARY_X = -20;
+
+    /**
+     * The number of actors in each of the enemy unit, user projectile and enemy projectile lists.
+     */
+    @Param({"100", "1000"})
+    public int size;
+
+    /**
+     * The percentage of the actors of each list that the measured pass removes.
+     */
+    @Param({"0", "10"})
+    public int removedPercent;
+
+    /**
+     * The manager holding the actors.
+     */
+    private ActiveActorManager activeActorManager;
+
+    /**
+     * The manager under test.
+     */
+    private CleanDestroyedManager cleanDestroyedManager;
+
+    /**
+     * The buffer the removed nodes are recorded to. Cleared before every invocation and never flushed.
+     */
+    private SceneUpdateManager sceneUpdateManager;
+
+    /**
+     * The source of the actor positions, shared by all invocations of a trial.
+     */
+    private Random random;
+
+    /**
+     * Switches to headless mode and creates the managers.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        BenchmarkActors.enableHeadless();
+        random = new Random(BenchmarkActors.SEED);
+        SceneLayerManager layers = new SceneLayerManager(new Group());
+        sceneUpdateManager = new SceneUpdateManager(layers);
+        activeActorManager = new ActiveActorManager();
+        cleanDestroyedManager = new CleanDestroyedManager(layers.getLayer(SceneLayer.EFFECTS), sceneUpdateManager,
+                activeActorManager);
+    }
+
+    /**
+     * Fills the actor lists with a fresh population, a {@link #removedPercent} share of which is to be removed.
+     */
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        sceneUpdateManager.clear();
+        int removed = size * removedPercent / 100;
+        fill(activeActorManager.getEnemyUnits(), removed, () -> new EnemyPlane(onScreenX(), onScreenY()),
+                () -> destroyed(new EnemyPlane(onScreenX(), onScreenY())));
+        fill(activeActorManager.getUserProjectiles(), removed,
+                () -> new UserProjectile(onScreenX(), onScreenY(), 50, 50),
+                () -> new UserProjectile(AT_RIGHT_BOUNDARY_X, onScreenY(), 50, 50));
+        fill(activeActorManager.getEnemyProjectiles(), removed, () -> new EnemyProjectile(onScreenX(), onScreenY()),
+                () -> new EnemyProjectile(AT_LEFT_BOUNDARY_X, onScreenY()));
+    }
+
+    /**
+     * Removes the projectiles and pickups that reached a boundary.
+     *
+     * @return the number of user projectiles left, so the work cannot be dropped.
+     */
+    @Benchmark
+    public int cleanObjAndProjectile() {
+        cleanDestroyedManager.cleanObjAndProjectile();
+        return activeActorManager.getUserProjectiles().size();
+    }
+
+    /**
+     * Removes the destroyed actors of every list.
+     *
+     * @return the number of enemy units left, so the work cannot be dropped.
+     */
+    @Benchmark
+    public int removeAllDestroyedActors() {
+        cleanDestroyedManager.removeAllDestroyedActors();
+        return activeActorManager.getEnemyUnits().size();
+    }
+
+    /**
+     * Replaces the content of a list with {@link #size} new actors, the first {@code removed} of which come from
+     * {@code toRemove}. Every actor is updated once, so its hitbox matches its position.
+     *
+     * @param actors the list to fill.
+     * @param removed the number of actors to be removed by the measured pass.
+     * @param toKeep creates an actor the measured pass keeps.
+     * @param toRemove creates an actor the measured pass removes.
+     */
+    private void fill(List<ActiveActorDestructible> actors, int removed, Supplier<ActiveActorDestructible> toKeep,
+                      Supplier<ActiveActorDestructible> toRemove) {
+        actors.clear();
+        for (int i = 0; i < size; i++) {
+            ActiveActorDestructible actor = i < removed ? toRemove.get() : toKeep.get();
+            actor.updateActor();
+            actors.add(actor);
+        }
+        // Spread the removed actors over the list, as they are in a running level
+        Collections.shuffle(actors, random);
+    }
+
+    /**
+     * Destroys an actor.
+     *
+     * @param actor the actor to destroy.
+     * @return the same actor.
+     */
+    private static ActiveActorDestructible destroyed(ActiveActorDestructible actor) {
+        actor.destroy();
+        return actor;
+    }
+
+    /**
+     * Returns an x position well inside the screen, away from both boundaries.
+     *
+     * @return the x position.
+     */
+    private double onScreenX() {
+        return 100 + random.nextDouble() * (BenchmarkActors.SCREEN_WIDTH - 200);
+    }
+
+    /**
+     * Returns a y position on the screen.
+     *
+     * @return the y position.
+     */
+    private double onScreenY() {
+        return random.nextDouble() * BenchmarkActors.SCREEN_HEIGHT;
+    }
+}
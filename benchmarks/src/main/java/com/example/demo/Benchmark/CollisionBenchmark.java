@@ -0,0 +1,75 @@
+package com.example.demo.Benchmark;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Level.LevelManager.CollisionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CollisionManager#handleCollisions(List, List)} for two lists of the same size.
+ * <p>
+ * The smallest size stays under the broadphase threshold and measures the pairwise check; the larger ones go
+ * through the spatial hash grid. The actors are {@link BenchmarkActors.InertActor}s, so a hit costs a counter
+ * increment and the scene is the same for every invocation.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+
+    /**
+     * The number of actors in each of the two lists.
+     */
+    @Param({"5", "50", "200", "1000"})
+    public int size;
+
+    /**
+     * The first list of actors, for example the user projectiles.
+     */
+    private List<ActiveActorDestructible> actors1;
+
+    /**
+     * The second list of actors, for example the enemy units.
+     */
+    private List<ActiveActorDestructible> actors2;
+
+    /**
+     * Builds the two lists of actors.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkActors.enableHeadless();
+        Random random = new Random(BenchmarkActors.SEED);
+        actors1 = BenchmarkActors.inertActors(random, size);
+        actors2 = BenchmarkActors.inertActors(random, size);
+    }
+
+    /**
+     * Checks the two lists against each other once.
+     *
+     * @return the hits taken by the first actor, so the work cannot be dropped.
+     */
+    @Benchmark
+    public int handleCollisions() {
+        CollisionManager.handleCollisions(actors1, actors2);
+        return ((BenchmarkActors.InertActor) actors1.get(0)).hits;
+    }
+}
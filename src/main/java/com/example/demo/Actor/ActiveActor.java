@@ -1,12 +1,23 @@
 package com.example.demo.Actor;
 
-import javafx.scene.image.Image;
+import com.example.demo.Controller.GameRuntime;
+import com.example.demo.Level.LevelManager.ImageManager;
+import javafx.scene.Node;
 import javafx.scene.image.ImageView;
 
 /**
  * Abstract class representing an active actor in the game.
  * This class extends {@link ImageView} to allow actors to have images and positions.
  * It provides basic functionality for movement and updating images for subclasses.
+ * <p>
+ * The position and size used by the game logic live in an {@link ActorState}. Movement only changes that
+ * state; the JavaFX node is brought up to date by {@link #syncNode()}, which the renderer calls once per frame.
+ * </p>
+ * <p>
+ * Overlays such as a boss's shield or health bar can be {@link #attach attached} to the actor. An attached node is
+ * bound to the actor's layout and translation, so it follows the actor whenever the node is synced, without the
+ * level repositioning it every frame.
+ * </p>
  */
 public abstract class ActiveActor extends ImageView {
 	/**
@@ -16,6 +27,17 @@ public abstract class ActiveActor extends ImageView {
 	 */
 	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
 
+	/**
+	 * The plain-Java simulation state of the actor (position, size and hitbox).
+	 * The game logic reads and writes this state instead of the node properties.
+	 */
+	private final ActorState state;
+
+	/**
+	 * The number of overlay nodes currently attached to the actor.
+	 */
+	private int attachmentCount;
+
 	/**
 	 * Constructs an ActiveActor with the specified image and position.
 	 *
@@ -26,8 +48,13 @@ public abstract class ActiveActor extends ImageView {
 	 * @param initialYPos The initial Y position of the actor.
 	 */
 	public ActiveActor(String imageName, double imageWidth, int imageHeight, double initialXPos, double initialYPos) {
+		// Keep the simulation state in step with the few node properties that are set directly
+		this.state = new ActorState(initialXPos, initialYPos, imageWidth, imageHeight);
+		layoutXProperty().addListener((observable, oldValue, newValue) -> state.setOriginX(newValue.doubleValue()));
+		layoutYProperty().addListener((observable, oldValue, newValue) -> state.setOriginY(newValue.doubleValue()));
+		layoutBoundsProperty().addListener((observable, oldValue, newValue) -> state.setSize(newValue.getWidth(), newValue.getHeight()));
 		// Set the image for the actor
-		this.setImage(new Image(getClass().getResource(IMAGE_LOCATION + imageName).toExternalForm()));
+		setImage(imageName);
 		// Set the initial position and size for the actor
 		this.setLayoutX(initialXPos);
 		this.setLayoutY(initialYPos);
@@ -48,7 +75,7 @@ public abstract class ActiveActor extends ImageView {
 	 * @param horizontalMove The distance to move the actor horizontally.
 	 */
 	protected void moveHorizontally(double horizontalMove) {
-		this.setTranslateX(getTranslateX() + horizontalMove);
+		state.setTranslationX(state.getTranslationX() + horizontalMove);
 	}
 
 	/**
@@ -57,7 +84,7 @@ public abstract class ActiveActor extends ImageView {
 	 * @param verticalMove The distance to move the actor vertically.
 	 */
 	protected void moveVertically(double verticalMove) {
-		this.setTranslateY(getTranslateY() + verticalMove);
+		state.setTranslationY(state.getTranslationY() + verticalMove);
 	}
 
 	/**
@@ -66,6 +93,77 @@ public abstract class ActiveActor extends ImageView {
 	 * @param imageName The name of the new image to set for the actor.
 	 */
 	protected void setImage(String imageName) {
-		this.setImage(new Image(getClass().getResource(IMAGE_LOCATION + imageName).toExternalForm()));
+		if (GameRuntime.isHeadless()) {
+			return; // No toolkit to decode images; the fit size is used as the actor size
+		}
+		this.setImage(ImageManager.getInstance().getImage(IMAGE_LOCATION + imageName));
+	}
+
+	/**
+	 * Returns the simulation state of the actor.
+	 *
+	 * @return The {@link ActorState} holding the actor's position, size and hitbox.
+	 */
+	public ActorState getState() {
+		return state;
+	}
+
+	/**
+	 * Attaches an overlay node to the actor at the given offset from the actor's origin.
+	 * <p>
+	 * The overlay's layout is bound to the actor's layout plus the offset, and its translation to the actor's
+	 * translation, so the overlay moves with the actor every time {@link #syncNode()} runs. The overlay can live
+	 * in any scene layer; it does not have to be a child of the actor.
+	 * </p>
+	 *
+	 * @param overlay the node to attach
+	 * @param offsetX the horizontal offset of the overlay from the actor's origin
+	 * @param offsetY the vertical offset of the overlay from the actor's origin
+	 */
+	public void attach(Node overlay, double offsetX, double offsetY) {
+		overlay.layoutXProperty().bind(layoutXProperty().add(offsetX));
+		overlay.layoutYProperty().bind(layoutYProperty().add(offsetY));
+		overlay.translateXProperty().bind(translateXProperty());
+		overlay.translateYProperty().bind(translateYProperty());
+		attachmentCount++;
+	}
+
+	/**
+	 * Detaches an overlay node that was attached with {@link #attach}. The overlay keeps its last position.
+	 *
+	 * @param overlay the node to detach
+	 */
+	public void detach(Node overlay) {
+		if (!overlay.translateXProperty().isBound()) {
+			return;
+		}
+		overlay.layoutXProperty().unbind();
+		overlay.layoutYProperty().unbind();
+		overlay.translateXProperty().unbind();
+		overlay.translateYProperty().unbind();
+		attachmentCount--;
+	}
+
+	/**
+	 * Returns whether any overlay node is attached to the actor.
+	 * The canvas renderer uses it to keep the nodes of such actors synced, so their overlays still follow them.
+	 *
+	 * @return true if at least one overlay is attached
+	 */
+	public boolean hasAttachments() {
+		return attachmentCount > 0;
+	}
+
+	/**
+	 * Copies the simulation state onto the JavaFX node.
+	 * Properties are only written when they have changed, so idle actors do not invalidate the scene graph.
+	 */
+	public void syncNode() {
+		if (getTranslateX() != state.getTranslationX()) {
+			setTranslateX(state.getTranslationX());
+		}
+		if (getTranslateY() != state.getTranslationY()) {
+			setTranslateY(state.getTranslationY());
+		}
 	}
 }
\ No newline at end of file
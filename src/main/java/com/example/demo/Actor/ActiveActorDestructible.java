@@ -1,5 +1,6 @@
 package com.example.demo.Actor;
 
+import com.example.demo.Controller.GameRuntime;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 
@@ -7,6 +8,11 @@ import javafx.scene.shape.Rectangle;
  * Abstract class for active actors that are destructible.
  * This class extends {@link ActiveActor} and implements {@link Destructible}.
  * It adds the functionality of handling hitboxes for collision detection and tracking the destroyed state of the object.
+ * <p>
+ * The hitbox is stored as four plain numbers in the actor's {@link ActorState}, and collision checks read those
+ * numbers directly. A {@link Rectangle} outline is only created when the hitbox debug mode of
+ * {@link GameRuntime} is enabled.
+ * </p>
  */
 public abstract class ActiveActorDestructible extends ActiveActor implements Destructible {
 
@@ -18,10 +24,13 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	private boolean isDestroyed;
 
 	/**
-	 * The {@link Rectangle} representing the collision area of the actor.
-	 * This hitbox is used to detect interactions with other game elements
-	 * (e.g., bullets, obstacles) and is updated alongside the actor's position.
-	 * The hitbox is transparent and is drawn for collision purposes.
+	 * Indicates whether the actor is currently waiting in an {@link ActorPool} for reuse.
+	 */
+	private boolean pooled;
+
+	/**
+	 * The {@link Rectangle} outlining the collision area of the actor, for debugging only.
+	 * It is null unless the hitbox debug mode was enabled when the actor was created.
 	 */
 	private Rectangle hitbox;
 
@@ -41,27 +50,31 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	}
 
 	/**
-	 * Creates and adds the hitbox to the actor.
-	 * The hitbox is a {@link Rectangle} that represents the collision area of the actor.
-	 * The hitbox is initially transparent.
+	 * Creates the hitbox of the actor.
+	 * The hitbox size is stored in the actor state. In hitbox debug mode, a transparent {@link Rectangle}
+	 * with a red outline is created as well.
 	 *
 	 * @param width The width of the hitbox.
 	 * @param height The height of the hitbox.
 	 */
 	private void createAndAddHitbox(double width, double height) {
-		hitbox = new Rectangle(width, height);
-		hitbox.setFill(Color.TRANSPARENT);
-		hitbox.setStrokeWidth(2);
-		hitbox.setVisible(true);
+		getState().setHitboxSize(width, height);
+		if (GameRuntime.isDebugHitboxes()) {
+			hitbox = new Rectangle(width, height);
+			hitbox.setFill(Color.TRANSPARENT);
+			hitbox.setStroke(Color.RED);
+			hitbox.setStrokeWidth(2);
+			hitbox.setMouseTransparent(true);
+		}
 	}
 
 	/**
 	 * Updates the position of the hitbox based on the actor's current position.
-	 * This ensures that the hitbox moves along with the actor.
+	 * This ensures that the hitbox moves along with the actor. Only the simulation state is changed;
+	 * the debug {@link Rectangle}, if any, is moved by {@link #syncNode()}.
 	 */
 	protected void updateHitbox() {
-		hitbox.setX(getLayoutX() + getTranslateX()); // Update X position of the hitbox
-		hitbox.setY(getLayoutY() + getTranslateY()); // Update Y position of the hitbox
+		getState().updateHitboxPosition(); // Move the hitbox to the actor's current position
 	}
 
 	/**
@@ -71,19 +84,41 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	 * @param height The new height of the hitbox.
 	 */
 	public void setHitboxSize(double width, double height) {
-		hitbox.setWidth(width);
-		hitbox.setHeight(height);
+		getState().setHitboxSize(width, height);
+		if (hitbox != null) {
+			hitbox.setWidth(width);
+			hitbox.setHeight(height);
+		}
 	}
 
 	/**
-	 * Returns the current hitbox of the actor.
+	 * Returns the debug outline of the actor's hitbox.
+	 * Collision code should use the hitbox values of {@link #getState()} instead.
 	 *
-	 * @return The {@link Rectangle} representing the hitbox.
+	 * @return The {@link Rectangle} outlining the hitbox, or null if the hitbox debug mode is off.
 	 */
 	public Rectangle getHitbox() {
 		return hitbox;
 	}
 
+	/**
+	 * Copies the simulation state onto the actor's node and, in hitbox debug mode, its hitbox {@link Rectangle}.
+	 */
+	@Override
+	public void syncNode() {
+		super.syncNode();
+		if (hitbox == null) {
+			return;
+		}
+		ActorState state = getState();
+		if (hitbox.getX() != state.getHitboxX()) {
+			hitbox.setX(state.getHitboxX());
+		}
+		if (hitbox.getY() != state.getHitboxY()) {
+			hitbox.setY(state.getHitboxY());
+		}
+	}
+
 	/**
 	 * Abstract method to update the position of the actor.
 	 * This method must be implemented by subclasses to update the actor's position.
@@ -104,6 +139,49 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	@Override
 	public abstract void takeDamage();
 
+	/**
+	 * Prepares a recycled actor to be used again at the given position, as if it had just been constructed there.
+	 * The translation and hitbox are reset and the actor is no longer destroyed. Subclasses with more state
+	 * (health, velocity, timers) override this method to reset it as well.
+	 *
+	 * @param initialXPos The new initial X position of the actor.
+	 * @param initialYPos The new initial Y position of the actor.
+	 */
+	protected void reset(double initialXPos, double initialYPos) {
+		setLayoutX(initialXPos);
+		setLayoutY(initialYPos);
+		getState().setTranslationX(0);
+		getState().setTranslationY(0);
+		setDestroyed(false);
+		updateHitbox();
+	}
+
+	/**
+	 * Returns the actor to its pool once it has been removed from the game.
+	 * Actors that are not pooled are simply left to the garbage collector, which is the default.
+	 */
+	public void recycle() {
+		// Not pooled
+	}
+
+	/**
+	 * Checks if the actor is waiting in a pool for reuse.
+	 *
+	 * @return true if the actor is in a pool, false otherwise.
+	 */
+	boolean isPooled() {
+		return pooled;
+	}
+
+	/**
+	 * Marks the actor as waiting in a pool, or as taken out of it.
+	 *
+	 * @param pooled true if the actor is put into a pool, false if it is taken out.
+	 */
+	void setPooled(boolean pooled) {
+		this.pooled = pooled;
+	}
+
 	/**
 	 * Destroys the actor and sets its destroyed state to true.
 	 * Once destroyed, the actor is no longer considered active.
@@ -0,0 +1,105 @@
+package com.example.demo.Actor;
+
+import java.util.ArrayDeque;
+
+/**
+ * A pool of reusable actors of one type.
+ * <p>
+ * Projectiles, pickups and common enemies are created and destroyed many times per second. Building each one
+ * creates a new {@link javafx.scene.image.ImageView} and the objects around it, which turns into steady garbage
+ * and GC pauses during busy fights. Instead, such actors are taken from a pool with {@link #acquire} and
+ * handed back with {@link #release} once they have been removed from the scene. A reused actor is reset with
+ * {@link ActiveActorDestructible#reset(double, double)} so that it behaves exactly like a new one.
+ * </p>
+ * <p>
+ * Pools are used from the game thread only and are not thread-safe.
+ * </p>
+ *
+ * @param <T> the type of actor held by the pool
+ */
+public class ActorPool<T extends ActiveActorDestructible> {
+
+	/**
+	 * Creates a new actor at a given position when the pool is empty.
+	 *
+	 * @param <T> the type of actor created
+	 */
+	@FunctionalInterface
+	public interface Factory<T> {
+
+		/**
+		 * Creates a new actor.
+		 *
+		 * @param initialXPos The initial X position of the actor.
+		 * @param initialYPos The initial Y position of the actor.
+		 * @return The new actor.
+		 */
+		T create(double initialXPos, double initialYPos);
+	}
+
+	/**
+	 * The factory used when there is no free actor to reuse.
+	 */
+	private final Factory<T> factory;
+
+	/**
+	 * The maximum number of free actors kept. Actors released beyond this are left to the garbage collector.
+	 */
+	private final int capacity;
+
+	/**
+	 * The free actors waiting to be reused.
+	 */
+	private final ArrayDeque<T> free = new ArrayDeque<>();
+
+	/**
+	 * Constructs an empty pool.
+	 *
+	 * @param factory The factory used to create actors when the pool is empty.
+	 * @param capacity The maximum number of free actors kept.
+	 */
+	public ActorPool(Factory<T> factory, int capacity) {
+		this.factory = factory;
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Takes an actor from the pool and resets it to the given position, or creates a new one if the pool is empty.
+	 *
+	 * @param initialXPos The initial X position of the actor.
+	 * @param initialYPos The initial Y position of the actor.
+	 * @return An actor ready to be added to the game.
+	 */
+	public T acquire(double initialXPos, double initialYPos) {
+		T actor = free.pollLast();
+		if (actor == null) {
+			return factory.create(initialXPos, initialYPos);
+		}
+		actor.setPooled(false);
+		actor.reset(initialXPos, initialYPos);
+		return actor;
+	}
+
+	/**
+	 * Returns an actor to the pool. The actor must already be removed from the scene and from every actor list.
+	 * Releasing an actor that is already in the pool has no effect.
+	 *
+	 * @param actor The actor to return.
+	 */
+	public void release(T actor) {
+		if (actor.isPooled() || free.size() >= capacity) {
+			return;
+		}
+		actor.setPooled(true);
+		free.addLast(actor);
+	}
+
+	/**
+	 * Returns the number of free actors currently in the pool.
+	 *
+	 * @return The number of actors that can be reused without creating a new one.
+	 */
+	public int getFreeCount() {
+		return free.size();
+	}
+}
@@ -0,0 +1,287 @@
+package com.example.demo.Actor;
+
+/**
+ * Plain-Java simulation state of an {@link ActiveActor}.
+ * <p>
+ * The game logic reads and writes the position, size and hitbox of an actor through this class instead of
+ * through the JavaFX node properties. The values are plain fields, so the simulation can be advanced without
+ * touching the scene graph (and without a running JavaFX toolkit). The node itself is only brought up to date
+ * by {@link ActiveActor#syncNode()}, which the renderer calls once per frame.
+ * </p>
+ * <p>
+ * The coordinates follow the JavaFX convention used by the actors: an origin (the node's layout position)
+ * plus a translation that is changed by movement.
+ * </p>
+ */
+public class ActorState {
+
+	/**
+	 * The X coordinate of the actor's origin, mirroring the layout X of the node.
+	 */
+	private double originX;
+
+	/**
+	 * The Y coordinate of the actor's origin, mirroring the layout Y of the node.
+	 */
+	private double originY;
+
+	/**
+	 * The horizontal translation of the actor relative to its origin.
+	 */
+	private double translationX;
+
+	/**
+	 * The vertical translation of the actor relative to its origin.
+	 */
+	private double translationY;
+
+	/**
+	 * The width of the actor's rendered sprite, used for sprite-to-sprite collision checks.
+	 */
+	private double width;
+
+	/**
+	 * The height of the actor's rendered sprite, used for sprite-to-sprite collision checks.
+	 */
+	private double height;
+
+	/**
+	 * The X coordinate of the top-left corner of the actor's hitbox.
+	 */
+	private double hitboxX;
+
+	/**
+	 * The Y coordinate of the top-left corner of the actor's hitbox.
+	 */
+	private double hitboxY;
+
+	/**
+	 * The width of the actor's hitbox.
+	 */
+	private double hitboxWidth;
+
+	/**
+	 * The height of the actor's hitbox.
+	 */
+	private double hitboxHeight;
+
+	/**
+	 * Constructs a new state with the given origin and sprite size.
+	 *
+	 * @param originX The X coordinate of the actor's origin.
+	 * @param originY The Y coordinate of the actor's origin.
+	 * @param width The width of the actor's sprite.
+	 * @param height The height of the actor's sprite.
+	 */
+	public ActorState(double originX, double originY, double width, double height) {
+		this.originX = originX;
+		this.originY = originY;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Returns the current X position of the actor (origin plus translation).
+	 *
+	 * @return The current X position.
+	 */
+	public double getX() {
+		return originX + translationX;
+	}
+
+	/**
+	 * Returns the current Y position of the actor (origin plus translation).
+	 *
+	 * @return The current Y position.
+	 */
+	public double getY() {
+		return originY + translationY;
+	}
+
+	/**
+	 * Returns the X coordinate of the actor's origin.
+	 *
+	 * @return The origin X coordinate.
+	 */
+	public double getOriginX() {
+		return originX;
+	}
+
+	/**
+	 * Sets the X coordinate of the actor's origin.
+	 *
+	 * @param originX The new origin X coordinate.
+	 */
+	public void setOriginX(double originX) {
+		this.originX = originX;
+	}
+
+	/**
+	 * Returns the Y coordinate of the actor's origin.
+	 *
+	 * @return The origin Y coordinate.
+	 */
+	public double getOriginY() {
+		return originY;
+	}
+
+	/**
+	 * Sets the Y coordinate of the actor's origin.
+	 *
+	 * @param originY The new origin Y coordinate.
+	 */
+	public void setOriginY(double originY) {
+		this.originY = originY;
+	}
+
+	/**
+	 * Returns the horizontal translation of the actor.
+	 *
+	 * @return The horizontal translation.
+	 */
+	public double getTranslationX() {
+		return translationX;
+	}
+
+	/**
+	 * Sets the horizontal translation of the actor.
+	 *
+	 * @param translationX The new horizontal translation.
+	 */
+	public void setTranslationX(double translationX) {
+		this.translationX = translationX;
+	}
+
+	/**
+	 * Returns the vertical translation of the actor.
+	 *
+	 * @return The vertical translation.
+	 */
+	public double getTranslationY() {
+		return translationY;
+	}
+
+	/**
+	 * Sets the vertical translation of the actor.
+	 *
+	 * @param translationY The new vertical translation.
+	 */
+	public void setTranslationY(double translationY) {
+		this.translationY = translationY;
+	}
+
+	/**
+	 * Returns the width of the actor's sprite.
+	 *
+	 * @return The sprite width.
+	 */
+	public double getWidth() {
+		return width;
+	}
+
+	/**
+	 * Returns the height of the actor's sprite.
+	 *
+	 * @return The sprite height.
+	 */
+	public double getHeight() {
+		return height;
+	}
+
+	/**
+	 * Sets the size of the actor's sprite.
+	 *
+	 * @param width The new sprite width.
+	 * @param height The new sprite height.
+	 */
+	public void setSize(double width, double height) {
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Moves the hitbox so that its top-left corner matches the actor's current position.
+	 */
+	public void updateHitboxPosition() {
+		hitboxX = getX();
+		hitboxY = getY();
+	}
+
+	/**
+	 * Sets the size of the actor's hitbox.
+	 *
+	 * @param hitboxWidth The new hitbox width.
+	 * @param hitboxHeight The new hitbox height.
+	 */
+	public void setHitboxSize(double hitboxWidth, double hitboxHeight) {
+		this.hitboxWidth = hitboxWidth;
+		this.hitboxHeight = hitboxHeight;
+	}
+
+	/**
+	 * Returns the X coordinate of the hitbox.
+	 *
+	 * @return The hitbox X coordinate.
+	 */
+	public double getHitboxX() {
+		return hitboxX;
+	}
+
+	/**
+	 * Returns the Y coordinate of the hitbox.
+	 *
+	 * @return The hitbox Y coordinate.
+	 */
+	public double getHitboxY() {
+		return hitboxY;
+	}
+
+	/**
+	 * Returns the width of the hitbox.
+	 *
+	 * @return The hitbox width.
+	 */
+	public double getHitboxWidth() {
+		return hitboxWidth;
+	}
+
+	/**
+	 * Returns the height of the hitbox.
+	 *
+	 * @return The hitbox height.
+	 */
+	public double getHitboxHeight() {
+		return hitboxHeight;
+	}
+
+	/**
+	 * Checks whether the sprite of this actor overlaps the sprite of another actor.
+	 * Touching edges count as an overlap, matching {@link javafx.geometry.Bounds#intersects}.
+	 *
+	 * @param other The state of the other actor.
+	 * @return true if the two sprites overlap, false otherwise.
+	 */
+	public boolean intersects(ActorState other) {
+		double minX = getX();
+		double minY = getY();
+		double otherMinX = other.getX();
+		double otherMinY = other.getY();
+		return otherMinX + other.width >= minX && otherMinY + other.height >= minY
+				&& otherMinX <= minX + width && otherMinY <= minY + height;
+	}
+
+	/**
+	 * Checks whether the hitbox of this actor overlaps the given rectangle.
+	 * Touching edges count as an overlap, matching {@link javafx.geometry.Bounds#intersects}.
+	 *
+	 * @param x The X coordinate of the rectangle.
+	 * @param y The Y coordinate of the rectangle.
+	 * @param rectWidth The width of the rectangle.
+	 * @param rectHeight The height of the rectangle.
+	 * @return true if the hitbox overlaps the rectangle, false otherwise.
+	 */
+	public boolean hitboxIntersects(double x, double y, double rectWidth, double rectHeight) {
+		return x + rectWidth >= hitboxX && y + rectHeight >= hitboxY
+				&& x <= hitboxX + hitboxWidth && y <= hitboxY + hitboxHeight;
+	}
+}
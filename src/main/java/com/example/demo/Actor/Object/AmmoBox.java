@@ -1,6 +1,7 @@
 package com.example.demo.Actor.Object;
 
 import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.ActorPool;
 
 /**
  * The {@code AmmoBox} class represents an ammo box object in the game.
@@ -55,6 +56,11 @@ public class AmmoBox extends ActiveActorDestructible {
      */
     private static final double MaximumYPosition = 600;
 
+    /**
+     * The pool of ammo boxes that have been picked up or left the screen and can be spawned again.
+     */
+    private static final ActorPool<AmmoBox> POOL = new ActorPool<>(AmmoBox::new, 8);
+
     /**
      * Constructs a new {@code AmmoBox} object with the specified initial position.
      * <p>
@@ -68,8 +74,40 @@ public class AmmoBox extends ActiveActorDestructible {
     public AmmoBox(double initialXPos, double initialYPos) {
         super(IMAGE_NAME, IMAGE_WIDTH, IMAGE_HEIGHT, initialXPos, initialYPos);
         setHitboxSize(IMAGE_WIDTH, IMAGE_HEIGHT);
-        this.setTranslateX(initialXPos);
-        this.setTranslateY(initialYPos);
+        getState().setTranslationX(initialXPos);
+        getState().setTranslationY(initialYPos);
+    }
+
+    /**
+     * Returns an ammo box at the given position, reusing a recycled one when possible.
+     *
+     * @param initialXPos The initial X position of the ammo box.
+     * @param initialYPos The initial Y position of the ammo box.
+     * @return An ammo box ready to be added to the game.
+     */
+    public static AmmoBox obtain(double initialXPos, double initialYPos) {
+        return POOL.acquire(initialXPos, initialYPos);
+    }
+
+    /**
+     * Returns this ammo box to the pool of ammo boxes.
+     */
+    @Override
+    public void recycle() {
+        POOL.release(this);
+    }
+
+    /**
+     * Resets the ammo box for reuse, applying the same initial offset as the constructor.
+     *
+     * @param initialXPos The new initial X position of the ammo box.
+     * @param initialYPos The new initial Y position of the ammo box.
+     */
+    @Override
+    protected void reset(double initialXPos, double initialYPos) {
+        super.reset(initialXPos, initialYPos);
+        getState().setTranslationX(initialXPos);
+        getState().setTranslationY(initialYPos);
     }
 
     /**
@@ -81,7 +119,7 @@ public class AmmoBox extends ActiveActorDestructible {
      * @param horizontalMove The distance to move the ammo box horizontally.
      */
     protected void moveHorizontally(double horizontalMove) {
-        this.setTranslateX(this.getTranslateX() + horizontalMove);
+        getState().setTranslationX(getState().getTranslationX() + horizontalMove);
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.example.demo.Actor.Object;
 
 import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.ActorPool;
 
 /**
  * The {@code Heart} class represents a collectible heart object in the game.
@@ -93,6 +94,11 @@ public class Heart extends ActiveActorDestructible {
      */
     private static final double VERTICAL_VELOCITY = 0.05;
 
+    /**
+     * The pool of hearts that have been picked up or left the screen and can be spawned again.
+     */
+    private static final ActorPool<Heart> POOL = new ActorPool<>(Heart::new, 8);
+
     /**
      * The time variable used for the heart's oscillation calculation.
      * <p>
@@ -115,8 +121,42 @@ public class Heart extends ActiveActorDestructible {
     public Heart(double initialXPos, double initialYPos) {
         super(IMAGE_NAME, IMAGE_WIDTH, IMAGE_HEIGHT, initialXPos, initialYPos);
         setHitboxSize(IMAGE_WIDTH, IMAGE_HEIGHT);
-        this.setTranslateX(initialXPos);
-        this.setTranslateY(initialYPos);
+        getState().setTranslationX(initialXPos);
+        getState().setTranslationY(initialYPos);
+    }
+
+    /**
+     * Returns a heart at the given position, reusing a recycled one when possible.
+     *
+     * @param initialXPos The initial X position of the heart.
+     * @param initialYPos The initial Y position of the heart.
+     * @return A heart ready to be added to the game.
+     */
+    public static Heart obtain(double initialXPos, double initialYPos) {
+        return POOL.acquire(initialXPos, initialYPos);
+    }
+
+    /**
+     * Returns this heart to the pool of hearts.
+     */
+    @Override
+    public void recycle() {
+        POOL.release(this);
+    }
+
+    /**
+     * Resets the heart for reuse, applying the same initial offset as the constructor and restarting
+     * its vertical wave.
+     *
+     * @param initialXPos The new initial X position of the heart.
+     * @param initialYPos The new initial Y position of the heart.
+     */
+    @Override
+    protected void reset(double initialXPos, double initialYPos) {
+        super.reset(initialXPos, initialYPos);
+        getState().setTranslationX(initialXPos);
+        getState().setTranslationY(initialYPos);
+        time = 0;
     }
 
     /**
@@ -128,7 +168,7 @@ public class Heart extends ActiveActorDestructible {
      * @param horizontalMove The distance to move the heart horizontally.
      */
     protected void moveHorizontally(double horizontalMove) {
-        this.setTranslateX(this.getTranslateX() + horizontalMove);
+        getState().setTranslationX(getState().getTranslationX() + horizontalMove);
     }
 
     /**
@@ -141,7 +181,7 @@ public class Heart extends ActiveActorDestructible {
     protected void moveVertically() {
         time += VERTICAL_VELOCITY;
         double offsetY = VERTICAL_AMPLITUDE * Math.sin(time);
-        this.setTranslateY(this.getInitialY() + offsetY);
+        getState().setTranslationY(this.getInitialY() + offsetY);
     }
 
     /**
@@ -190,7 +230,7 @@ public class Heart extends ActiveActorDestructible {
      * @return The initial Y position of the heart.
      */
     private double getInitialY() {
-        return this.getLayoutY();
+        return getState().getOriginY();
     }
 
     /**
@@ -2,6 +2,8 @@ package com.example.demo.Actor.Plane.Boss;
 
 import com.example.demo.Actor.ActiveActorDestructible;
 import com.example.demo.Actor.Plane.FighterPlane;
+import com.example.demo.Level.LevelManager.GameEventManager;
+import com.example.demo.Level.LevelManager.GameEventType;
 
 import java.util.*;
 
@@ -196,11 +198,11 @@ public class Boss extends FighterPlane {
 	 */
 	@Override
 	public void updatePosition() {
-		double initialTranslateY = getTranslateY();
+		double initialTranslateY = getState().getTranslationY();
 		moveVertically(getNextMove());
-		double currentPositionY = getLayoutY() + getTranslateY();
+		double currentPositionY = getState().getY();
 		if (currentPositionY < Y_UPPER_BOUND || currentPositionY > Y_LOWER_BOUND) {
-			setTranslateY(initialTranslateY);
+			getState().setTranslationY(initialTranslateY);
 		}
 	}
 
@@ -220,35 +222,42 @@ public class Boss extends FighterPlane {
 	/**
 	 * Fires projectiles based on the boss's current attack type.
 	 * <p>
-	 * This method selects an attack type using the fire pattern manager and returns the list of
-	 * projectiles to be fired by the boss.
+	 * This method selects an attack type using the fire pattern manager and adds the
+	 * projectiles fired by the boss to the given list.
 	 * </p>
 	 *
-	 * @return A list of projectiles fired by the boss.
+	 * @param projectiles the list the projectiles fired by the boss are added to.
 	 */
 	@Override
-	public List<ActiveActorDestructible> fireProjectiles() {
+	public void fireProjectiles(List<ActiveActorDestructible> projectiles) {
 		if (!bossFiresInCurrentFrame()) {
-			return new ArrayList<>();
+			return;
 		}
 
 		int attackType = firePattern.selectAttackType();
-		return switch (attackType) {
-			case 1 -> firePattern.createStraightProjectile();
-			default -> new ArrayList<>();
-		};
+		switch (attackType) {
+			case 1 -> firePattern.createStraightProjectile(projectiles);
+			default -> {
+				// The other attack types are left to the mutation bosses
+			}
+		}
 	}
 
 	/**
-	 * Reduces the boss's health by 1 if not shielded and updates the health bar.
+	 * Reduces the boss's health by 1 if not shielded.
 	 * <p>
 	 * This method is called when the boss takes damage from the player or other game entities.
+	 * A boss that survives the hit publishes a {@link GameEventType#BOSS_DAMAGED} event with its remaining health,
+	 * which the level shows on the health bar; a boss that dies publishes {@link GameEventType#ENEMY_KILLED} instead.
 	 * </p>
 	 */
 	@Override
 	public void takeDamage() {
 		if (!isShielded) {
 			super.takeDamage();
+			if (!isDestroyed()) {
+				GameEventManager.getInstance().publish(GameEventType.BOSS_DAMAGED, this, getHealth());
+			}
 		}
 	}
 
@@ -291,22 +300,26 @@ public class Boss extends FighterPlane {
 	/**
 	 * Activates the boss's shield.
 	 * <p>
-	 * This method sets the boss's shield to active and starts tracking its duration.
+	 * This method sets the boss's shield to active and starts tracking its duration,
+	 * and publishes a {@link GameEventType#SHIELD_RAISED} event.
 	 * </p>
 	 */
 	public void activateShield() {
 		isShielded = true;
+		GameEventManager.getInstance().publish(GameEventType.SHIELD_RAISED, this, 0);
 	}
 
 	/**
 	 * Deactivates the boss's shield.
 	 * <p>
-	 * This method deactivates the boss's shield and resets the shield duration counter.
+	 * This method deactivates the boss's shield, resets the shield duration counter,
+	 * and publishes a {@link GameEventType#SHIELD_LOWERED} event.
 	 * </p>
 	 */
 	private void deactivateShield() {
 		isShielded = false;
 		framesWithShieldActivated = 0;
+		GameEventManager.getInstance().publish(GameEventType.SHIELD_LOWERED, this, 0);
 	}
 
 	/**
@@ -6,12 +6,12 @@ import com.example.demo.Actor.Projectile.MutationBossProjectile2;
 import com.example.demo.Actor.Projectile.MutationBossProjectile3;
 import com.example.demo.Actor.Projectile.BossProjectile;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * The {@code BossFirePattern} class controls the firing patterns of the boss in the game.
  * It handles the creation of projectiles for different attack types, such as straight, scatter, and directional shots.
+ * Each pattern adds its projectiles to a list supplied by the caller, so firing allocates nothing but the projectiles.
  */
 public class BossFirePattern {
     /**
@@ -20,6 +20,16 @@ public class BossFirePattern {
      */
     private static final double PROJECTILE_Y_POSITION_OFFSET = 30.0;
 
+    /**
+     * The vertical offsets of the two projectiles of the two-projectile shot.
+     */
+    private static final double[] TWO_PROJECTILE_Y_OFFSETS = {-50, 50};
+
+    /**
+     * The vertical offsets of the three projectiles of the scatter shot.
+     */
+    private static final double[] SCATTER_Y_OFFSETS = {-50, 0, 50};
+
     /**
      * The boss object that fires projectiles.
      * This object is used to retrieve the current position of the boss for projectile creation.
@@ -41,7 +51,7 @@ public class BossFirePattern {
      * @return The boss's current X position.
      */
     private double getBossXPosition() {
-        return boss.getLayoutX() + boss.getTranslateX();
+        return boss.getState().getX();
     }
 
     /**
@@ -50,7 +60,7 @@ public class BossFirePattern {
      * @return The boss's current Y position.
      */
     private double getBossYPosition() {
-        return boss.getLayoutY() + boss.getTranslateY();
+        return boss.getState().getY();
     }
 
     /**
@@ -69,77 +79,63 @@ public class BossFirePattern {
     /**
      * Creates a straight line of projectiles fired by the boss.
      *
-     * @return A list containing a single straight projectile.
+     * @param projectiles The list the single straight projectile is added to.
      */
-    public List<ActiveActorDestructible> createStraightProjectile() {
+    public void createStraightProjectile(List<ActiveActorDestructible> projectiles) {
         double projectileYPosition = getBossYPosition() + PROJECTILE_Y_POSITION_OFFSET;
-        ActiveActorDestructible projectile = new BossProjectile(getBossXPosition(), projectileYPosition);
-
-        return List.of(projectile);
+        projectiles.add(BossProjectile.obtain(getBossXPosition(), projectileYPosition));
     }
 
     /**
      * Creates two projectiles fired by the boss at slightly different vertical positions.
      *
-     * @return A list containing two projectiles.
+     * @param projectiles The list the two projectiles are added to.
      */
-    public List<ActiveActorDestructible> createTwoProjectiles() {
-        List<ActiveActorDestructible> projectiles = new ArrayList<>();
-        double[] yOffsets = {-50, 50};
-
-        for (double yOffset : yOffsets) {
+    public void createTwoProjectiles(List<ActiveActorDestructible> projectiles) {
+        for (double yOffset : TWO_PROJECTILE_Y_OFFSETS) {
             double projectileYPosition = getBossYPosition() + yOffset;
-            BossProjectile projectile = new MutationBossProjectile1(getBossXPosition(), projectileYPosition);
+            BossProjectile projectile = MutationBossProjectile1.obtain(getBossXPosition(), projectileYPosition);
             projectile.setVelocity(-4, 0);
 
             projectiles.add(projectile);
         }
-        return projectiles;
     }
 
     /**
      * Creates a scatter shot of projectiles fired by the boss, spread out vertically.
      *
-     * @return A list of projectiles spread out vertically.
+     * @param projectiles The list the projectiles, spread out vertically, are added to.
      */
-    public List<ActiveActorDestructible> createScatterProjectiles() {
-        List<ActiveActorDestructible> projectiles = new ArrayList<>();
-        double[] yOffsets = {-50, 0, 50};
-
-        for (double yOffset : yOffsets) {
+    public void createScatterProjectiles(List<ActiveActorDestructible> projectiles) {
+        for (double yOffset : SCATTER_Y_OFFSETS) {
             double projectileYPosition = getBossYPosition() + yOffset;
-            BossProjectile projectile = new MutationBossProjectile2(getBossXPosition(), projectileYPosition);
+            BossProjectile projectile = MutationBossProjectile2.obtain(getBossXPosition(), projectileYPosition);
             projectile.setVelocity(-3, 0);
 
             projectiles.add(projectile);
         }
-        return projectiles;
     }
 
     /**
      * Creates a directional shot of projectiles fired by the boss in multiple directions: straight, up-left, and down-left.
      *
-     * @return A list of projectiles fired in three directions.
+     * @param projectiles The list the projectiles fired in three directions are added to.
      */
-    public List<ActiveActorDestructible> createDirectionalProjectiles() {
-        List<ActiveActorDestructible> projectiles = new ArrayList<>();
-
+    public void createDirectionalProjectiles(List<ActiveActorDestructible> projectiles) {
         double straightY = getBossYPosition() + PROJECTILE_Y_POSITION_OFFSET;
         double leftUpY = straightY - 50;
         double leftDownY = straightY + 50;
 
-        BossProjectile straightProjectile = new MutationBossProjectile3(getBossXPosition(), straightY);
+        BossProjectile straightProjectile = MutationBossProjectile3.obtain(getBossXPosition(), straightY);
         straightProjectile.setVelocity(-4, 0);
         projectiles.add(straightProjectile);
 
-        BossProjectile leftUpProjectile = new MutationBossProjectile3(getBossXPosition(), leftUpY);
+        BossProjectile leftUpProjectile = MutationBossProjectile3.obtain(getBossXPosition(), leftUpY);
         leftUpProjectile.setVelocity(-2.5, -2);
         projectiles.add(leftUpProjectile);
 
-        BossProjectile leftDownProjectile = new MutationBossProjectile3(getBossXPosition(), leftDownY);
+        BossProjectile leftDownProjectile = MutationBossProjectile3.obtain(getBossXPosition(), leftDownY);
         leftDownProjectile.setVelocity(-2.5, 2);
         projectiles.add(leftDownProjectile);
-
-        return projectiles;
     }
 }
\ No newline at end of file
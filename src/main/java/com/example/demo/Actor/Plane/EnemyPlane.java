@@ -1,9 +1,9 @@
 package com.example.demo.Actor.Plane;
 
 import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.ActorPool;
 import com.example.demo.Actor.Projectile.EnemyProjectile;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -54,6 +54,11 @@ public class EnemyPlane extends FighterPlane {
 	 */
 	private static final double FIRE_RATE = .0025;
 
+	/**
+	 * The pool of enemy planes that have left the game and can be spawned again.
+	 */
+	private static final ActorPool<EnemyPlane> POOL = new ActorPool<>(EnemyPlane::new, 16);
+
 	/**
 	 * Constructor to initialize the {@code EnemyPlane} with its starting position and health.
 	 *
@@ -65,6 +70,25 @@ public class EnemyPlane extends FighterPlane {
 		setHitboxSize(IMAGE_WIDTH, IMAGE_HEIGHT * 0.35);
 	}
 
+	/**
+	 * Returns an enemy plane at the given position with full health, reusing a recycled one when possible.
+	 *
+	 * @param initialXPos The initial X position of the enemy plane.
+	 * @param initialYPos The initial Y position of the enemy plane.
+	 * @return An enemy plane ready to be added to the game.
+	 */
+	public static EnemyPlane obtain(double initialXPos, double initialYPos) {
+		return POOL.acquire(initialXPos, initialYPos);
+	}
+
+	/**
+	 * Returns this plane to the pool of enemy planes.
+	 */
+	@Override
+	public void recycle() {
+		POOL.release(this);
+	}
+
 	/**
 	 * Updates the enemy plane's position by moving it horizontally at a constant speed.
 	 */
@@ -77,21 +101,17 @@ public class EnemyPlane extends FighterPlane {
 	/**
 	 * Fires projectiles from the enemy plane at a rate determined by the {@code FIRE_RATE}.
 	 *
-	 * @return A list of projectiles fired by the enemy plane.
+	 * @param projectiles the list the projectiles fired by the enemy plane are added to.
 	 */
 	@Override
-	public List<ActiveActorDestructible> fireProjectiles() {
-		List<ActiveActorDestructible> projectiles = new ArrayList<>();
-
+	public void fireProjectiles(List<ActiveActorDestructible> projectiles) {
 		// Fire projectiles at a random rate based on FIRE_RATE
 		if (Math.random() < FIRE_RATE) {
 			double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
 			double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
 
-			projectiles.add(new EnemyProjectile(projectileXPosition, projectileYPosition));
+			projectiles.add(EnemyProjectile.obtain(projectileXPosition, projectileYPosition));
 		}
-
-		return projectiles;
 	}
 
 	/**
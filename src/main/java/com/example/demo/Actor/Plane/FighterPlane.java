@@ -1,13 +1,16 @@
 package com.example.demo.Actor.Plane;
 
 import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Level.LevelManager.GameEventManager;
+import com.example.demo.Level.LevelManager.GameEventType;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * The FighterPlane class represents a fighter plane in the game.
  * It extends {@link ActiveActorDestructible} and includes properties and behaviors related to health and projectile firing.
- * Subclasses of {@link FighterPlane} are expected to implement the {@link #fireProjectiles()} method to specify how the plane fires projectiles.
+ * Subclasses of {@link FighterPlane} are expected to implement the {@link #fireProjectiles(List)} method to specify how the plane fires projectiles.
  */
 public abstract class FighterPlane extends ActiveActorDestructible {
 
@@ -17,6 +20,11 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 */
 	private int health; // The health of the player or entity
 
+	/**
+	 * The health the fighter plane starts with, restored when a pooled plane is reused.
+	 */
+	private final int initialHealth;
+
 	/**
 	 * Constructs a new FighterPlane object with the specified image, position, and health.
 	 *
@@ -30,15 +38,44 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	public FighterPlane(String imageName, double imageWidth, int imageHeight, double initialXPos, double initialYPos, int health) {
 		super(imageName, imageWidth, imageHeight, initialXPos, initialYPos);
 		this.health = health;
+		this.initialHealth = health;
+	}
+
+	/**
+	 * Resets the fighter plane for reuse, restoring its initial health.
+	 *
+	 * @param initialXPos The new initial X position of the fighter plane.
+	 * @param initialYPos The new initial Y position of the fighter plane.
+	 */
+	@Override
+	protected void reset(double initialXPos, double initialYPos) {
+		super.reset(initialXPos, initialYPos);
+		health = initialHealth;
 	}
 
 	/**
-	 * Fires projectiles from the fighter plane.
+	 * Fires projectiles from the fighter plane, adding them to the given list.
 	 * Subclasses must implement this method to define the behavior of firing projectiles.
+	 * <p>
+	 * Enemies are asked to fire every tick but rarely do, so the caller passes in a list it reuses from tick to
+	 * tick and nothing is allocated when no projectile is fired. Projectiles already in the list are left alone.
+	 * </p>
+	 *
+	 * @param projectiles the list the projectiles fired by the plane are added to.
+	 */
+	public abstract void fireProjectiles(List<ActiveActorDestructible> projectiles);
+
+	/**
+	 * Fires projectiles from the fighter plane into a new list.
+	 * Meant for occasional callers, such as the player's fire key; the game loop uses {@link #fireProjectiles(List)}.
 	 *
 	 * @return A list of {@link ActiveActorDestructible} objects representing the projectiles fired by the plane.
 	 */
-	public abstract List<ActiveActorDestructible> fireProjectiles();
+	public List<ActiveActorDestructible> fireProjectiles() {
+		List<ActiveActorDestructible> projectiles = new ArrayList<>();
+		fireProjectiles(projectiles);
+		return projectiles;
+	}
 
 	/**
 	 * Reduces the health of the fighter plane by 1.
@@ -49,9 +86,18 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 		health--;
 		if (healthAtZero()) {
 			this.destroy();
+			onDestroyedByDamage();
 		}
 	}
 
+	/**
+	 * Called once when the plane's health reaches zero.
+	 * By default this publishes an {@link GameEventType#ENEMY_KILLED} event, which the level counts as a kill.
+	 */
+	protected void onDestroyedByDamage() {
+		GameEventManager.getInstance().publish(GameEventType.ENEMY_KILLED, this, 0);
+	}
+
 	/**
 	 * Increases the health of the fighter plane by 1.
 	 */
@@ -66,7 +112,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 * @return The calculated X position of the projectile.
 	 */
 	protected double getProjectileXPosition(double xPositionOffset) {
-		return getLayoutX() + getTranslateX() + xPositionOffset;
+		return getState().getX() + xPositionOffset;
 	}
 
 	/**
@@ -76,7 +122,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 * @return The calculated Y position of the projectile.
 	 */
 	protected double getProjectileYPosition(double yPositionOffset) {
-		return getLayoutY() + getTranslateY() + yPositionOffset;
+		return getState().getY() + yPositionOffset;
 	}
 
 	/**
@@ -1,9 +1,9 @@
 package com.example.demo.Actor.Plane;
 
 import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.ActorPool;
 import com.example.demo.Actor.Projectile.HeavyEnemyProjectile;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -58,6 +58,11 @@ public class HeavyEnemy extends FighterPlane {
      */
     private static final double FIRE_RATE = 0.0025;
 
+    /**
+     * The pool of heavy enemies that have left the game and can be spawned again.
+     */
+    private static final ActorPool<HeavyEnemy> POOL = new ActorPool<>(HeavyEnemy::new, 16);
+
     /**
      * Creates a new {@code HeavyEnemy} instance at the specified initial position.
      * <p>
@@ -73,6 +78,25 @@ public class HeavyEnemy extends FighterPlane {
         setHitboxSize(IMAGE_WIDTH, IMAGE_HEIGHT);
     }
 
+    /**
+     * Returns a heavy enemy at the given position with full health, reusing a recycled one when possible.
+     *
+     * @param initialXPos The initial X position of the heavy enemy.
+     * @param initialYPos The initial Y position of the heavy enemy.
+     * @return A heavy enemy ready to be added to the game.
+     */
+    public static HeavyEnemy obtain(double initialXPos, double initialYPos) {
+        return POOL.acquire(initialXPos, initialYPos);
+    }
+
+    /**
+     * Returns this plane to the pool of heavy enemies.
+     */
+    @Override
+    public void recycle() {
+        POOL.release(this);
+    }
+
     /**
      * Updates the position of the heavy enemy by moving it horizontally at a constant speed.
      * <p>
@@ -93,21 +117,17 @@ public class HeavyEnemy extends FighterPlane {
      * The method uses random probability to determine whether to fire a projectile during each tick.
      * </p>
      *
-     * @return A list of projectiles fired by the heavy enemy. If no projectile is fired, the list is empty.
+     * @param projectiles the list the projectiles fired by the heavy enemy are added to; left as is if none is fired.
      */
     @Override
-    public List<ActiveActorDestructible> fireProjectiles() {
-        List<ActiveActorDestructible> projectiles = new ArrayList<>();
-
+    public void fireProjectiles(List<ActiveActorDestructible> projectiles) {
         // Fire projectiles at a random rate based on FIRE_RATE
         if (Math.random() < FIRE_RATE) {
             double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
             double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
 
-            projectiles.add(new HeavyEnemyProjectile(projectileXPosition, projectileYPosition));
+            projectiles.add(HeavyEnemyProjectile.obtain(projectileXPosition, projectileYPosition));
         }
-
-        return projectiles;
     }
 
     /**
@@ -4,7 +4,6 @@ import com.example.demo.Actor.ActiveActorDestructible;
 import com.example.demo.Actor.Plane.Boss.BossFirePattern;
 import com.example.demo.Actor.Plane.Boss.Boss;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -73,20 +72,22 @@ public class MutationBoss1 extends Boss {
      * Fires projectiles based on the boss's current attack type.
      * The attack type is determined by the boss's fire pattern manager.
      *
-     * @return A list of projectiles fired by the boss, depending on the selected attack type.
+     * @param projectiles the list the projectiles fired by the boss, depending on the selected attack type, are added to.
      */
     @Override
-    public List<ActiveActorDestructible> fireProjectiles() {
+    public void fireProjectiles(List<ActiveActorDestructible> projectiles) {
         if (!bossFiresInCurrentFrame()) {
-            return new ArrayList<>(); // No projectiles fired if the condition is not met
+            return; // No projectiles fired if the condition is not met
         }
 
         int attackType = firePattern.selectAttackType(); // Select attack type from the fire pattern manager
-        return switch (attackType) {
-            case 1 -> firePattern.createStraightProjectile(); // Create a straight projectile
-            case 2 -> firePattern.createTwoProjectiles(); // Create two projectiles
-            default -> new ArrayList<>(); // Default case (no projectiles)
-        };
+        switch (attackType) {
+            case 1 -> firePattern.createStraightProjectile(projectiles); // Create a straight projectile
+            case 2 -> firePattern.createTwoProjectiles(projectiles); // Create two projectiles
+            default -> {
+                // Default case (no projectiles)
+            }
+        }
     }
 
     /**
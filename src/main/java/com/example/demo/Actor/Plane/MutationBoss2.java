@@ -4,7 +4,6 @@ import com.example.demo.Actor.ActiveActorDestructible;
 import com.example.demo.Actor.Plane.Boss.BossFirePattern;
 import com.example.demo.Actor.Plane.Boss.Boss;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -74,21 +73,23 @@ public class MutationBoss2 extends Boss {
      * Determines whether the boss fires projectiles in the current frame and selects an attack pattern.
      * Fires projectiles based on the selected attack type.
      *
-     * @return A list of {@link ActiveActorDestructible} representing the projectiles fired by the boss.
+     * @param projectiles the list the {@link ActiveActorDestructible} projectiles fired by the boss are added to.
      */
     @Override
-    public List<ActiveActorDestructible> fireProjectiles() {
+    public void fireProjectiles(List<ActiveActorDestructible> projectiles) {
         if (!bossFiresInCurrentFrame()) {
-            return new ArrayList<>(); // Return an empty list if the boss doesn't fire
+            return; // Add nothing if the boss doesn't fire
         }
 
         int attackType = firePattern.selectAttackType(); // Select an attack type (1: Straight, 2: Two, 3: Scatter)
-        return switch (attackType) {
-            case 1 -> firePattern.createStraightProjectile(); // Straight projectile pattern
-            case 2 -> firePattern.createTwoProjectiles();    // Two projectiles pattern
-            case 3 -> firePattern.createScatterProjectiles(); // Scatter projectiles pattern
-            default -> new ArrayList<>(); // Return an empty list if no valid attack type
-        };
+        switch (attackType) {
+            case 1 -> firePattern.createStraightProjectile(projectiles); // Straight projectile pattern
+            case 2 -> firePattern.createTwoProjectiles(projectiles);    // Two projectiles pattern
+            case 3 -> firePattern.createScatterProjectiles(projectiles); // Scatter projectiles pattern
+            default -> {
+                // Add nothing if no valid attack type
+            }
+        }
     }
 
     /**
@@ -4,7 +4,6 @@ import com.example.demo.Actor.ActiveActorDestructible;
 import com.example.demo.Actor.Plane.Boss.BossFirePattern;
 import com.example.demo.Actor.Plane.Boss.Boss;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -67,22 +66,24 @@ public class MutationBoss3 extends Boss {
     /**
      * Fires projectiles based on the mutation boss's attack type.
      *
-     * @return A list of projectiles fired by the mutated boss.
+     * @param projectiles the list the projectiles fired by the mutated boss are added to.
      */
     @Override
-    public List<ActiveActorDestructible> fireProjectiles() {
+    public void fireProjectiles(List<ActiveActorDestructible> projectiles) {
         if (!bossFiresInCurrentFrame()) {
-            return new ArrayList<>();
+            return;
         }
 
         int attackType = firePattern.selectAttackType();
-        return switch (attackType) {
-            case 1 -> firePattern.createStraightProjectile(); // Fires a straight projectile
-            case 2 -> firePattern.createTwoProjectiles(); // Fires two projectiles
-            case 3 -> firePattern.createScatterProjectiles(); // Fires scattered projectiles
-            case 4 -> firePattern.createDirectionalProjectiles(); // Fires directional projectiles
-            default -> new ArrayList<>();
-        };
+        switch (attackType) {
+            case 1 -> firePattern.createStraightProjectile(projectiles); // Fires a straight projectile
+            case 2 -> firePattern.createTwoProjectiles(projectiles); // Fires two projectiles
+            case 3 -> firePattern.createScatterProjectiles(projectiles); // Fires scattered projectiles
+            case 4 -> firePattern.createDirectionalProjectiles(projectiles); // Fires directional projectiles
+            default -> {
+                // No projectiles
+            }
+        }
     }
 
     /**
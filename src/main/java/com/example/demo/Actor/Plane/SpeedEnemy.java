@@ -1,8 +1,8 @@
 package com.example.demo.Actor.Plane;
 
 import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.ActorPool;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -42,6 +42,11 @@ public class SpeedEnemy extends FighterPlane {
      */
     private static final int INITIAL_HEALTH = 1;
 
+    /**
+     * The pool of speed enemies that have left the game and can be spawned again.
+     */
+    private static final ActorPool<SpeedEnemy> POOL = new ActorPool<>(SpeedEnemy::new, 16);
+
     /**
      * Creates a new {@code SpeedEnemy} instance at the specified initial position.
      * <p>
@@ -57,6 +62,25 @@ public class SpeedEnemy extends FighterPlane {
         setHitboxSize(IMAGE_WIDTH, IMAGE_HEIGHT);
     }
 
+    /**
+     * Returns a speed enemy at the given position with full health, reusing a recycled one when possible.
+     *
+     * @param initialXPos The initial X position of the speed enemy.
+     * @param initialYPos The initial Y position of the speed enemy.
+     * @return A speed enemy ready to be added to the game.
+     */
+    public static SpeedEnemy obtain(double initialXPos, double initialYPos) {
+        return POOL.acquire(initialXPos, initialYPos);
+    }
+
+    /**
+     * Returns this plane to the pool of speed enemies.
+     */
+    @Override
+    public void recycle() {
+        POOL.release(this);
+    }
+
     /**
      * Updates the position of the speed enemy by moving it horizontally.
      * <p>
@@ -71,17 +95,17 @@ public class SpeedEnemy extends FighterPlane {
     }
 
     /**
-     * Returns an empty list as the speed enemy does not fire projectiles.
+     * Does nothing, as the speed enemy does not fire projectiles.
      * <p>
-     * This method overrides {@link FighterPlane#fireProjectiles()} and ensures that
+     * This method overrides {@link FighterPlane#fireProjectiles(List)} and ensures that
      * no projectiles are created by this enemy type.
      * </p>
      *
-     * @return an empty list, indicating no projectiles are fired.
+     * @param projectiles the list projectiles would be added to, left unchanged.
      */
     @Override
-    public List<ActiveActorDestructible> fireProjectiles() {
-        return new ArrayList<>();
+    public void fireProjectiles(List<ActiveActorDestructible> projectiles) {
+        // The speed enemy never fires
     }
 
     /**
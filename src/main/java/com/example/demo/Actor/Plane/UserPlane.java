@@ -1,12 +1,14 @@
 package com.example.demo.Actor.Plane;
 
 import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.ActorState;
 import com.example.demo.Actor.Projectile.UserProjectile;
-import com.example.demo.Level.LevelManager.AudioManager;
+import com.example.demo.Controller.GameRuntime;
+import com.example.demo.Level.LevelManager.GameEventManager;
+import com.example.demo.Level.LevelManager.GameEventType;
 import javafx.animation.*;
 import javafx.util.Duration;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -101,15 +103,27 @@ public class UserPlane extends FighterPlane {
 	 */
 	private int numberOfKills;
 
+	/**
+	 * The number of game ticks the plane stays invincible after taking damage (about 1 second at 16 ms per tick).
+	 */
+	private static final int INVINCIBILITY_TICKS = 62;
+
 	/**
 	 * Invincibility flag
 	 */
 	private boolean isInvincible = false;
 
 	/**
-	 * Timer for invincibility duration
+	 * The number of game ticks of invincibility left. Counted down in {@link #updateActor()}, so the
+	 * invincibility window follows the simulation rather than the JavaFX animation clock.
 	 */
-	private final Timeline invincibilityTimer;
+	private int invincibilityTicksRemaining;
+
+	/**
+	 * Timeline for the flashing effect shown while the plane is invincible.
+	 * This is {@code null} when the plane is not flashing.
+	 */
+	private Timeline flashingTimer;
 
 	/**
 	 * Constructor to initialize the {@code UserPlane} with its starting position, health, and related parameters.
@@ -121,28 +135,25 @@ public class UserPlane extends FighterPlane {
 		setHitboxSize(IMAGE_WIDTH, IMAGE_HEIGHT * 0.3);
 		userProjectile = new UserProjectile(INITIAL_X_POSITION, INITIAL_Y_POSITION, 50, 50);
 		updateProjectileSize();
-		invincibilityTimer = initializeInvincibilityTimer();
-	}
-
-	/**
-	 * Initializes the invincibility timer which triggers the end of invincibility after a duration.
-	 *
-	 * @return The initialized Timeline object for invincibility timer.
-	 */
-	private Timeline initializeInvincibilityTimer() {
-		Timeline timer = new Timeline(new KeyFrame(Duration.seconds(1), e -> endInvincibility()));
-		timer.setCycleCount(1); // Only run once
-		return timer;
 	}
 
 	/**
-	 * Activates invincibility, starting the flashing effect and timer.
+	 * Activates invincibility, starting the flashing effect and the invincibility countdown.
 	 */
 	public void triggerInvincibility() {
 		if (isInvincible) return; // Already invincible
 		isInvincible = true;
+		invincibilityTicksRemaining = INVINCIBILITY_TICKS;
 		startFlashing();
-		invincibilityTimer.playFromStart();
+	}
+
+	/**
+	 * Counts down the invincibility window by one game tick and ends it when it runs out.
+	 */
+	private void updateInvincibility() {
+		if (isInvincible && --invincibilityTicksRemaining <= 0) {
+			endInvincibility();
+		}
 	}
 
 	/**
@@ -155,39 +166,48 @@ public class UserPlane extends FighterPlane {
 
 	/**
 	 * Starts the flashing effect of the plane (blinking).
+	 * The effect is purely visual and is skipped when the game runs headless.
 	 */
 	private void startFlashing() {
-		Timeline flashingTimer = new Timeline(
+		if (GameRuntime.isHeadless()) return;
+		flashingTimer = new Timeline(
 				new KeyFrame(Duration.seconds(0.1), e -> setOpacity(getOpacity() == 1 ? 0.5 : 1))
 		);
 		flashingTimer.setCycleCount(Timeline.INDEFINITE);
 		flashingTimer.play();
-
-		// Stop flashing when invincibility ends
-		invincibilityTimer.setOnFinished(e -> {
-			flashingTimer.stop();
-			setOpacity(1); // Restore normal opacity
-		});
 	}
 
 	/**
 	 * Stops the flashing effect.
 	 */
 	private void stopFlashing() {
+		if (flashingTimer != null) {
+			flashingTimer.stop();
+			flashingTimer = null;
+		}
 		setOpacity(1); // Restore normal opacity
 	}
 
 	/**
 	 * Handles damage to the user plane, ignoring damage if invincible.
+	 * Publishes a {@link GameEventType#PLAYER_DAMAGED} event with the remaining health.
 	 */
 	@Override
 	public void takeDamage() {
 		if (isInvincible) return; // Ignore damage when invincible
 		super.takeDamage();
-		AudioManager.getInstance().triggerUserDamageAudio();
+		GameEventManager.getInstance().publish(GameEventType.PLAYER_DAMAGED, this, getHealth());
 		triggerInvincibility(); // Activate invincibility after damage
 	}
 
+	/**
+	 * The user plane being destroyed is not a kill, so no event is published here;
+	 * the level notices the loss through {@link #isDestroyed()}.
+	 */
+	@Override
+	protected void onDestroyedByDamage() {
+	}
+
 	/**
 	 * Upgrades the projectile's power level if it's below the maximum level.
 	 */
@@ -211,19 +231,20 @@ public class UserPlane extends FighterPlane {
 	 * Applies the boundary checks to ensure the plane does not move out of bounds (keyboard).
 	 */
 	private void applyBoundsCheck() {
-		double newPositionX = getLayoutX() + getTranslateX();
-		double newPositionY = getLayoutY() + getTranslateY();
+		ActorState state = getState();
+		double newPositionX = state.getX();
+		double newPositionY = state.getY();
 
 		if (newPositionX < X_LEFT_BOUND) {
-			setTranslateX(X_LEFT_BOUND - getLayoutX());
+			state.setTranslationX(X_LEFT_BOUND - state.getOriginX());
 		} else if (newPositionX > X_RIGHT_BOUND) {
-			setTranslateX(X_RIGHT_BOUND - getLayoutX());
+			state.setTranslationX(X_RIGHT_BOUND - state.getOriginX());
 		}
 
 		if (newPositionY < Y_UPPER_BOUND) {
-			setTranslateY(Y_UPPER_BOUND - getLayoutY());
+			state.setTranslationY(Y_UPPER_BOUND - state.getOriginY());
 		} else if (newPositionY > Y_LOWER_BOUND) {
-			setTranslateY(Y_LOWER_BOUND - getLayoutY());
+			state.setTranslationY(Y_LOWER_BOUND - state.getOriginY());
 		}
 	}
 
@@ -235,57 +256,56 @@ public class UserPlane extends FighterPlane {
 	 * @param deltaY The change in the Y position.
 	 */
 	public void moveUserPlane(double deltaX, double deltaY) {
-		double newX = getLayoutX() + getTranslateX() + deltaX;
-		double newY = getLayoutY() + getTranslateY() + deltaY;
+		ActorState state = getState();
+		double newX = state.getX() + deltaX;
+		double newY = state.getY() + deltaY;
 
 		if (newX < X_LEFT_BOUND) {
-			deltaX = X_LEFT_BOUND - (getLayoutX() + getTranslateX());
+			deltaX = X_LEFT_BOUND - state.getX();
 		} else if (newX > X_RIGHT_BOUND) {
-			deltaX = X_RIGHT_BOUND - (getLayoutX() + getTranslateX());
+			deltaX = X_RIGHT_BOUND - state.getX();
 		}
 
 		if (newY < Y_UPPER_BOUND) {
-			deltaY = Y_UPPER_BOUND - (getLayoutY() + getTranslateY());
+			deltaY = Y_UPPER_BOUND - state.getY();
 		} else if (newY > Y_LOWER_BOUND) {
-			deltaY = Y_LOWER_BOUND - (getLayoutY() + getTranslateY());
+			deltaY = Y_LOWER_BOUND - state.getY();
 		}
 
-		setTranslateX(getTranslateX() + deltaX);
-		setTranslateY(getTranslateY() + deltaY);
+		state.setTranslationX(state.getTranslationX() + deltaX);
+		state.setTranslationY(state.getTranslationY() + deltaY);
 	}
 
 	/**
 	 * Updates the plane's actor state.
-	 * This method is called every game tick to update the plane's position and hitbox.
+	 * This method is called every game tick to update the plane's position, hitbox and invincibility window.
 	 */
 	@Override
 	public void updateActor() {
 		updatePosition();
 		updateHitbox();
+		updateInvincibility();
 	}
 
 	/**
 	 * Fires projectiles from the user's plane.
 	 *
-	 * @return A list of projectiles fired by the user plane.
+	 * @param projectiles the list the projectiles fired by the user plane are added to.
 	 */
 	@Override
-	public List<ActiveActorDestructible> fireProjectiles() {
-		List<ActiveActorDestructible> projectiles = new ArrayList<>();
-
+	public void fireProjectiles(List<ActiveActorDestructible> projectiles) {
 		double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
 		double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
 
-		UserProjectile projectile = new UserProjectile(
+		UserProjectile projectile = UserProjectile.obtain(
 				projectileXPosition,
 				projectileYPosition,
 				(int) userProjectile.getWidth(),
-				(int) userProjectile.getHeight()
+				(int) userProjectile.getHeight(),
+				userProjectile.getPowerLevel()
 		);
-		projectile.setPowerLevel(userProjectile.getPowerLevel());
 
 		projectiles.add(projectile);
-		return projectiles;
 	}
 
 	/**
@@ -323,6 +343,7 @@ public class UserPlane extends FighterPlane {
 	 * The animation includes rotation, scaling, and fading out.
 	 */
 	public void spiralPortalExit() {
+		if (GameRuntime.isHeadless()) return; // No animation clock without a display
 		setOpacity(1);
 		setScaleX(1);
 		setScaleY(1);
@@ -1,5 +1,7 @@
 package com.example.demo.Actor.Projectile;
 
+import com.example.demo.Actor.ActorPool;
+
 /**
  * The BossProjectile class represents a projectile fired by a boss in the game.
  * It extends {@link Projectile} and moves horizontally and vertically at adjustable velocities.
@@ -20,11 +22,21 @@ public class BossProjectile extends Projectile {
 	 */
 	private static final int IMAGE_HEIGHT = 100;
 
+	/**
+	 * The horizontal velocity a boss projectile starts with.
+	 */
+	private static final double DEFAULT_HORIZONTAL_VELOCITY = -7;
+
+	/**
+	 * The pool of boss projectiles that have left the game and can be fired again.
+	 */
+	private static final ActorPool<BossProjectile> POOL = new ActorPool<>(BossProjectile::new, 32);
+
 	/**
 	 * The horizontal velocity of the boss projectile.
 	 * The default value is -7, which moves the projectile to the left.
 	 */
-	private double horizontalVelocity = -7;
+	private double horizontalVelocity = DEFAULT_HORIZONTAL_VELOCITY;
 
 	/**
 	 * The vertical velocity of the boss projectile.
@@ -43,6 +55,37 @@ public class BossProjectile extends Projectile {
 		setHitboxSize(IMAGE_WIDTH * 0.5, IMAGE_HEIGHT * 0.3);
 	}
 
+	/**
+	 * Returns a boss projectile at the given position, reusing a recycled one when possible.
+	 *
+	 * @param initialXPos The initial X position of the boss projectile.
+	 * @param initialYPos The initial Y position of the boss projectile.
+	 * @return A boss projectile with the default velocity, ready to be added to the game.
+	 */
+	public static BossProjectile obtain(double initialXPos, double initialYPos) {
+		return POOL.acquire(initialXPos, initialYPos);
+	}
+
+	/**
+	 * Returns this projectile to the pool of boss projectiles.
+	 */
+	@Override
+	public void recycle() {
+		POOL.release(this);
+	}
+
+	/**
+	 * Resets the projectile for reuse, restoring the default velocity.
+	 *
+	 * @param initialXPos The new initial X position of the boss projectile.
+	 * @param initialYPos The new initial Y position of the boss projectile.
+	 */
+	@Override
+	protected void reset(double initialXPos, double initialYPos) {
+		super.reset(initialXPos, initialYPos);
+		setVelocity(DEFAULT_HORIZONTAL_VELOCITY, 0);
+	}
+
 	/**
 	 * Sets the horizontal and vertical velocities of the boss projectile.
 	 *
@@ -1,5 +1,7 @@
 package com.example.demo.Actor.Projectile;
 
+import com.example.demo.Actor.ActorPool;
+
 /**
  * The {@code EnemyProjectile} class represents a projectile fired by an enemy plane.
  * It extends {@link Projectile} and provides functionality for updating the position and properties of the enemy projectile.
@@ -26,6 +28,11 @@ public class EnemyProjectile extends Projectile {
 	 */
 	private static final int HORIZONTAL_VELOCITY = -5;
 
+	/**
+	 * The pool of enemy projectiles that have left the game and can be fired again.
+	 */
+	private static final ActorPool<EnemyProjectile> POOL = new ActorPool<>(EnemyProjectile::new, 64);
+
 	/**
 	 * Constructor to initialize the {@code EnemyProjectile} with its initial position.
 	 *
@@ -37,6 +44,25 @@ public class EnemyProjectile extends Projectile {
 		setHitboxSize(IMAGE_WIDTH, IMAGE_HEIGHT * 0.3);
 	}
 
+	/**
+	 * Returns an enemy projectile at the given position, reusing a recycled one when possible.
+	 *
+	 * @param initialXPos The initial X position of the enemy projectile.
+	 * @param initialYPos The initial Y position of the enemy projectile.
+	 * @return An enemy projectile ready to be added to the game.
+	 */
+	public static EnemyProjectile obtain(double initialXPos, double initialYPos) {
+		return POOL.acquire(initialXPos, initialYPos);
+	}
+
+	/**
+	 * Returns this projectile to the pool of enemy projectiles.
+	 */
+	@Override
+	public void recycle() {
+		POOL.release(this);
+	}
+
 	/**
 	 * Updates the enemy projectile's position by moving it horizontally at a constant speed.
 	 * This method is called every frame to update the projectile's position.
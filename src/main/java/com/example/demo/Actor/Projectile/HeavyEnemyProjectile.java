@@ -1,5 +1,6 @@
 package com.example.demo.Actor.Projectile;
 
+import com.example.demo.Actor.ActorPool;
 import com.example.demo.Actor.Plane.HeavyEnemy;
 
 /**
@@ -30,6 +31,11 @@ public class HeavyEnemyProjectile extends Projectile {
      */
     private static final int HORIZONTAL_VELOCITY = -7;
 
+    /**
+     * The pool of heavy enemy projectiles that have left the game and can be fired again.
+     */
+    private static final ActorPool<HeavyEnemyProjectile> POOL = new ActorPool<>(HeavyEnemyProjectile::new, 32);
+
     /**
      * Initializes a new {@code HeavyEnemyProjectile} at the specified position.
      * This constructor sets up the projectile with its image, size, initial position, and hitbox.
@@ -42,6 +48,25 @@ public class HeavyEnemyProjectile extends Projectile {
         setHitboxSize(IMAGE_WIDTH, IMAGE_HEIGHT);
     }
 
+    /**
+     * Returns a heavy enemy projectile at the given position, reusing a recycled one when possible.
+     *
+     * @param initialXPos The initial X position of the projectile.
+     * @param initialYPos The initial Y position of the projectile.
+     * @return A heavy enemy projectile ready to be added to the game.
+     */
+    public static HeavyEnemyProjectile obtain(double initialXPos, double initialYPos) {
+        return POOL.acquire(initialXPos, initialYPos);
+    }
+
+    /**
+     * Returns this projectile to the pool of heavy enemy projectiles.
+     */
+    @Override
+    public void recycle() {
+        POOL.release(this);
+    }
+
     /**
      * Updates the position of the enemy projectile.
      * The projectile moves horizontally at a constant speed determined by {@code HORIZONTAL_VELOCITY}.
@@ -1,5 +1,6 @@
 package com.example.demo.Actor.Projectile;
 
+import com.example.demo.Actor.ActorPool;
 import com.example.demo.Actor.Plane.MutationBoss1;
 
 /**
@@ -15,6 +16,11 @@ public class MutationBossProjectile1 extends BossProjectile {
      */
     protected static final String NEW_IMAGE_NAME = "mutationBossProjectile1.png"; // Image name for the mutation boss projectile
 
+    /**
+     * The pool of MutationBossProjectile1 instances that have left the game and can be fired again.
+     */
+    private static final ActorPool<MutationBossProjectile1> POOL = new ActorPool<>(MutationBossProjectile1::new, 32);
+
     /**
      * Constructs a {@code MutationBossProjectile1} with the specified initial position.
      * Sets the image for the projectile.
@@ -26,4 +32,23 @@ public class MutationBossProjectile1 extends BossProjectile {
         super(initialXPos, initialYPos); // Call the parent class constructor with initial positions
         setImage(NEW_IMAGE_NAME); // Set the image specific to MutationBossProjectile1
     }
+
+    /**
+     * Returns a {@code MutationBossProjectile1} at the given position, reusing a recycled one when possible.
+     *
+     * @param initialXPos The initial X position of the projectile.
+     * @param initialYPos The initial Y position of the projectile.
+     * @return A projectile with the default velocity, ready to be added to the game.
+     */
+    public static MutationBossProjectile1 obtain(double initialXPos, double initialYPos) {
+        return POOL.acquire(initialXPos, initialYPos);
+    }
+
+    /**
+     * Returns this projectile to its own pool, so it is never handed out as a plain boss projectile.
+     */
+    @Override
+    public void recycle() {
+        POOL.release(this);
+    }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.example.demo.Actor.Projectile;
 
+import com.example.demo.Actor.ActorPool;
+
 /**
  * The {@code MutationBossProjectile2} class represents a specific type of projectile fired by the
  * mutated boss 2 in the game. It extends the {@link BossProjectile} class and uses a custom image
@@ -13,6 +15,11 @@ public class MutationBossProjectile2 extends BossProjectile {
      */
     protected static final String NEW_IMAGE_NAME = "mutationBossProjectile2.png"; // Image name for the mutated boss projectile
 
+    /**
+     * The pool of MutationBossProjectile2 instances that have left the game and can be fired again.
+     */
+    private static final ActorPool<MutationBossProjectile2> POOL = new ActorPool<>(MutationBossProjectile2::new, 32);
+
     /**
      * Constructs a {@code MutationBossProjectile2} with the specified initial position.
      * Sets the image to represent the mutated boss projectile.
@@ -24,4 +31,23 @@ public class MutationBossProjectile2 extends BossProjectile {
         super(initialXPos, initialYPos); // Call the superclass constructor to set the initial position
         setImage(NEW_IMAGE_NAME); // Set the custom image for this type of projectile
     }
+
+    /**
+     * Returns a {@code MutationBossProjectile2} at the given position, reusing a recycled one when possible.
+     *
+     * @param initialXPos The initial X position of the projectile.
+     * @param initialYPos The initial Y position of the projectile.
+     * @return A projectile with the default velocity, ready to be added to the game.
+     */
+    public static MutationBossProjectile2 obtain(double initialXPos, double initialYPos) {
+        return POOL.acquire(initialXPos, initialYPos);
+    }
+
+    /**
+     * Returns this projectile to its own pool, so it is never handed out as a plain boss projectile.
+     */
+    @Override
+    public void recycle() {
+        POOL.release(this);
+    }
 }
\ No newline at end of file
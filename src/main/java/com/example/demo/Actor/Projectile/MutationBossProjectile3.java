@@ -1,5 +1,7 @@
 package com.example.demo.Actor.Projectile;
 
+import com.example.demo.Actor.ActorPool;
+
 /**
  * The {@code MutationBossProjectile3} class represents a specialized projectile fired by the {@code MutationBoss3}.
  * It extends the {@code BossProjectile} class and customizes the appearance of the projectile.
@@ -12,6 +14,11 @@ public class MutationBossProjectile3 extends BossProjectile {
      */
     protected static final String NEW_IMAGE_NAME = "mutationBossProjectile3.png"; // Image for the mutated boss projectile
 
+    /**
+     * The pool of MutationBossProjectile3 instances that have left the game and can be fired again.
+     */
+    private static final ActorPool<MutationBossProjectile3> POOL = new ActorPool<>(MutationBossProjectile3::new, 32);
+
     /**
      * Constructs a {@code MutationBossProjectile3} with the specified initial position.
      *
@@ -22,4 +29,23 @@ public class MutationBossProjectile3 extends BossProjectile {
         super(initialXPos, initialYPos); // Calls the constructor of the superclass (BossProjectile)
         setImage(NEW_IMAGE_NAME); // Sets the image for the mutated boss projectile
     }
+
+    /**
+     * Returns a {@code MutationBossProjectile3} at the given position, reusing a recycled one when possible.
+     *
+     * @param initialXPos The initial X position of the projectile.
+     * @param initialYPos The initial Y position of the projectile.
+     * @return A projectile with the default velocity, ready to be added to the game.
+     */
+    public static MutationBossProjectile3 obtain(double initialXPos, double initialYPos) {
+        return POOL.acquire(initialXPos, initialYPos);
+    }
+
+    /**
+     * Returns this projectile to its own pool, so it is never handed out as a plain boss projectile.
+     */
+    @Override
+    public void recycle() {
+        POOL.release(this);
+    }
 }
\ No newline at end of file
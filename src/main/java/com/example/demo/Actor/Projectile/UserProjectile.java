@@ -1,5 +1,6 @@
 package com.example.demo.Actor.Projectile;
 
+import com.example.demo.Actor.ActorPool;
 import javafx.scene.image.ImageView;
 
 /**
@@ -38,6 +39,13 @@ public class UserProjectile extends Projectile {
 			new ProjectileProperties(210, 210, 22, 210, 210)     // Power Level 5
 	};
 
+	/**
+	 * The pool of user projectiles that have left the game and can be fired again.
+	 * New projectiles start at the smallest size; {@link #obtain} applies the requested size and power level.
+	 */
+	private static final ActorPool<UserProjectile> POOL = new ActorPool<>(
+			(x, y) -> new UserProjectile(x, y, PROPERTIES[0].imageWidth, PROPERTIES[0].imageHeight), 64);
+
 	/**
 	 * Constructs a new {@code UserProjectile} with the specified initial position and properties.
 	 *
@@ -51,7 +59,35 @@ public class UserProjectile extends Projectile {
 		this.imageView = new ImageView();
 		updateProjectileState();
 		setHitboxSize(PROPERTIES[powerLevel - 1].hitboxWidth, PROPERTIES[powerLevel - 1].hitboxHeight);
-		getHitbox().toFront();
+	}
+
+	/**
+	 * Returns a user projectile with the given position, size and power level, reusing a recycled one when possible.
+	 * The image is only changed when the power level differs from the one the projectile was last fired with.
+	 *
+	 * @param initialXPos  the initial x-coordinate of the projectile
+	 * @param initialYPos  the initial y-coordinate of the projectile
+	 * @param imageWidth   the width of the projectile image
+	 * @param imageHeight  the height of the projectile image
+	 * @param powerLevel   the power level of the projectile
+	 * @return a user projectile ready to be added to the game
+	 */
+	public static UserProjectile obtain(double initialXPos, double initialYPos, int imageWidth, int imageHeight, int powerLevel) {
+		UserProjectile projectile = POOL.acquire(initialXPos, initialYPos);
+		projectile.setFitWidth(imageWidth);
+		projectile.setFitHeight(imageHeight);
+		if (projectile.getPowerLevel() != powerLevel) {
+			projectile.setPowerLevel(powerLevel);
+		}
+		return projectile;
+	}
+
+	/**
+	 * Returns this projectile to the pool of user projectiles.
+	 */
+	@Override
+	public void recycle() {
+		POOL.release(this);
 	}
 
 	/**
@@ -161,7 +197,7 @@ public class UserProjectile extends Projectile {
 	 * @param velocity the horizontal velocity to move the projectile by
 	 */
 	private void moveHorizontally(int velocity) {
-		setTranslateX(getTranslateX() + velocity);
+		getState().setTranslationX(getState().getTranslationX() + velocity);
 	}
 
 	/**
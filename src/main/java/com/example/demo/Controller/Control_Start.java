@@ -1,26 +1,23 @@
 package com.example.demo.Controller;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.stage.Stage;
+import com.example.demo.Level.FlightRecorder.LevelTransitionEvent;
+import com.example.demo.Level.LevelManager.AudioManager;
 import com.example.demo.Level.LevelParent;
+import com.example.demo.Level.LevelRegistry;
+
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The Control_Start class is responsible for controlling the game's start process,
  * including launching and transitioning between levels.
- * It handles level loading using reflection, so levels can be dynamically loaded based on class names.
+ * Levels are created through the {@link LevelRegistry}, so they are looked up by ID without any reflection.
  */
 public class Control_Start {
-    /**
-     * The class name for the first level.
-     * This constant stores the fully qualified class name for the first level of the game.
-     */
-    private static final String LEVEL_ONE_CLASS_NAME = "com.example.demo.Level.LevelOne"; // The class name for the first level
-
     /**
      * The width of the level window.
      * This constant defines the width of the window for the game level.
@@ -39,6 +36,11 @@ public class Control_Start {
      */
     private final Stage stage; // The main stage for the application
 
+    /**
+     * The ID of the level the game starts with.
+     */
+    private final String firstLevelId;
+
     /**
      * The current active level.
      * This variable stores the instance of the current active level in the game.
@@ -47,55 +49,83 @@ public class Control_Start {
     private LevelParent currentLevel = null; // Variable to store the current active level
 
     /**
-     * Constructor for Control_Start, initializing the stage.
+     * The registry ID of the current active level.
+     */
+    private String currentLevelId = null;
+
+    /**
+     * Constructor for Control_Start, initializing the stage. The game starts with the first level.
      *
      * @param stage The primary stage for the game.
      */
     public Control_Start(Stage stage) {
+        this(stage, LevelRegistry.LEVEL_ONE);
+    }
+
+    /**
+     * Constructor for a game that starts with the given level.
+     *
+     * @param stage The primary stage for the game.
+     * @param firstLevelId The {@link LevelRegistry} ID of the level the game starts with.
+     */
+    protected Control_Start(Stage stage, String firstLevelId) {
         this.stage = stage;
+        this.firstLevelId = firstLevelId;
     }
 
     /**
-     * Launches the game by showing the primary stage and loading the first level.
+     * Launches the game by checking the level registry, then showing the primary stage and loading the first level
+     * once the sound effects are loaded. If they are still loading, the level starts as soon as they are ready.
      *
-     * @throws ClassNotFoundException If the level class cannot be found.
-     * @throws NoSuchMethodException If the constructor for the level class is not found.
-     * @throws SecurityException If there is a security issue while accessing the class.
-     * @throws InstantiationException If the class cannot be instantiated.
-     * @throws IllegalAccessException If there is an illegal access to the class or constructor.
-     * @throws IllegalArgumentException If the constructor receives incorrect arguments.
-     * @throws InvocationTargetException If the constructor invocation throws an exception.
+     * @throws IllegalStateException If a registered level is missing an asset.
+     * @throws IllegalArgumentException If the first level is not registered.
      */
-    public void launchGame() throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-            InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+    public void launchGame() {
+        LevelRegistry.getInstance().validate();
+        CompletableFuture<Void> soundEffectsReady = AudioManager.getInstance().preloadSoundEffects();
+        if (soundEffectsReady.isDone()) {
+            startFirstLevel();
+        } else {
+            soundEffectsReady.whenComplete((ready, error) -> Platform.runLater(() -> {
+                try {
+                    startFirstLevel();
+                } catch (Exception e) {
+                    showError(e); // Handle errors when loading the first level
+                }
+            }));
+        }
+    }
+
+    /**
+     * Shows the primary stage and loads the first level.
+     */
+    private void startFirstLevel() {
         stage.show();
-        goToLevel(LEVEL_ONE_CLASS_NAME); // Go to the first level when the game starts
+        goToLevel(firstLevelId); // Go to the first level when the game starts
     }
 
     /**
-     * Navigates to the specified level by dynamically loading the class using reflection.
+     * Navigates to the specified level, creating it through the level registry.
+     * The switch is timed as a {@link LevelTransitionEvent} for the Flight Recorder.
      *
-     * @param className The class name of the level to be loaded.
-     * @throws ClassNotFoundException If the class cannot be found.
-     * @throws NoSuchMethodException If the constructor is not found in the class.
-     * @throws SecurityException If there is a security issue when accessing the constructor.
-     * @throws InstantiationException If the level class cannot be instantiated.
-     * @throws IllegalAccessException If the constructor cannot be accessed.
-     * @throws IllegalArgumentException If the constructor arguments are invalid.
-     * @throws InvocationTargetException If the constructor invocation fails.
+     * @param levelId The registry ID of the level to be loaded.
+     * @throws IllegalArgumentException If no level is registered under the ID.
      */
-    private void goToLevel(String className) throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-            InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+    private void goToLevel(String levelId) {
 
-        // If the current level is already loaded and matches the requested class, return to avoid reloading
-        if (currentLevel != null && currentLevel.getClass().getName().equals(className)) {
+        // If the current level is already loaded and matches the requested level, return to avoid reloading
+        if (currentLevel != null && levelId.equals(currentLevelId)) {
             return;
         }
 
-        // Create a new instance of the level using reflection
-        Class<?> myClass = Class.forName(className);
-        Constructor<?> constructor = myClass.getConstructor(double.class, double.class);
-        currentLevel = (LevelParent) constructor.newInstance(LEVEL_HEIGHT, LEVEL_WIDTH);
+        LevelTransitionEvent transition = new LevelTransitionEvent();
+        transition.fromLevel = currentLevelId;
+        transition.toLevel = levelId;
+        transition.begin();
+
+        // Create a new instance of the level from its registered factory
+        currentLevel = LevelRegistry.getInstance().create(levelId, LEVEL_HEIGHT, LEVEL_WIDTH);
+        currentLevelId = levelId;
 
         // Add a listener to the current level's currentLevelName property to handle level transitions
         currentLevel.currentLevelNameProperty().addListener((observable, oldValue, newValue) -> {
@@ -110,6 +140,7 @@ public class Control_Start {
         Scene scene = currentLevel.initializeScene();
         stage.setScene(scene);
         currentLevel.startGame(); // Start the game for the current level
+        transition.commit();
     }
 
     /**
@@ -122,4 +153,4 @@ public class Control_Start {
         alert.setContentText(e.getClass().toString()); // Display the exception class type
         alert.show(); // Show the alert to the user
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,128 @@
+package com.example.demo.Controller;
+
+/**
+ * Holds process-wide runtime switches for the game.
+ * <p>
+ * When the headless mode is enabled, the levels run the pure simulation only: images are not decoded, no
+ * {@link javafx.scene.Scene} or HUD is built, audio is muted and no end-game window is shown. This allows the
+ * game logic to be driven without a running JavaFX toolkit, for example from soak tests or server-side runs.
+ * </p>
+ * <p>
+ * When the hitbox debug mode is enabled, every destructible actor also gets an outlined
+ * {@link javafx.scene.shape.Rectangle} showing its hitbox. Normally hitboxes only exist as plain numbers in
+ * the actor state and add no nodes to the scene.
+ * </p>
+ * <p>
+ * When the canvas renderer is enabled, projectiles, enemies and pickups are drawn into a single
+ * {@link javafx.scene.canvas.Canvas} every frame instead of each being an {@link javafx.scene.image.ImageView} in
+ * the scene.
+ * </p>
+ * <p>
+ * When the tick report is enabled, each level prints its {@link com.example.demo.Level.LevelManager.TickProfilerManager}
+ * report to standard output when it is cleaned up. It is off by default, so a normal game prints nothing. The
+ * switches are read from system properties at launch, e.g. {@code -Dskybattle.canvasRenderer=true}.
+ * </p>
+ */
+public final class GameRuntime {
+
+    /**
+     * Indicates whether the game is running without a display.
+     */
+    private static volatile boolean headless = Boolean.getBoolean("skybattle.headless");
+
+    /**
+     * Indicates whether hitbox outlines are drawn for debugging.
+     */
+    private static volatile boolean debugHitboxes = Boolean.getBoolean("skybattle.debugHitboxes");
+
+    /**
+     * Indicates whether actors are drawn into one canvas instead of being scene nodes.
+     */
+    private static volatile boolean canvasRenderer = Boolean.getBoolean("skybattle.canvasRenderer");
+
+    /**
+     * Indicates whether each level prints its tick profile when it is cleaned up.
+     */
+    private static volatile boolean tickReport = Boolean.getBoolean("skybattle.tickReport");
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private GameRuntime() {
+    }
+
+    /**
+     * Returns whether the game is running in headless mode.
+     *
+     * @return true if the game is running without a display, false otherwise.
+     */
+    public static boolean isHeadless() {
+        return headless;
+    }
+
+    /**
+     * Enables or disables headless mode.
+     * This must be set before any level or actor is created.
+     *
+     * @param headless true to run without a display, false to run normally.
+     */
+    public static void setHeadless(boolean headless) {
+        GameRuntime.headless = headless;
+    }
+
+    /**
+     * Returns whether hitbox outlines are drawn for debugging.
+     *
+     * @return true if hitbox outline nodes are created, false otherwise.
+     */
+    public static boolean isDebugHitboxes() {
+        return debugHitboxes;
+    }
+
+    /**
+     * Enables or disables the hitbox debug overlay.
+     * Only actors created afterwards are affected.
+     *
+     * @param debugHitboxes true to draw hitbox outlines, false to keep hitboxes off the scene.
+     */
+    public static void setDebugHitboxes(boolean debugHitboxes) {
+        GameRuntime.debugHitboxes = debugHitboxes;
+    }
+
+    /**
+     * Returns whether actors are drawn by the canvas renderer.
+     *
+     * @return true if actors are drawn into one canvas, false if each actor is a scene node.
+     */
+    public static boolean isCanvasRenderer() {
+        return canvasRenderer;
+    }
+
+    /**
+     * Selects the canvas renderer or the scene-node renderer.
+     * Only levels created afterwards are affected.
+     *
+     * @param canvasRenderer true to draw actors into one canvas, false to keep each actor as a scene node.
+     */
+    public static void setCanvasRenderer(boolean canvasRenderer) {
+        GameRuntime.canvasRenderer = canvasRenderer;
+    }
+
+    /**
+     * Returns whether each level prints its tick profile when it is cleaned up.
+     *
+     * @return true if the tick report is printed, false otherwise.
+     */
+    public static boolean isTickReport() {
+        return tickReport;
+    }
+
+    /**
+     * Enables or disables printing the tick profile of each level when it is cleaned up.
+     *
+     * @param tickReport true to print the tick report, false to keep standard output quiet.
+     */
+    public static void setTickReport(boolean tickReport) {
+        GameRuntime.tickReport = tickReport;
+    }
+}
@@ -21,6 +21,12 @@ public class BossHealthBar extends HBox {
      */
     private final ProgressBar healthBar;
 
+    /**
+     * The health currently shown by the progress bar.
+     * Updates with the same health are ignored, so the bar is not laid out again every frame.
+     */
+    private int displayedHealth;
+
     /**
      * The width of the health bar in pixels.
      * It defines how wide the progress bar will be displayed.
@@ -41,6 +47,7 @@ public class BossHealthBar extends HBox {
      */
     public BossHealthBar(int initialHealth) {
         this.initialHealth = initialHealth;
+        this.displayedHealth = initialHealth;
         this.healthBar = createHealthBar();
         this.getChildren().addAll(healthBar);
     }
@@ -60,11 +67,15 @@ public class BossHealthBar extends HBox {
 
     /**
      * Updates the Boss's health and refreshes the health bar display.
-     * The health bar's progress will be updated based on the current health.
+     * The health bar's progress will be updated based on the current health, only if it has changed.
      *
      * @param bossHealth The current health of the Boss.
      */
     public void updateHealth(int bossHealth) {
+        if (bossHealth == displayedHealth) {
+            return;
+        }
+        displayedHealth = bossHealth;
         double progress = (double) bossHealth / initialHealth;
         this.healthBar.setProgress(progress);
     }
@@ -98,10 +109,9 @@ public class BossHealthBar extends HBox {
 
     /**
      * Shows the Boss's health bar on the screen.
-     * The health bar will be brought to the front of the view.
+     * The health bar sits in the effects layer of the scene, so it is drawn above the boss and its projectiles.
      */
     public void show() {
         this.setVisible(true);
-        this.toFront();
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.example.demo.Display;
 
+import com.example.demo.Controller.GameRuntime;
 import com.example.demo.Level.LevelManager.AudioManager;
+import com.example.demo.Level.LevelManager.ImageManager;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.scene.Group;
@@ -13,6 +15,10 @@ import javafx.util.Duration;
  * Handles explosion effects in the game, including visual animations and sound effects.
  * This class is responsible for displaying explosion animations at specific locations
  * and playing the corresponding explosion sound.
+ * <p>
+ * The animation frames are decoded once, through the {@link ImageManager}, and kept in memory. An explosion then
+ * only steps an index through the frame set, so even many explosions in the same frame cause no decode work.
+ * </p>
  */
 public class Explosion {
 
@@ -22,6 +28,31 @@ public class Explosion {
      */
     private static final String EXPLOSION_IMAGE_PATH = "/com/example/demo/images/Explosion/explosion%d.png";
 
+    /**
+     * The number of frames in the explosion animation.
+     */
+    private static final int FRAME_COUNT = 20;
+
+    /**
+     * How long each frame is shown, in milliseconds.
+     */
+    private static final double FRAME_DURATION = 50;
+
+    /**
+     * The width and height of the explosion on screen.
+     */
+    private static final double EXPLOSION_SIZE = 150;
+
+    /**
+     * The decoded animation frames, loaded on first use.
+     */
+    private static volatile Image[] frames;
+
+    /**
+     * The number of explosion animations currently playing. Explosions start and finish on the JavaFX thread only.
+     */
+    private static int activeExplosionCount;
+
     /**
      * No-argument constructor for Explosion.
      * This constructor initializes the class but requires no parameters.
@@ -30,6 +61,40 @@ public class Explosion {
         // Default constructor
     }
 
+    /**
+     * Decodes the explosion frames ahead of time, so that the first explosion of a level does not stall a frame.
+     * Calling it again has no effect.
+     */
+    public static void preloadFrames() {
+        getFrames();
+    }
+
+    /**
+     * Returns the explosion frames, decoding them on first use.
+     *
+     * @return the animation frames in playing order
+     */
+    private static Image[] getFrames() {
+        Image[] loaded = frames;
+        if (loaded == null) {
+            loaded = new Image[FRAME_COUNT];
+            for (int i = 0; i < FRAME_COUNT; i++) {
+                loaded[i] = ImageManager.getInstance().getImage(String.format(EXPLOSION_IMAGE_PATH, i + 1));
+            }
+            frames = loaded;
+        }
+        return loaded;
+    }
+
+    /**
+     * Returns the number of explosion animations currently playing.
+     *
+     * @return the number of explosions started and not yet finished
+     */
+    public static int getActiveExplosionCount() {
+        return activeExplosionCount;
+    }
+
     /**
      * Triggers an explosion animation at the location of the specified actor.
      * The animation consists of a sequence of 20 frames and is displayed on the root node.
@@ -40,40 +105,33 @@ public class Explosion {
      *              the explosion will occur at this actor's location
      */
     public static void triggerExplosionEffect(Group root, Node actor) {
-        if (actor == null || root == null) return;
+        if (actor == null || root == null || GameRuntime.isHeadless()) return;
 
         // Get the actor's position to place the explosion animation
         double x = actor.localToScene(actor.getBoundsInLocal()).getMinX();
         double y = actor.localToScene(actor.getBoundsInLocal()).getMinY();
 
-        // Create an ImageView for displaying the explosion animation
-        ImageView explosionImage = new ImageView();
-        explosionImage.setFitWidth(150);
-        explosionImage.setFitHeight(150);
+        // Create an ImageView for displaying the explosion animation, starting on the first frame
+        Image[] explosionFrames = getFrames();
+        ImageView explosionImage = new ImageView(explosionFrames[0]);
+        explosionImage.setFitWidth(EXPLOSION_SIZE);
+        explosionImage.setFitHeight(EXPLOSION_SIZE);
         explosionImage.setX(x);
         explosionImage.setY(y);
         root.getChildren().add(explosionImage);
 
-        // Total number of frames and duration of each frame (in milliseconds)
-        int totalFrames = 20;
-        double frameDuration = 50;
-
-        // Create a Timeline to cycle through the explosion frames
-        Timeline explosionTimeline = new Timeline();
-
-        // Add KeyFrames to the Timeline for each explosion frame
-        for (int i = 0; i < totalFrames; i++) {
-            int frameIndex = i + 1; // Frame index starts from 1
-            explosionTimeline.getKeyFrames().add(
-                    new KeyFrame(Duration.millis(i * frameDuration), // Set frame timing
-                            e -> explosionImage.setImage(new Image(Explosion.class.getResource(
-                                    String.format(EXPLOSION_IMAGE_PATH, frameIndex)).toExternalForm())))
-            );
-        }
+        // Step through the remaining frames, one per cycle
+        int[] frameIndex = {0};
+        Timeline explosionTimeline = new Timeline(new KeyFrame(Duration.millis(FRAME_DURATION),
+                e -> explosionImage.setImage(explosionFrames[++frameIndex[0]])));
+        explosionTimeline.setCycleCount(FRAME_COUNT - 1);
 
         // Remove the explosion image from the root after the animation finishes
-        explosionTimeline.setOnFinished(e -> root.getChildren().remove(explosionImage));
-        explosionTimeline.setCycleCount(1); // Play the animation once
+        explosionTimeline.setOnFinished(e -> {
+            root.getChildren().remove(explosionImage);
+            activeExplosionCount--;
+        });
+        activeExplosionCount++;
         explosionTimeline.play();
 
         // Play explosion sound effect
@@ -1,6 +1,6 @@
 package com.example.demo.Display;
 
-import javafx.scene.image.Image;
+import com.example.demo.Level.LevelManager.ImageManager;
 import javafx.scene.image.ImageView;
 
 /**
@@ -49,7 +49,7 @@ public class GameOverImage extends ImageView {
 	 * and resizes it to the predefined width and height.
 	 */
 	public GameOverImage() {
-		setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+		setImage(ImageManager.getInstance().getImage(IMAGE_NAME));
 		setLayoutX(X_POSITION);
 		setLayoutY(Y_POSITION);
 		setFitHeight(HEIGHT);
@@ -1,6 +1,6 @@
 package com.example.demo.Display;
 
-import javafx.scene.image.Image;
+import com.example.demo.Level.LevelManager.ImageManager;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
@@ -125,7 +125,7 @@ public class HeartDisplay {
 	 * </p>
 	 */
 	public void addHeart() {
-		ImageView heart = new ImageView(new Image(getClass().getResource(HEART_IMAGE_NAME).toExternalForm()));
+		ImageView heart = new ImageView(ImageManager.getInstance().getImage(HEART_IMAGE_NAME));
 		heart.setFitHeight(HEART_HEIGHT);
 		heart.setPreserveRatio(true);
 		container.getChildren().add(heart);
@@ -0,0 +1,150 @@
+package com.example.demo.Display;
+
+import com.example.demo.Level.LevelManager.ActiveActorManager;
+import com.example.demo.Level.LevelManager.PerformanceStats;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+
+/**
+ * An overlay that shows the game's performance while a level runs: frames per second, a graph of the recent frame
+ * times, the number of scene-graph nodes, the number of actors drawn into the canvas renderer instead of being nodes,
+ * the number of actors in each list, the allocation rate and the number of garbage collections.
+ * <p>
+ * The overlay is created the first time it is shown and is refreshed only a few times per second; the level stops
+ * feeding it as soon as it is hidden.
+ * </p>
+ */
+public class PerformanceOverlay extends VBox {
+
+    /**
+     * The x-coordinate of the overlay on the screen.
+     */
+    private static final double X_POSITION = 1030;
+
+    /**
+     * The y-coordinate of the overlay on the screen.
+     */
+    private static final double Y_POSITION = 10;
+
+    /**
+     * The width of the frame-time graph in pixels.
+     */
+    private static final double GRAPH_WIDTH = 240;
+
+    /**
+     * The height of the frame-time graph in pixels.
+     */
+    private static final double GRAPH_HEIGHT = 60;
+
+    /**
+     * The frame time drawn at the top of the graph, in milliseconds.
+     */
+    private static final double GRAPH_MAX_MILLIS = 50;
+
+    /**
+     * The frame time of a 60 fps frame, drawn as a reference line, in milliseconds.
+     */
+    private static final double BUDGET_MILLIS = 1000.0 / 60;
+
+    /**
+     * The label showing the figures.
+     */
+    private final Label statsLabel;
+
+    /**
+     * The canvas the frame-time graph is drawn on.
+     */
+    private final Canvas graph;
+
+    /**
+     * Constructs a hidden PerformanceOverlay.
+     */
+    public PerformanceOverlay() {
+        statsLabel = new Label();
+        statsLabel.setStyle("-fx-font-family: monospace; -fx-font-size: 12px; -fx-text-fill: White;");
+        graph = new Canvas(GRAPH_WIDTH, GRAPH_HEIGHT);
+        this.getChildren().addAll(statsLabel, graph);
+        this.setSpacing(4);
+        this.setStyle("-fx-background-color: rgba(0, 0, 0, 0.6); -fx-padding: 6;");
+        this.setLayoutX(X_POSITION);
+        this.setLayoutY(Y_POSITION);
+        this.setMouseTransparent(true);
+        this.setVisible(false);
+    }
+
+    /**
+     * Shows the overlay. It sits in the overlay layer of the scene, above everything else.
+     */
+    public void show() {
+        this.setVisible(true);
+    }
+
+    /**
+     * Hides the overlay.
+     */
+    public void hide() {
+        this.setVisible(false);
+    }
+
+    /**
+     * Redraws the overlay with the latest figures.
+     *
+     * @param stats       the frame and memory figures
+     * @param sceneRoot   the root of the level's scene graph, whose nodes are counted
+     * @param actors      the actors of the level
+     * @param drawnActors the number of actors drawn into the canvas renderer, which are not scene nodes
+     */
+    public void refresh(PerformanceStats stats, Parent sceneRoot, ActiveActorManager actors, int drawnActors) {
+        double allocation = stats.getAllocationBytesPerSecond();
+        statsLabel.setText(String.format(
+                "FPS %5.1f%nnodes %d  drawn %d%nfriendly %d  enemies %d%nshots %d / %d  items %d / %d%nalloc %s  gc %d",
+                stats.getFramesPerSecond(), countNodes(sceneRoot), drawnActors,
+                actors.getFriendlyUnits().size(), actors.getEnemyUnits().size(),
+                actors.getUserProjectiles().size(), actors.getEnemyProjectiles().size(),
+                actors.getAmmoBoxes().size(), actors.getHearts().size(),
+                Double.isNaN(allocation) ? "n/a" : String.format("%.1f MB/s", allocation / (1024 * 1024)),
+                stats.getGcCount()));
+        drawGraph(stats);
+    }
+
+    /**
+     * Draws the recent frame times as bars, with a line at the 60 fps budget.
+     *
+     * @param stats the frame figures
+     */
+    private void drawGraph(PerformanceStats stats) {
+        GraphicsContext gc = graph.getGraphicsContext2D();
+        gc.clearRect(0, 0, GRAPH_WIDTH, GRAPH_HEIGHT);
+        double barWidth = GRAPH_WIDTH / PerformanceStats.FRAME_HISTORY;
+        int frames = stats.getFrameCount();
+        for (int i = 0; i < frames; i++) {
+            double millis = stats.getFrameNanos(i) / 1_000_000.0;
+            double height = Math.min(millis, GRAPH_MAX_MILLIS) / GRAPH_MAX_MILLIS * GRAPH_HEIGHT;
+            gc.setFill(millis > BUDGET_MILLIS * 1.5 ? Color.ORANGERED : Color.LIMEGREEN);
+            gc.fillRect(GRAPH_WIDTH - (frames - i) * barWidth, GRAPH_HEIGHT - height, barWidth, height);
+        }
+        double budgetY = GRAPH_HEIGHT - BUDGET_MILLIS / GRAPH_MAX_MILLIS * GRAPH_HEIGHT;
+        gc.setStroke(Color.WHITE);
+        gc.strokeLine(0, budgetY, GRAPH_WIDTH, budgetY);
+    }
+
+    /**
+     * Counts the nodes of a scene graph, including its root.
+     * Actors drawn by the canvas renderer are not nodes and are not counted.
+     *
+     * @param root the root of the scene graph
+     * @return the number of nodes
+     */
+    public static int countNodes(Parent root) {
+        int count = 1;
+        for (Node child : root.getChildrenUnmodifiable()) {
+            count += child instanceof Parent parent ? countNodes(parent) : 1;
+        }
+        return count;
+    }
+}
@@ -105,10 +105,14 @@ public class ScoreBoard extends HBox {
 
     /**
      * Updates the displayed kills on the scoreboard.
+     * The label text is only rebuilt when the number of kills has changed.
      *
      * @param currentKills The updated number of kills.
      */
     public void updateKills(int currentKills) {
+        if (currentKills == this.currentKills) {
+            return;
+        }
         this.currentKills = currentKills;
         String text = endlessMode ? "Kills: " + currentKills : "Kills: " + currentKills + " / " + targetKills;
         this.killInfoLabel.setText(text);
@@ -117,6 +121,7 @@ public class ScoreBoard extends HBox {
     /**
      * Updates the displayed kills and target kills in normal mode.
      * This method is not used in endless mode.
+     * The label text is only rebuilt when one of the values has changed.
      *
      * @param currentKills The updated number of kills.
      * @param targetKills  The updated target number of kills.
@@ -125,17 +130,19 @@ public class ScoreBoard extends HBox {
         if (endlessMode) {
             throw new UnsupportedOperationException("updateKills with targetKills is not supported in endless mode.");
         }
+        if (currentKills == this.currentKills && targetKills == this.targetKills) {
+            return;
+        }
         this.currentKills = currentKills;
         this.targetKills = targetKills;
         this.killInfoLabel.setText("Kills: " + currentKills + " / " + targetKills);
     }
 
     /**
-     * Makes the ScoreBoard visible and brings it to the front of the scene.
+     * Makes the ScoreBoard visible. It sits in the HUD layer of the scene, above every actor.
      */
     public void show() {
         this.setVisible(true);
-        this.toFront();
     }
 
     /**
@@ -1,6 +1,6 @@
 package com.example.demo.Display;
 
-import javafx.scene.image.Image;
+import com.example.demo.Level.LevelManager.ImageManager;
 import javafx.scene.image.ImageView;
 
 /**
@@ -26,7 +26,7 @@ public class ShieldImage extends ImageView {
      */
     public ShieldImage() {
         // Load the shield image from resources
-        this.setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+        this.setImage(ImageManager.getInstance().getImage(IMAGE_NAME));
 
         // Initially hide the shield
         this.setVisible(false);
@@ -49,12 +49,12 @@ public class ShieldImage extends ImageView {
     }
 
     /**
-     * Makes the shield image visible and brings it to the front.
+     * Makes the shield image visible.
      * This method is typically called when the shield needs to be shown in the game.
+     * The shield is drawn above the enemies because it sits in the effects layer of the scene.
      */
     public void show() {
         this.setVisible(true);
-        this.toFront();
     }
 
     /**
@@ -84,11 +84,10 @@ public class TargetLevel extends Pane {
     }
 
     /**
-     * Shows the hint label and brings it to the front of the game interface.
-     * This method makes the hint label visible and ensures that it is displayed on top of other UI elements.
+     * Shows the hint label.
+     * The hint sits in the HUD layer of the scene, so it is displayed on top of the actors and effects.
      */
     public void show() {
         hintLabel.setVisible(true); // Make the hint visible
-        this.toFront();             // Bring the hint label to the front of other elements
     }
 }
\ No newline at end of file
@@ -1,6 +1,6 @@
 package com.example.demo.Display;
 
-import javafx.scene.image.Image;
+import com.example.demo.Level.LevelManager.ImageManager;
 import javafx.scene.image.ImageView;
 
 /**
@@ -46,7 +46,7 @@ public class WinImage extends ImageView {
 	 * The dimensions of the image are also set at this stage.
 	 */
 	public WinImage() {
-		this.setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+		this.setImage(ImageManager.getInstance().getImage(IMAGE_NAME));
 		this.setFitHeight(HEIGHT);
 		this.setFitWidth(WIDTH);
 		this.setLayoutX(X_POSITION);
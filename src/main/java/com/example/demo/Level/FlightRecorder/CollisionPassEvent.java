@@ -0,0 +1,54 @@
+package com.example.demo.Level.FlightRecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for one pass of the {@link com.example.demo.Level.LevelManager.CollisionManager} over two
+ * lists of actors, with the sizes of the lists and the number of pairs actually tested.
+ * <p>
+ * A tick runs several passes, so only passes of at least 200 microseconds are recorded by default.
+ * </p>
+ */
+@Name("com.example.demo.CollisionPass")
+@Label("Collision Pass")
+@Category({"Sky Battle", "Game Loop"})
+@Description("Collision checks between two lists of actors")
+@Threshold("200 us")
+@StackTrace(false)
+public class CollisionPassEvent extends jdk.jfr.Event {
+
+    /**
+     * The number of actors in the first list.
+     */
+    @Label("First List Size")
+    public int firstCount;
+
+    /**
+     * The number of actors in the second list.
+     */
+    @Label("Second List Size")
+    public int secondCount;
+
+    /**
+     * Whether the pass went through the spatial hash broadphase instead of testing every pair.
+     */
+    @Label("Broadphase")
+    public boolean broadphase;
+
+    /**
+     * The number of pairs whose hitboxes were tested.
+     */
+    @Label("Pairs Tested")
+    public long pairsTested;
+
+    /**
+     * Constructs an empty collision pass event. The counts are set once the pass is over.
+     */
+    public CollisionPassEvent() {
+    }
+}
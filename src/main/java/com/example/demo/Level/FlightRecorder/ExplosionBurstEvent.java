@@ -0,0 +1,41 @@
+package com.example.demo.Level.FlightRecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a clean-up pass that starts several explosions at once, for example when a wave of
+ * enemies is shot down together. Each explosion adds an image and a timeline to the scene, so bursts are a likely
+ * cause of a slow frame.
+ * <p>
+ * The event spans the clean-up pass that started the explosions. Single explosions are not recorded.
+ * </p>
+ */
+@Name("com.example.demo.ExplosionBurst")
+@Label("Explosion Burst")
+@Category({"Sky Battle", "Effects"})
+@Description("Several explosions started in the same tick")
+@StackTrace(false)
+public class ExplosionBurstEvent extends jdk.jfr.Event {
+
+    /**
+     * The number of explosions started by the pass.
+     */
+    @Label("Explosions")
+    public int explosions;
+
+    /**
+     * The number of explosion animations playing once the pass is done, including the new ones.
+     */
+    @Label("Active Explosions")
+    public int activeExplosions;
+
+    /**
+     * Constructs an empty explosion burst event. The counts are set only if the pass turns out to be a burst.
+     */
+    public ExplosionBurstEvent() {
+    }
+}
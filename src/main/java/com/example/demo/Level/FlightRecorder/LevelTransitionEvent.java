@@ -0,0 +1,37 @@
+package com.example.demo.Level.FlightRecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a change of level, spanning the creation of the new level and the switch to its scene.
+ * Level changes are rare, so every one is recorded.
+ */
+@Name("com.example.demo.LevelTransition")
+@Label("Level Transition")
+@Category({"Sky Battle", "Levels"})
+@Description("Creation of a level and the switch to its scene")
+@StackTrace(false)
+public class LevelTransitionEvent extends jdk.jfr.Event {
+
+    /**
+     * The ID of the level left, or null for the first level of the game.
+     */
+    @Label("From Level")
+    public String fromLevel;
+
+    /**
+     * The ID of the level entered.
+     */
+    @Label("To Level")
+    public String toLevel;
+
+    /**
+     * Constructs an empty level transition event. The levels are set before the event is committed.
+     */
+    public LevelTransitionEvent() {
+    }
+}
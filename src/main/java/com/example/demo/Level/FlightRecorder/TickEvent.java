@@ -0,0 +1,114 @@
+package com.example.demo.Level.FlightRecorder;
+
+import com.example.demo.Level.LevelManager.TickPhase;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for one simulation tick of a level, with the time spent in each of its phases.
+ * <p>
+ * The event spans the whole tick, so in JDK Mission Control it lines up with the garbage collections, safepoints and
+ * JavaFX pulses around it. Only ticks of at least 1 ms are recorded by default, which leaves out the normal ticks of
+ * a few tens of microseconds; lower the threshold in the recording settings to record every tick.
+ * </p>
+ */
+@Name("com.example.demo.Tick")
+@Label("Game Tick")
+@Category({"Sky Battle", "Game Loop"})
+@Description("One fixed simulation step of a level")
+@Threshold("1 ms")
+@StackTrace(false)
+public class TickEvent extends jdk.jfr.Event {
+
+    /**
+     * The name of the level that ran the tick.
+     */
+    @Label("Level")
+    public String level;
+
+    /**
+     * The time spent moving the actors and letting them fire.
+     */
+    @Label("Update Actors")
+    @Timespan(Timespan.NANOSECONDS)
+    public long updateActors;
+
+    /**
+     * The time spent spawning new enemies.
+     */
+    @Label("Spawn Enemies")
+    @Timespan(Timespan.NANOSECONDS)
+    public long spawnEnemies;
+
+    /**
+     * The time spent handling enemy penetration and collisions.
+     */
+    @Label("Collisions")
+    @Timespan(Timespan.NANOSECONDS)
+    public long collisions;
+
+    /**
+     * The time spent removing destroyed actors.
+     */
+    @Label("Clean Up")
+    @Timespan(Timespan.NANOSECONDS)
+    public long cleanUp;
+
+    /**
+     * The time spent updating the level view and checking whether the game is over.
+     */
+    @Label("Update Status")
+    @Timespan(Timespan.NANOSECONDS)
+    public long updateStatus;
+
+    /**
+     * The time spent applying the tick's scene-graph changes.
+     */
+    @Label("Scene Flush")
+    @Timespan(Timespan.NANOSECONDS)
+    public long sceneFlush;
+
+    /**
+     * The number of enemy units at the end of the tick.
+     */
+    @Label("Enemies")
+    public int enemies;
+
+    /**
+     * The number of projectiles, from the user and the enemies, at the end of the tick.
+     */
+    @Label("Projectiles")
+    public int projectiles;
+
+    /**
+     * Constructs an empty tick event. The tick profiler fills in the phases and counts before committing it.
+     */
+    public TickEvent() {
+    }
+
+    /**
+     * Sets the time spent in one phase of the tick.
+     * The {@link TickPhase#TOTAL} is the duration of the event itself and is ignored here.
+     *
+     * @param phase the phase
+     * @param nanos the time spent in the phase, in nanoseconds
+     */
+    public void setPhaseNanos(TickPhase phase, long nanos) {
+        switch (phase) {
+            case UPDATE_ACTORS -> updateActors = nanos;
+            case SPAWN_ENEMIES -> spawnEnemies = nanos;
+            case COLLISIONS -> collisions = nanos;
+            case CLEAN_UP -> cleanUp = nanos;
+            case UPDATE_STATUS -> updateStatus = nanos;
+            case SCENE_FLUSH -> sceneFlush = nanos;
+            case TOTAL -> {
+                // The duration of the event
+            }
+        }
+    }
+}
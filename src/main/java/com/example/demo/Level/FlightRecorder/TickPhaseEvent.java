@@ -0,0 +1,42 @@
+package com.example.demo.Level.FlightRecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for one phase of a simulation tick, such as the collisions or the clean-up.
+ * <p>
+ * Only phases of at least 1 ms are recorded by default, so the event points at the phase behind a slow
+ * {@link TickEvent} without recording the six phases of every tick.
+ * </p>
+ */
+@Name("com.example.demo.TickPhase")
+@Label("Game Tick Phase")
+@Category({"Sky Battle", "Game Loop"})
+@Description("One phase of a simulation step of a level")
+@Threshold("1 ms")
+@StackTrace(false)
+public class TickPhaseEvent extends jdk.jfr.Event {
+
+    /**
+     * The name of the level that ran the tick.
+     */
+    @Label("Level")
+    public String level;
+
+    /**
+     * The name of the phase, from {@link com.example.demo.Level.LevelManager.TickPhase}.
+     */
+    @Label("Phase")
+    public String phase;
+
+    /**
+     * Constructs an empty tick phase event. The phase is set before the event is committed.
+     */
+    public TickPhaseEvent() {
+    }
+}
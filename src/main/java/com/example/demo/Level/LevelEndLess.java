@@ -1,12 +1,10 @@
 package com.example.demo.Level;
 
-import com.example.demo.Actor.ActiveActorDestructible;
-import com.example.demo.Actor.Plane.HeavyEnemy;
-import com.example.demo.Actor.Plane.SpeedEnemy;
 import com.example.demo.Level.LevelManager.AudioManager;
+import com.example.demo.Level.LevelManager.SceneLayer;
+import com.example.demo.Level.LevelManager.WaveManager;
 import com.example.demo.Level.LevelView.LevelView;
 import com.example.demo.Level.LevelView.LevelViewEndLess;
-import com.example.demo.Actor.Plane.EnemyPlane;
 
 /**
  * Represents the first level of the game.
@@ -30,10 +28,17 @@ public class LevelEndLess extends LevelParent {
     private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/levelEndLess.jpg";
 
     /**
-     * The probability with which new enemies are spawned in the level.
-     * Ranges from 0.0 to 1.0.
+     * The images this level needs that no earlier level has decoded yet.
+     * They are registered with the level in the {@link LevelRegistry}, which can decode them ahead of time.
      */
-    private static final double ENEMY_SPAWN_PROBABILITY = .20;
+    static final String[] ASSETS = {
+        BACKGROUND_IMAGE_NAME
+    };
+
+    /**
+     * The wave script that schedules the enemies of this level.
+     */
+    private static final String WAVE_SCRIPT = "/com/example/demo/waves/levelEndLess.waves";
 
     /**
      * The initial health of the player in this level.
@@ -41,10 +46,10 @@ public class LevelEndLess extends LevelParent {
     private static final int PLAYER_INITIAL_HEALTH = 20;
 
     /**
-     * The dynamic limit for the total number of enemies to spawn.
-     * This value increases as the player's kill count grows.
+     * Runs the enemy waves of this level.
+     * The number of enemies allowed on screen grows with the player's kill count, as set in the wave script.
      */
-    private int dynamicEnemyLimit;
+    private final WaveManager waves;
 
     /**
      * Constructs a LevelOne instance with the specified screen dimensions.
@@ -54,7 +59,7 @@ public class LevelEndLess extends LevelParent {
      */
     public LevelEndLess(double screenHeight, double screenWidth) {
         super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
-        this.dynamicEnemyLimit = 5;
+        this.waves = new WaveManager(WAVE_SCRIPT, getEnemyMinimumYPosition(), getEnemyMaximumYPosition());
     }
 
     /**
@@ -77,49 +82,22 @@ public class LevelEndLess extends LevelParent {
     @Override
     protected void initializeFriendlyUnits() {
         AudioManager.getInstance().triggerTeleportInAudio();
-        getRoot().getChildren().add(getUser());
+        getLayer(SceneLayer.PLAYER).getChildren().add(getUser());
         super.getUser().spiralPortalEnter();
     }
 
     /**
      * Spawns enemy units in the current level.
      * <p>
-     * This method adds new enemies to the level based on the spawn probability until the total number of enemies
-     * reaches the specified limit (TOTAL_ENEMIES). Enemies are spawned within a vertical range defined by minY and maxY.
-     * The type of enemy spawned is determined randomly:
-     * </p>
-     * <ul>
-     *     <li>40% chance to spawn a {@link EnemyPlane}, a basic enemy plane with standard speed and health.</li>
-     *     <li>30% chance to spawn a {@link SpeedEnemy}, a fast-moving enemy plane with lower health.</li>
-     *     <li>30% chance to spawn a {@link HeavyEnemy}, a slow-moving but heavily armored enemy plane.</li>
-     * </ul>
-     * <p>
-     * The position of each enemy is determined randomly within the vertical range [minY, maxY].
+     * The enemies are scheduled by the level's wave script, which never runs out: a mix of
+     * {@link com.example.demo.Actor.Plane.EnemyPlane}s, {@link com.example.demo.Actor.Plane.SpeedEnemy}s and
+     * {@link com.example.demo.Actor.Plane.HeavyEnemy}s at random heights, with one more enemy allowed on screen for
+     * every ten kills.
      * </p>
      */
     @Override
     protected void spawnEnemyUnits() {
-        int currentNumberOfEnemies = getCurrentNumberOfEnemies();
-        for (int i = 0; i < dynamicEnemyLimit - currentNumberOfEnemies; i++) {
-            if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-                double minY = getEnemyMinimumYPosition();
-                double maxY = getEnemyMaximumYPosition();
-                double newEnemyInitialYPosition = minY + Math.random() * (maxY - minY);
-
-                ActiveActorDestructible newEnemy;
-
-                double randomValue = Math.random();
-                if (randomValue < 0.4) {
-                    newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
-                } else if (randomValue < 0.7) {
-                    newEnemy = new SpeedEnemy(getScreenWidth(), newEnemyInitialYPosition);
-                } else {
-                    newEnemy = new HeavyEnemy(getScreenWidth(), newEnemyInitialYPosition);
-                }
-
-                addEnemyUnit(newEnemy);
-            }
-        }
+        spawnScheduledEnemies(waves);
     }
 
     /**
@@ -131,9 +109,7 @@ public class LevelEndLess extends LevelParent {
     @Override
     public void updateLevelView() {
         super.updateLevelView();
-        int currentKills = getUser().getNumberOfKills();
-        this.dynamicEnemyLimit = 5 + (currentKills / 10) * 1;
-        levelView.updateKills(currentKills);
+        levelView.updateKills(getUser().getNumberOfKills());
     }
 
     /**
@@ -146,7 +122,7 @@ public class LevelEndLess extends LevelParent {
      */
     @Override
     protected LevelView instantiateLevelView() {
-        levelView = new LevelViewEndLess(getRoot(), PLAYER_INITIAL_HEALTH, 0);
+        levelView = new LevelViewEndLess(getSceneLayers(), PLAYER_INITIAL_HEALTH, 0);
         return levelView;
     }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.example.demo.Level;
+
+/**
+ * Creates a level for the given screen size. Each level registers its constructor as its factory in the
+ * {@link LevelRegistry}, e.g. {@code LevelOne::new}.
+ */
+@FunctionalInterface
+public interface LevelFactory {
+
+    /**
+     * Creates a new instance of the level.
+     *
+     * @param screenHeight the height of the game screen.
+     * @param screenWidth the width of the game screen.
+     * @return the new level.
+     */
+    LevelParent create(double screenHeight, double screenWidth);
+}
@@ -1,12 +1,16 @@
 package com.example.demo.Level;
 
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.Plane.Boss.Boss;
 import com.example.demo.Level.LevelManager.AudioManager;
+import com.example.demo.Level.LevelManager.GameEventManager;
+import com.example.demo.Level.LevelManager.GameEventType;
+import com.example.demo.Level.LevelManager.SceneLayer;
 import com.example.demo.Level.LevelView.LevelView;
 import com.example.demo.Level.LevelView.LevelViewLevelFour;
 import com.example.demo.Actor.Plane.MutationBoss1;
 import com.example.demo.Actor.Plane.MutationBoss2;
 import com.example.demo.Actor.Plane.MutationBoss3;
-import javafx.animation.PauseTransition;
 import javafx.util.Duration;
 
 /**
@@ -23,6 +27,21 @@ public class LevelFour extends LevelParent {
      */
     private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background4.jpg";
 
+    /**
+     * The images this level needs that no earlier level has decoded yet.
+     * They are registered with the level in the {@link LevelRegistry}, and the previous level pre-warms them
+     * while it plays its exit animation.
+     */
+    static final String[] ASSETS = {
+        BACKGROUND_IMAGE_NAME,
+        "/com/example/demo/images/mutation1.png",
+        "/com/example/demo/images/mutation2.png",
+        "/com/example/demo/images/mutation3.png",
+        "/com/example/demo/images/mutationBossProjectile1.png",
+        "/com/example/demo/images/mutationBossProjectile2.png",
+        "/com/example/demo/images/mutationBossProjectile3.png"
+    };
+
     /**
      * The initial health of the player in this level.
      */
@@ -73,15 +92,11 @@ public class LevelFour extends LevelParent {
      */
     private boolean boss3Added = false;
 
-    /**
-     * A flag indicating whether the boss active shield.
-     */
-    private boolean shieldAudioPlayed = false;
-
     /**
      * Constructs a LevelFour instance with the specified screen dimensions and initializes the bosses.
      * <p>
-     * The constructor creates the three bosses with their specified health values and passes them to the superclass.
+     * The constructor creates the three bosses with their specified health values and attaches a shield and a
+     * health bar to each of them.
      * </p>
      *
      * @param screenHeight the height of the game screen.
@@ -92,6 +107,11 @@ public class LevelFour extends LevelParent {
         boss1 = new MutationBoss1(BOSS1_HEALTH);
         boss2 = new MutationBoss2(BOSS2_HEALTH);
         boss3 = new MutationBoss3(BOSS3_HEALTH);
+        if (hasLevelView()) {
+            levelView.attachToBoss(boss1);
+            levelView.attachToBoss(boss2);
+            levelView.attachToBoss(boss3);
+        }
     }
 
     /**
@@ -103,7 +123,7 @@ public class LevelFour extends LevelParent {
     @Override
     protected void initializeFriendlyUnits() {
         AudioManager.getInstance().triggerTeleportInAudio();
-        getRoot().getChildren().add(getUser());
+        getLayer(SceneLayer.PLAYER).getChildren().add(getUser());
         super.getUser().spiralPortalEnter();
     }
 
@@ -136,10 +156,8 @@ public class LevelFour extends LevelParent {
             super.cleanUpForAnimation();
             // Play the exit animation
             getUser().spiralPortalExit(); // Assuming you have implemented the spiralPortalExit animation method
-            // Delay the transition to the next level by waiting for the animation to finish
-            PauseTransition delay = new PauseTransition(Duration.seconds(2)); // Delay for 2 seconds (adjust based on animation duration)
-            delay.setOnFinished(event -> winGame()); // After the delay, load the win game image.
-            delay.play();
+            // Delay the transition to the next level by waiting for the animation to finish (2 seconds)
+            runAfterDelay(Duration.seconds(2), () -> winGame());
         }
     }
 
@@ -155,94 +173,52 @@ public class LevelFour extends LevelParent {
         if (!super.isGameOver()) {
             if (getCurrentNumberOfEnemies() == 0) {
                 if (!boss1.isDestroyed()) {
-                    addEnemyUnit(boss1);
-                    levelView.showBossHealthBar(boss1);
+                    addBoss(boss1, 1);
                 } else if (!boss2.isDestroyed() && !boss2Added) {
-                    addEnemyUnit(boss2);
+                    addBoss(boss2, 2);
                     boss2Added = true;
-                    levelView.showBossHealthBar(boss2);
                 } else if (!boss3.isDestroyed() && !boss3Added) {
-                    addEnemyUnit(boss3);
+                    addBoss(boss3, 3);
                     boss3Added = true;
-                    levelView.showBossHealthBar(boss3);
                 }
             }
         }
     }
 
     /**
-     * Updates the level view, such as updating the health and shield status of bosses.
-     * <p>
-     * This method ensures that the boss health bars and shield indicators are displayed and updated accordingly.
-     * </p>
+     * Adds a boss to the level and announces the start of its phase with a
+     * {@link GameEventType#BOSS_PHASE_CHANGED} event.
+     *
+     * @param boss  the boss to add
+     * @param phase the number of the phase the boss starts, from 1
      */
-    @Override
-    public void updateLevelView() {
-        super.updateLevelView();
-
-        // Update boss1 health bar
-        if (boss1.isDestroyed()) {
-            levelView.hideBossHealthBar(boss1);
-        } else {
-            levelView.updateShieldPosition(boss1);
-            levelView.updateBossHealth(boss1.getHealth(), boss1);
-            levelView.updateBossHealthPosition(boss1);
-
-            if (boss1.getShielded()) {
-                levelView.showShield();
-                if (!shieldAudioPlayed) {
-                    AudioManager.getInstance().triggerShieldAudio();
-                    shieldAudioPlayed = true;
-                }
-            } else {
-                levelView.hideShield();
-                shieldAudioPlayed = false;
-            }
-        }
-
-        // Update boss2 health bar (only if boss2 has been added)
-        if (boss2Added) {
-            if (boss2.isDestroyed()) {
-                levelView.hideBossHealthBar(boss2);
-                boss2Added = false;  // Mark boss2 as destroyed
-            } else {
-                levelView.updateShieldPosition(boss2);
-                levelView.updateBossHealth(boss2.getHealth(), boss2);
-                levelView.updateBossHealthPosition(boss2);
+    private void addBoss(Boss boss, int phase) {
+        addEnemyUnit(boss);
+        GameEventManager.getInstance().publish(GameEventType.BOSS_PHASE_CHANGED, boss, phase);
+    }
 
-                if (boss2.getShielded()) {
-                    levelView.showShield();
-                    if (!shieldAudioPlayed) {
-                        AudioManager.getInstance().triggerShieldAudio();
-                        shieldAudioPlayed = true;
-                    }
-                } else {
-                    levelView.hideShield();
-                    shieldAudioPlayed = false;
-                }
-            }
+    /**
+     * Shows the health bar of each boss as its phase starts, keeps it in line with the boss's health and hides it
+     * when the boss is killed, and shows or hides the shield of a boss when it raises or lowers it.
+     * Each boss has its own health bar and shield, attached to the boss so they follow it on their own.
+     *
+     * @param type   the type of the event
+     * @param source the actor the event concerns
+     * @param value  the value of the event
+     */
+    @Override
+    protected void onGameEvent(GameEventType type, ActiveActorDestructible source, int value) {
+        super.onGameEvent(type, source, value);
+        if (!hasLevelView() || (source != boss1 && source != boss2 && source != boss3)) {
+            return;
         }
-
-        // Update boss3 health bar (only if boss3 has been added)
-        if (boss3Added) {
-            if (boss3.isDestroyed()) {
-                levelView.hideBossHealthBar(boss3);
-                boss3Added = false;  // Mark boss3 as destroyed
-            } else {
-                levelView.updateShieldPosition(boss3);
-                levelView.updateBossHealth(boss3.getHealth(), boss3);
-                levelView.updateBossHealthPosition(boss3);
-
-                if (boss3.getShielded()) {
-                    levelView.showShield();
-                    if (!shieldAudioPlayed) {
-                        AudioManager.getInstance().triggerShieldAudio();
-                        shieldAudioPlayed = true;
-                    }
-                } else {
-                    levelView.hideShield();
-                    shieldAudioPlayed = false;
-                }
+        switch (type) {
+            case BOSS_PHASE_CHANGED -> levelView.showBossHealthBar((Boss) source);
+            case BOSS_DAMAGED -> levelView.updateBossHealth(value, (Boss) source);
+            case ENEMY_KILLED -> levelView.hideBossHealthBar((Boss) source);
+            case SHIELD_RAISED -> levelView.showShield((Boss) source);
+            case SHIELD_LOWERED -> levelView.hideShield((Boss) source);
+            default -> {
             }
         }
     }
@@ -255,7 +231,7 @@ public class LevelFour extends LevelParent {
      */
     @Override
     protected LevelView instantiateLevelView() {
-        levelView = new LevelViewLevelFour(getRoot(), PLAYER_INITIAL_HEALTH);
+        levelView = new LevelViewLevelFour(getSceneLayers(), PLAYER_INITIAL_HEALTH);
         return levelView;
     }
 
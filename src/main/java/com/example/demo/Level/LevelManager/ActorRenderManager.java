@@ -0,0 +1,167 @@
+package com.example.demo.Level.LevelManager;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.ActorState;
+import com.example.demo.Controller.GameRuntime;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+
+import java.util.List;
+
+/**
+ * Thin renderer that brings the screen up to date with the simulation state of every active actor.
+ * <p>
+ * The game logic only changes the plain-Java {@link com.example.demo.Actor.ActorState} of the actors.
+ * This manager is called once per rendered frame, after the simulation has been advanced. It has two modes,
+ * chosen at launch through {@link GameRuntime#isCanvasRenderer()}:
+ * </p>
+ * <ul>
+ *   <li>Node mode (the default): every actor is an {@link javafx.scene.image.ImageView} in the scene, and the
+ *   final positions are pushed to those nodes.</li>
+ *   <li>Canvas mode: projectiles, enemies and pickups are kept out of the scene, in layers the
+ *   {@link SceneLayerManager} leaves detached, and are drawn into one {@link Canvas} with
+ *   {@link GraphicsContext#drawImage} every frame. The user plane stays a scene node, since it carries the mouse
+ *   handlers and the portal animations. The HUD and menus are not affected.</li>
+ * </ul>
+ * <p>
+ * Nothing is rendered while the game runs headless.
+ * </p>
+ */
+public class ActorRenderManager {
+
+    /**
+     * The manager holding all the active actors that are rendered.
+     */
+    private final ActiveActorManager activeActorManager;
+
+    /**
+     * The canvas the actors are drawn into, or null in node mode.
+     */
+    private final Canvas canvas;
+
+    /**
+     * The number of actors drawn into the canvas by the last render; always 0 in node mode.
+     */
+    private int drawnCount;
+
+    /**
+     * Constructs an ActorRenderManager for the given actors, in the mode selected by {@link GameRuntime}.
+     *
+     * @param activeActorManager the manager holding the actors to render
+     * @param width              the width of the screen
+     * @param height             the height of the screen
+     */
+    public ActorRenderManager(ActiveActorManager activeActorManager, double width, double height) {
+        this.activeActorManager = activeActorManager;
+        if (GameRuntime.isCanvasRenderer() && !GameRuntime.isHeadless()) {
+            this.canvas = new Canvas(width, height);
+            this.canvas.setMouseTransparent(true);
+        } else {
+            this.canvas = null;
+        }
+    }
+
+    /**
+     * Returns whether the actors are drawn into a canvas.
+     *
+     * @return true in canvas mode, false in node mode
+     */
+    public boolean isCanvasMode() {
+        return canvas != null;
+    }
+
+    /**
+     * Returns the canvas the actors are drawn into. The level adds it to the scene just above the background.
+     *
+     * @return the canvas, or null in node mode
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Renders all active actors with their current simulation state.
+     */
+    public void render() {
+        syncList(activeActorManager.getFriendlyUnits());
+        if (canvas == null) {
+            syncList(activeActorManager.getEnemyUnits());
+            syncList(activeActorManager.getUserProjectiles());
+            syncList(activeActorManager.getEnemyProjectiles());
+            syncList(activeActorManager.getAmmoBoxes());
+            syncList(activeActorManager.getHearts());
+            return;
+        }
+
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        drawnCount = 0;
+        drawList(graphics, activeActorManager.getEnemyUnits());
+        drawList(graphics, activeActorManager.getUserProjectiles());
+        drawList(graphics, activeActorManager.getEnemyProjectiles());
+        drawList(graphics, activeActorManager.getAmmoBoxes());
+        drawList(graphics, activeActorManager.getHearts());
+    }
+
+    /**
+     * Returns the number of actors the last render drew into the canvas. These actors are not scene nodes, so a
+     * count of the scene graph's nodes leaves them out.
+     *
+     * @return the number of actors drawn into the canvas, or 0 in node mode
+     */
+    public int getDrawnCount() {
+        return drawnCount;
+    }
+
+    /**
+     * Syncs the nodes of every actor in the given list.
+     *
+     * @param actors the actors to sync
+     */
+    private void syncList(List<ActiveActorDestructible> actors) {
+        for (int i = 0; i < actors.size(); i++) {
+            actors.get(i).syncNode();
+        }
+    }
+
+    /**
+     * Draws every actor in the given list into the canvas, at its simulated position and size.
+     *
+     * @param graphics the graphics context of the canvas
+     * @param actors   the actors to draw
+     */
+    private void drawList(GraphicsContext graphics, List<ActiveActorDestructible> actors) {
+        for (int i = 0; i < actors.size(); i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            if (actor.hasAttachments()) {
+                actor.syncNode(); // The node is not drawn, but its attached overlays follow it
+            }
+            Image image = actor.getImage();
+            if (image != null) {
+                ActorState state = actor.getState();
+                graphics.drawImage(image, state.getX(), state.getY(), state.getWidth(), state.getHeight());
+                drawnCount++;
+            }
+        }
+        if (GameRuntime.isDebugHitboxes()) {
+            drawHitboxes(graphics, actors);
+        }
+    }
+
+    /**
+     * Outlines the hitboxes of the given actors, for the hitbox debug mode.
+     *
+     * @param graphics the graphics context of the canvas
+     * @param actors   the actors whose hitboxes are outlined
+     */
+    private void drawHitboxes(GraphicsContext graphics, List<ActiveActorDestructible> actors) {
+        graphics.setStroke(Color.RED);
+        graphics.setLineWidth(2);
+        for (int i = 0; i < actors.size(); i++) {
+            ActorState state = actors.get(i).getState();
+            graphics.strokeRect(state.getHitboxX(), state.getHitboxY(), state.getHitboxWidth(), state.getHitboxHeight());
+        }
+    }
+}
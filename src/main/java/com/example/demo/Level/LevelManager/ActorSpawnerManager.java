@@ -6,9 +6,9 @@ import com.example.demo.Actor.Object.AmmoBox;
 import com.example.demo.Actor.Object.Heart;
 import com.example.demo.Actor.Plane.UserPlane;
 import com.example.demo.Level.LevelParent;
-import javafx.scene.Group;
 import javafx.scene.Node;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
@@ -34,13 +34,21 @@ public class ActorSpawnerManager {
      */
     private final UserPlane user;
     /**
-     * The root Group node where all actors are added to the scene.
+     * The buffer through which spawned actors are added to the scene at the end of the tick.
      */
-    private final Group root;
+    private final SceneUpdateManager sceneUpdateManager;
+    /**
+     * Whether the user's plane hitbox outline has been added to the scene.
+     */
+    private boolean userHitboxAdded;
     /**
      * The Random instance used to generate random numbers for random spawning and positioning of objects.
      */
     private final Random random;
+    /**
+     * The list enemies fire their projectiles into, cleared and reused every tick.
+     */
+    private final List<ActiveActorDestructible> enemyFire = new ArrayList<>();
 
     /**
      * Constructs an ActorSpawnerManager to manage spawning of actors in the game.
@@ -48,13 +56,13 @@ public class ActorSpawnerManager {
      * @param activeActorManager the manager for all active actors
      * @param levelParent        the LevelParent object controlling game states
      * @param user               the player's plane
-     * @param root               the root Group where actors are added
+     * @param sceneUpdateManager the buffer through which actors are added to the scene
      */
-    public ActorSpawnerManager(ActiveActorManager activeActorManager, LevelParent levelParent, UserPlane user, Group root) {
+    public ActorSpawnerManager(ActiveActorManager activeActorManager, LevelParent levelParent, UserPlane user, SceneUpdateManager sceneUpdateManager) {
         this.activeActorManager = activeActorManager;
         this.levelParent = levelParent;
         this.user = user;
-        this.root = root;
+        this.sceneUpdateManager = sceneUpdateManager;
         this.random = new Random();
     }
 
@@ -71,32 +79,35 @@ public class ActorSpawnerManager {
     }
 
     /**
-     * Ensures the user's plane hitbox is added to the scene, if it is not already present.
-     * This method checks if the hitbox is null and if it is not added to the root, then it adds the hitbox to the root.
+     * Ensures the user's plane hitbox outline is added to the scene, if it is not already present.
+     * The outline only exists in hitbox debug mode; otherwise this method does nothing.
+     * It is added once, at the end of the first tick, on top of the actors spawned so far.
      */
     private void addUserPlaneHitbox() {
-        if (user != null && user.getHitbox() != null) {
-            Node userHitbox = user.getHitbox();
-            if (!root.getChildren().contains(userHitbox)) {
-                root.getChildren().add(userHitbox);
-                userHitbox.toFront();
-            }
+        if (!userHitboxAdded && user != null && user.getHitbox() != null) {
+            sceneUpdateManager.add(SceneLayer.PLAYER, user.getHitbox());
+            userHitboxAdded = true;
         }
     }
 
     /**
      * Generates enemy fire by iterating through all enemy units (such as fighter planes) and spawning projectiles for them.
      * This method adds each generated projectile to the scene.
+     * <p>
+     * Every enemy fires into the same reused list, so a tick in which no enemy fires allocates nothing.
+     * </p>
      */
     public void generateEnemyFire() {
-        activeActorManager.getEnemyUnits().forEach(enemy -> {
-            if (enemy instanceof FighterPlane) {
-                List<ActiveActorDestructible> projectiles = ((FighterPlane) enemy).fireProjectiles();
-                if (projectiles != null) {
-                    projectiles.forEach(this::spawnEnemyProjectile);
-                }
+        List<ActiveActorDestructible> enemies = activeActorManager.getEnemyUnits();
+        for (int i = 0; i < enemies.size(); i++) {
+            if (enemies.get(i) instanceof FighterPlane) {
+                ((FighterPlane) enemies.get(i)).fireProjectiles(enemyFire);
             }
-        });
+        }
+        for (int i = 0; i < enemyFire.size(); i++) {
+            spawnEnemyProjectile(enemyFire.get(i));
+        }
+        enemyFire.clear();
     }
 
     /**
@@ -107,7 +118,7 @@ public class ActorSpawnerManager {
      */
     private void spawnEnemyProjectile(ActiveActorDestructible projectile) {
         if (projectile != null) {
-            root.getChildren().add(projectile);
+            sceneUpdateManager.add(SceneLayer.PROJECTILES, projectile);
             activeActorManager.getEnemyProjectiles().add(projectile);
         }
     }
@@ -131,7 +142,7 @@ public class ActorSpawnerManager {
             if (random.nextDouble() < AmmoBox.getSpawnProbability()) {
                 double randomX = random.nextDouble(AmmoBox.getMaximumXPosition());
                 double randomY = random.nextDouble(AmmoBox.getMaximumYPosition()) + 20;
-                AmmoBox ammoBox = new AmmoBox(randomX, randomY);
+                AmmoBox ammoBox = AmmoBox.obtain(randomX, randomY);
                 addAmmoBox(ammoBox);
             }
         }
@@ -147,7 +158,7 @@ public class ActorSpawnerManager {
             if (random.nextDouble() < Heart.getSpawnProbability()) {
                 double randomX = random.nextDouble(Heart.getMaximumXPosition());
                 double randomY = random.nextDouble(Heart.getMaximumYPosition()) + 20;
-                Heart heart = new Heart(randomX, randomY);
+                Heart heart = Heart.obtain(randomX, randomY);
                 addHeart(heart);
             }
         }
@@ -155,16 +166,20 @@ public class ActorSpawnerManager {
 
     /**
      * Adds an actor to both the scene and the corresponding actor list in ActiveActorManager.
-     * This method ensures that the actor is added to the scene and to the appropriate list (e.g., ammo boxes, hearts).
+     * This method ensures that the actor is added to its scene layer and to the appropriate list (e.g., ammo boxes, hearts).
+     * The hitbox outline is added to the same layer when the hitbox debug mode is on.
      *
      * @param actor the actor to add to the scene
      * @param actorList the list of actors to add the actor to
+     * @param layer the scene layer the actor is drawn in
      */
-    private void addActorToScene(ActiveActorDestructible actor, List<ActiveActorDestructible> actorList) {
+    private void addActorToScene(ActiveActorDestructible actor, List<ActiveActorDestructible> actorList, SceneLayer layer) {
         actorList.add(actor);
-        root.getChildren().add(actor);
+        sceneUpdateManager.add(layer, actor);
         Node hitbox = actor.getHitbox();
-        root.getChildren().add(hitbox);
+        if (hitbox != null) {
+            sceneUpdateManager.add(layer, hitbox);
+        }
     }
 
     /**
@@ -173,7 +188,7 @@ public class ActorSpawnerManager {
      * @param ammoBox the ammo box to add
      */
     private void addAmmoBox(AmmoBox ammoBox) {
-        addActorToScene(ammoBox, activeActorManager.getAmmoBoxes());
+        addActorToScene(ammoBox, activeActorManager.getAmmoBoxes(), SceneLayer.PICKUPS);
     }
 
     /**
@@ -182,7 +197,7 @@ public class ActorSpawnerManager {
      * @param heart the heart to add
      */
     private void addHeart(Heart heart) {
-        addActorToScene(heart, activeActorManager.getHearts());
+        addActorToScene(heart, activeActorManager.getHearts(), SceneLayer.PICKUPS);
     }
 
     /**
@@ -191,6 +206,6 @@ public class ActorSpawnerManager {
      * @param enemy the enemy unit to add
      */
     public void addEnemyUnit(ActiveActorDestructible enemy) {
-        addActorToScene(enemy, activeActorManager.getEnemyUnits());
+        addActorToScene(enemy, activeActorManager.getEnemyUnits(), SceneLayer.ENEMIES);
     }
 }
\ No newline at end of file
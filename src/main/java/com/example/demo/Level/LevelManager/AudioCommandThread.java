@@ -0,0 +1,202 @@
+package com.example.demo.Level.LevelManager;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A dedicated thread that runs audio commands in the order they were posted.
+ * <p>
+ * Posting a command only appends it to a lock-free queue and wakes the thread, so the game loop never waits for
+ * the media stack. The thread runs each command and records how long it waited in the queue; the queue depth and
+ * latency counters show whether audio keeps up and confirm that it costs the game loop no frame time.
+ * </p>
+ * <p>
+ * A command that throws is reported and skipped; the thread keeps running. The thread is a daemon, so it never
+ * keeps the game from exiting.
+ * </p>
+ */
+public class AudioCommandThread {
+
+    /**
+     * The posted commands that have not run yet.
+     */
+    private final ConcurrentLinkedQueue<Command> queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of posted commands that have not finished running.
+     */
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    /**
+     * The highest queue depth seen.
+     */
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+    /**
+     * The number of commands that have run.
+     */
+    private final AtomicLong processedCount = new AtomicLong();
+
+    /**
+     * The total time the commands that have run waited in the queue, in nanoseconds.
+     */
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+
+    /**
+     * The longest time a command waited in the queue, in nanoseconds.
+     */
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    /**
+     * The thread that runs the commands.
+     */
+    private final Thread thread;
+
+    /**
+     * Constructs and starts an AudioCommandThread.
+     *
+     * @param name the name of the thread
+     */
+    public AudioCommandThread(String name) {
+        thread = new Thread(this::run, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Posts a command to run on the audio thread. Never blocks.
+     *
+     * @param action the command
+     */
+    public void post(Runnable action) {
+        queue.offer(new Command(action, System.nanoTime()));
+        int depth = queueDepth.incrementAndGet();
+        maxQueueDepth.accumulateAndGet(depth, Math::max);
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Runs the posted commands, parking while the queue is empty.
+     */
+    private void run() {
+        while (true) {
+            Command command = queue.poll();
+            if (command == null) {
+                LockSupport.park(this);
+                continue;
+            }
+            long latency = System.nanoTime() - command.postedNanos;
+            totalLatencyNanos.addAndGet(latency);
+            maxLatencyNanos.accumulateAndGet(latency, Math::max);
+            try {
+                command.action.run();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+            processedCount.incrementAndGet();
+            queueDepth.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns whether the caller is running on the audio thread.
+     *
+     * @return true if called from a command on the audio thread
+     */
+    public boolean isAudioThread() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Waits until every command posted so far has run.
+     *
+     * @param timeoutMillis the longest time to wait, in milliseconds
+     * @return true if the queue emptied in time, false otherwise
+     */
+    public boolean awaitIdle(long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (queueDepth.get() > 0) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            LockSupport.parkNanos(100_000L);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of posted commands that have not finished running.
+     *
+     * @return the current queue depth
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Returns the highest queue depth seen.
+     *
+     * @return the maximum queue depth
+     */
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    /**
+     * Returns the number of commands that have run.
+     *
+     * @return the processed count
+     */
+    public long getProcessedCount() {
+        return processedCount.get();
+    }
+
+    /**
+     * Returns the average time the commands that have run waited in the queue.
+     *
+     * @return the average latency in nanoseconds, or 0 if no command has run
+     */
+    public long getAverageLatencyNanos() {
+        long processed = processedCount.get();
+        return processed == 0 ? 0 : totalLatencyNanos.get() / processed;
+    }
+
+    /**
+     * Returns the longest time a command waited in the queue.
+     *
+     * @return the maximum latency in nanoseconds
+     */
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos.get();
+    }
+
+    /**
+     * A posted command and the time it was posted at.
+     */
+    private static final class Command {
+
+        /**
+         * The action to run.
+         */
+        private final Runnable action;
+
+        /**
+         * The time the command was posted at, from {@link System#nanoTime()}.
+         */
+        private final long postedNanos;
+
+        /**
+         * Constructs a command.
+         *
+         * @param action      the action to run
+         * @param postedNanos the time the command was posted at
+         */
+        private Command(Runnable action, long postedNanos) {
+            this.action = action;
+            this.postedNanos = postedNanos;
+        }
+    }
+}
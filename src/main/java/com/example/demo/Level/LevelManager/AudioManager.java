@@ -1,13 +1,41 @@
 package com.example.demo.Level.LevelManager;
 
+import com.example.demo.Controller.GameRuntime;
 import javafx.scene.media.AudioClip;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 
+import java.net.URL;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * Manages the audio functionalities of the game, including background music and sound effects.
  * Provides methods for initializing, playing, pausing, and managing background music, sound effects,
  * and explosion sounds.
+ * <p>
+ * Gameplay sound triggers are ignored while the game runs headless (see {@link GameRuntime}). The others pass
+ * through a {@link VoiceLimiter}, which coalesces repeated triggers of the same {@link SoundEffect} and caps the
+ * number of copies that sound at once, so a wave of explosions or a burst of shots costs only a few
+ * {@code play()} calls.
+ * </p>
+ * <p>
+ * All the clips and the music player belong to a dedicated {@link AudioCommandThread}. Every method that loads or
+ * plays audio only posts a command to that thread and returns at once, so the game loop never blocks on the media
+ * stack. The enable flags are read on the calling thread, so a disabled sound costs nothing at all. The time of a
+ * sound effect trigger is taken when it is posted, so the voice limiter sees when the sound was asked for rather
+ * than when the audio thread got to it, and the music player is never handed out: other threads only see whether
+ * the music is playing through a snapshot kept by the audio thread.
+ * </p>
+ * <p>
+ * The sound effects are decoded up front, in parallel, by {@link #preloadSoundEffects()} while the main menu is
+ * shown, and the game waits for them before its first level starts.
+ * </p>
  */
 public class AudioManager {
 
@@ -18,75 +46,35 @@ public class AudioManager {
 
     /**
      * MediaPlayer for background music.
-     * This player is used to control the background music playback in the game.
+     * This player is used to control the background music playback in the game. Only used on the audio thread.
      */
     private static MediaPlayer backgroundMusic;
 
     /**
-     * AudioClip for hover sound effects (button hover sound).
-     * This clip is used to play sound effects when buttons or interactive elements are hovered.
+     * Whether the audio thread last started or paused the background music, as seen from any thread.
      */
-    private static AudioClip hoverSound;
+    private static volatile boolean backgroundMusicPlaying;
 
     /**
-     * AudioClip for shooting sound effects.
-     * This clip is used to play sound effects when the player shoots.
-     */
-    private static AudioClip shootSound;
-
-    /**
-     * AudioClip for explosion sound effects.
-     * This clip is used to play sound effects when an explosion occurs in the game.
-     */
-    private static AudioClip explosionSound;
-
-    /**
-     * AudioClip for get ammo box sound effects.
-     * This clip is used to play sound effects when get ammo box in the game.
-     */
-    private static AudioClip getAmmoBoxSound;
-
-    /**
-     * AudioClip for get heart sound effects.
-     * This clip is used to play sound effects when get heart in the game.
-     */
-    private static AudioClip getHeartSound;
-
-    /**
-     * AudioClip for user got damage sound effects.
-     * This clip is used to play sound effects when user got damage in the game.
-     */
-    private static AudioClip userDamageSound;
-
-    /**
-     * AudioClip for shield sound effects.
-     * This clip is used to play sound effects when boss active shield in the game.
-     */
-    private static AudioClip shieldSound;
-
-    /**
-     * AudioClip for the winning sound effect.
-     * This clip is played when the player wins the game.
+     * AudioClip for hover sound effects (button hover sound).
+     * This clip is used to play sound effects when buttons or interactive elements are hovered.
      */
-    private static AudioClip winSound;
+    private static AudioClip hoverSound;
 
     /**
-     * AudioClip for the losing sound effect.
-     * This clip is played when the player loses the game.
+     * The loaded clip of each sound effect. Only used on the audio thread.
      */
-    private static AudioClip loseSound;
+    private static final Map<SoundEffect, AudioClip> clips = new EnumMap<>(SoundEffect.class);
 
     /**
-     * AudioClip for the teleport-in sound effect.
-     * This clip is played when an entity teleports into the game.
+     * The sound effects that could not be loaded, with the reason. Such effects are skipped when triggered.
      */
-    private static AudioClip teleportInSound;
+    private static final Map<SoundEffect, Throwable> loadFailures = new ConcurrentHashMap<>();
 
     /**
-     * AudioClip for the teleport-out sound effect.
-     * This clip is played when an entity teleports out of the game.
+     * Completes once every sound effect has been loaded or has failed to load; null until the preload starts.
      */
-    private static AudioClip teleportOutSound;
+    private static CompletableFuture<Void> soundEffectsReady;
 
     /**
      * Flag to track if explosion sound is enabled.
@@ -142,6 +130,22 @@ public class AudioManager {
      */
     private final static double backgroundVolume = 0.5;
 
+    /**
+     * The thread that owns every clip and the music player, and runs all the loading and playing.
+     */
+    private static final AudioCommandThread audioThread = new AudioCommandThread("audio");
+
+    /**
+     * The most sound effect voices that may sound at once.
+     */
+    private static final int MAX_VOICES = 8;
+
+    /**
+     * Decides which sound effect triggers are played, and stops low-priority effects to make room for
+     * important ones.
+     */
+    private static final VoiceLimiter voiceLimiter = new VoiceLimiter(MAX_VOICES, AudioManager::stopEffect);
+
     /**
      * Private constructor to prevent instantiation from outside.
      */
@@ -169,11 +173,13 @@ public class AudioManager {
      * Loads the background music from the resources.
      */
     public static void initBackgroundMusic() {
-        if (backgroundMusic == null) {
-            Media media = new Media(AudioManager.class.getResource("/com/example/demo/sounds/bg.mp3").toExternalForm());
-            backgroundMusic = new MediaPlayer(media);
-            backgroundMusic.setCycleCount(MediaPlayer.INDEFINITE); // Loop indefinitely
-        }
+        runOnAudioThread(() -> {
+            if (backgroundMusic == null) {
+                Media media = new Media(AudioManager.class.getResource("/com/example/demo/sounds/bg.mp3").toExternalForm());
+                backgroundMusic = new MediaPlayer(media);
+                backgroundMusic.setCycleCount(MediaPlayer.INDEFINITE); // Loop indefinitely
+            }
+        });
     }
 
     /**
@@ -181,8 +187,13 @@ public class AudioManager {
      */
     public static void playBackgroundMusic() {
         if (backgroundMusicEnabled) {
-            backgroundMusic.setVolume(backgroundVolume);
-            backgroundMusic.play();
+            runOnAudioThread(() -> {
+                if (backgroundMusic != null) {
+                    backgroundMusic.setVolume(backgroundVolume);
+                    backgroundMusic.play();
+                    backgroundMusicPlaying = true;
+                }
+            });
         }
     }
 
@@ -190,18 +201,22 @@ public class AudioManager {
      * Pauses the background music if it's currently playing.
      */
     public static void pauseBackgroundMusic() {
-        if (backgroundMusic != null && backgroundMusic.getStatus() == MediaPlayer.Status.PLAYING) {
-            backgroundMusic.pause();
-        }
+        runOnAudioThread(() -> {
+            if (backgroundMusic != null && backgroundMusic.getStatus() == MediaPlayer.Status.PLAYING) {
+                backgroundMusic.pause();
+            }
+            backgroundMusicPlaying = false;
+        });
     }
 
     /**
      * Checks if the background music is currently playing.
+     * Can be called from any thread; the answer reflects the play and pause commands the audio thread has run so far.
      *
      * @return true if background music is playing, false otherwise.
      */
     public static boolean isBackgroundMusicPlaying() {
-        return backgroundMusic != null && backgroundMusic.getStatus() == MediaPlayer.Status.PLAYING;
+        return backgroundMusicPlaying;
     }
 
     /**
@@ -222,13 +237,192 @@ public class AudioManager {
         return backgroundMusicEnabled;
     }
 
+    // ================== Sound Effect Loading Methods ====================
+
+    /**
+     * Starts loading every sound effect at once, each on its own background thread, and returns a future that
+     * completes when they are all ready.
+     * <p>
+     * Called while the main menu is shown, so that no clip is decoded in the middle of a level. The loaded clips
+     * are handed over to the audio thread. An effect that fails to load is reported once through
+     * {@link #getLoadFailures()} and then skipped, and the future still completes normally. Calling this again
+     * returns the same future. Nothing is loaded while the game runs headless.
+     * </p>
+     *
+     * @return a future completed once every sound effect has been loaded or has failed to load
+     */
+    public static synchronized CompletableFuture<Void> preloadSoundEffects() {
+        if (GameRuntime.isHeadless()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (soundEffectsReady == null) {
+            SoundEffect[] effects = SoundEffect.values();
+            ExecutorService loaders = Executors.newFixedThreadPool(effects.length, runnable -> {
+                Thread thread = new Thread(runnable, "audio-loader");
+                thread.setDaemon(true);
+                return thread;
+            });
+            CompletableFuture<?>[] loads = new CompletableFuture<?>[effects.length];
+            for (int i = 0; i < effects.length; i++) {
+                SoundEffect effect = effects[i];
+                loads[i] = CompletableFuture.supplyAsync(() -> createClip(effect), loaders)
+                        .thenCompose(clip -> handOver(effect, clip))
+                        .exceptionally(e -> {
+                            reportLoadFailure(effect, e instanceof CompletionException ? e.getCause() : e);
+                            return null;
+                        });
+            }
+            soundEffectsReady = CompletableFuture.allOf(loads);
+            soundEffectsReady.whenComplete((ready, e) -> loaders.shutdown());
+        }
+        return soundEffectsReady;
+    }
+
+    /**
+     * Returns the sound effects that could not be loaded, with the reason for each.
+     *
+     * @return a snapshot of the load failures
+     */
+    public static Map<SoundEffect, Throwable> getLoadFailures() {
+        return Map.copyOf(loadFailures);
+    }
+
+    /**
+     * Creates and decodes the clip of a sound effect. Can run on any thread.
+     *
+     * @param effect the effect to load
+     * @return the clip of the effect
+     * @throws IllegalStateException if the clip's resource does not exist
+     */
+    private static AudioClip createClip(SoundEffect effect) {
+        URL resource = AudioManager.class.getResource(effect.getResourcePath());
+        if (resource == null) {
+            throw new IllegalStateException("Sound effect not found: " + effect.getResourcePath());
+        }
+        AudioClip clip = new AudioClip(resource.toExternalForm());
+        if (effect == SoundEffect.SHOOT) {
+            clip.setVolume(shootSoundVolume);
+        }
+        return clip;
+    }
+
+    /**
+     * Hands a clip loaded on a background thread over to the audio thread.
+     *
+     * @param effect the effect the clip belongs to
+     * @param clip   the loaded clip
+     * @return a future completed once the audio thread owns the clip
+     */
+    private static CompletableFuture<Void> handOver(SoundEffect effect, AudioClip clip) {
+        CompletableFuture<Void> handedOver = new CompletableFuture<>();
+        audioThread.post(() -> {
+            clips.putIfAbsent(effect, clip);
+            handedOver.complete(null);
+        });
+        return handedOver;
+    }
+
+    /**
+     * Returns the clip of a sound effect, loading it now if the preload has not done so yet.
+     * Runs on the audio thread.
+     *
+     * @param effect the effect
+     * @return the clip, or null if the effect could not be loaded
+     */
+    private static AudioClip loadEffect(SoundEffect effect) {
+        AudioClip clip = clips.get(effect);
+        if (clip == null && !loadFailures.containsKey(effect)) {
+            try {
+                clip = createClip(effect);
+                clips.put(effect, clip);
+            } catch (RuntimeException e) {
+                reportLoadFailure(effect, e);
+            }
+        }
+        return clip;
+    }
+
     /**
-     * Returns the background music MediaPlayer instance.
+     * Records and reports a sound effect that could not be loaded. Each effect is reported once.
      *
-     * @return the background music MediaPlayer instance, or null if not initialized.
+     * @param effect the effect
+     * @param cause  the reason it could not be loaded
      */
-    public static MediaPlayer getBackgroundMusic() {
-        return backgroundMusic;
+    private static void reportLoadFailure(SoundEffect effect, Throwable cause) {
+        if (loadFailures.putIfAbsent(effect, cause) == null) {
+            System.err.println("Could not load sound effect " + effect + " (" + effect.getResourcePath() + "): " + cause);
+        }
+    }
+
+    // ================== Audio Thread Methods ====================
+
+    /**
+     * Runs an action on the audio thread: directly when already on it, otherwise by posting it.
+     *
+     * @param action the action to run
+     */
+    private static void runOnAudioThread(Runnable action) {
+        if (audioThread.isAudioThread()) {
+            action.run();
+        } else {
+            audioThread.post(action);
+        }
+    }
+
+    /**
+     * Returns the audio thread, whose counters show the depth of its queue and how long commands wait in it.
+     *
+     * @return the audio thread
+     */
+    public static AudioCommandThread getAudioThread() {
+        return audioThread;
+    }
+
+    // ================== Voice Limiting Methods ====================
+
+    /**
+     * Posts a sound effect trigger to the audio thread, stamped with the time it was triggered.
+     *
+     * @param effect the effect being triggered
+     */
+    private static void postEffect(SoundEffect effect) {
+        long triggeredAt = System.nanoTime();
+        audioThread.post(() -> playEffect(effect, triggeredAt));
+    }
+
+    /**
+     * Plays a sound effect if it is loaded and the voice limiter lets the trigger through. Runs on the audio thread.
+     *
+     * @param effect      the effect being triggered
+     * @param triggeredAt the {@link System#nanoTime()} at which the effect was triggered
+     */
+    private static void playEffect(SoundEffect effect, long triggeredAt) {
+        AudioClip clip = loadEffect(effect);
+        if (clip != null && voiceLimiter.tryStart(effect, triggeredAt)) {
+            clip.play();
+        }
+    }
+
+    /**
+     * Stops every copy of a sound effect, when the voice limiter gives its voices to a more important effect.
+     *
+     * @param effect the effect to stop
+     */
+    private static void stopEffect(SoundEffect effect) {
+        AudioClip clip = clips.get(effect);
+        if (clip != null) {
+            clip.stop();
+        }
+    }
+
+    /**
+     * Returns the voice limiter, whose counters show how many sound effect triggers were played, coalesced,
+     * limited or stolen from.
+     *
+     * @return the voice limiter
+     */
+    public static VoiceLimiter getVoiceLimiter() {
+        return voiceLimiter;
     }
 
     // ================== Hover Sound Methods ====================
@@ -238,9 +432,11 @@ public class AudioManager {
      * Loads the hover sound from the resources.
      */
     public static void initHoverSound() {
-        if (hoverSound == null) {
-            hoverSound = new AudioClip(AudioManager.class.getResource("/com/example/demo/sounds/btnhover.wav").toExternalForm());
-        }
+        runOnAudioThread(() -> {
+            if (hoverSound == null) {
+                hoverSound = new AudioClip(AudioManager.class.getResource("/com/example/demo/sounds/btnhover.wav").toExternalForm());
+            }
+        });
     }
 
     /**
@@ -248,10 +444,12 @@ public class AudioManager {
      * This sound is played when the user hovers over buttons or interactive elements.
      */
     public static void playHoverSound() {
-        if (hoverSound == null) {
-            initHoverSound(); // Initialize the hover sound if not already initialized
-        }
-        hoverSound.play();
+        runOnAudioThread(() -> {
+            if (hoverSound == null) {
+                initHoverSound(); // Initialize the hover sound if not already initialized
+            }
+            hoverSound.play();
+        });
     }
 
     // ================== Shoot Sound Methods ====================
@@ -261,9 +459,7 @@ public class AudioManager {
      * Loads the shooting sound from the resources.
      */
     public static void initShootSound() {
-        if (shootSound == null) {
-            shootSound = new AudioClip(AudioManager.class.getResource("/com/example/demo/sounds/shoot.mp3").toExternalForm());
-        }
+        runOnAudioThread(() -> loadEffect(SoundEffect.SHOOT));
     }
 
     /**
@@ -272,13 +468,9 @@ public class AudioManager {
      * only if the shooting sound is enabled.
      */
     public static void triggerShootAudio() {
-        if (shootSound == null) {
-            initShootSound(); // Initialize the shoot sound if not already initialized
-        }
-
+        if (GameRuntime.isHeadless()) return;
         if (shootSoundEnabled) {
-            shootSound.setVolume(shootSoundVolume);
-            shootSound.play();
+            postEffect(SoundEffect.SHOOT);
         }
     }
 
@@ -307,9 +499,7 @@ public class AudioManager {
      * Loads the explosion sound from the resources.
      */
     public static void initExplosionSound() {
-        if (explosionSound == null) {
-            explosionSound = new AudioClip(AudioManager.class.getResource("/com/example/demo/sounds/explosion.mp3").toExternalForm());
-        }
+        runOnAudioThread(() -> loadEffect(SoundEffect.EXPLOSION));
     }
 
     /**
@@ -318,12 +508,9 @@ public class AudioManager {
      * only if the explosion sound is enabled.
      */
     public static void triggerExplosionAudio() {
-        if (explosionSound == null) {
-            initExplosionSound(); // Initialize the explosion sound if not already initialized
-        }
-
+        if (GameRuntime.isHeadless()) return;
         if (explosionSoundEnabled) {
-            explosionSound.play();
+            postEffect(SoundEffect.EXPLOSION);
         }
     }
 
@@ -352,9 +539,7 @@ public class AudioManager {
      * Loads the ammo box pickup sound resource for use in the game.
      */
     public static void initGetAmmoBoxSound() {
-        if (getAmmoBoxSound == null) {
-            getAmmoBoxSound = new AudioClip(AudioManager.class.getResource("/com/example/demo/sounds/levelup.mp3").toExternalForm());
-        }
+        runOnAudioThread(() -> loadEffect(SoundEffect.GET_AMMO_BOX));
     }
 
     /**
@@ -362,9 +547,7 @@ public class AudioManager {
      * Loads the second heart pickup sound resource for use in the game.
      */
     public static void initGetHeartSound() {
-        if (getHeartSound == null) {
-            getHeartSound = new AudioClip(AudioManager.class.getResource("/com/example/demo/sounds/heal.mp3").toExternalForm());
-        }
+        runOnAudioThread(() -> loadEffect(SoundEffect.GET_HEART));
     }
 
     /**
@@ -372,12 +555,9 @@ public class AudioManager {
      * Ensures that the sound effect is initialized and plays it only if enabled.
      */
     public static void triggerGetAmmoBoxAudio() {
-        if (getAmmoBoxSound == null) {
-            initGetAmmoBoxSound();
-        }
-
+        if (GameRuntime.isHeadless()) return;
         if (getObjectSoundEnabled) {
-            getAmmoBoxSound.play();
+            postEffect(SoundEffect.GET_AMMO_BOX);
         }
     }
 
@@ -386,12 +566,9 @@ public class AudioManager {
      * Ensures that the sound effect is initialized and plays it only if enabled.
      */
     public static void triggerGetHeartAudio() {
-        if (getHeartSound == null) {
-            initGetHeartSound();
-        }
-
+        if (GameRuntime.isHeadless()) return;
         if (getObjectSoundEnabled) {
-            getHeartSound.play();
+            postEffect(SoundEffect.GET_HEART);
         }
     }
 
@@ -420,9 +597,7 @@ public class AudioManager {
      * Loads the user damage sound resource for use in the game.
      */
     public static void initUserDamageSound() {
-        if (userDamageSound == null) {
-            userDamageSound = new AudioClip(AudioManager.class.getResource("/com/example/demo/sounds/userDamage.mp3").toExternalForm());
-        }
+        runOnAudioThread(() -> loadEffect(SoundEffect.USER_DAMAGE));
     }
 
     /**
@@ -430,12 +605,9 @@ public class AudioManager {
      * Ensures that the sound effect is initialized and plays it only if enabled.
      */
     public static void triggerUserDamageAudio() {
-        if (userDamageSound == null) {
-            initUserDamageSound();
-        }
-
+        if (GameRuntime.isHeadless()) return;
         if (userDamageSoundEnabled) {
-            userDamageSound.play();
+            postEffect(SoundEffect.USER_DAMAGE);
         }
     }
 
@@ -465,9 +637,7 @@ public class AudioManager {
      * that the sound effect is ready to be played when triggered.
      */
     public static void initShieldSound() {
-        if (shieldSound == null) {
-            shieldSound = new AudioClip(AudioManager.class.getResource("/com/example/demo/sounds/shield.mp3").toExternalForm());
-        }
+        runOnAudioThread(() -> loadEffect(SoundEffect.SHIELD));
     }
 
     /**
@@ -477,12 +647,9 @@ public class AudioManager {
      * initialize it before playing.
      */
     public static void triggerShieldAudio() {
-        if (shieldSound == null) {
-            initShieldSound();
-        }
-
+        if (GameRuntime.isHeadless()) return;
         if (shieldSoundEnabled) {
-            shieldSound.play();
+            postEffect(SoundEffect.SHIELD);
         }
     }
 
@@ -514,48 +681,37 @@ public class AudioManager {
      * Initializes the wining sound effect.
      */
     public static void initWinSound() {
-        if (winSound == null) {
-            winSound = new AudioClip(AudioManager.class.getResource("/com/example/demo/sounds/win.mp3").toExternalForm());
-        }
+        runOnAudioThread(() -> loadEffect(SoundEffect.WIN));
     }
 
     /**
      * Initializes the losing sound effect.
      */
     public static void initLoseSound() {
-        if (loseSound == null) {
-            loseSound = new AudioClip(AudioManager.class.getResource("/com/example/demo/sounds/lose.mp3").toExternalForm());
-        }
+        runOnAudioThread(() -> loadEffect(SoundEffect.LOSE));
     }
 
     /**
      * Initializes the teleport-in sound effect.
      */
     public static void initTeleportInSound() {
-        if (teleportInSound == null) {
-            teleportInSound = new AudioClip(AudioManager.class.getResource("/com/example/demo/sounds/teleportIn.mp3").toExternalForm());
-        }
+        runOnAudioThread(() -> loadEffect(SoundEffect.TELEPORT_IN));
     }
 
     /**
      * Initializes the teleport-out sound effect.
      */
     public static void initTeleportOutSound() {
-        if (teleportOutSound == null) {
-            teleportOutSound = new AudioClip(AudioManager.class.getResource("/com/example/demo/sounds/teleportOut.mp3").toExternalForm());
-        }
+        runOnAudioThread(() -> loadEffect(SoundEffect.TELEPORT_OUT));
     }
 
     /**
      * Triggers the winning sound effect.
      */
     public static void triggerWinAudio() {
-        if (winSound == null) {
-            initWinSound();
-        }
-
+        if (GameRuntime.isHeadless()) return;
         if (interactionSoundEnabled) {
-            winSound.play();
+            postEffect(SoundEffect.WIN);
         }
     }
 
@@ -563,12 +719,9 @@ public class AudioManager {
      * Triggers the losing sound effect.
      */
     public static void triggerLoseAudio() {
-        if (loseSound == null) {
-            initLoseSound();
-        }
-
+        if (GameRuntime.isHeadless()) return;
         if (interactionSoundEnabled) {
-            loseSound.play();
+            postEffect(SoundEffect.LOSE);
         }
     }
 
@@ -576,12 +729,9 @@ public class AudioManager {
      * Triggers the teleport-in sound effect.
      */
     public static void triggerTeleportInAudio() {
-        if (teleportInSound == null) {
-            initTeleportInSound();
-        }
-
+        if (GameRuntime.isHeadless()) return;
         if (interactionSoundEnabled) {
-            teleportInSound.play();
+            postEffect(SoundEffect.TELEPORT_IN);
         }
     }
 
@@ -589,12 +739,9 @@ public class AudioManager {
      * Triggers the teleport-out sound effect.
      */
     public static void triggerTeleportOutAudio() {
-        if (teleportOutSound == null) {
-            initTeleportOutSound();
-        }
-
+        if (GameRuntime.isHeadless()) return;
         if (interactionSoundEnabled) {
-            teleportOutSound.play();
+            postEffect(SoundEffect.TELEPORT_OUT);
         }
     }
 
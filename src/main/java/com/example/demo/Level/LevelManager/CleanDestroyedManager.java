@@ -1,11 +1,13 @@
 package com.example.demo.Level.LevelManager;
 
 import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.ActorState;
 import com.example.demo.Actor.Boundary;
 import com.example.demo.Actor.Plane.FighterPlane;
 import com.example.demo.Display.Explosion;
+import com.example.demo.Level.FlightRecorder.ExplosionBurstEvent;
 import javafx.scene.Group;
-import javafx.scene.shape.Rectangle;
+import jdk.jfr.EventType;
 
 import java.util.List;
 import java.util.function.Consumer;
@@ -17,7 +19,8 @@ import java.util.function.Consumer;
  * This class handles the removal of various types of actors (e.g., projectiles, ammo boxes, hearts)
  * from the game scene when they either go out of bounds or are destroyed. It ensures that
  * destroyed or out-of-bounds actors are efficiently cleaned up, reducing memory usage
- * and preventing unnecessary updates to inactive objects.
+ * and preventing unnecessary updates to inactive objects. Removed actors are handed back to their
+ * {@link com.example.demo.Actor.ActorPool} so that they can be reused.
  * </p>
  * <p>
  * The class interacts with the ActiveActorManager to retrieve the lists of actors and uses the
@@ -29,12 +32,23 @@ import java.util.function.Consumer;
  */
 public class CleanDestroyedManager {
     /**
-     * The root group where all the game actors are displayed in the scene.
-     * This is a JavaFX container that holds the visual representation of all actors.
+     * The number of explosions a single clean-up pass must start to be recorded as an {@link ExplosionBurstEvent}.
+     */
+    public static final int EXPLOSION_BURST_SIZE = 3;
+    /**
+     * The Flight Recorder type of the explosion burst events, checked before creating one.
+     */
+    private static final EventType EXPLOSION_BURST_EVENT_TYPE = EventType.getEventType(ExplosionBurstEvent.class);
+    /**
+     * The group explosions are displayed in, the {@link SceneLayer#EFFECTS effects layer} of the level.
      *
      * @see javafx.scene.Group
      */
-    private final Group root;
+    private final Group effectsLayer;
+    /**
+     * The buffer through which actor nodes are removed from the scene at the end of the tick.
+     */
+    private final SceneUpdateManager sceneUpdateManager;
     /**
      * The manager responsible for managing all active actors in the game.
      * This includes actors such as projectiles, units, ammo boxes, and hearts.
@@ -43,15 +57,22 @@ public class CleanDestroyedManager {
      * @see com.example.demo.Level.LevelManager.ActiveActorManager
      */
     private final ActiveActorManager activeActorManager;
+    /**
+     * The number of explosions started by the current clean-up pass.
+     */
+    private int explosionsThisPass;
 
     /**
      * Constructs an instance of CleanDestroyedManager.
+     * Actor nodes are removed through the given buffer, while explosions are added to the effects layer right away.
      *
-     * @param root the root Group where the actors are displayed
+     * @param effectsLayer the group of the scene where explosions are displayed
+     * @param sceneUpdateManager the buffer through which actor nodes are removed
      * @param activeActorManager the manager responsible for managing active actors
      */
-    public CleanDestroyedManager(Group root, ActiveActorManager activeActorManager) {
-        this.root = root;
+    public CleanDestroyedManager(Group effectsLayer, SceneUpdateManager sceneUpdateManager, ActiveActorManager activeActorManager) {
+        this.effectsLayer = effectsLayer;
+        this.sceneUpdateManager = sceneUpdateManager;
         this.activeActorManager = activeActorManager;
     }
 
@@ -114,7 +135,7 @@ public class CleanDestroyedManager {
      */
     private void cleanList(List<ActiveActorDestructible> actors, Boundary boundary, Consumer<ActiveActorDestructible> removeActorFromScene) {
         actors.removeIf(actor -> {
-            if (checkCollision(actor.getHitbox(), boundary)) {
+            if (checkCollision(actor, boundary)) {
                 processActor(actor, removeActorFromScene);
                 return true; // Mark for removal
             }
@@ -123,14 +144,21 @@ public class CleanDestroyedManager {
     }
 
     /**
-     * Checks if the given rectangle (hitbox) intersects with the specified boundary.
+     * Checks if the hitbox of the given actor has reached the x range of the specified boundary.
+     * The check uses the actor's simulated hitbox, so it does not depend on the scene graph.
+     * <p>
+     * Only the horizontal extent of the boundary counts. Pickups can spawn below the screen, past the bottom
+     * of the boundary, and would otherwise drift on forever without ever being removed.
+     * </p>
      *
-     * @param rect1 the rectangle to check for intersection
+     * @param actor the actor whose hitbox is checked
      * @param boundary the boundary to check against
-     * @return true if the rectangle intersects with the boundary, false otherwise
+     * @return true if the hitbox overlaps the boundary horizontally, false otherwise
      */
-    private boolean checkCollision(Rectangle rect1, Boundary boundary) {
-        return rect1.getBoundsInParent().intersects(boundary.getBoundsInParent());
+    private boolean checkCollision(ActiveActorDestructible actor, Boundary boundary) {
+        ActorState state = actor.getState();
+        return boundary.getX() + boundary.getWidth() >= state.getHitboxX()
+                && boundary.getX() <= state.getHitboxX() + state.getHitboxWidth();
     }
 
     /**
@@ -146,8 +174,17 @@ public class CleanDestroyedManager {
 
     /**
      * Removes all destroyed actors from the scene and triggers the explosion effect for any destroyed fighter planes.
+     * A pass that starts at least {@link #EXPLOSION_BURST_SIZE} explosions is recorded as an
+     * {@link ExplosionBurstEvent} while a Flight Recording has the event enabled; no event is created otherwise.
      */
     public void removeAllDestroyedActors() {
+        ExplosionBurstEvent burst = null;
+        if (EXPLOSION_BURST_EVENT_TYPE.isEnabled()) {
+            burst = new ExplosionBurstEvent();
+            burst.begin();
+        }
+        explosionsThisPass = 0;
+
         List<List<ActiveActorDestructible>> actorGroups = List.of(
                 activeActorManager.getFriendlyUnits(),
                 activeActorManager.getEnemyUnits(),
@@ -158,6 +195,15 @@ public class CleanDestroyedManager {
         );
 
         actorGroups.forEach(this::removeDestroyedActors);
+
+        if (burst != null) {
+            burst.end();
+            if (explosionsThisPass >= EXPLOSION_BURST_SIZE && burst.shouldCommit()) {
+                burst.explosions = explosionsThisPass;
+                burst.activeExplosions = Explosion.getActiveExplosionCount();
+                burst.commit();
+            }
+        }
     }
 
     /**
@@ -169,7 +215,9 @@ public class CleanDestroyedManager {
         actors.removeIf(actor -> {
             if (actor.isDestroyed()) {
                 if (actor instanceof FighterPlane) {
-                    Explosion.triggerExplosionEffect(root, (FighterPlane) actor);
+                    actor.syncNode(); // Make sure the explosion starts at the actor's latest position
+                    Explosion.triggerExplosionEffect(effectsLayer, (FighterPlane) actor);
+                    explosionsThisPass++;
                 }
                 removeActorFromScene(actor);
                 return true; // Mark for removal
@@ -179,12 +227,17 @@ public class CleanDestroyedManager {
     }
 
     /**
-     * Removes an actor and its hitbox from the scene.
+     * Removes an actor and its hitbox outline, if any, from the scene at the end of the tick,
+     * then returns the actor to its pool.
+     * The caller removes the actor from its actor list, so nothing references it any more.
      *
      * @param actor the actor to remove
      */
     private void removeActorFromScene(ActiveActorDestructible actor) {
-        root.getChildren().remove(actor);
-        root.getChildren().remove(actor.getHitbox());
+        sceneUpdateManager.remove(actor);
+        if (actor.getHitbox() != null) {
+            sceneUpdateManager.remove(actor.getHitbox());
+        }
+        actor.recycle();
     }
 }
\ No newline at end of file
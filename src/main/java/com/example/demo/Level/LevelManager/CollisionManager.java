@@ -2,6 +2,8 @@ package com.example.demo.Level.LevelManager;
 
 import com.example.demo.Actor.ActiveActorDestructible;
 import com.example.demo.Actor.Plane.UserPlane;
+import com.example.demo.Level.FlightRecorder.CollisionPassEvent;
+import jdk.jfr.EventType;
 
 import java.util.List;
 
@@ -11,9 +13,45 @@ import java.util.List;
  * The class provides methods for detecting and handling collisions between different entities
  * such as projectiles, enemy units, and the user plane, and also manages the consequences of these collisions
  * (e.g., taking damage, upgrading projectiles, or picking up items).
+ * Pickups are announced through the {@link GameEventManager}, which plays their sound.
  */
 public class CollisionManager {
 
+    /**
+     * The cell size of the broadphase grid in pixels. It is close to the size of the enemy sprites, so most
+     * actors cover one to four cells while the small projectiles share cells with only their neighbours.
+     */
+    private static final double BROADPHASE_CELL_SIZE = 128;
+
+    /**
+     * The number of actor pairs below which the lists are simply checked against each other.
+     * For a handful of actors building the grid costs more than it saves.
+     */
+    private static final int BROADPHASE_MIN_PAIRS = 64;
+
+    /**
+     * The number of broadphase grids kept per thread. A level indexes three lists (the friendly units and the
+     * projectiles of both sides), so each of them keeps its own grid from tick to tick.
+     */
+    private static final int BROADPHASE_GRID_COUNT = 4;
+
+    /**
+     * The Flight Recorder type of the collision pass events, checked before creating one.
+     */
+    private static final EventType COLLISION_PASS_EVENT_TYPE = EventType.getEventType(CollisionPassEvent.class);
+
+    /**
+     * The broadphase grids, kept per thread and ordered from the most to the least recently used.
+     * Each grid indexes one list and is updated incrementally every time that list is checked again.
+     */
+    private static final ThreadLocal<SpatialHashGrid[]> BROADPHASE = ThreadLocal.withInitial(() -> {
+        SpatialHashGrid[] grids = new SpatialHashGrid[BROADPHASE_GRID_COUNT];
+        for (int i = 0; i < grids.length; i++) {
+            grids[i] = new SpatialHashGrid(BROADPHASE_CELL_SIZE);
+        }
+        return grids;
+    });
+
     /**
      * Default constructor for the CollisionManager class.
      * This constructor is provided explicitly, but does not perform any initialization as all methods are static.
@@ -25,15 +63,112 @@ public class CollisionManager {
     /**
      * Handles collisions between two lists of actors, applying damage to both colliding actors.
      * If two actors collide, both will take damage.
+     * <p>
+     * The first list is indexed in a {@link SpatialHashGrid}, and each actor of the second list is only tested
+     * against the actors sharing a grid cell with it. The grid of a list is kept between ticks and only the
+     * actors that changed cells are moved in it. The candidates are visited in list order, so the pairs
+     * that collide, and the order in which they take damage, are exactly those of a check of every pair.
+     * </p>
+     * <p>
+     * Each pass is timed as a {@link CollisionPassEvent} while a Flight Recording has the event enabled, and recorded
+     * when the pass is slow enough to pass the event's threshold. No event is created otherwise.
+     * </p>
      *
      * @param actors1 the first list of actors to check for collisions
      * @param actors2 the second list of actors to check for collisions
      */
     public static void handleCollisions(List<ActiveActorDestructible> actors1,
                                         List<ActiveActorDestructible> actors2) {
+        CollisionPassEvent event = null;
+        if (COLLISION_PASS_EVENT_TYPE.isEnabled()) {
+            event = new CollisionPassEvent();
+            event.begin();
+        }
+        boolean broadphase = actors1.size() * actors2.size() >= BROADPHASE_MIN_PAIRS;
+        long pairsTested;
+        if (broadphase) {
+            pairsTested = handleCollisionsBroadphase(actors1, actors2);
+        } else {
+            handleCollisionsBruteForce(actors1, actors2);
+            pairsTested = (long) actors1.size() * actors2.size();
+        }
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.firstCount = actors1.size();
+                event.secondCount = actors2.size();
+                event.broadphase = broadphase;
+                event.pairsTested = pairsTested;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Handles collisions between two lists of actors through the broadphase grid.
+     *
+     * @param actors1 the first list of actors, indexed in the grid
+     * @param actors2 the second list of actors, each queried against the grid
+     * @return the number of pairs whose hitboxes were tested
+     */
+    private static long handleCollisionsBroadphase(List<ActiveActorDestructible> actors1,
+                                                   List<ActiveActorDestructible> actors2) {
+        SpatialHashGrid grid = gridFor(actors1);
+        grid.update(actors1);
+        long pairsTested = 0;
+        for (int i = 0; i < actors2.size(); i++) {
+            ActiveActorDestructible actor = actors2.get(i);
+            int candidateCount = grid.query(actor);
+            pairsTested += candidateCount;
+            for (int c = 0; c < candidateCount; c++) {
+                ActiveActorDestructible otherActor = actors1.get(grid.getCandidate(c));
+                if (actor.getState().intersects(otherActor.getState())) {
+                    actor.takeDamage();
+                    otherActor.takeDamage();
+                }
+            }
+        }
+        return pairsTested;
+    }
+
+    /**
+     * Returns the broadphase grid of a list and marks it as the most recently used one.
+     * A list that has no grid yet takes over the least recently used grid, which is emptied first; this also
+     * releases the actors of a level that has ended.
+     *
+     * @param actors the list to index
+     * @return the grid indexing the list
+     */
+    private static SpatialHashGrid gridFor(List<ActiveActorDestructible> actors) {
+        SpatialHashGrid[] grids = BROADPHASE.get();
+        int found = grids.length - 1;
+        for (int i = 0; i < grids.length; i++) {
+            if (grids[i].getIndexedList() == actors) {
+                found = i;
+                break;
+            }
+        }
+        SpatialHashGrid grid = grids[found];
+        if (grid.getIndexedList() != actors) {
+            grid.clear();
+        }
+        System.arraycopy(grids, 0, grids, 1, found);
+        grids[0] = grid;
+        return grid;
+    }
+
+    /**
+     * Handles collisions between two lists of actors by checking every pair.
+     * Used for small lists, and as the reference behaviour of {@link #handleCollisions}.
+     *
+     * @param actors1 the first list of actors to check for collisions
+     * @param actors2 the second list of actors to check for collisions
+     */
+    static void handleCollisionsBruteForce(List<ActiveActorDestructible> actors1,
+                                           List<ActiveActorDestructible> actors2) {
         for (ActiveActorDestructible actor : actors2) {
             for (ActiveActorDestructible otherActor : actors1) {
-                if (actor.getBoundsInParent().intersects(otherActor.getBoundsInParent())) {
+                if (actor.getState().intersects(otherActor.getState())) {
                     actor.takeDamage();
                     otherActor.takeDamage();
                 }
@@ -67,8 +202,7 @@ public class CollisionManager {
 
     /**
      * Handles collisions between the user plane and ammo boxes.
-     * If a collision is detected, it triggers an upgrade for the user's projectiles
-     * and plays an audio cue to indicate the pickup.
+     * If a collision is detected, it triggers an upgrade for the user's projectiles.
      *
      * @param userPlane the user's plane
      * @param ammoBoxes the list of ammo boxes
@@ -77,13 +211,13 @@ public class CollisionManager {
         for (ActiveActorDestructible ammoBox : ammoBoxes) {
             if (checkCollision(userPlane, ammoBox)) {
                 handleAmmoBoxPickup(userPlane, ammoBox);
-                AudioManager.getInstance().triggerGetAmmoBoxAudio();
             }
         }
     }
 
     /**
      * Handles the pickup of an ammo box by the user plane, upgrading the user's projectiles.
+     * Publishes a {@link GameEventType#PICKUP_COLLECTED} event the first time the box is picked up.
      *
      * @param userPlane the user's plane
      * @param ammoBox the ammo box being picked up
@@ -94,13 +228,13 @@ public class CollisionManager {
                 ((UserPlane) userPlane).upgradeProjectile();
             }
             ammoBox.destroy();
+            GameEventManager.getInstance().publish(GameEventType.PICKUP_COLLECTED, ammoBox, 0);
         }
     }
 
     /**
      * Handles collisions between the user plane and heart items.
-     * If a collision is detected, it triggers an increase in the user's health
-     * and plays an audio cue to indicate the pickup.
+     * If a collision is detected, it triggers an increase in the user's health.
      *
      * @param userPlane the user's plane
      * @param hearts the list of hearts
@@ -109,13 +243,13 @@ public class CollisionManager {
         for (ActiveActorDestructible heart : hearts) {
             if (checkCollision(userPlane, heart)) {
                 handleHeartPickup(userPlane, heart);
-                AudioManager.getInstance().triggerGetHeartAudio();
             }
         }
     }
 
     /**
      * Handles the pickup of a heart item by the user plane, increasing the user's health.
+     * Publishes a {@link GameEventType#PICKUP_COLLECTED} event the first time the heart is picked up.
      *
      * @param userPlane the user's plane
      * @param heart the heart being picked up
@@ -126,11 +260,12 @@ public class CollisionManager {
                 ((UserPlane) userPlane).increaseHealth();
             }
             heart.destroy();
+            GameEventManager.getInstance().publish(GameEventType.PICKUP_COLLECTED, heart, 0);
         }
     }
 
     /**
-     * Checks if two actors are colliding by comparing their bounds in the parent scene.
+     * Checks if two actors are colliding by comparing their simulated sprite bounds.
      * The collision is determined based on whether the bounding boxes of the two actors intersect.
      *
      * @param actor1 the first actor to check
@@ -138,6 +273,6 @@ public class CollisionManager {
      * @return true if the actors are colliding, false otherwise
      */
     private static boolean checkCollision(ActiveActorDestructible actor1, ActiveActorDestructible actor2) {
-        return actor1.getBoundsInParent().intersects(actor2.getBoundsInParent());
+        return actor1.getState().intersects(actor2.getState());
     }
 }
\ No newline at end of file
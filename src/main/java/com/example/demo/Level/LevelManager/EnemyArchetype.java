@@ -0,0 +1,90 @@
+package com.example.demo.Level.LevelManager;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.Plane.EnemyPlane;
+import com.example.demo.Actor.Plane.HeavyEnemy;
+import com.example.demo.Actor.Plane.SpeedEnemy;
+
+/**
+ * The kinds of regular enemies a wave can spawn, under the names used in wave scripts.
+ */
+public enum EnemyArchetype {
+
+    /**
+     * The standard {@link EnemyPlane}, named {@code plane} in wave scripts.
+     */
+    PLANE("plane") {
+        @Override
+        public ActiveActorDestructible obtain(double x, double y) {
+            return EnemyPlane.obtain(x, y);
+        }
+    },
+
+    /**
+     * The fast {@link SpeedEnemy}, named {@code speed} in wave scripts.
+     */
+    SPEED("speed") {
+        @Override
+        public ActiveActorDestructible obtain(double x, double y) {
+            return SpeedEnemy.obtain(x, y);
+        }
+    },
+
+    /**
+     * The armoured {@link HeavyEnemy}, named {@code heavy} in wave scripts.
+     */
+    HEAVY("heavy") {
+        @Override
+        public ActiveActorDestructible obtain(double x, double y) {
+            return HeavyEnemy.obtain(x, y);
+        }
+    };
+
+    /**
+     * The name of the archetype in wave scripts.
+     */
+    private final String scriptName;
+
+    /**
+     * Constructs an archetype.
+     *
+     * @param scriptName the name of the archetype in wave scripts
+     */
+    EnemyArchetype(String scriptName) {
+        this.scriptName = scriptName;
+    }
+
+    /**
+     * Returns an enemy of this archetype at the given position, reusing a pooled one when possible.
+     *
+     * @param x the initial X position of the enemy
+     * @param y the initial Y position of the enemy
+     * @return an enemy ready to be added to the level
+     */
+    public abstract ActiveActorDestructible obtain(double x, double y);
+
+    /**
+     * Returns the name of the archetype in wave scripts.
+     *
+     * @return the script name
+     */
+    public String getScriptName() {
+        return scriptName;
+    }
+
+    /**
+     * Looks up an archetype by its name in wave scripts.
+     *
+     * @param scriptName the script name
+     * @return the archetype
+     * @throws IllegalArgumentException if no archetype has that name
+     */
+    public static EnemyArchetype fromScriptName(String scriptName) {
+        for (EnemyArchetype archetype : values()) {
+            if (archetype.scriptName.equals(scriptName)) {
+                return archetype;
+            }
+        }
+        throw new IllegalArgumentException("Unknown enemy archetype: " + scriptName);
+    }
+}
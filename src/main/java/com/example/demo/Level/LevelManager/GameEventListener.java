@@ -0,0 +1,22 @@
+package com.example.demo.Level.LevelManager;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+
+/**
+ * Receives gameplay events from the {@link GameEventManager}.
+ * <p>
+ * Events are passed as plain arguments rather than event objects, so publishing an event allocates nothing.
+ * </p>
+ */
+@FunctionalInterface
+public interface GameEventListener {
+
+    /**
+     * Called when an event this listener subscribed to is published.
+     *
+     * @param type   the type of the event
+     * @param source the actor the event concerns
+     * @param value  the value of the event; see {@link GameEventType} for its meaning
+     */
+    void onGameEvent(GameEventType type, ActiveActorDestructible source, int value);
+}
@@ -0,0 +1,109 @@
+package com.example.demo.Level.LevelManager;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+
+import java.util.Arrays;
+
+/**
+ * Process-wide bus for gameplay events such as kills, damage, pickups and boss shields.
+ * <p>
+ * The actors and the {@link CollisionManager} publish an event at the moment something happens, and the HUD, the
+ * audio and the scoring subscribe to the types they care about, instead of polling the actors every frame.
+ * </p>
+ * <p>
+ * Listeners are kept per event type in arrays that are replaced on every (rare) subscription change, so
+ * publishing walks a plain array and allocates nothing, and a listener may unsubscribe while an event is being
+ * delivered. Events are published and delivered on the thread that runs the simulation.
+ * </p>
+ */
+public class GameEventManager {
+
+    /**
+     * An empty listener array, shared by all the event types without listeners.
+     */
+    private static final GameEventListener[] NO_LISTENERS = new GameEventListener[0];
+
+    /**
+     * Singleton instance of the GameEventManager. Declared after {@link #NO_LISTENERS}, which its constructor uses.
+     */
+    private static final GameEventManager instance = new GameEventManager();
+
+    /**
+     * The listeners of each event type, indexed by {@link GameEventType#ordinal()}.
+     */
+    private final GameEventListener[][] listeners = new GameEventListener[GameEventType.values().length][];
+
+    /**
+     * Private constructor to enforce the singleton pattern.
+     */
+    private GameEventManager() {
+        Arrays.fill(listeners, NO_LISTENERS);
+    }
+
+    /**
+     * Returns the singleton instance of the GameEventManager.
+     *
+     * @return the singleton instance of GameEventManager
+     */
+    public static GameEventManager getInstance() {
+        return instance;
+    }
+
+    /**
+     * Subscribes a listener to one type of event.
+     *
+     * @param type     the type of event to listen to
+     * @param listener the listener to call when such an event is published
+     */
+    public synchronized void subscribe(GameEventType type, GameEventListener listener) {
+        GameEventListener[] current = listeners[type.ordinal()];
+        GameEventListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners[type.ordinal()] = updated;
+    }
+
+    /**
+     * Removes a listener from every event type it subscribed to.
+     *
+     * @param listener the listener to remove
+     */
+    public synchronized void unsubscribe(GameEventListener listener) {
+        for (int t = 0; t < listeners.length; t++) {
+            GameEventListener[] current = listeners[t];
+            int kept = 0;
+            GameEventListener[] updated = new GameEventListener[current.length];
+            for (GameEventListener existing : current) {
+                if (existing != listener) {
+                    updated[kept++] = existing;
+                }
+            }
+            if (kept != current.length) {
+                listeners[t] = kept == 0 ? NO_LISTENERS : Arrays.copyOf(updated, kept);
+            }
+        }
+    }
+
+    /**
+     * Delivers an event to every listener of its type, in subscription order.
+     *
+     * @param type   the type of the event
+     * @param source the actor the event concerns
+     * @param value  the value of the event; see {@link GameEventType} for its meaning
+     */
+    public void publish(GameEventType type, ActiveActorDestructible source, int value) {
+        GameEventListener[] current = listeners[type.ordinal()];
+        for (int i = 0; i < current.length; i++) {
+            current[i].onGameEvent(type, source, value);
+        }
+    }
+
+    /**
+     * Returns the number of listeners subscribed to an event type.
+     *
+     * @param type the event type
+     * @return the number of listeners of that type
+     */
+    public int getListenerCount(GameEventType type) {
+        return listeners[type.ordinal()].length;
+    }
+}
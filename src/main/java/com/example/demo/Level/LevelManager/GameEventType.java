@@ -0,0 +1,45 @@
+package com.example.demo.Level.LevelManager;
+
+/**
+ * The kinds of gameplay events published through the {@link GameEventManager}.
+ * <p>
+ * Each event is delivered with the actor it concerns and one integer value, whose meaning is given for each type.
+ * </p>
+ */
+public enum GameEventType {
+
+    /**
+     * An enemy plane (including a boss) was destroyed by damage. The value is unused.
+     */
+    ENEMY_KILLED,
+
+    /**
+     * The user plane took damage. The value is the user's remaining health.
+     */
+    PLAYER_DAMAGED,
+
+    /**
+     * The user plane picked up an ammo box or a heart. The source is the pickup; the value is unused.
+     */
+    PICKUP_COLLECTED,
+
+    /**
+     * A boss took damage and is still alive. The value is the boss's remaining health.
+     */
+    BOSS_DAMAGED,
+
+    /**
+     * A boss raised its shield. The value is unused.
+     */
+    SHIELD_RAISED,
+
+    /**
+     * A boss lowered its shield. The value is unused.
+     */
+    SHIELD_LOWERED,
+
+    /**
+     * A new boss entered a multi-boss fight. The value is the number of the phase that starts, from 1.
+     */
+    BOSS_PHASE_CHANGED
+}
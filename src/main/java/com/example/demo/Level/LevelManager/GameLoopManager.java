@@ -0,0 +1,171 @@
+package com.example.demo.Level.LevelManager;
+
+import com.example.demo.Controller.GameRuntime;
+import javafx.animation.AnimationTimer;
+
+/**
+ * Drives a level with a single frame clock and fixed-step simulation updates.
+ * <p>
+ * The loop is pulse-driven: an {@link AnimationTimer} reports the time of every rendered frame. The
+ * elapsed time is added to an accumulator, and the simulation step is run once for every full
+ * {@link #STEP_NANOS} in it. After the steps have run the frame is rendered once. A slow frame therefore
+ * catches up with extra steps instead of losing time, while the number of catch-up steps per frame is capped
+ * so that a long stall does not make the game spiral into ever longer frames.
+ * </p>
+ */
+public class GameLoopManager {
+
+    /**
+     * The duration of one simulation step in nanoseconds (16 ms, the original game tick).
+     */
+    public static final long STEP_NANOS = 16_000_000L;
+
+    /**
+     * The maximum number of simulation steps run for a single frame.
+     * Any time still owed after this many steps is dropped.
+     */
+    public static final int MAX_STEPS_PER_FRAME = 5;
+
+    /**
+     * The simulation step, run once per {@link #STEP_NANOS} of elapsed time.
+     */
+    private final Runnable step;
+
+    /**
+     * The render step, run once per frame after the simulation steps.
+     */
+    private final Runnable render;
+
+    /**
+     * The timer that delivers the frame pulses. Created on the first start, so headless runs never need one.
+     */
+    private AnimationTimer pulseTimer;
+
+    /**
+     * The pulse time of the previous frame in nanoseconds, or a negative value if no frame has been seen
+     * since the loop was (re)started.
+     */
+    private long lastPulseNanos = -1;
+
+    /**
+     * The elapsed time that has not yet been consumed by simulation steps, in nanoseconds.
+     */
+    private long accumulatorNanos;
+
+    /**
+     * The measured duration of the last frame in seconds.
+     */
+    private double frameDeltaSeconds;
+
+    /**
+     * Indicates whether the loop is currently running.
+     */
+    private boolean running;
+
+    /**
+     * Constructs a GameLoopManager.
+     *
+     * @param step   the simulation step to run at a fixed rate
+     * @param render the render step to run once per frame
+     */
+    public GameLoopManager(Runnable step, Runnable render) {
+        this.step = step;
+        this.render = render;
+    }
+
+    /**
+     * Starts (or resumes) the loop. The time spent while the loop was stopped is not caught up.
+     * Does nothing when the game runs headless, where the caller drives the simulation directly.
+     */
+    public void start() {
+        if (running || GameRuntime.isHeadless()) return;
+        if (pulseTimer == null) {
+            pulseTimer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    advance(now);
+                }
+            };
+        }
+        lastPulseNanos = -1;
+        accumulatorNanos = 0;
+        running = true;
+        pulseTimer.start();
+    }
+
+    /**
+     * Stops the loop. It can be resumed with {@link #start()}.
+     */
+    public void stop() {
+        if (pulseTimer != null) {
+            pulseTimer.stop();
+        }
+        running = false;
+    }
+
+    /**
+     * Returns whether the loop is currently running.
+     *
+     * @return true if the loop is running, false otherwise
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Advances the loop to the given pulse time: runs as many fixed simulation steps as the elapsed time
+     * allows (up to {@link #MAX_STEPS_PER_FRAME}) and then renders the frame.
+     *
+     * @param nowNanos the time of the current frame pulse in nanoseconds
+     * @return the number of simulation steps that were run
+     */
+    public int advance(long nowNanos) {
+        if (lastPulseNanos < 0) {
+            // First frame after a (re)start: there is no previous pulse to measure against
+            lastPulseNanos = nowNanos;
+            frameDeltaSeconds = 0;
+            render.run();
+            return 0;
+        }
+
+        long elapsed = nowNanos - lastPulseNanos;
+        lastPulseNanos = nowNanos;
+        frameDeltaSeconds = elapsed / 1_000_000_000.0;
+        accumulatorNanos += elapsed;
+
+        boolean wasRunning = running;
+        int steps = 0;
+        while (accumulatorNanos >= STEP_NANOS && steps < MAX_STEPS_PER_FRAME) {
+            if (wasRunning && !running) {
+                break; // A step stopped the loop (pause, game over or level change)
+            }
+            step.run();
+            accumulatorNanos -= STEP_NANOS;
+            steps++;
+        }
+        if (accumulatorNanos >= STEP_NANOS) {
+            accumulatorNanos = 0; // Too far behind; drop the backlog instead of catching up forever
+        }
+
+        render.run();
+        return steps;
+    }
+
+    /**
+     * Returns the measured duration of the last frame.
+     *
+     * @return the frame delta in seconds
+     */
+    public double getFrameDeltaSeconds() {
+        return frameDeltaSeconds;
+    }
+
+    /**
+     * Returns the fixed duration of one simulation step.
+     *
+     * @return the step duration in seconds
+     */
+    public static double getStepSeconds() {
+        return STEP_NANOS / 1_000_000_000.0;
+    }
+}
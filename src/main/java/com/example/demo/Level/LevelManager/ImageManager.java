@@ -0,0 +1,184 @@
+package com.example.demo.Level.LevelManager;
+
+import javafx.scene.image.Image;
+
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide cache of decoded images, shared by the actors, the HUD widgets and the menus.
+ * <p>
+ * Images are keyed by their resource path and the requested decode size, so each PNG is decoded only once per
+ * run no matter how many actors or widgets display it. A JavaFX {@link Image} is immutable once loaded and can be
+ * shown by any number of {@link javafx.scene.image.ImageView}s at the same time, so sharing it is safe.
+ * </p>
+ * <p>
+ * The cache can be used from any thread. Hit and miss counters are kept to check how well it works.
+ * </p>
+ */
+public class ImageManager {
+
+    /**
+     * Singleton instance of the ImageManager.
+     */
+    private static final ImageManager instance = new ImageManager();
+
+    /**
+     * The decoded images, by resource path and requested size.
+     */
+    private final Map<Key, Image> images = new ConcurrentHashMap<>();
+
+    /**
+     * The number of lookups answered from the cache.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * The number of lookups that had to decode an image.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Private constructor to enforce the singleton pattern.
+     */
+    private ImageManager() {
+    }
+
+    /**
+     * Returns the singleton instance of the ImageManager.
+     *
+     * @return the singleton instance of ImageManager
+     */
+    public static ImageManager getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns the image at the given resource path, decoded at its natural size.
+     *
+     * @param resourcePath the absolute resource path of the image, e.g. {@code /com/example/demo/images/heart.png}
+     * @return the shared decoded image
+     */
+    public Image getImage(String resourcePath) {
+        return getImage(resourcePath, 0, 0);
+    }
+
+    /**
+     * Returns the image at the given resource path, decoded to fit the requested size with its aspect ratio kept.
+     * A requested width and height of 0 decode the image at its natural size.
+     *
+     * @param resourcePath    the absolute resource path of the image
+     * @param requestedWidth  the width to decode the image to, or 0 for the natural width
+     * @param requestedHeight the height to decode the image to, or 0 for the natural height
+     * @return the shared decoded image
+     * @throws IllegalArgumentException if there is no image at the given path
+     */
+    public Image getImage(String resourcePath, double requestedWidth, double requestedHeight) {
+        Key key = new Key(resourcePath, requestedWidth, requestedHeight);
+        Image image = images.get(key);
+        if (image != null) {
+            hits.increment();
+            return image;
+        }
+        return images.computeIfAbsent(key, this::load);
+    }
+
+    /**
+     * Decodes the image for a cache key.
+     *
+     * @param key the cache key
+     * @return the decoded image
+     */
+    private Image load(Key key) {
+        misses.increment();
+        URL url = ImageManager.class.getResource(key.resourcePath);
+        if (url == null) {
+            throw new IllegalArgumentException("Image resource not found: " + key.resourcePath);
+        }
+        if (key.requestedWidth == 0 && key.requestedHeight == 0) {
+            return new Image(url.toExternalForm());
+        }
+        return new Image(url.toExternalForm(), key.requestedWidth, key.requestedHeight, true, true);
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to decode an image.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of distinct images currently held in the cache.
+     *
+     * @return the number of cached images
+     */
+    public int getCachedImageCount() {
+        return images.size();
+    }
+
+    /**
+     * Cache key made of a resource path and a requested decode size.
+     */
+    private static final class Key {
+
+        /**
+         * The absolute resource path of the image.
+         */
+        private final String resourcePath;
+
+        /**
+         * The requested decode width, or 0 for the natural width.
+         */
+        private final double requestedWidth;
+
+        /**
+         * The requested decode height, or 0 for the natural height.
+         */
+        private final double requestedHeight;
+
+        /**
+         * Constructs a cache key.
+         *
+         * @param resourcePath    the absolute resource path of the image
+         * @param requestedWidth  the requested decode width
+         * @param requestedHeight the requested decode height
+         */
+        private Key(String resourcePath, double requestedWidth, double requestedHeight) {
+            this.resourcePath = resourcePath;
+            this.requestedWidth = requestedWidth;
+            this.requestedHeight = requestedHeight;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (!(other instanceof Key)) return false;
+            Key key = (Key) other;
+            return resourcePath.equals(key.resourcePath)
+                    && Double.compare(requestedWidth, key.requestedWidth) == 0
+                    && Double.compare(requestedHeight, key.requestedHeight) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = resourcePath.hashCode();
+            result = 31 * result + Double.hashCode(requestedWidth);
+            result = 31 * result + Double.hashCode(requestedHeight);
+            return result;
+        }
+    }
+}
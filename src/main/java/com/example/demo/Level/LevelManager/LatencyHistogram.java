@@ -0,0 +1,160 @@
+package com.example.demo.Level.LevelManager;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size histogram of durations in nanoseconds, for percentiles such as p50 and p99.
+ * <p>
+ * Durations are counted in log-linear buckets: every power of two is split into {@value #SUB_BUCKETS} equal
+ * buckets, so a percentile is reported to within about 6%, whatever its size. Recording a duration is one
+ * array increment; the histogram never allocates after it is created. The exact maximum is kept on the side.
+ * </p>
+ * <p>
+ * The histogram is not thread-safe; it is recorded and read on the thread that runs the simulation.
+ * </p>
+ */
+public class LatencyHistogram {
+
+    /**
+     * The number of bits of a duration, after its highest bit, that select its bucket.
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * The number of buckets each power of two is split into.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The longest duration told apart from longer ones, about 68 seconds; longer durations share the last bucket.
+     */
+    private static final long MAX_TRACKED_NANOS = (1L << 36) - 1;
+
+    /**
+     * The number of recorded durations in each bucket.
+     */
+    private final long[] counts = new long[bucketIndex(MAX_TRACKED_NANOS) + 1];
+
+    /**
+     * The number of recorded durations.
+     */
+    private long totalCount;
+
+    /**
+     * The sum of the recorded durations, in nanoseconds.
+     */
+    private long totalNanos;
+
+    /**
+     * The longest recorded duration, in nanoseconds.
+     */
+    private long maxNanos;
+
+    /**
+     * Constructs an empty histogram.
+     */
+    public LatencyHistogram() {
+    }
+
+    /**
+     * Records one duration.
+     *
+     * @param nanos the duration in nanoseconds; negative values count as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[bucketIndex(Math.min(value, MAX_TRACKED_NANOS))]++;
+        totalCount++;
+        totalNanos += value;
+        if (value > maxNanos) {
+            maxNanos = value;
+        }
+    }
+
+    /**
+     * Returns the duration below which the given share of the recorded durations lies.
+     *
+     * @param percentile the share, from 0 to 100
+     * @return the lower bound of the bucket holding that percentile, in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(totalCount * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(bucketLowerBound(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Returns the number of recorded durations.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the mean of the recorded durations.
+     *
+     * @return the mean in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getMean() {
+        return totalCount == 0 ? 0 : totalNanos / totalCount;
+    }
+
+    /**
+     * Returns the longest recorded duration.
+     *
+     * @return the maximum in nanoseconds
+     */
+    public long getMax() {
+        return maxNanos;
+    }
+
+    /**
+     * Forgets every recorded duration.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+
+    /**
+     * Returns the bucket of a duration.
+     *
+     * @param nanos a duration between 0 and {@link #MAX_TRACKED_NANOS}
+     * @return the index of its bucket
+     */
+    private static int bucketIndex(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int highestBit = 63 - Long.numberOfLeadingZeros(nanos);
+        int shift = highestBit - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((nanos >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Returns the shortest duration of a bucket.
+     *
+     * @param index the index of the bucket
+     * @return the lower bound of the bucket, in nanoseconds
+     */
+    private static long bucketLowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+    }
+}
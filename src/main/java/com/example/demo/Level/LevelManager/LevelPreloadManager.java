@@ -0,0 +1,76 @@
+package com.example.demo.Level.LevelManager;
+
+import com.example.demo.Controller.GameRuntime;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Decodes the images of the next level on a background thread while the current level is still running.
+ * <p>
+ * A level hands its successor's asset paths to {@link #preload(String...)} as soon as it is cleared, so the
+ * decoding overlaps with the two-second portal exit animation. The images land in the {@link ImageManager} cache,
+ * and when the next level is constructed on the JavaFX thread its background, boss and HUD images are cache hits
+ * instead of multi-megabyte decodes.
+ * </p>
+ * <p>
+ * Only the decoding is moved off the JavaFX thread. The level's scene, nodes and animations are still created on
+ * the JavaFX thread, which is what the toolkit requires.
+ * </p>
+ */
+public class LevelPreloadManager {
+
+    /**
+     * Singleton instance of the LevelPreloadManager.
+     */
+    private static final LevelPreloadManager instance = new LevelPreloadManager();
+
+    /**
+     * The single daemon thread the images are decoded on, so preloading never keeps the game from exiting.
+     */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "level-preloader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Private constructor to enforce the singleton pattern.
+     */
+    private LevelPreloadManager() {
+    }
+
+    /**
+     * Returns the singleton instance of the LevelPreloadManager.
+     *
+     * @return the singleton instance of LevelPreloadManager
+     */
+    public static LevelPreloadManager getInstance() {
+        return instance;
+    }
+
+    /**
+     * Starts decoding the given images in the background.
+     * Images already in the cache cost nothing. A path that cannot be loaded is reported and skipped, and the
+     * level that needs it will report it again when it is constructed.
+     * Nothing is decoded while the game runs headless, since there is no toolkit to decode images.
+     *
+     * @param resourcePaths the absolute resource paths of the images to decode
+     * @return a future completed once all the images have been tried
+     */
+    public CompletableFuture<Void> preload(String... resourcePaths) {
+        if (GameRuntime.isHeadless()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> {
+            for (String resourcePath : resourcePaths) {
+                try {
+                    ImageManager.getInstance().getImage(resourcePath);
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                }
+            }
+        }, executor);
+    }
+}
@@ -2,7 +2,6 @@ package com.example.demo.Level.LevelManager;
 
 import com.example.demo.Level.LevelParent;
 import com.example.demo.Ui.Control_PauseMenu;
-import javafx.animation.Timeline;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
 import javafx.scene.Parent;
@@ -24,8 +23,8 @@ public class PauseMenuManager {
     /** Flag indicating whether the game is currently paused. */
     private boolean isPaused = false;
 
-    /** The timeline controlling the game's animation. */
-    private Timeline timeline;
+    /** The game loop driving the level, which is stopped while the game is paused. */
+    private GameLoopManager gameLoop;
 
     /** The current scene of the game. */
     private Scene scene;
@@ -39,14 +38,14 @@ public class PauseMenuManager {
     /**
      * Constructs a PauseMenuManager instance to manage the pause menu functionality.
      *
-     * @param timeline        the game timeline to control animations, which can be paused and resumed
+     * @param gameLoop        the game loop driving the level, which can be paused and resumed
      * @param scene           the current scene of the game, used for managing visual elements and effects
      * @param userInputManager the manager to enable or disable user input during game pause or resume
      * @param levelParent     the LevelParent instance responsible for managing the current game level,
      *                        allowing cleanup when switching levels or exiting the game
      */
-    public PauseMenuManager(Timeline timeline, Scene scene, UserInputManager userInputManager, LevelParent levelParent) {
-        this.timeline = timeline;
+    public PauseMenuManager(GameLoopManager gameLoop, Scene scene, UserInputManager userInputManager, LevelParent levelParent) {
+        this.gameLoop = gameLoop;
         this.scene = scene;
         this.userInputManager = userInputManager;
         this.levelParent = levelParent;
@@ -80,12 +79,12 @@ public class PauseMenuManager {
     }
 
     /**
-     * Pauses the game by stopping the timeline, disabling user input, and applying a blur effect to all elements
+     * Pauses the game by stopping the game loop, disabling user input, and applying a blur effect to all elements
      * except the pause menu root.
      */
     public void pauseGame() {
         isPaused = true;
-        timeline.stop();
+        gameLoop.stop();
         userInputManager.setPaused(true);
 
         // Apply blur to all elements except the pause menu root
@@ -95,12 +94,12 @@ public class PauseMenuManager {
     }
 
     /**
-     * Resumes the game by playing the timeline, enabling user input, and removing the blur effect from all elements
+     * Resumes the game by restarting the game loop, enabling user input, and removing the blur effect from all elements
      * except the pause menu root.
      */
     public void continueGame() {
         isPaused = false;
-        timeline.play();
+        gameLoop.start();
         userInputManager.setPaused(false);
 
         // Remove blur from all elements except the pause menu root
@@ -111,13 +110,15 @@ public class PauseMenuManager {
 
     /**
      * Apply Gaussian blur to all elements except the pause menu root.
+     * The children of the scene root are the layers of the level, so each layer is blurred as a whole,
+     * except the overlay layer holding the pause menu.
      *
      * @param root The root node of the pause menu to exclude from blurring.
      * @param radius The radius of the blur effect.
      */
     private void applyBlurToAllElementsExceptPauseMenu(Node root, double radius) {
         for (Node node : scene.getRoot().getChildrenUnmodifiable()) {
-            if (node != root) {
+            if (!isPauseMenuOrItsLayer(node, root)) {
                 setBlurEffect(node, radius);
             }
         }
@@ -130,12 +131,23 @@ public class PauseMenuManager {
      */
     private void removeBlurFromAllElementsExceptPauseMenu(Node root) {
         for (Node node : scene.getRoot().getChildrenUnmodifiable()) {
-            if (node != root) {
+            if (!isPauseMenuOrItsLayer(node, root)) {
                 removeBlurEffect(node);
             }
         }
     }
 
+    /**
+     * Checks whether a child of the scene root is the pause menu or the scene layer holding it.
+     *
+     * @param node The child of the scene root.
+     * @param root The root node of the pause menu.
+     * @return true if the node is the pause menu or its layer, false otherwise.
+     */
+    private boolean isPauseMenuOrItsLayer(Node node, Node root) {
+        return node == root || node == root.getParent();
+    }
+
     /**
      * Set Gaussian blur effect on a node.
      *
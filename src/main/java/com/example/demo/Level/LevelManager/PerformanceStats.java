@@ -0,0 +1,178 @@
+package com.example.demo.Level.LevelManager;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Collects the figures shown by the performance overlay: recent frame times, frames per second, the allocation
+ * rate and the number of garbage collections.
+ * <p>
+ * Frame times are kept in a fixed ring of the last {@value #FRAME_HISTORY} frames. The allocation rate and the
+ * collection count come from the management MXBeans and are sampled only when the overlay refreshes, not every
+ * frame. Nothing here runs while the overlay is hidden.
+ * </p>
+ */
+public class PerformanceStats {
+
+    /**
+     * The number of recent frames whose duration is kept.
+     */
+    public static final int FRAME_HISTORY = 120;
+
+    /**
+     * The durations of the recent frames, in nanoseconds, as a ring.
+     */
+    private final long[] frameNanos = new long[FRAME_HISTORY];
+
+    /**
+     * The number of frames in the ring, up to {@link #FRAME_HISTORY}.
+     */
+    private int frameCount;
+
+    /**
+     * The index the next frame duration is written at.
+     */
+    private int nextFrame;
+
+    /**
+     * The total number of bytes allocated by all threads at the previous memory sample, or -1 before the first.
+     */
+    private long lastAllocatedBytes = -1;
+
+    /**
+     * The time of the previous memory sample, from {@link System#nanoTime()}.
+     */
+    private long lastSampleNanos;
+
+    /**
+     * The allocation rate measured between the last two memory samples, in bytes per second.
+     */
+    private double allocationBytesPerSecond = Double.NaN;
+
+    /**
+     * The number of garbage collections at the last memory sample.
+     */
+    private long gcCount;
+
+    /**
+     * Constructs an empty PerformanceStats, with no frames recorded and no memory sampled yet.
+     */
+    public PerformanceStats() {
+    }
+
+    /**
+     * Records the duration of a frame.
+     *
+     * @param nanos the duration of the frame in nanoseconds
+     */
+    public void recordFrame(long nanos) {
+        frameNanos[nextFrame] = nanos;
+        nextFrame = (nextFrame + 1) % FRAME_HISTORY;
+        if (frameCount < FRAME_HISTORY) {
+            frameCount++;
+        }
+    }
+
+    /**
+     * Returns the number of recent frames kept.
+     *
+     * @return the number of frames, up to {@link #FRAME_HISTORY}
+     */
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Returns the duration of one of the recent frames.
+     *
+     * @param index the frame, from 0 for the oldest kept to {@link #getFrameCount()} - 1 for the latest
+     * @return its duration in nanoseconds
+     */
+    public long getFrameNanos(int index) {
+        int oldest = (nextFrame - frameCount + FRAME_HISTORY) % FRAME_HISTORY;
+        return frameNanos[(oldest + index) % FRAME_HISTORY];
+    }
+
+    /**
+     * Returns the frame rate over the recent frames.
+     *
+     * @return the frames per second, or 0 if no frame has been recorded
+     */
+    public double getFramesPerSecond() {
+        long total = 0;
+        for (int i = 0; i < frameCount; i++) {
+            total += frameNanos[i];
+        }
+        return total == 0 ? 0 : frameCount * 1_000_000_000.0 / total;
+    }
+
+    /**
+     * Samples the allocation and garbage collection counters of the JVM.
+     *
+     * @param nowNanos the current time, from {@link System#nanoTime()}
+     */
+    public void sampleMemory(long nowNanos) {
+        long allocated = totalAllocatedBytes();
+        if (allocated >= 0 && lastAllocatedBytes >= 0 && nowNanos > lastSampleNanos) {
+            // A thread that ended since the last sample takes its bytes out of the total; never report a negative rate
+            allocationBytesPerSecond = Math.max(0, allocated - lastAllocatedBytes) * 1_000_000_000.0
+                    / (nowNanos - lastSampleNanos);
+        }
+        lastAllocatedBytes = allocated;
+        lastSampleNanos = nowNanos;
+
+        long collections = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            collections += Math.max(0, collector.getCollectionCount());
+        }
+        gcCount = collections;
+    }
+
+    /**
+     * Returns the allocation rate between the last two memory samples.
+     *
+     * @return the rate in bytes per second, or NaN if it is not known yet or not supported by the JVM
+     */
+    public double getAllocationBytesPerSecond() {
+        return allocationBytesPerSecond;
+    }
+
+    /**
+     * Returns the number of garbage collections since the JVM started, as of the last memory sample.
+     *
+     * @return the collection count
+     */
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    /**
+     * Forgets the recorded frames and memory samples, for example when the overlay is shown again.
+     */
+    public void reset() {
+        frameCount = 0;
+        nextFrame = 0;
+        lastAllocatedBytes = -1;
+        allocationBytesPerSecond = Double.NaN;
+    }
+
+    /**
+     * Returns the total number of bytes allocated by the live threads, if the JVM reports it.
+     * The per-thread counters are summed, since the JVM-wide total only exists from JDK 21 on.
+     *
+     * @return the allocated bytes, or -1 if not supported
+     */
+    private static long totalAllocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean sunThreads && sunThreads.isThreadAllocatedMemorySupported()
+                && sunThreads.isThreadAllocatedMemoryEnabled()) {
+            long total = 0;
+            for (long bytes : sunThreads.getThreadAllocatedBytes(sunThreads.getAllThreadIds())) {
+                total += Math.max(0, bytes); // -1 for a thread that ended meanwhile
+            }
+            return total;
+        }
+        return -1;
+    }
+}
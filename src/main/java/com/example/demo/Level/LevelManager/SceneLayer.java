@@ -0,0 +1,58 @@
+package com.example.demo.Level.LevelManager;
+
+/**
+ * The layers of a level's scene, from the bottom to the top, kept by the {@link SceneLayerManager}.
+ * Every node of a level belongs to exactly one layer, so what is drawn above what follows from the layers
+ * alone, whatever order the nodes are added in.
+ */
+public enum SceneLayer {
+
+    /**
+     * The background image and, in canvas render mode, the canvas the actors are drawn into.
+     */
+    BACKGROUND,
+
+    /**
+     * Ammo boxes and hearts.
+     */
+    PICKUPS,
+
+    /**
+     * Enemy planes and bosses.
+     */
+    ENEMIES,
+
+    /**
+     * The user plane and its hitbox outline.
+     */
+    PLAYER,
+
+    /**
+     * The projectiles of the user and of the enemies.
+     */
+    PROJECTILES,
+
+    /**
+     * Explosions, boss shields and boss health bars.
+     */
+    EFFECTS,
+
+    /**
+     * The heart display, the score board and the level hint.
+     */
+    HUD,
+
+    /**
+     * The win and game over images, the pause menu and the performance overlay.
+     */
+    OVERLAYS;
+
+    /**
+     * Returns whether the layer holds actors that are drawn into the canvas in canvas render mode.
+     *
+     * @return true for the pickup, enemy and projectile layers
+     */
+    public boolean isCanvasActorLayer() {
+        return this == PICKUPS || this == ENEMIES || this == PROJECTILES;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.demo.Level.LevelManager;
+
+import javafx.scene.Group;
+
+/**
+ * Keeps one {@link Group} per {@link SceneLayer} under the root of a level.
+ * <p>
+ * The layer groups are added to the root once, in the order of {@link SceneLayer}, and never move. A node is added
+ * to the group of its layer, so it is drawn above every node of the lower layers and below every node of the higher
+ * ones without any {@code toFront()} call. Adding or removing a node only changes the children of its own layer,
+ * which leaves the root and the other layers untouched.
+ * </p>
+ * <p>
+ * In canvas render mode the pickup, enemy and projectile layers are kept out of the scene, since those actors are
+ * drawn into a canvas instead (see {@link ActorRenderManager}). Their nodes then cost nothing to render.
+ * </p>
+ */
+public class SceneLayerManager {
+
+    /**
+     * The layers in drawing order, kept so that looking up a layer does not copy the enum values.
+     */
+    private static final SceneLayer[] LAYERS = SceneLayer.values();
+
+    /**
+     * The root of the level the layers are attached to.
+     */
+    private final Group root;
+
+    /**
+     * The group of each layer, indexed by {@link SceneLayer#ordinal()}.
+     */
+    private final Group[] layers = new Group[LAYERS.length];
+
+    /**
+     * Constructs the layers of a level, all attached to its root.
+     *
+     * @param root the root of the level
+     */
+    public SceneLayerManager(Group root) {
+        this(root, false);
+    }
+
+    /**
+     * Constructs the layers of a level.
+     *
+     * @param root the root of the level
+     * @param detachCanvasActors whether the layers of the actors drawn into the canvas are left out of the scene
+     */
+    public SceneLayerManager(Group root, boolean detachCanvasActors) {
+        this.root = root;
+        for (SceneLayer layer : LAYERS) {
+            Group group = new Group();
+            layers[layer.ordinal()] = group;
+            if (!(detachCanvasActors && layer.isCanvasActorLayer())) {
+                root.getChildren().add(group);
+            }
+        }
+    }
+
+    /**
+     * Returns the group of a layer.
+     *
+     * @param layer the layer
+     * @return the group the nodes of the layer are added to
+     */
+    public Group getLayer(SceneLayer layer) {
+        return layers[layer.ordinal()];
+    }
+
+    /**
+     * Returns the layer a group belongs to.
+     *
+     * @param group the group
+     * @return the layer whose group it is, or null if it is not a layer group
+     */
+    public SceneLayer findLayer(Group group) {
+        for (SceneLayer layer : LAYERS) {
+            if (layers[layer.ordinal()] == group) {
+                return layer;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the root of the level the layers are attached to.
+     *
+     * @return the root group
+     */
+    public Group getRoot() {
+        return root;
+    }
+
+    /**
+     * Removes every node from every layer, for example when the level is cleaned up.
+     * The layer groups themselves stay in place.
+     */
+    public void clear() {
+        for (Group layer : layers) {
+            layer.getChildren().clear();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.demo.Level.LevelManager;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Per-frame command buffer for the nodes that are added to and removed from the scene layers during a tick.
+ * <p>
+ * Spawning, firing and clean-up only record their scene changes here. The level applies them once at the end of
+ * the tick with a single {@code removeAll} and a single {@code addAll} per layer that changed, so the children
+ * lists of the layers stay stable while the tick runs and are changed, and observed, only once per frame.
+ * </p>
+ * <p>
+ * Every node is added to a {@link SceneLayer} of the {@link SceneLayerManager}. A node is removed from whichever
+ * layer holds it, so the caller does not have to know the layer again.
+ * </p>
+ * <p>
+ * A node that is added and removed again within the same tick never reaches the scene. A node that is removed and
+ * then added again, as happens when a pooled actor is reused right away, ends up in the scene, at the top of its
+ * layer.
+ * </p>
+ */
+public class SceneUpdateManager {
+
+    /**
+     * The layers in drawing order, kept so that the flush does not copy the enum values every tick.
+     */
+    private static final SceneLayer[] LAYERS = SceneLayer.values();
+
+    /**
+     * The layers the buffered changes are applied to.
+     */
+    private final SceneLayerManager layers;
+
+    /**
+     * The nodes to add to each layer at the next flush, in the order they were added, indexed by
+     * {@link SceneLayer#ordinal()}.
+     */
+    private final List<List<Node>> pendingAdds = new ArrayList<>();
+
+    /**
+     * The nodes to remove at the next flush. A set keeps the bulk removal linear in the number of children.
+     */
+    private final Set<Node> pendingRemoves = new HashSet<>();
+
+    /**
+     * Whether each layer holds a node to remove at the next flush, indexed by {@link SceneLayer#ordinal()}.
+     */
+    private final boolean[] layersWithRemoves = new boolean[LAYERS.length];
+
+    /**
+     * Constructs a SceneUpdateManager for the given layers.
+     *
+     * @param layers the layers the buffered changes are applied to
+     */
+    public SceneUpdateManager(SceneLayerManager layers) {
+        this.layers = layers;
+        for (int i = 0; i < LAYERS.length; i++) {
+            pendingAdds.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Records a node to be added to a layer at the next flush.
+     *
+     * @param layer the layer to add the node to
+     * @param node  the node to add
+     */
+    public void add(SceneLayer layer, Node node) {
+        pendingAdds.get(layer.ordinal()).add(node);
+    }
+
+    /**
+     * Records a node to be removed from its layer at the next flush.
+     * If the node was added during the same tick, the addition is simply dropped.
+     *
+     * @param node the node to remove
+     */
+    public void remove(Node node) {
+        for (int i = 0; i < pendingAdds.size(); i++) {
+            if (pendingAdds.get(i).remove(node)) {
+                return;
+            }
+        }
+        if (node.getParent() instanceof Group) {
+            SceneLayer layer = layers.findLayer((Group) node.getParent());
+            if (layer != null) {
+                pendingRemoves.add(node);
+                layersWithRemoves[layer.ordinal()] = true;
+            }
+        }
+    }
+
+    /**
+     * Applies the recorded changes to the layers: first all removals, then all additions.
+     */
+    public void flush() {
+        if (!pendingRemoves.isEmpty()) {
+            for (SceneLayer layer : LAYERS) {
+                if (layersWithRemoves[layer.ordinal()]) {
+                    layers.getLayer(layer).getChildren().removeAll(pendingRemoves);
+                    layersWithRemoves[layer.ordinal()] = false;
+                }
+            }
+            pendingRemoves.clear();
+        }
+        for (SceneLayer layer : LAYERS) {
+            List<Node> adds = pendingAdds.get(layer.ordinal());
+            if (!adds.isEmpty()) {
+                layers.getLayer(layer).getChildren().addAll(adds);
+                adds.clear();
+            }
+        }
+    }
+
+    /**
+     * Drops all recorded changes without applying them, for example when the level is cleaned up.
+     */
+    public void clear() {
+        for (int i = 0; i < pendingAdds.size(); i++) {
+            pendingAdds.get(i).clear();
+        }
+        pendingRemoves.clear();
+        Arrays.fill(layersWithRemoves, false);
+    }
+
+    /**
+     * Returns the layers the buffered changes are applied to.
+     *
+     * @return the scene layers
+     */
+    public SceneLayerManager getLayers() {
+        return layers;
+    }
+}
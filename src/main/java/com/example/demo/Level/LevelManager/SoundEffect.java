@@ -0,0 +1,150 @@
+package com.example.demo.Level.LevelManager;
+
+/**
+ * The sound effects played through the {@link AudioManager}, with the playback limits that keep a busy wave from
+ * flooding the mixer.
+ * <p>
+ * Every effect has a voice cap (how many copies of it may sound at once), a minimum retrigger interval, a priority
+ * used to decide which effect gives way when all the voices of the game are in use, and the approximate length of
+ * its clip, used to tell when a voice is free again. See {@link VoiceLimiter}.
+ * </p>
+ */
+public enum SoundEffect {
+
+    /**
+     * The player's shot. Fired up to ten times a second, so it is the most limited effect.
+     */
+    SHOOT("/com/example/demo/sounds/shoot.mp3", 300, 3, 50, 1),
+
+    /**
+     * An enemy plane exploding. Whole groups of enemies can die on the same tick.
+     */
+    EXPLOSION("/com/example/demo/sounds/explosion.mp3", 1880, 4, 40, 2),
+
+    /**
+     * Picking up an ammo box.
+     */
+    GET_AMMO_BOX("/com/example/demo/sounds/levelup.mp3", 1150, 2, 100, 3),
+
+    /**
+     * Picking up a heart.
+     */
+    GET_HEART("/com/example/demo/sounds/heal.mp3", 1440, 2, 100, 3),
+
+    /**
+     * A boss raising its shield.
+     */
+    SHIELD("/com/example/demo/sounds/shield.mp3", 520, 1, 200, 3),
+
+    /**
+     * The player taking damage.
+     */
+    USER_DAMAGE("/com/example/demo/sounds/userDamage.mp3", 410, 2, 100, 4),
+
+    /**
+     * Winning the game.
+     */
+    WIN("/com/example/demo/sounds/win.mp3", 7010, 1, 0, 5),
+
+    /**
+     * Losing the game.
+     */
+    LOSE("/com/example/demo/sounds/lose.mp3", 6300, 1, 0, 5),
+
+    /**
+     * The player teleporting into a level.
+     */
+    TELEPORT_IN("/com/example/demo/sounds/teleportIn.mp3", 620, 1, 0, 5),
+
+    /**
+     * The player teleporting out of a level.
+     */
+    TELEPORT_OUT("/com/example/demo/sounds/teleportOut.mp3", 600, 1, 0, 5);
+
+    /**
+     * The absolute resource path of the clip.
+     */
+    private final String resourcePath;
+
+    /**
+     * The approximate length of the clip, in milliseconds.
+     */
+    private final long lengthMillis;
+
+    /**
+     * The most copies of the effect that may sound at once.
+     */
+    private final int maxVoices;
+
+    /**
+     * The shortest time between two starts of the effect, in milliseconds.
+     */
+    private final long minIntervalMillis;
+
+    /**
+     * The priority of the effect; an effect can take the voice of an effect with a lower priority.
+     */
+    private final int priority;
+
+    /**
+     * Constructs a sound effect.
+     *
+     * @param resourcePath      the absolute resource path of the clip
+     * @param lengthMillis      the approximate length of the clip, in milliseconds
+     * @param maxVoices         the most copies of the effect that may sound at once
+     * @param minIntervalMillis the shortest time between two starts of the effect, in milliseconds
+     * @param priority          the priority of the effect
+     */
+    SoundEffect(String resourcePath, long lengthMillis, int maxVoices, long minIntervalMillis, int priority) {
+        this.resourcePath = resourcePath;
+        this.lengthMillis = lengthMillis;
+        this.maxVoices = maxVoices;
+        this.minIntervalMillis = minIntervalMillis;
+        this.priority = priority;
+    }
+
+    /**
+     * Returns the absolute resource path of the clip.
+     *
+     * @return the resource path
+     */
+    public String getResourcePath() {
+        return resourcePath;
+    }
+
+    /**
+     * Returns the approximate length of the clip.
+     *
+     * @return the length in milliseconds
+     */
+    public long getLengthMillis() {
+        return lengthMillis;
+    }
+
+    /**
+     * Returns the most copies of the effect that may sound at once.
+     *
+     * @return the voice cap
+     */
+    public int getMaxVoices() {
+        return maxVoices;
+    }
+
+    /**
+     * Returns the shortest time between two starts of the effect.
+     *
+     * @return the minimum retrigger interval in milliseconds
+     */
+    public long getMinIntervalMillis() {
+        return minIntervalMillis;
+    }
+
+    /**
+     * Returns the priority of the effect.
+     *
+     * @return the priority; higher values win
+     */
+    public int getPriority() {
+        return priority;
+    }
+}
@@ -0,0 +1,399 @@
+package com.example.demo.Level.LevelManager;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.ActorState;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Uniform-grid broadphase used by {@link CollisionManager}.
+ * <p>
+ * The grid indexes one list of actors by the cells their sprite bounds cover. A query then returns only the
+ * actors that share a cell with the queried actor, in ascending list order, so the caller can run the exact
+ * narrowphase test on far fewer pairs while visiting them in the same order as a brute-force scan.
+ * </p>
+ * <p>
+ * The grid is updated incrementally. It remembers the cells each actor was stored in, and {@link #update}
+ * only moves the actors whose cells changed since the previous tick, adds the actors that joined the list and
+ * drops the ones that left it. Most actors move a few pixels per tick, far less than a cell, so most ticks
+ * only refresh the list positions of the actors.
+ * </p>
+ * <p>
+ * Cells are hashed into a fixed number of buckets, so the grid is unbounded and needs no world size.
+ * </p>
+ */
+public class SpatialHashGrid {
+
+    /**
+     * The number of hash buckets. Must be a power of two.
+     */
+    private static final int BUCKET_COUNT = 1024;
+
+    /**
+     * The initial capacity of each bucket and of the candidate buffer.
+     */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * An actor stored in the grid, with the cells it is stored in.
+     */
+    private static final class Entry {
+
+        /**
+         * The indexed actor.
+         */
+        private final ActiveActorDestructible actor;
+
+        /**
+         * The index of the actor in the list passed to the last {@link #update}.
+         */
+        private int listIndex;
+
+        /**
+         * The update the actor was last seen in, used to find the actors that left the list.
+         */
+        private int generation;
+
+        /**
+         * The query stamp last seen for the actor, used to drop duplicates when the actor spans cells.
+         */
+        private int stamp;
+
+        /**
+         * Whether the actor is currently stored in the cells below.
+         */
+        private boolean placed;
+
+        /**
+         * The first cell column the actor is stored in.
+         */
+        private int minCellX;
+
+        /**
+         * The last cell column the actor is stored in.
+         */
+        private int maxCellX;
+
+        /**
+         * The first cell row the actor is stored in.
+         */
+        private int minCellY;
+
+        /**
+         * The last cell row the actor is stored in.
+         */
+        private int maxCellY;
+
+        /**
+         * Constructs an entry for an actor that is not stored in any cell yet.
+         *
+         * @param actor the actor to index
+         */
+        private Entry(ActiveActorDestructible actor) {
+            this.actor = actor;
+        }
+    }
+
+    /**
+     * The width and height of one grid cell in pixels.
+     */
+    private final double cellSize;
+
+    /**
+     * The entries stored in each bucket, in no particular order.
+     */
+    private final Entry[][] buckets = new Entry[BUCKET_COUNT][];
+
+    /**
+     * The number of entries stored in each bucket.
+     */
+    private final int[] bucketSizes = new int[BUCKET_COUNT];
+
+    /**
+     * The entry of every indexed actor, looked up by identity.
+     */
+    private final Map<ActiveActorDestructible, Entry> entries = new IdentityHashMap<>();
+
+    /**
+     * The entries of every indexed actor, walked after each update to drop the actors that left the list.
+     */
+    private final List<Entry> liveEntries = new ArrayList<>();
+
+    /**
+     * The list passed to the last {@link #update}, or null if the grid is empty.
+     */
+    private List<ActiveActorDestructible> indexedList;
+
+    /**
+     * The number of the current update.
+     */
+    private int generation;
+
+    /**
+     * The stamp of the current query.
+     */
+    private int stamp;
+
+    /**
+     * The number of actors moved to other cells by the last update, including the actors that were added.
+     */
+    private int movedCount;
+
+    /**
+     * The candidate indices found by the last query, sorted in ascending order.
+     */
+    private int[] candidates = new int[INITIAL_CAPACITY];
+
+    /**
+     * Constructs an empty grid.
+     *
+     * @param cellSize the width and height of one grid cell in pixels
+     */
+    public SpatialHashGrid(double cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Brings the grid up to date with the given actors.
+     * <p>
+     * Actors already in the grid are only moved when the cells they cover have changed. Actors that are new to
+     * the grid are added, and actors that are no longer in the list are removed. An actor must appear in the list
+     * at most once.
+     * </p>
+     *
+     * @param actors the actors to index; queries return indices into this list
+     */
+    public void update(List<ActiveActorDestructible> actors) {
+        indexedList = actors;
+        generation++;
+        movedCount = 0;
+
+        for (int index = 0; index < actors.size(); index++) {
+            ActiveActorDestructible actor = actors.get(index);
+            Entry entry = entries.get(actor);
+            if (entry == null) {
+                entry = new Entry(actor);
+                entries.put(actor, entry);
+                liveEntries.add(entry);
+            }
+            entry.listIndex = index;
+            entry.generation = generation;
+
+            ActorState state = actor.getState();
+            int minCellX = cell(state.getX());
+            int maxCellX = cell(state.getX() + state.getWidth());
+            int minCellY = cell(state.getY());
+            int maxCellY = cell(state.getY() + state.getHeight());
+            if (entry.placed && entry.minCellX == minCellX && entry.maxCellX == maxCellX
+                    && entry.minCellY == minCellY && entry.maxCellY == maxCellY) {
+                continue; // Still in the same cells
+            }
+            if (entry.placed) {
+                removeFromCells(entry);
+            }
+            entry.minCellX = minCellX;
+            entry.maxCellX = maxCellX;
+            entry.minCellY = minCellY;
+            entry.maxCellY = maxCellY;
+            addToCells(entry);
+            movedCount++;
+        }
+
+        // Drop the actors that left the list since the last update
+        int kept = 0;
+        for (int i = 0; i < liveEntries.size(); i++) {
+            Entry entry = liveEntries.get(i);
+            if (entry.generation == generation) {
+                liveEntries.set(kept++, entry);
+            } else {
+                removeFromCells(entry);
+                entries.remove(entry.actor);
+            }
+        }
+        liveEntries.subList(kept, liveEntries.size()).clear();
+    }
+
+    /**
+     * Removes every actor from the grid. The bucket arrays are kept for the next update.
+     */
+    public void clear() {
+        for (int i = 0; i < liveEntries.size(); i++) {
+            removeFromCells(liveEntries.get(i));
+        }
+        liveEntries.clear();
+        entries.clear();
+        indexedList = null;
+        movedCount = 0;
+    }
+
+    /**
+     * Returns the list passed to the last {@link #update}.
+     *
+     * @return the indexed list, or null if the grid is empty
+     */
+    public List<ActiveActorDestructible> getIndexedList() {
+        return indexedList;
+    }
+
+    /**
+     * Returns the number of actors stored in the grid.
+     *
+     * @return the number of indexed actors
+     */
+    public int size() {
+        return liveEntries.size();
+    }
+
+    /**
+     * Returns the number of actors the last update had to move to other cells, including the ones it added.
+     *
+     * @return the number of actors moved by the last update
+     */
+    public int getMovedCount() {
+        return movedCount;
+    }
+
+    /**
+     * Finds the indexed actors that may overlap the given actor.
+     * The result is available through {@link #getCandidate(int)} until the next query.
+     *
+     * @param actor the actor to query for
+     * @return the number of candidates found
+     */
+    public int query(ActiveActorDestructible actor) {
+        if (++stamp == 0) {
+            // The stamp wrapped around; forget the old marks
+            for (int i = 0; i < liveEntries.size(); i++) {
+                liveEntries.get(i).stamp = 0;
+            }
+            stamp = 1;
+        }
+
+        ActorState state = actor.getState();
+        int minCellX = cell(state.getX());
+        int maxCellX = cell(state.getX() + state.getWidth());
+        int minCellY = cell(state.getY());
+        int maxCellY = cell(state.getY() + state.getHeight());
+
+        int count = 0;
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                int bucket = bucket(cellX, cellY);
+                Entry[] bucketEntries = buckets[bucket];
+                for (int i = 0; i < bucketSizes[bucket]; i++) {
+                    Entry entry = bucketEntries[i];
+                    if (entry.stamp != stamp) {
+                        entry.stamp = stamp;
+                        if (count == candidates.length) {
+                            candidates = Arrays.copyOf(candidates, count * 2);
+                        }
+                        candidates[count++] = entry.listIndex;
+                    }
+                }
+            }
+        }
+        Arrays.sort(candidates, 0, count);
+        return count;
+    }
+
+    /**
+     * Returns a candidate found by the last query.
+     *
+     * @param i the position of the candidate, from 0 to the count returned by {@link #query} (exclusive)
+     * @return the index of the candidate in the list passed to {@link #update}
+     */
+    public int getCandidate(int i) {
+        return candidates[i];
+    }
+
+    /**
+     * Stores an entry in every cell of its cell range.
+     *
+     * @param entry the entry to store
+     */
+    private void addToCells(Entry entry) {
+        for (int cellX = entry.minCellX; cellX <= entry.maxCellX; cellX++) {
+            for (int cellY = entry.minCellY; cellY <= entry.maxCellY; cellY++) {
+                insert(bucket(cellX, cellY), entry);
+            }
+        }
+        entry.placed = true;
+    }
+
+    /**
+     * Removes an entry from every cell of its cell range.
+     *
+     * @param entry the entry to remove
+     */
+    private void removeFromCells(Entry entry) {
+        for (int cellX = entry.minCellX; cellX <= entry.maxCellX; cellX++) {
+            for (int cellY = entry.minCellY; cellY <= entry.maxCellY; cellY++) {
+                remove(bucket(cellX, cellY), entry);
+            }
+        }
+        entry.placed = false;
+    }
+
+    /**
+     * Adds an entry to a bucket, growing the bucket if needed.
+     *
+     * @param bucket the bucket to add to
+     * @param entry the entry to add
+     */
+    private void insert(int bucket, Entry entry) {
+        int size = bucketSizes[bucket];
+        Entry[] bucketEntries = buckets[bucket];
+        if (bucketEntries == null) {
+            bucketEntries = buckets[bucket] = new Entry[INITIAL_CAPACITY];
+        } else if (size == bucketEntries.length) {
+            bucketEntries = buckets[bucket] = Arrays.copyOf(bucketEntries, size * 2);
+        }
+        // A bucket can be hit more than once by the same actor (hash collisions); the query drops duplicates
+        bucketEntries[size] = entry;
+        bucketSizes[bucket] = size + 1;
+    }
+
+    /**
+     * Removes one occurrence of an entry from a bucket by moving the last entry of the bucket into its place.
+     *
+     * @param bucket the bucket to remove from
+     * @param entry the entry to remove
+     */
+    private void remove(int bucket, Entry entry) {
+        Entry[] bucketEntries = buckets[bucket];
+        int last = bucketSizes[bucket] - 1;
+        for (int i = last; i >= 0; i--) {
+            if (bucketEntries[i] == entry) {
+                bucketEntries[i] = bucketEntries[last];
+                bucketEntries[last] = null;
+                bucketSizes[bucket] = last;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the cell coordinate containing the given position.
+     *
+     * @param position the position in pixels
+     * @return the cell coordinate
+     */
+    private int cell(double position) {
+        return (int) Math.floor(position / cellSize);
+    }
+
+    /**
+     * Hashes a cell to its bucket.
+     *
+     * @param cellX the cell X coordinate
+     * @param cellY the cell Y coordinate
+     * @return the bucket index
+     */
+    private static int bucket(int cellX, int cellY) {
+        return ((cellX * 73856093) ^ (cellY * 19349663)) & (BUCKET_COUNT - 1);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.demo.Level.LevelManager;
+
+/**
+ * The phases of one simulation tick of a level, timed by the {@link TickProfilerManager}.
+ */
+public enum TickPhase {
+
+    /**
+     * Moving the actors and letting them fire.
+     */
+    UPDATE_ACTORS,
+
+    /**
+     * Spawning new enemies.
+     */
+    SPAWN_ENEMIES,
+
+    /**
+     * Handling enemy penetration and collisions.
+     */
+    COLLISIONS,
+
+    /**
+     * Removing destroyed actors.
+     */
+    CLEAN_UP,
+
+    /**
+     * Updating the level view and checking whether the game is over.
+     */
+    UPDATE_STATUS,
+
+    /**
+     * Applying the tick's scene-graph changes.
+     */
+    SCENE_FLUSH,
+
+    /**
+     * The whole tick.
+     */
+    TOTAL
+}
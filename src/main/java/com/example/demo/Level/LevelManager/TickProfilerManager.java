@@ -0,0 +1,271 @@
+package com.example.demo.Level.LevelManager;
+
+import com.example.demo.Level.FlightRecorder.TickEvent;
+import com.example.demo.Level.FlightRecorder.TickPhaseEvent;
+import jdk.jfr.EventType;
+
+import java.util.List;
+
+/**
+ * Times every phase of a level's simulation tick and tracks how many actors each actor list holds.
+ * <p>
+ * The level marks the end of each {@link TickPhase} as the tick runs; the time since the previous mark is recorded
+ * in that phase's {@link LatencyHistogram}. After the tick the sizes of the {@link ActiveActorManager} lists are
+ * sampled, keeping the latest and the peak value of each. The figures can be queried while the level runs, and
+ * {@link #report(String)} formats them to show which phase takes the 16 ms budget under load. The level prints
+ * the report with {@link #dump(String)} when it ends, only if {@link com.example.demo.Controller.GameRuntime#isTickReport()}
+ * is enabled.
+ * </p>
+ * <p>
+ * Timing a tick costs one {@link System#nanoTime()} call per phase and allocates nothing.
+ * </p>
+ * <p>
+ * While a Flight Recorder recording has them enabled, every tick and phase is also emitted as a {@link TickEvent}
+ * and a {@link TickPhaseEvent}, so the phases can be lined up with garbage collections and JavaFX pulses in JDK
+ * Mission Control. The events are only created while enabled; without a recording the cost is one flag check per
+ * phase.
+ * </p>
+ */
+public class TickProfilerManager {
+
+    /**
+     * The names of the actor lists, in the order their counts are stored.
+     */
+    private static final String[] ACTOR_LIST_NAMES = {
+        "friendly", "enemies", "userProjectiles", "enemyProjectiles", "ammoBoxes", "hearts"
+    };
+
+    /**
+     * The Flight Recorder type of the tick events, checked before creating one.
+     */
+    private static final EventType TICK_EVENT_TYPE = EventType.getEventType(TickEvent.class);
+
+    /**
+     * The Flight Recorder type of the phase events, checked before creating one.
+     */
+    private static final EventType PHASE_EVENT_TYPE = EventType.getEventType(TickPhaseEvent.class);
+
+    /**
+     * The name of the profiled level, attached to the Flight Recorder events.
+     */
+    private final String levelName;
+
+    /**
+     * The histogram of each phase, indexed by {@link TickPhase#ordinal()}.
+     */
+    private final LatencyHistogram[] histograms = new LatencyHistogram[TickPhase.values().length];
+
+    /**
+     * The latest size of each actor list.
+     */
+    private final int[] actorCounts = new int[ACTOR_LIST_NAMES.length];
+
+    /**
+     * The largest size seen for each actor list.
+     */
+    private final int[] peakActorCounts = new int[ACTOR_LIST_NAMES.length];
+
+    /**
+     * The time the current tick started at.
+     */
+    private long tickStartNanos;
+
+    /**
+     * The time the previous phase of the current tick ended at.
+     */
+    private long phaseStartNanos;
+
+    /**
+     * The Flight Recorder event of the current tick, or null if tick events are not being recorded.
+     */
+    private TickEvent tickEvent;
+
+    /**
+     * The Flight Recorder event of the current phase, or null if phase events are not being recorded.
+     */
+    private TickPhaseEvent phaseEvent;
+
+    /**
+     * Constructs a TickProfilerManager with empty histograms.
+     *
+     * @param levelName the name of the profiled level, attached to the Flight Recorder events
+     */
+    public TickProfilerManager(String levelName) {
+        this.levelName = levelName;
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Marks the start of a tick.
+     */
+    public void beginTick() {
+        if (TICK_EVENT_TYPE.isEnabled()) {
+            tickEvent = new TickEvent();
+            tickEvent.begin();
+        }
+        tickStartNanos = System.nanoTime();
+        phaseStartNanos = tickStartNanos;
+        beginPhaseEvent();
+    }
+
+    /**
+     * Marks the end of a phase, recording the time since the previous mark.
+     *
+     * @param phase the phase that has just ended
+     */
+    public void endPhase(TickPhase phase) {
+        long now = System.nanoTime();
+        long nanos = now - phaseStartNanos;
+        histograms[phase.ordinal()].record(nanos);
+        phaseStartNanos = now;
+        if (tickEvent != null) {
+            tickEvent.setPhaseNanos(phase, nanos);
+        }
+        if (phaseEvent != null) {
+            phaseEvent.end();
+            if (phaseEvent.shouldCommit()) {
+                phaseEvent.level = levelName;
+                phaseEvent.phase = phase.name();
+                phaseEvent.commit();
+            }
+            phaseEvent = null;
+        }
+        beginPhaseEvent();
+    }
+
+    /**
+     * Starts the Flight Recorder event of the next phase, if phase events are being recorded.
+     */
+    private void beginPhaseEvent() {
+        if (PHASE_EVENT_TYPE.isEnabled()) {
+            phaseEvent = new TickPhaseEvent();
+            phaseEvent.begin();
+        }
+    }
+
+    /**
+     * Marks the end of a tick, recording its total time and sampling the sizes of the actor lists.
+     *
+     * @param actors the actors of the level
+     */
+    public void endTick(ActiveActorManager actors) {
+        histograms[TickPhase.TOTAL.ordinal()].record(System.nanoTime() - tickStartNanos);
+        sample(0, actors.getFriendlyUnits());
+        sample(1, actors.getEnemyUnits());
+        sample(2, actors.getUserProjectiles());
+        sample(3, actors.getEnemyProjectiles());
+        sample(4, actors.getAmmoBoxes());
+        sample(5, actors.getHearts());
+        // The scene flush was the last phase; nothing runs between it and the end of the tick
+        phaseEvent = null;
+        if (tickEvent != null) {
+            tickEvent.end();
+            if (tickEvent.shouldCommit()) {
+                tickEvent.level = levelName;
+                tickEvent.enemies = actorCounts[1];
+                tickEvent.projectiles = actorCounts[2] + actorCounts[3];
+                tickEvent.commit();
+            }
+            tickEvent = null;
+        }
+    }
+
+    /**
+     * Samples the size of one actor list.
+     *
+     * @param index the index of the list in {@link #ACTOR_LIST_NAMES}
+     * @param list  the list
+     */
+    private void sample(int index, List<?> list) {
+        int size = list.size();
+        actorCounts[index] = size;
+        if (size > peakActorCounts[index]) {
+            peakActorCounts[index] = size;
+        }
+    }
+
+    /**
+     * Returns the histogram of a phase.
+     *
+     * @param phase the phase
+     * @return the histogram of its durations
+     */
+    public LatencyHistogram getHistogram(TickPhase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    /**
+     * Returns the number of ticks profiled.
+     *
+     * @return the tick count
+     */
+    public long getTickCount() {
+        return getHistogram(TickPhase.TOTAL).getCount();
+    }
+
+    /**
+     * Returns the names of the actor lists whose sizes are tracked.
+     *
+     * @return a copy of the names, in the order used by {@link #getActorCount(int)}
+     */
+    public static String[] getActorListNames() {
+        return ACTOR_LIST_NAMES.clone();
+    }
+
+    /**
+     * Returns the size of an actor list at the end of the last tick.
+     *
+     * @param index the index of the list in {@link #getActorListNames()}
+     * @return the latest size
+     */
+    public int getActorCount(int index) {
+        return actorCounts[index];
+    }
+
+    /**
+     * Returns the largest size seen for an actor list.
+     *
+     * @param index the index of the list in {@link #getActorListNames()}
+     * @return the peak size
+     */
+    public int getPeakActorCount(int index) {
+        return peakActorCounts[index];
+    }
+
+    /**
+     * Builds a report of every phase (p50, p99 and max, in microseconds) and of the actor list sizes.
+     *
+     * @param title the title of the report, such as the name of the level
+     * @return the report
+     */
+    public String report(String title) {
+        StringBuilder report = new StringBuilder();
+        report.append("Tick profile of ").append(title).append(" (").append(getTickCount()).append(" ticks)\n");
+        report.append(String.format("  %-14s %10s %10s %10s%n", "phase", "p50 us", "p99 us", "max us"));
+        for (TickPhase phase : TickPhase.values()) {
+            LatencyHistogram histogram = getHistogram(phase);
+            report.append(String.format("  %-14s %10.1f %10.1f %10.1f%n", phase.name().toLowerCase(),
+                    histogram.getPercentile(50) / 1000.0, histogram.getPercentile(99) / 1000.0,
+                    histogram.getMax() / 1000.0));
+        }
+        report.append("  actors (last/peak):");
+        for (int i = 0; i < ACTOR_LIST_NAMES.length; i++) {
+            report.append(' ').append(ACTOR_LIST_NAMES[i]).append('=')
+                    .append(actorCounts[i]).append('/').append(peakActorCounts[i]);
+        }
+        return report.append('\n').toString();
+    }
+
+    /**
+     * Prints the report to standard output, if any tick has been profiled.
+     *
+     * @param title the title of the report, such as the name of the level
+     */
+    public void dump(String title) {
+        if (getTickCount() > 0) {
+            System.out.print(report(title));
+        }
+    }
+}
@@ -1,10 +1,10 @@
 package com.example.demo.Level.LevelManager;
 
 import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.ActorState;
 import com.example.demo.Actor.Plane.UserPlane;
-import javafx.animation.AnimationTimer;
+import com.example.demo.Controller.GameRuntime;
 import javafx.animation.PauseTransition;
-import javafx.scene.Group;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseButton;
@@ -20,14 +20,12 @@ import java.util.Set;
  * such as movement, shooting, and pausing the game.
  */
 public class UserInputManager {
-    /** The game loop that continuously updates user movement and actions. */
-    private AnimationTimer gameLoop;
 
     /** The user plane controlled by the player. */
     private final UserPlane user;
 
-    /** The root group in which projectiles will be added. */
-    private final Group root;
+    /** The buffer through which fired projectiles are added to the scene. */
+    private final SceneUpdateManager sceneUpdateManager;
 
     /** The manager that handles pausing the game and showing the pause menu. */
     private PauseMenuManager pauseMenuManager;
@@ -69,18 +67,19 @@ public class UserInputManager {
      * Constructs a UserInputManager for handling user inputs.
      *
      * @param user the user plane that will respond to input
-     * @param root the root group in which projectiles will be added
+     * @param sceneUpdateManager the buffer through which fired projectiles are added to the scene
      * @param userProjectiles a list to keep track of the user's projectiles
      * @param pauseMenuManager the pause menu manager to handle game pausing
      */
-    public UserInputManager(UserPlane user, Group root, List<ActiveActorDestructible> userProjectiles, PauseMenuManager pauseMenuManager) {
+    public UserInputManager(UserPlane user, SceneUpdateManager sceneUpdateManager, List<ActiveActorDestructible> userProjectiles, PauseMenuManager pauseMenuManager) {
         this.user = user;
-        this.root = root;
+        this.sceneUpdateManager = sceneUpdateManager;
         this.userProjectiles = userProjectiles;
         this.pauseMenuManager = pauseMenuManager;
         bindMouseEvents();
-        startGameLoop();
-        startInputDelay();
+        if (!GameRuntime.isHeadless()) {
+            startInputDelay();
+        }
     }
 
     /**
@@ -119,9 +118,13 @@ public class UserInputManager {
      * Updates the user's movement based on the active keys.
      * Moves the player up, down, left, or right, and allows firing projectiles if the spacebar is pressed.
      * Input is processed only if the system can accept input.
+     * <p>
+     * This is called by the level at the start of every simulation step, so input is applied on the same
+     * tick as the world update.
+     * </p>
      */
-    private void updateUserMovement() {
-        if (!canAcceptInput || gameIsOver) return; // Wait until input delay is over
+    public void updateUserMovement() {
+        if (!canAcceptInput || gameIsOver || isPaused) return; // Wait until input delay is over
 
         if (activeKeys.contains(KeyCode.UP) && !activeKeys.contains(KeyCode.DOWN)) {
             user.moveUp();
@@ -148,11 +151,11 @@ public class UserInputManager {
      * Binds mouse events to the user plane for drag movement and interaction.
      */
     private void bindMouseEvents() {
-        user.getHitbox().setOnMousePressed(this::handleMousePressed);
-        user.getHitbox().setOnMouseDragged(this::handleMouseDragged);
-        user.getHitbox().setOnMouseReleased(this::handleMouseReleased);
-        user.getHitbox().setOnMouseEntered(this::handleMouseEntered);
-        user.getHitbox().setOnMouseExited(this::handleMouseExited);
+        user.setOnMousePressed(this::handleMousePressed);
+        user.setOnMouseDragged(this::handleMouseDragged);
+        user.setOnMouseReleased(this::handleMouseReleased);
+        user.setOnMouseEntered(this::handleMouseEntered);
+        user.setOnMouseExited(this::handleMouseExited);
     }
 
     /**
@@ -204,21 +207,21 @@ public class UserInputManager {
     }
 
     /**
-     * Changes the cursor style when the mouse enters the user plane hitbox.
+     * Changes the cursor style when the mouse enters the user plane.
      *
      * @param event the mouse event triggered
      */
     private void handleMouseEntered(MouseEvent event) {
-        user.getHitbox().setStyle("-fx-cursor: hand;");
+        user.setStyle("-fx-cursor: hand;");
     }
 
     /**
-     * Resets the cursor style when the mouse exits the user plane hitbox.
+     * Resets the cursor style when the mouse exits the user plane.
      *
      * @param event the mouse event triggered
      */
     private void handleMouseExited(MouseEvent event) {
-        user.getHitbox().setStyle("-fx-cursor: default;");
+        user.setStyle("-fx-cursor: default;");
     }
 
     /**
@@ -229,10 +232,11 @@ public class UserInputManager {
      * @return true if the mouse is inside the plane's bounds, false otherwise
      */
     private boolean isMouseInsidePlane(double mouseX, double mouseY) {
-        double planeMinX = user.getHitbox().getBoundsInParent().getMinX();
-        double planeMaxX = user.getHitbox().getBoundsInParent().getMaxX();
-        double planeMinY = user.getHitbox().getBoundsInParent().getMinY();
-        double planeMaxY = user.getHitbox().getBoundsInParent().getMaxY();
+        ActorState state = user.getState();
+        double planeMinX = state.getHitboxX();
+        double planeMaxX = planeMinX + state.getHitboxWidth();
+        double planeMinY = state.getHitboxY();
+        double planeMaxY = planeMinY + state.getHitboxHeight();
 
         return mouseX >= planeMinX && mouseX <= planeMaxX && mouseY >= planeMinY && mouseY <= planeMaxY;
     }
@@ -245,11 +249,11 @@ public class UserInputManager {
     public void setPaused(boolean paused) {
         this.isPaused = paused;
         if (paused) {
-            user.getHitbox().setOnMousePressed(null);
-            user.getHitbox().setOnMouseDragged(null);
-            user.getHitbox().setOnMouseReleased(null);
-            user.getHitbox().setOnMouseEntered(null);
-            user.getHitbox().setOnMouseExited(null);
+            user.setOnMousePressed(null);
+            user.setOnMouseDragged(null);
+            user.setOnMouseReleased(null);
+            user.setOnMouseEntered(null);
+            user.setOnMouseExited(null);
         } else {
             bindMouseEvents();
         }
@@ -267,11 +271,11 @@ public class UserInputManager {
             return;
         }
 
-        // Fire projectiles and add them to the game root
+        // Fire projectiles; they reach the scene at the end of the next tick
         List<ActiveActorDestructible> projectiles = user.fireProjectiles();
         if (projectiles != null && !projectiles.isEmpty()) {
             projectiles.forEach(projectile -> {
-                root.getChildren().add(projectile);  // Add to game UI
+                sceneUpdateManager.add(SceneLayer.PROJECTILES, projectile);  // Add to game UI
                 userProjectiles.add(projectile);     // Track active projectiles
             });
 
@@ -283,11 +287,12 @@ public class UserInputManager {
 
     /**
      * Calculates the cooldown period based on the user's projectile power level.
+     * Also used by the soak harness, whose autopilot fires at the same rate as a player holding the fire key.
      *
      * @param powerLevel The power level of the user's projectile.
      * @return The cooldown time in milliseconds.
      */
-    private int calculateCooldownBasedOnPower(int powerLevel) {
+    public static int calculateCooldownBasedOnPower(int powerLevel) {
         switch (powerLevel) {
             case 1: return 500;
             case 2: return 400;
@@ -348,30 +353,6 @@ public class UserInputManager {
         this.pauseMenuManager = pauseMenuManager;
     }
 
-    /**
-     * Starts the game loop for continuously updating user movement.
-     */
-    private void startGameLoop() {
-        gameLoop = new AnimationTimer() {
-            @Override
-            public void handle(long now) {
-                if (!isPaused) {
-                    updateUserMovement();
-                }
-            }
-        };
-        gameLoop.start();
-    }
-
-    /**
-     * Stops the game loop to terminate user input handling.
-     */
-    public void stopGameLoop() {
-        if (gameLoop != null) {
-            gameLoop.stop();
-        }
-    }
-
     /**
      * Sets the game over flag and ensures the user can't interact with the pause menu.
      * @param gameIsOver true if the game is over, false otherwise
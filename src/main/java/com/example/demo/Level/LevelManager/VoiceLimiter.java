@@ -0,0 +1,227 @@
+package com.example.demo.Level.LevelManager;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Decides which sound effect requests are actually played, so that a burst of identical requests costs one
+ * {@code play()} call instead of dozens.
+ * <p>
+ * A request is dropped when the same effect already started within its minimum retrigger interval, or within the
+ * same simulation step, so that requests from one tick are coalesced. It is also dropped when all the voices of the
+ * effect are busy. When all the voices of the game are busy, the request takes the voices of the lowest-priority
+ * effect playing below it, which is stopped; if there is none, the request is dropped.
+ * </p>
+ * <p>
+ * A voice counts as busy for the length of its clip, since {@code AudioClip} does not report when one of its copies
+ * ends. The limiter only does the bookkeeping; stopping a clip is left to the stopper it is given.
+ * </p>
+ */
+public class VoiceLimiter {
+
+    /**
+     * Two requests of the same effect closer than this are always coalesced: one simulation step.
+     */
+    private static final long COALESCE_NANOS = GameLoopManager.STEP_NANOS;
+
+    /**
+     * The most voices that may sound at once, across all effects.
+     */
+    private final int maxVoices;
+
+    /**
+     * Stops every copy of an effect whose voices are taken by a higher-priority effect.
+     */
+    private final Consumer<SoundEffect> stopper;
+
+    /**
+     * The time each voice of each effect ends at, indexed by {@link SoundEffect#ordinal()}.
+     * A voice whose end lies in the past is free.
+     */
+    private final long[][] voiceEnds = new long[SoundEffect.values().length][];
+
+    /**
+     * The time each effect last started at, indexed by {@link SoundEffect#ordinal()}.
+     */
+    private final long[] lastStarts = new long[SoundEffect.values().length];
+
+    /**
+     * The number of requests played.
+     */
+    private long playedCount;
+
+    /**
+     * The number of requests dropped because the effect had just started.
+     */
+    private long coalescedCount;
+
+    /**
+     * The number of requests dropped because no voice was free.
+     */
+    private long limitedCount;
+
+    /**
+     * The number of times an effect was stopped to free voices for a higher-priority one.
+     */
+    private long stolenCount;
+
+    /**
+     * Constructs a VoiceLimiter.
+     *
+     * @param maxVoices the most voices that may sound at once, across all effects
+     * @param stopper   stops every copy of an effect whose voices are taken
+     */
+    public VoiceLimiter(int maxVoices, Consumer<SoundEffect> stopper) {
+        this.maxVoices = maxVoices;
+        this.stopper = stopper;
+        for (SoundEffect effect : SoundEffect.values()) {
+            voiceEnds[effect.ordinal()] = new long[effect.getMaxVoices()];
+            Arrays.fill(voiceEnds[effect.ordinal()], Long.MIN_VALUE);
+        }
+        Arrays.fill(lastStarts, Long.MIN_VALUE / 2);
+    }
+
+    /**
+     * Decides whether a request for an effect is played, and reserves a voice for it if so.
+     *
+     * @param effect   the requested effect
+     * @param nowNanos the current time, from {@link System#nanoTime()}
+     * @return true if the effect should be played now, false if the request is dropped
+     */
+    public synchronized boolean tryStart(SoundEffect effect, long nowNanos) {
+        int index = effect.ordinal();
+        long minInterval = Math.max(COALESCE_NANOS, effect.getMinIntervalMillis() * 1_000_000L);
+        if (nowNanos - lastStarts[index] < minInterval) {
+            coalescedCount++;
+            return false;
+        }
+
+        int freeVoice = freeVoice(index, nowNanos);
+        if (freeVoice < 0) {
+            limitedCount++;
+            return false;
+        }
+
+        if (activeVoices(nowNanos) >= maxVoices) {
+            SoundEffect victim = lowestPlayingBelow(effect.getPriority(), nowNanos);
+            if (victim == null) {
+                limitedCount++;
+                return false;
+            }
+            stopper.accept(victim);
+            Arrays.fill(voiceEnds[victim.ordinal()], Long.MIN_VALUE);
+            stolenCount++;
+        }
+
+        voiceEnds[index][freeVoice] = nowNanos + effect.getLengthMillis() * 1_000_000L;
+        lastStarts[index] = nowNanos;
+        playedCount++;
+        return true;
+    }
+
+    /**
+     * Finds a free voice of an effect.
+     *
+     * @param index    the ordinal of the effect
+     * @param nowNanos the current time
+     * @return the index of a free voice, or -1 if all its voices are busy
+     */
+    private int freeVoice(int index, long nowNanos) {
+        long[] ends = voiceEnds[index];
+        for (int v = 0; v < ends.length; v++) {
+            if (ends[v] <= nowNanos) {
+                return v;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Counts the busy voices across all effects.
+     *
+     * @param nowNanos the current time
+     * @return the number of busy voices
+     */
+    private int activeVoices(long nowNanos) {
+        int active = 0;
+        for (long[] ends : voiceEnds) {
+            for (long end : ends) {
+                if (end > nowNanos) {
+                    active++;
+                }
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Finds the lowest-priority effect that is playing with a priority below the given one.
+     *
+     * @param priority the priority of the requesting effect
+     * @param nowNanos the current time
+     * @return the effect to stop, or null if every playing effect has at least the given priority
+     */
+    private SoundEffect lowestPlayingBelow(int priority, long nowNanos) {
+        SoundEffect lowest = null;
+        for (SoundEffect candidate : SoundEffect.values()) {
+            if (candidate.getPriority() < priority
+                    && (lowest == null || candidate.getPriority() < lowest.getPriority())
+                    && isPlaying(candidate.ordinal(), nowNanos)) {
+                lowest = candidate;
+            }
+        }
+        return lowest;
+    }
+
+    /**
+     * Returns whether any voice of an effect is busy.
+     *
+     * @param index    the ordinal of the effect
+     * @param nowNanos the current time
+     * @return true if the effect is playing
+     */
+    private boolean isPlaying(int index, long nowNanos) {
+        for (long end : voiceEnds[index]) {
+            if (end > nowNanos) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of requests played.
+     *
+     * @return the played count
+     */
+    public synchronized long getPlayedCount() {
+        return playedCount;
+    }
+
+    /**
+     * Returns the number of requests dropped because the same effect had just started.
+     *
+     * @return the coalesced count
+     */
+    public synchronized long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    /**
+     * Returns the number of requests dropped because no voice was free.
+     *
+     * @return the limited count
+     */
+    public synchronized long getLimitedCount() {
+        return limitedCount;
+    }
+
+    /**
+     * Returns the number of times an effect was stopped to free voices for a higher-priority one.
+     *
+     * @return the stolen count
+     */
+    public synchronized long getStolenCount() {
+        return stolenCount;
+    }
+}
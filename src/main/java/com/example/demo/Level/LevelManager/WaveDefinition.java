@@ -0,0 +1,327 @@
+package com.example.demo.Level.LevelManager;
+
+/**
+ * One wave of a wave script: when it starts, which enemies it sends, how many, how fast and where.
+ * <p>
+ * A wave is written on one line of the script as {@code wave} followed by {@code key=value} settings:
+ * </p>
+ * <ul>
+ *   <li>{@code at=<ticks>} or {@code kills=<n>}: the wave starts at the given simulation tick of the level, or once
+ *   the player has that many kills. Exactly one of the two is required.</li>
+ *   <li>{@code count=<n>}: the number of enemies the wave sends (default 0, a wave that stops spawning).</li>
+ *   <li>{@code every=<ticks>} and {@code jitter=<ticks>}: the delay between two spawns is {@code every} slot ticks
+ *   plus a random extra of up to {@code jitter} slot ticks (defaults 1 and 0). Under a cap, every free slot counts
+ *   one slot tick per tick (see {@link WaveManager}); without a cap a slot tick is simply a tick.</li>
+ *   <li>{@code mix=<archetype>:<weight>,...}: the relative weights of the {@link EnemyArchetype}s
+ *   (default {@code plane:1}).</li>
+ *   <li>{@code band=<from>-<to>}: the part of the enemy flight band the enemies appear in, as fractions from 0
+ *   (top) to 1 (bottom) (default {@code 0-1}).</li>
+ *   <li>{@code cap=<n>} and {@code grow=<kills>}: the most enemies allowed on screen while the wave spawns, raised by
+ *   one for every {@code grow} kills of the player (defaults unlimited and no growth).</li>
+ *   <li>{@code loop}: the wave starts over once all its enemies have been sent, until the next wave starts.</li>
+ * </ul>
+ */
+public class WaveDefinition {
+
+    /**
+     * Whether the wave starts on a kill count rather than on a tick.
+     */
+    private final boolean killTrigger;
+
+    /**
+     * The tick or the kill count the wave starts at.
+     */
+    private final int trigger;
+
+    /**
+     * The number of enemies the wave sends.
+     */
+    private final int count;
+
+    /**
+     * The minimum number of slot ticks between two spawns.
+     */
+    private final int every;
+
+    /**
+     * The largest random number of slot ticks added to {@link #every}.
+     */
+    private final int jitter;
+
+    /**
+     * The relative weight of each archetype, indexed by {@link EnemyArchetype#ordinal()}.
+     */
+    private final int[] weights;
+
+    /**
+     * The top of the spawn band, as a fraction of the enemy flight band.
+     */
+    private final double bandFrom;
+
+    /**
+     * The bottom of the spawn band, as a fraction of the enemy flight band.
+     */
+    private final double bandTo;
+
+    /**
+     * The most enemies allowed on screen before any growth.
+     */
+    private final int cap;
+
+    /**
+     * The number of kills that raises the cap by one, or 0 for a fixed cap.
+     */
+    private final int grow;
+
+    /**
+     * Whether the wave starts over once all its enemies have been sent.
+     */
+    private final boolean loop;
+
+    /**
+     * Constructs a wave definition.
+     *
+     * @param killTrigger whether the wave starts on a kill count rather than on a tick
+     * @param trigger     the tick or the kill count the wave starts at
+     * @param count       the number of enemies the wave sends
+     * @param every       the minimum number of slot ticks between two spawns
+     * @param jitter      the largest random number of slot ticks added to {@code every}
+     * @param weights     the relative weight of each archetype, indexed by {@link EnemyArchetype#ordinal()}
+     * @param bandFrom    the top of the spawn band, as a fraction of the enemy flight band
+     * @param bandTo      the bottom of the spawn band, as a fraction of the enemy flight band
+     * @param cap         the most enemies allowed on screen before any growth
+     * @param grow        the number of kills that raises the cap by one, or 0 for a fixed cap
+     * @param loop        whether the wave starts over once all its enemies have been sent
+     */
+    public WaveDefinition(boolean killTrigger, int trigger, int count, int every, int jitter, int[] weights,
+                          double bandFrom, double bandTo, int cap, int grow, boolean loop) {
+        this.killTrigger = killTrigger;
+        this.trigger = trigger;
+        this.count = count;
+        this.every = every;
+        this.jitter = jitter;
+        this.weights = weights.clone();
+        this.bandFrom = bandFrom;
+        this.bandTo = bandTo;
+        this.cap = cap;
+        this.grow = grow;
+        this.loop = loop;
+    }
+
+    /**
+     * Parses one {@code wave} line of a wave script.
+     *
+     * @param line the line, without its comment
+     * @return the wave it defines
+     * @throws IllegalArgumentException if the line is not a valid wave
+     */
+    public static WaveDefinition parse(String line) {
+        String[] tokens = line.trim().split("\\s+");
+        if (!tokens[0].equals("wave")) {
+            throw new IllegalArgumentException("Expected 'wave' but found '" + tokens[0] + "'");
+        }
+        Integer at = null;
+        Integer kills = null;
+        int count = 0;
+        int every = 1;
+        int jitter = 0;
+        int[] weights = new int[EnemyArchetype.values().length];
+        weights[EnemyArchetype.PLANE.ordinal()] = 1;
+        double bandFrom = 0;
+        double bandTo = 1;
+        int cap = Integer.MAX_VALUE;
+        int grow = 0;
+        boolean loop = false;
+
+        for (int i = 1; i < tokens.length; i++) {
+            String token = tokens[i];
+            if (token.equals("loop")) {
+                loop = true;
+                continue;
+            }
+            int separator = token.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected key=value but found '" + token + "'");
+            }
+            String key = token.substring(0, separator);
+            String value = token.substring(separator + 1);
+            switch (key) {
+                case "at" -> at = parseCount(key, value);
+                case "kills" -> kills = parseCount(key, value);
+                case "count" -> count = parseCount(key, value);
+                case "every" -> every = Math.max(1, parseCount(key, value));
+                case "jitter" -> jitter = parseCount(key, value);
+                case "mix" -> weights = parseMix(value);
+                case "band" -> {
+                    int dash = value.indexOf('-');
+                    if (dash < 0) {
+                        throw new IllegalArgumentException("Expected band=<from>-<to> but found '" + value + "'");
+                    }
+                    bandFrom = parseFraction(key, value.substring(0, dash));
+                    bandTo = parseFraction(key, value.substring(dash + 1));
+                }
+                case "cap" -> cap = parseCount(key, value);
+                case "grow" -> grow = parseCount(key, value);
+                default -> throw new IllegalArgumentException("Unknown wave setting '" + key + "'");
+            }
+        }
+
+        if ((at == null) == (kills == null)) {
+            throw new IllegalArgumentException("A wave needs exactly one of at=<ticks> or kills=<n>");
+        }
+        boolean killTrigger = kills != null;
+        return new WaveDefinition(killTrigger, killTrigger ? kills : at, count, every, jitter, weights,
+                bandFrom, bandTo, cap, grow, loop);
+    }
+
+    /**
+     * Parses a {@code mix} setting such as {@code plane:4,speed:3,heavy:3}.
+     *
+     * @param value the value of the setting
+     * @return the weight of each archetype, indexed by {@link EnemyArchetype#ordinal()}
+     * @throws IllegalArgumentException if the setting is not valid or all its weights are 0
+     */
+    private static int[] parseMix(String value) {
+        int[] weights = new int[EnemyArchetype.values().length];
+        int total = 0;
+        for (String part : value.split(",")) {
+            int colon = part.indexOf(':');
+            EnemyArchetype archetype = EnemyArchetype.fromScriptName(colon < 0 ? part : part.substring(0, colon));
+            int weight = colon < 0 ? 1 : parseCount("mix", part.substring(colon + 1));
+            weights[archetype.ordinal()] += weight;
+            total += weight;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("The mix of a wave needs at least one positive weight");
+        }
+        return weights;
+    }
+
+    /**
+     * Parses a non-negative whole number.
+     *
+     * @param key   the setting being parsed, for the error message
+     * @param value the text to parse
+     * @return the number
+     * @throws IllegalArgumentException if the text is not a non-negative whole number
+     */
+    private static int parseCount(String key, String value) {
+        try {
+            int number = Integer.parseInt(value);
+            if (number >= 0) {
+                return number;
+            }
+        } catch (NumberFormatException ignored) {
+            // Reported below
+        }
+        throw new IllegalArgumentException(key + " expects a non-negative whole number but found '" + value + "'");
+    }
+
+    /**
+     * Parses a fraction between 0 and 1.
+     *
+     * @param key   the setting being parsed, for the error message
+     * @param value the text to parse
+     * @return the fraction
+     * @throws IllegalArgumentException if the text is not a number between 0 and 1
+     */
+    private static double parseFraction(String key, String value) {
+        try {
+            double fraction = Double.parseDouble(value);
+            if (fraction >= 0 && fraction <= 1) {
+                return fraction;
+            }
+        } catch (NumberFormatException ignored) {
+            // Reported below
+        }
+        throw new IllegalArgumentException(key + " expects a number between 0 and 1 but found '" + value + "'");
+    }
+
+    /**
+     * Returns whether the wave should start.
+     *
+     * @param tick  the current simulation tick of the level
+     * @param kills the player's current number of kills
+     * @return true once the tick or the kill count the wave starts at has been reached
+     */
+    public boolean isTriggered(int tick, int kills) {
+        return (killTrigger ? kills : tick) >= trigger;
+    }
+
+    /**
+     * Returns the most enemies allowed on screen while the wave spawns.
+     *
+     * @param kills the player's current number of kills
+     * @return the cap, including its growth with the kills; {@link Integer#MAX_VALUE} stays unlimited
+     */
+    public int getCap(int kills) {
+        if (grow == 0 || cap == Integer.MAX_VALUE) {
+            return cap;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, (long) cap + kills / grow);
+    }
+
+    /**
+     * Returns the number of enemies the wave sends.
+     *
+     * @return the number of enemies
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the minimum number of slot ticks between two spawns.
+     *
+     * @return the minimum delay in slot ticks
+     */
+    public int getEvery() {
+        return every;
+    }
+
+    /**
+     * Returns the largest random number of slot ticks added to the minimum delay between two spawns.
+     *
+     * @return the jitter in slot ticks
+     */
+    public int getJitter() {
+        return jitter;
+    }
+
+    /**
+     * Returns the relative weight of an archetype.
+     *
+     * @param archetype the archetype
+     * @return its weight in the wave's mix
+     */
+    public int getWeight(EnemyArchetype archetype) {
+        return weights[archetype.ordinal()];
+    }
+
+    /**
+     * Returns the top of the spawn band.
+     *
+     * @return the top, as a fraction of the enemy flight band
+     */
+    public double getBandFrom() {
+        return bandFrom;
+    }
+
+    /**
+     * Returns the bottom of the spawn band.
+     *
+     * @return the bottom, as a fraction of the enemy flight band
+     */
+    public double getBandTo() {
+        return bandTo;
+    }
+
+    /**
+     * Returns whether the wave starts over once all its enemies have been sent.
+     *
+     * @return true if the wave loops
+     */
+    public boolean isLoop() {
+        return loop;
+    }
+}
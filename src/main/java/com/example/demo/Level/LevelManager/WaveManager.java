@@ -0,0 +1,271 @@
+package com.example.demo.Level.LevelManager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Runs the enemy waves of a level from a wave script.
+ * <p>
+ * A wave script is a text resource with one {@link WaveDefinition} per line; blank lines and everything after a
+ * {@code #} are ignored. The waves start one after the other, each one when its trigger is reached, and a wave
+ * stops spawning as soon as the next one starts.
+ * </p>
+ * <p>
+ * When the manager is created, each wave is compiled into a spawn schedule: the archetype, the Y position and the
+ * delay before the spawn of every enemy it will send are rolled up front. A looping wave rolls a fresh schedule
+ * each time it starts over, so it does not replay the same enemies at the same heights.
+ * </p>
+ * <p>
+ * The delays are counted in slot ticks. On a wave with a cap, every free slot under the cap counts one slot tick
+ * per tick, so an empty screen fills up several times faster than a nearly full one, and a full screen does not
+ * count at all. This is the pacing of the old per-slot spawn roll: with a delay of five slot ticks on average, each
+ * free slot is refilled after five ticks on average, and several enemies can appear on the same tick. A wave
+ * without a cap counts one slot tick per tick.
+ * </p>
+ * <p>
+ * During the game {@link #advance(int, int)} is called once per tick and {@link #poll(int, int)} until it returns
+ * null. Both do a constant amount of work per call and draw no random numbers, so the cost stays the same however
+ * many enemies the cap allows.
+ * </p>
+ */
+public class WaveManager {
+
+    /**
+     * The waves of the script, in order.
+     */
+    private final WaveDefinition[] waves;
+
+    /**
+     * The archetype of every scheduled spawn, per wave.
+     */
+    private final EnemyArchetype[][] archetypes;
+
+    /**
+     * The Y position of every scheduled spawn, per wave.
+     */
+    private final double[][] positions;
+
+    /**
+     * The number of slot ticks to wait before every scheduled spawn, per wave.
+     */
+    private final int[][] delays;
+
+    /**
+     * The Y position of the top of the enemy flight band.
+     */
+    private final double minY;
+
+    /**
+     * The Y position of the bottom of the enemy flight band.
+     */
+    private final double maxY;
+
+    /**
+     * The source of the random rolls of the schedules.
+     */
+    private final Random random;
+
+    /**
+     * The number of ticks the manager has been updated for.
+     */
+    private int tick;
+
+    /**
+     * The index of the running wave, or -1 before the first wave starts.
+     */
+    private int waveIndex = -1;
+
+    /**
+     * The index of the next spawn in the schedule of the running wave.
+     */
+    private int cursor;
+
+    /**
+     * The slot ticks counted towards the next spawn of the running wave.
+     */
+    private int progress;
+
+    /**
+     * The Y position of the last enemy returned by {@link #poll(int, int)}.
+     */
+    private double lastSpawnY;
+
+    /**
+     * Constructs a WaveManager for the wave script at the given resource path, with a new random schedule.
+     *
+     * @param scriptPath the absolute resource path of the wave script
+     * @param minY       the Y position of the top of the enemy flight band
+     * @param maxY       the Y position of the bottom of the enemy flight band
+     * @throws IllegalStateException    if the script cannot be found or read
+     * @throws IllegalArgumentException if the script contains an invalid wave
+     */
+    public WaveManager(String scriptPath, double minY, double maxY) {
+        this(load(scriptPath), minY, maxY, new Random());
+    }
+
+    /**
+     * Constructs a WaveManager for the given waves and compiles their spawn schedules.
+     *
+     * @param waves  the waves, in order
+     * @param minY   the Y position of the top of the enemy flight band
+     * @param maxY   the Y position of the bottom of the enemy flight band
+     * @param random the source of the random rolls of the schedules
+     */
+    public WaveManager(List<WaveDefinition> waves, double minY, double maxY, Random random) {
+        this.waves = waves.toArray(new WaveDefinition[0]);
+        this.archetypes = new EnemyArchetype[this.waves.length][];
+        this.positions = new double[this.waves.length][];
+        this.delays = new int[this.waves.length][];
+        this.minY = minY;
+        this.maxY = maxY;
+        this.random = random;
+        for (int w = 0; w < this.waves.length; w++) {
+            compile(w);
+        }
+    }
+
+    /**
+     * Rolls the spawn schedule of one wave. The schedule arrays are allocated on the first roll and reused when
+     * a looping wave rolls again.
+     *
+     * @param w the index of the wave
+     */
+    private void compile(int w) {
+        WaveDefinition wave = waves[w];
+        int count = wave.getCount();
+        if (archetypes[w] == null) {
+            archetypes[w] = new EnemyArchetype[count];
+            positions[w] = new double[count];
+            delays[w] = new int[count];
+        }
+
+        int totalWeight = 0;
+        for (EnemyArchetype archetype : EnemyArchetype.values()) {
+            totalWeight += wave.getWeight(archetype);
+        }
+        double top = minY + wave.getBandFrom() * (maxY - minY);
+        double bottom = minY + wave.getBandTo() * (maxY - minY);
+
+        for (int i = 0; i < count; i++) {
+            int roll = random.nextInt(totalWeight);
+            for (EnemyArchetype archetype : EnemyArchetype.values()) {
+                roll -= wave.getWeight(archetype);
+                if (roll < 0) {
+                    archetypes[w][i] = archetype;
+                    break;
+                }
+            }
+            positions[w][i] = top + random.nextDouble() * (bottom - top);
+            delays[w][i] = wave.getEvery() + (wave.getJitter() > 0 ? random.nextInt(wave.getJitter() + 1) : 0);
+        }
+    }
+
+    /**
+     * Advances the waves by one tick: starts the next wave if it is triggered, and otherwise counts one slot tick
+     * for every free slot under the running wave's cap.
+     * The first enemy of a wave is due on the tick the wave starts.
+     *
+     * @param kills      the player's current number of kills
+     * @param enemyCount the number of enemies currently in the level
+     */
+    public void advance(int kills, int enemyCount) {
+        int now = tick++;
+        if (waveIndex + 1 < waves.length && waves[waveIndex + 1].isTriggered(now, kills)) {
+            waveIndex++;
+            cursor = 0;
+            progress = archetypes[waveIndex].length > 0 ? delays[waveIndex][0] : 0;
+            return;
+        }
+        if (waveIndex < 0 || cursor >= archetypes[waveIndex].length) {
+            return;
+        }
+        int cap = waves[waveIndex].getCap(kills);
+        progress += cap == Integer.MAX_VALUE ? 1 : Math.max(0, cap - enemyCount);
+    }
+
+    /**
+     * Returns the next enemy to spawn on this tick, if one is due and fits under the cap.
+     * Called after {@link #advance(int, int)} until it returns null, with the enemy count including the enemies
+     * it already returned; the Y position of each enemy is given by {@link #getLastSpawnY()}.
+     *
+     * @param kills      the player's current number of kills
+     * @param enemyCount the number of enemies currently in the level
+     * @return the archetype of the enemy to spawn, or null if none is due
+     */
+    public EnemyArchetype poll(int kills, int enemyCount) {
+        if (waveIndex < 0 || cursor >= archetypes[waveIndex].length
+                || progress < delays[waveIndex][cursor] || enemyCount >= waves[waveIndex].getCap(kills)) {
+            return null;
+        }
+
+        EnemyArchetype archetype = archetypes[waveIndex][cursor];
+        lastSpawnY = positions[waveIndex][cursor];
+        progress -= delays[waveIndex][cursor];
+        cursor++;
+        if (cursor == archetypes[waveIndex].length && waves[waveIndex].isLoop()) {
+            compile(waveIndex); // Start over with a fresh schedule
+            cursor = 0;
+        }
+        return archetype;
+    }
+
+    /**
+     * Returns the Y position of the last enemy returned by {@link #poll(int, int)}.
+     *
+     * @return the Y position to spawn that enemy at
+     */
+    public double getLastSpawnY() {
+        return lastSpawnY;
+    }
+
+    /**
+     * Returns the index of the running wave.
+     *
+     * @return the index of the running wave, or -1 before the first wave starts
+     */
+    public int getWaveIndex() {
+        return waveIndex;
+    }
+
+    /**
+     * Reads the waves of a wave script.
+     *
+     * @param scriptPath the absolute resource path of the wave script
+     * @return the waves of the script, in order
+     * @throws IllegalStateException    if the script cannot be found or read
+     * @throws IllegalArgumentException if the script contains an invalid wave, naming its line
+     */
+    public static List<WaveDefinition> load(String scriptPath) {
+        InputStream stream = WaveManager.class.getResourceAsStream(scriptPath);
+        if (stream == null) {
+            throw new IllegalStateException("Wave script not found: " + scriptPath);
+        }
+        List<WaveDefinition> waves = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                int comment = line.indexOf('#');
+                String content = (comment < 0 ? line : line.substring(0, comment)).trim();
+                if (content.isEmpty()) {
+                    continue;
+                }
+                try {
+                    waves.add(WaveDefinition.parse(content));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(scriptPath + ":" + lineNumber + ": " + e.getMessage(), e);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read wave script: " + scriptPath, e);
+        }
+        return waves;
+    }
+}
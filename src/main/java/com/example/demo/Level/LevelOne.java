@@ -1,13 +1,10 @@
 package com.example.demo.Level;
 
-import com.example.demo.Actor.ActiveActorDestructible;
-import com.example.demo.Actor.Plane.HeavyEnemy;
-import com.example.demo.Actor.Plane.SpeedEnemy;
 import com.example.demo.Level.LevelManager.AudioManager;
+import com.example.demo.Level.LevelManager.SceneLayer;
+import com.example.demo.Level.LevelManager.WaveManager;
 import com.example.demo.Level.LevelView.LevelView;
 import com.example.demo.Level.LevelView.LevelViewLevelOne;
-import com.example.demo.Actor.Plane.EnemyPlane;
-import javafx.animation.PauseTransition;
 import javafx.util.Duration;
 
 /**
@@ -32,14 +29,17 @@ public class LevelOne extends LevelParent {
 	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg";
 
 	/**
-	 * The fully qualified name of the class for the next level (LevelTwo).
+	 * The images this level needs that no earlier level has decoded yet.
+	 * They are registered with the level in the {@link LevelRegistry}, which can decode them ahead of time.
 	 */
-	private static final String NEXT_LEVEL = "com.example.demo.Level.LevelTwo";
+	static final String[] ASSETS = {
+		BACKGROUND_IMAGE_NAME
+	};
 
 	/**
-	 * The total number of enemies to be spawned in this level.
+	 * The {@link LevelRegistry} ID of the next level (LevelTwo).
 	 */
-	private static final int TOTAL_ENEMIES = 5;
+	private static final String NEXT_LEVEL = LevelRegistry.LEVEL_TWO;
 
 	/**
 	 * The number of kills required to advance to the next level.
@@ -47,16 +47,20 @@ public class LevelOne extends LevelParent {
 	private static final int KILLS_TO_ADVANCE = 10;
 
 	/**
-	 * The probability with which new enemies are spawned in the level.
-	 * Ranges from 0.0 to 1.0.
+	 * The wave script that schedules the enemies of this level.
 	 */
-	private static final double ENEMY_SPAWN_PROBABILITY = .20;
+	private static final String WAVE_SCRIPT = "/com/example/demo/waves/levelOne.waves";
 
 	/**
 	 * The initial health of the player in this level.
 	 */
 	private static final int PLAYER_INITIAL_HEALTH = 5;
 
+	/**
+	 * Runs the enemy waves of this level.
+	 */
+	private final WaveManager waves;
+
 	/**
 	 * Constructs a LevelOne instance with the specified screen dimensions.
 	 *
@@ -65,6 +69,7 @@ public class LevelOne extends LevelParent {
 	 */
 	public LevelOne(double screenHeight, double screenWidth) {
 		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
+		waves = new WaveManager(WAVE_SCRIPT, getEnemyMinimumYPosition(), getEnemyMaximumYPosition());
 	}
 
 	/**
@@ -89,6 +94,7 @@ public class LevelOne extends LevelParent {
 	private void delayToNextLevel() {
 		if (!super.isGameOver()) {
 			super.setGameOver(true);
+			prewarmLevel(NEXT_LEVEL); // Decode the next level's images during the exit animation
 			AudioManager.getInstance().triggerTeleportOutAudio();
 			super.getUser().stopHorizontalMovement();
 			super.getUser().stopVerticalMovement();
@@ -96,10 +102,8 @@ public class LevelOne extends LevelParent {
 			super.cleanUpForAnimation();
 			// Play the exit animation
 			getUser().spiralPortalExit(); // Assuming you have implemented the spiralPortalExit animation method
-			// Delay the transition to the next level by waiting for the animation to finish
-			PauseTransition delay = new PauseTransition(Duration.seconds(2)); // Delay for 2 seconds (adjust based on animation duration)
-			delay.setOnFinished(event -> goToNextLevel(NEXT_LEVEL)); // After the delay, load the next level
-			delay.play();
+			// Delay the transition to the next level by waiting for the animation to finish (2 seconds)
+			runAfterDelay(Duration.seconds(2), () -> goToNextLevel(NEXT_LEVEL));
 		}
 	}
 
@@ -110,39 +114,19 @@ public class LevelOne extends LevelParent {
 	@Override
 	protected void initializeFriendlyUnits() {
 		AudioManager.getInstance().triggerTeleportInAudio();
-		getRoot().getChildren().add(getUser());
+		getLayer(SceneLayer.PLAYER).getChildren().add(getUser());
 		super.getUser().spiralPortalEnter();
 	}
 
 	/**
 	 * Spawns enemy units in the current level.
-	 * Adds new enemies based on spawn probability until the total number of enemies
-	 * reaches the specified limit. The type of enemy is chosen randomly.
+	 * The enemies, their types, positions and timing, and the number allowed on screen are scheduled by the
+	 * level's wave script.
 	 */
 	@Override
 	protected void spawnEnemyUnits() {
 		if (!super.isGameOver()) {
-			int currentNumberOfEnemies = getCurrentNumberOfEnemies();
-			for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-				if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-					double minY = getEnemyMinimumYPosition();
-					double maxY = getEnemyMaximumYPosition();
-					double newEnemyInitialYPosition = minY + Math.random() * (maxY - minY);
-
-					ActiveActorDestructible newEnemy;
-
-					double randomValue = Math.random();
-					if (randomValue < 0.4) {
-						newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
-					} else if (randomValue < 0.7) {
-						newEnemy = new SpeedEnemy(getScreenWidth(), newEnemyInitialYPosition);
-					} else {
-						newEnemy = new HeavyEnemy(getScreenWidth(), newEnemyInitialYPosition);
-					}
-
-					addEnemyUnit(newEnemy);
-				}
-			}
+			spawnScheduledEnemies(waves);
 		}
 	}
 
@@ -165,7 +149,7 @@ public class LevelOne extends LevelParent {
 	 */
 	@Override
 	protected LevelView instantiateLevelView() {
-		levelView = new LevelViewLevelOne(getRoot(), PLAYER_INITIAL_HEALTH, 0, KILLS_TO_ADVANCE);
+		levelView = new LevelViewLevelOne(getSceneLayers(), PLAYER_INITIAL_HEALTH, 0, KILLS_TO_ADVANCE);
 		return levelView;
 	}
 
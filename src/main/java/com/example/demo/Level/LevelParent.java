@@ -1,6 +1,10 @@
 package com.example.demo.Level;
 
 import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.Object.AmmoBox;
+import com.example.demo.Controller.GameRuntime;
+import com.example.demo.Display.Explosion;
+import com.example.demo.Display.PerformanceOverlay;
 import com.example.demo.Level.LevelManager.*;
 import com.example.demo.Level.LevelView.LevelView;
 import com.example.demo.Actor.Plane.UserPlane;
@@ -9,17 +13,31 @@ import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.scene.*;
 import javafx.scene.image.*;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.util.Duration;
 
+import java.util.List;
+
 /**
  * Abstract class representing the parent level in the game. It manages game flow, such as
  * initializing friendly and enemy units, handling collisions, and updating the game status.
  */
 public abstract class LevelParent {
 	/**
-	 * Constant for game loop delay in milliseconds. This value controls the time interval between each game loop cycle.
+	 * The key that shows and hides the performance overlay.
+	 */
+	private static final KeyCode PERFORMANCE_OVERLAY_KEY = KeyCode.F3;
+	/**
+	 * The shortest time between two refreshes of the performance overlay, in nanoseconds (4 refreshes a second).
+	 */
+	private static final long PERFORMANCE_OVERLAY_REFRESH_NANOS = 250_000_000L;
+	/**
+	 * The level whose {@link #gameEventListener} is subscribed, or null if none is.
+	 * The event manager is shared by every level, so only the level started last listens; starting a level
+	 * unsubscribes the previous one, and every event that reaches a level concerns its own actors.
 	 */
-	private static final int MILLISECOND_DELAY = 16;
+	private static LevelParent listeningLevel;
 	/**
 	 * The height of the screen in pixels.
 	 */
@@ -36,32 +54,30 @@ public abstract class LevelParent {
 	 * The minimum Y position for enemy units to spawn on the screen.
 	 */
 	private final double enemyMinimumYPosition = 55;
-	/**
-	 * The current number of enemy units in the level.
-	 */
-	private int currentNumberOfEnemies;
-	/**
-	 * The previous number of enemy units in the level, used to calculate kill counts.
-	 */
-	private int previousNumberOfEnemies;
 	/**
 	 * The root node of the scene, containing all visual elements of the level.
 	 */
 	private final Group root;
 	/**
-	 * The timeline for the game loop, which controls the update rate and timing of the game.
+	 * The fixed layers under the root that every node of the level is added to, which set the drawing order.
 	 */
-	private final Timeline timeline;
+	private final SceneLayerManager sceneLayers;
+	/**
+	 * The game loop, which runs the simulation at a fixed rate and renders once per frame.
+	 */
+	private final GameLoopManager gameLoop;
 	/**
 	 * The user's plane (player's character), which is controlled by the player during the game.
 	 */
 	private final UserPlane user;
 	/**
 	 * The scene that represents the level in the game, containing all visual and interactive elements.
+	 * This is {@code null} when the game runs headless.
 	 */
 	private final Scene scene;
 	/**
 	 * The background image for the level, displayed in the game scene.
+	 * This is {@code null} when the game runs headless.
 	 */
 	private final ImageView background;
 	/**
@@ -88,8 +104,21 @@ public abstract class LevelParent {
 	 * Manager for spawning and controlling the behavior of enemy units within the level.
 	 */
 	private final ActorSpawnerManager actorSpawnerManager;
+	/**
+	 * Manager for syncing the JavaFX nodes of the actors with their simulation state once per frame.
+	 */
+	private final ActorRenderManager actorRenderManager;
+	/**
+	 * Buffer for the actor nodes added and removed during a tick, applied in one pass at the end of the tick.
+	 */
+	private final SceneUpdateManager sceneUpdateManager;
+	/**
+	 * Times each phase of the simulation tick; its report is printed when the level is cleaned up.
+	 */
+	private final TickProfilerManager tickProfiler = new TickProfilerManager(getClass().getSimpleName());
 	/**
 	 * View that handles the display of the level's UI elements, such as health and score.
+	 * This is {@code null} when the game runs headless.
 	 */
 	private final LevelView levelView;
 	/**
@@ -100,6 +129,29 @@ public abstract class LevelParent {
 	 * The name of the current level, represented as a {@link StringProperty} for easy data binding in the UI.
 	 */
 	private final StringProperty currentLevelName = new SimpleStringProperty();
+	/**
+	 * The listener through which the level receives gameplay events from the {@link GameEventManager}.
+	 * It is subscribed in {@link #startGame()} and removed when the level stops for good: when it is won, lost or
+	 * cleaned up, or when another level is started. A level that is built but never started does not receive any
+	 * events.
+	 */
+	private final GameEventListener gameEventListener = this::onGameEvent;
+	/**
+	 * Indicates whether {@link #gameEventListener} is currently subscribed.
+	 */
+	private boolean listeningForEvents;
+	/**
+	 * The performance overlay, created the first time it is shown.
+	 */
+	private PerformanceOverlay performanceOverlay;
+	/**
+	 * The figures shown by the performance overlay, created along with it.
+	 */
+	private PerformanceStats performanceStats;
+	/**
+	 * The time the performance overlay was last refreshed at, from {@link System#nanoTime()}.
+	 */
+	private long performanceOverlayRefreshNanos;
 
 	/**
 	 * Constructs a new level with the specified background image, screen dimensions,
@@ -112,29 +164,97 @@ public abstract class LevelParent {
 	 */
 	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth) {
 		this.root = new Group();
-		this.scene = new Scene(root, screenWidth, screenHeight);
-		this.timeline = new Timeline();
+		boolean headless = GameRuntime.isHeadless();
+		this.scene = headless ? null : new Scene(root, screenWidth, screenHeight);
+		this.gameLoop = new GameLoopManager(this::step, this::render);
 		this.user = new UserPlane(playerInitialHealth);
 		this.activeActorManager = new ActiveActorManager();
-		this.currentNumberOfEnemies = 0;
-		this.previousNumberOfEnemies = 0;
 
-		this.background = new ImageView(new Image(getClass().getResource(backgroundImageName).toExternalForm()));
+		this.background = headless ? null : new ImageView(ImageManager.getInstance().getImage(backgroundImageName));
+		if (!headless) {
+			Explosion.preloadFrames(); // Decode the explosion animation before the first enemy dies
+		}
 		this.screenHeight = screenHeight;
 		this.screenWidth = screenWidth;
 
-		this.levelView = instantiateLevelView();
-		this.userInputManager = new UserInputManager(user, root, activeActorManager.getUserProjectiles(), null);
-		this.pauseMenuManager = new PauseMenuManager(timeline, scene, userInputManager, this);
+		this.actorRenderManager = new ActorRenderManager(activeActorManager, screenWidth, screenHeight);
+		this.sceneLayers = new SceneLayerManager(root, actorRenderManager.isCanvasMode());
+		this.sceneUpdateManager = new SceneUpdateManager(sceneLayers);
+		this.levelView = headless ? null : instantiateLevelView();
+		this.userInputManager = new UserInputManager(user, sceneUpdateManager, activeActorManager.getUserProjectiles(), null);
+		this.pauseMenuManager = new PauseMenuManager(gameLoop, scene, userInputManager, this);
 		this.userInputManager.setPauseMenuManager(pauseMenuManager);
 		this.endGameMenuManager = new EndGameMenuManager(this);
-		this.cleanDestroyedManager = new CleanDestroyedManager(root, activeActorManager);
-		this.actorSpawnerManager = new ActorSpawnerManager(activeActorManager, this, user, root);
+		this.cleanDestroyedManager = new CleanDestroyedManager(sceneLayers.getLayer(SceneLayer.EFFECTS), sceneUpdateManager, activeActorManager);
+		this.actorSpawnerManager = new ActorSpawnerManager(activeActorManager, this, user, sceneUpdateManager);
 
-		initializeTimeline();
+		initializeGameLoop();
 		activeActorManager.getFriendlyUnits().add(user);
 	}
 
+	/**
+	 * Subscribes the level to every type of gameplay event, unless it is already subscribed.
+	 * The level that was listening until now, if any, is unsubscribed first.
+	 */
+	private void startListeningForEvents() {
+		if (listeningForEvents) {
+			return;
+		}
+		if (listeningLevel != null) {
+			listeningLevel.stopListeningForEvents();
+		}
+		listeningLevel = this;
+		for (GameEventType type : GameEventType.values()) {
+			GameEventManager.getInstance().subscribe(type, gameEventListener);
+		}
+		listeningForEvents = true;
+	}
+
+	/**
+	 * Unsubscribes the level from the gameplay events.
+	 */
+	private void stopListeningForEvents() {
+		GameEventManager.getInstance().unsubscribe(gameEventListener);
+		listeningForEvents = false;
+		if (listeningLevel == this) {
+			listeningLevel = null;
+		}
+	}
+
+	/**
+	 * Reacts to a gameplay event published by one of the level's actors while the level is running.
+	 * Counts kills, keeps the heart display in line with the player's health and plays the matching sounds.
+	 * Subclasses can override this to react to more events, and must call the super method.
+	 *
+	 * @param type   the type of the event
+	 * @param source the actor the event concerns
+	 * @param value  the value of the event
+	 */
+	protected void onGameEvent(GameEventType type, ActiveActorDestructible source, int value) {
+		switch (type) {
+			case ENEMY_KILLED -> user.incrementKillCount();
+			case PLAYER_DAMAGED -> {
+				AudioManager.getInstance().triggerUserDamageAudio();
+				if (hasLevelView()) {
+					levelView.updateHearts(value);
+				}
+			}
+			case PICKUP_COLLECTED -> {
+				if (source instanceof AmmoBox) {
+					AudioManager.getInstance().triggerGetAmmoBoxAudio();
+				} else {
+					AudioManager.getInstance().triggerGetHeartAudio();
+				}
+				if (hasLevelView()) {
+					levelView.updateHearts(user.getHealth());
+				}
+			}
+			case SHIELD_RAISED -> AudioManager.getInstance().triggerShieldAudio();
+			default -> {
+			}
+		}
+	}
+
 	/**
 	 * Initializes friendly units (the player) for the level. This method must be implemented by subclasses.
 	 */
@@ -158,40 +278,128 @@ public abstract class LevelParent {
 		initializeFriendlyUnits();
 		levelView.showHeartDisplay();
 		scene.setOnMouseClicked(userInputManager::handleMouseMiddleClick);
-		scene.setOnKeyPressed(userInputManager::handleKeyPress);
+		scene.setOnKeyPressed(this::handleSceneKeyPress);
 		pauseMenuManager.loadPauseMenu();
-		root.getChildren().add(pauseMenuManager.getPauseMenuRoot());
+		sceneLayers.getLayer(SceneLayer.OVERLAYS).getChildren().add(pauseMenuManager.getPauseMenuRoot());
 		return scene;
 	}
 
 	/**
-	 * Updates the scene by spawning enemies, handling collisions, and updating game status.
+	 * Runs one fixed simulation step of the game loop: applies the player's input and then advances the
+	 * simulation, so input always lands on the same tick as the world update.
 	 */
-	private void updateScene() {
+	private void step() {
+		userInputManager.updateUserMovement();
+		tick();
+	}
+
+	/**
+	 * Advances the game simulation by one step: updates actors, spawns enemies, handles collisions,
+	 * cleans up destroyed actors and updates the game status. The scene changes made during the step are
+	 * applied together at its end. Each phase is timed by the {@link TickProfilerManager}.
+	 * <p>
+	 * The step only works on the actors' simulation state, so it can also be driven without a display
+	 * (see {@link GameRuntime#isHeadless()}).
+	 * </p>
+	 */
+	public void tick() {
+		tickProfiler.beginTick();
 		actorSpawnerManager.updateActors();
+		tickProfiler.endPhase(TickPhase.UPDATE_ACTORS);
 		spawnEnemyUnits();
+		tickProfiler.endPhase(TickPhase.SPAWN_ENEMIES);
 		handleCollisionsAndPenetration();
+		tickProfiler.endPhase(TickPhase.COLLISIONS);
 		cleanUpDestroyedActors();
+		tickProfiler.endPhase(TickPhase.CLEAN_UP);
 		updateStatus();
+		tickProfiler.endPhase(TickPhase.UPDATE_STATUS);
+		sceneUpdateManager.flush();
+		tickProfiler.endPhase(TickPhase.SCENE_FLUSH);
+		tickProfiler.endTick(activeActorManager);
+	}
+
+	/**
+	 * Syncs the JavaFX nodes of all actors with their simulation state.
+	 * Called once per frame after the simulation steps; does nothing when the game runs headless.
+	 */
+	private void render() {
+		if (scene != null) {
+			actorRenderManager.render();
+			if (performanceOverlay != null && performanceOverlay.isVisible()) {
+				updatePerformanceOverlay();
+			}
+		}
+	}
+
+	/**
+	 * Handles the keys pressed anywhere in the scene: the performance overlay key toggles the overlay, and
+	 * every other key goes to the user input manager, which handles pausing.
+	 *
+	 * @param event the key event.
+	 */
+	private void handleSceneKeyPress(KeyEvent event) {
+		if (event.getCode() == PERFORMANCE_OVERLAY_KEY) {
+			togglePerformanceOverlay();
+		} else {
+			userInputManager.handleKeyPress(event);
+		}
+	}
+
+	/**
+	 * Shows or hides the performance overlay. The overlay is created the first time it is shown; while it is
+	 * hidden the level does no work for it. Does nothing when the game runs headless.
+	 */
+	public void togglePerformanceOverlay() {
+		if (scene == null) {
+			return;
+		}
+		if (performanceOverlay == null) {
+			performanceOverlay = new PerformanceOverlay();
+			performanceStats = new PerformanceStats();
+			sceneLayers.getLayer(SceneLayer.OVERLAYS).getChildren().add(performanceOverlay);
+		}
+		if (performanceOverlay.isVisible()) {
+			performanceOverlay.hide();
+		} else {
+			performanceStats.reset();
+			performanceOverlayRefreshNanos = 0;
+			performanceOverlay.show();
+		}
 	}
 
 	/**
-	 * Sets up the game loop timeline with a 2-second delay.
-	 * Initializes the game loop with a fixed time interval.
+	 * Records the duration of the frame for the performance overlay and refreshes the overlay if its refresh
+	 * interval has passed. Called once per frame while the overlay is shown.
 	 */
-	private void initializeTimeline() {
+	private void updatePerformanceOverlay() {
+		long frameNanos = (long) (gameLoop.getFrameDeltaSeconds() * 1_000_000_000L);
+		if (frameNanos > 0) {
+			performanceStats.recordFrame(frameNanos);
+		}
+		long now = System.nanoTime();
+		if (now - performanceOverlayRefreshNanos >= PERFORMANCE_OVERLAY_REFRESH_NANOS) {
+			performanceOverlayRefreshNanos = now;
+			performanceStats.sampleMemory(now);
+			performanceOverlay.refresh(performanceStats, root, activeActorManager, actorRenderManager.getDrawnCount());
+		}
+	}
+
+	/**
+	 * Starts the game loop after a 2-second delay, leaving time for the entry animation.
+	 */
+	private void initializeGameLoop() {
+		if (GameRuntime.isHeadless()) {
+			return; // The simulation is driven by calling tick() directly
+		}
 		PauseTransition delay = new PauseTransition(Duration.seconds(2));
-		delay.setOnFinished(event -> {
-			timeline.setCycleCount(Timeline.INDEFINITE);
-			KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> updateScene());
-			timeline.getKeyFrames().add(gameLoop);
-			timeline.play();
-		});
+		delay.setOnFinished(event -> gameLoop.start());
 		delay.play();
 	}
 
 	/**
-	 * Initializes the background image and adds it to the root.
+	 * Initializes the background image and adds it to the background layer.
+	 * In canvas render mode the actor canvas is added right above the background, in the same layer.
 	 */
 	private void initializeBackground() {
 		background.setFocusTraversable(true);
@@ -199,7 +407,11 @@ public abstract class LevelParent {
 		background.setFitWidth(screenWidth);
 		background.setOnKeyPressed(userInputManager::handleKeyPressed);
 		background.setOnKeyReleased(userInputManager::handleKeyReleased);
-		root.getChildren().add(background);
+		Group backgroundLayer = sceneLayers.getLayer(SceneLayer.BACKGROUND);
+		backgroundLayer.getChildren().add(background);
+		if (actorRenderManager.isCanvasMode()) {
+			backgroundLayer.getChildren().add(actorRenderManager.getCanvas());
+		}
 	}
 
 	/**
@@ -230,7 +442,7 @@ public abstract class LevelParent {
 	 * @return true if the enemy has penetrated the defenses, otherwise false.
 	 */
 	private boolean enemyHasPenetratedDefenses(ActiveActorDestructible enemy) {
-		return Math.abs(enemy.getTranslateX()) > screenWidth;
+		return Math.abs(enemy.getState().getTranslationX()) > screenWidth;
 	}
 
 	/**
@@ -253,7 +465,7 @@ public abstract class LevelParent {
 	}
 
 	/**
-	 * Cleans up the level by stopping the game timeline, stopping the game loop,
+	 * Cleans up the level by stopping the game loop,
 	 * clearing any active input keys, and removing all UI components and actors
 	 * associated with the current level.
 	 * This method is typically called when transitioning to a new level or when the game is ending.
@@ -261,11 +473,15 @@ public abstract class LevelParent {
 	 * continue running after the level has been cleaned up.
 	 */
 	public void cleanUp() {
-		timeline.stop();
-		userInputManager.stopGameLoop();
+		stopListeningForEvents();
+		gameLoop.stop();
+		if (GameRuntime.isTickReport()) {
+			tickProfiler.dump(getClass().getSimpleName());
+		}
 		userInputManager.clearActiveKeys();
 		cleanUpActors();
-		root.getChildren().clear();
+		sceneUpdateManager.clear();
+		sceneLayers.clear();
 	}
 
 	/**
@@ -301,39 +517,22 @@ public abstract class LevelParent {
 	}
 
 	/**
-	 * Updates the number of enemies, kill count, and the level view display, and check if game over.
+	 * Updates the level view display and checks if the game is over.
+	 * Kills are counted as they happen, through {@link #onGameEvent}.
 	 */
 	public void updateStatus() {
-		updateNumberOfEnemies();
-		updateKillCount();
-		updateLevelView();
+		if (hasLevelView()) {
+			updateLevelView();
+		}
 		checkIfGameOver();
 	}
 
 	/**
-	 * Updates the level view based on the current health of the user.
+	 * Updates the parts of the level view that follow the actors every frame.
+	 * The hearts follow the player's health through {@link #onGameEvent}, so there is nothing to poll here;
+	 * subclasses update their own widgets, such as boss health bar positions.
 	 */
 	public void updateLevelView() {
-		levelView.removeHearts(user.getHealth());
-		levelView.addHearts(user.getHealth());
-	}
-
-	/**
-	 * Updates the number of enemies currently in the level.
-	 */
-	private void updateNumberOfEnemies() {
-		previousNumberOfEnemies = currentNumberOfEnemies;
-		currentNumberOfEnemies = activeActorManager.getEnemyUnits().size();
-	}
-
-	/**
-	 * Updates the kill count based on the number of defeated enemies.
-	 */
-	private void updateKillCount() {
-		int defeatedEnemies = previousNumberOfEnemies - currentNumberOfEnemies;
-		for (int i = 0; i < defeatedEnemies; i++) {
-			user.incrementKillCount();
-		}
 	}
 
 	/**
@@ -343,11 +542,15 @@ public abstract class LevelParent {
 	protected abstract void checkIfGameOver();
 
 	/**
-	 * Starts the game by playing the timeline (game loop).
+	 * Starts the game by subscribing the level to gameplay events and giving it input focus.
+	 * The game loop itself starts once the entry delay set up in the constructor has passed. A headless caller
+	 * that drives the level through {@link #tick()} calls this method before the first tick.
 	 */
 	public void startGame() {
-		background.requestFocus();
-		timeline.play();
+		startListeningForEvents();
+		if (background != null) {
+			background.requestFocus();
+		}
 	}
 
 	/**
@@ -357,8 +560,11 @@ public abstract class LevelParent {
 	public void winGame() {
 		AudioManager.getInstance().triggerWinAudio();
 		userInputManager.setGameIsOver(true);
-		timeline.stop();
-		endGameMenuManager.winGame();
+		gameLoop.stop();
+		stopListeningForEvents();
+		if (hasLevelView()) {
+			endGameMenuManager.winGame();
+		}
 	}
 
 	/**
@@ -369,8 +575,11 @@ public abstract class LevelParent {
 		AudioManager.getInstance().triggerLoseAudio();
 		userInputManager.setGameIsOver(true);
 		setGameOver(true);
-		timeline.stop();
-		endGameMenuManager.loseGame();
+		gameLoop.stop();
+		stopListeningForEvents();
+		if (hasLevelView()) {
+			endGameMenuManager.loseGame();
+		}
 	}
 
 	/**
@@ -383,6 +592,33 @@ public abstract class LevelParent {
 		setCurrentLevelName(levelName);
 	}
 
+	/**
+	 * Starts decoding the images of the next level in the background, so that constructing it after the
+	 * exit animation does not stall the JavaFX thread.
+	 *
+	 * @param levelId the {@link LevelRegistry} ID of the next level.
+	 */
+	protected void prewarmLevel(String levelId) {
+		LevelRegistry.getInstance().prewarm(levelId);
+	}
+
+	/**
+	 * Runs the given action after a delay, for example once an exit animation has finished.
+	 * When the game runs headless there is no animation clock, so the action is run immediately.
+	 *
+	 * @param delay the time to wait before running the action.
+	 * @param action the action to run.
+	 */
+	protected void runAfterDelay(Duration delay, Runnable action) {
+		if (GameRuntime.isHeadless()) {
+			action.run();
+			return;
+		}
+		PauseTransition pause = new PauseTransition(delay);
+		pause.setOnFinished(event -> action.run());
+		pause.play();
+	}
+
 	/**
 	 * Adds a new enemy unit to the level.
 	 *
@@ -392,11 +628,57 @@ public abstract class LevelParent {
 		actorSpawnerManager.addEnemyUnit(enemy);
 	}
 
+	/**
+	 * Adds projectiles fired by the user to the level, as firing through the {@link UserInputManager} does.
+	 *
+	 * @param projectiles the projectiles to add.
+	 */
+	protected void addUserProjectiles(List<ActiveActorDestructible> projectiles) {
+		for (ActiveActorDestructible projectile : projectiles) {
+			sceneUpdateManager.add(SceneLayer.PROJECTILES, projectile);
+			activeActorManager.getUserProjectiles().add(projectile);
+		}
+	}
+
 	/**
 	 * Spawns enemy units for the current level. This method must be implemented by subclasses.
 	 */
 	protected abstract void spawnEnemyUnits();
 
+	/**
+	 * Spawns the enemies that the level's wave script schedules for this tick, if there are any.
+	 * Levels driven by a wave script call this from {@link #spawnEnemyUnits()} once per tick.
+	 *
+	 * @param waves the wave manager running the level's wave script.
+	 */
+	protected void spawnScheduledEnemies(WaveManager waves) {
+		int kills = user.getNumberOfKills();
+		waves.advance(kills, getCurrentNumberOfEnemies());
+		EnemyArchetype archetype;
+		while ((archetype = waves.poll(kills, getCurrentNumberOfEnemies())) != null) {
+			addEnemyUnit(archetype.obtain(screenWidth, waves.getLastSpawnY()));
+		}
+	}
+
+	/**
+	 * Returns the measured duration of the last rendered frame.
+	 * The simulation itself always advances in fixed steps of {@link GameLoopManager#getStepSeconds()}.
+	 *
+	 * @return the frame delta in seconds.
+	 */
+	protected double getFrameDelta() {
+		return gameLoop.getFrameDeltaSeconds();
+	}
+
+	/**
+	 * Returns the profiler that times the phases of this level's simulation ticks.
+	 *
+	 * @return the tick profiler.
+	 */
+	public TickProfilerManager getTickProfiler() {
+		return tickProfiler;
+	}
+
 	/**
 	 * Returns the user plane (player's character).
 	 *
@@ -415,6 +697,25 @@ public abstract class LevelParent {
 		return root;
 	}
 
+	/**
+	 * Returns the scene layers of the level.
+	 *
+	 * @return the layer manager.
+	 */
+	public SceneLayerManager getSceneLayers() {
+		return sceneLayers;
+	}
+
+	/**
+	 * Returns the group of one scene layer of the level.
+	 *
+	 * @param layer the layer.
+	 * @return the group the nodes of the layer are added to.
+	 */
+	public Group getLayer(SceneLayer layer) {
+		return sceneLayers.getLayer(layer);
+	}
+
 	/**
 	 * Returns the current number of enemies in the level.
 	 *
@@ -433,6 +734,15 @@ public abstract class LevelParent {
 		return levelView;
 	}
 
+	/**
+	 * Returns whether the level has a view to update. The view is not created when the game runs headless.
+	 *
+	 * @return true if the level view exists, otherwise false.
+	 */
+	protected boolean hasLevelView() {
+		return levelView != null;
+	}
+
 	/**
 	 * Returns the maximum Y position for enemies.
 	 *
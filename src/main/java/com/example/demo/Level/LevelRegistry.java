@@ -0,0 +1,203 @@
+package com.example.demo.Level;
+
+import com.example.demo.Level.LevelManager.LevelPreloadManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registry of all the levels of the game, mapping level IDs to the factories that create them.
+ * <p>
+ * The built-in levels are registered when the registry is first used, and {@link #validate()} checks them once at
+ * startup, so a missing asset shows up before the player reaches the level. Creating a level is then a map lookup
+ * and a constructor call, with no reflection. The level ID is also the value a level writes to
+ * {@link LevelParent#currentLevelNameProperty()} to ask for the next level.
+ * </p>
+ * <p>
+ * A level can be pre-warmed before it is created: {@link #prewarm(String)} decodes its images in the background
+ * through the {@link LevelPreloadManager}. Level instances themselves are not built ahead of time, since a level
+ * schedules the start of its game loop as soon as it is constructed.
+ * </p>
+ */
+public class LevelRegistry {
+
+	/**
+	 * The ID of the first level.
+	 */
+	public static final String LEVEL_ONE = "com.example.demo.Level.LevelOne";
+
+	/**
+	 * The ID of the second level.
+	 */
+	public static final String LEVEL_TWO = "com.example.demo.Level.LevelTwo";
+
+	/**
+	 * The ID of the third level.
+	 */
+	public static final String LEVEL_THREE = "com.example.demo.Level.LevelThree";
+
+	/**
+	 * The ID of the fourth and last level.
+	 */
+	public static final String LEVEL_FOUR = "com.example.demo.Level.LevelFour";
+
+	/**
+	 * The ID of the endless level.
+	 */
+	public static final String LEVEL_ENDLESS = "com.example.demo.Level.LevelEndLess";
+
+	/**
+	 * Singleton instance of the LevelRegistry.
+	 */
+	private static final LevelRegistry instance = new LevelRegistry();
+
+	/**
+	 * The registered levels, by ID, in registration order.
+	 */
+	private final Map<String, Entry> levels = new LinkedHashMap<>();
+
+	/**
+	 * Private constructor to enforce the singleton pattern. Registers the built-in levels.
+	 */
+	private LevelRegistry() {
+		register(LEVEL_ONE, LevelOne::new, LevelOne.ASSETS);
+		register(LEVEL_TWO, LevelTwo::new, LevelTwo.ASSETS);
+		register(LEVEL_THREE, LevelThree::new, LevelThree.ASSETS);
+		register(LEVEL_FOUR, LevelFour::new, LevelFour.ASSETS);
+		register(LEVEL_ENDLESS, LevelEndLess::new, LevelEndLess.ASSETS);
+	}
+
+	/**
+	 * Returns the singleton instance of the LevelRegistry.
+	 *
+	 * @return the singleton instance of LevelRegistry.
+	 */
+	public static LevelRegistry getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Registers a level.
+	 *
+	 * @param levelId the ID of the level.
+	 * @param factory the factory that creates the level.
+	 * @param assets the absolute resource paths of the images the level needs.
+	 * @throws IllegalArgumentException if a level with the same ID is already registered.
+	 */
+	public synchronized void register(String levelId, LevelFactory factory, String... assets) {
+		if (levels.containsKey(levelId)) {
+			throw new IllegalArgumentException("Level already registered: " + levelId);
+		}
+		levels.put(levelId, new Entry(factory, assets.clone()));
+	}
+
+	/**
+	 * Creates a new instance of a registered level.
+	 *
+	 * @param levelId the ID of the level.
+	 * @param screenHeight the height of the game screen.
+	 * @param screenWidth the width of the game screen.
+	 * @return the new level.
+	 * @throws IllegalArgumentException if no level is registered under the ID.
+	 */
+	public LevelParent create(String levelId, double screenHeight, double screenWidth) {
+		return entry(levelId).factory.create(screenHeight, screenWidth);
+	}
+
+	/**
+	 * Starts decoding the images of a registered level in the background, ahead of its creation.
+	 *
+	 * @param levelId the ID of the level.
+	 * @throws IllegalArgumentException if no level is registered under the ID.
+	 */
+	public void prewarm(String levelId) {
+		LevelPreloadManager.getInstance().preload(entry(levelId).assets);
+	}
+
+	/**
+	 * Checks that every registered level has a factory and that all of its images exist.
+	 *
+	 * @throws IllegalStateException listing every problem found, if there is any.
+	 */
+	public synchronized void validate() {
+		List<String> problems = new ArrayList<>();
+		levels.forEach((levelId, entry) -> {
+			if (entry.factory == null) {
+				problems.add(levelId + " has no factory");
+			}
+			for (String asset : entry.assets) {
+				if (LevelRegistry.class.getResource(asset) == null) {
+					problems.add(levelId + " is missing " + asset);
+				}
+			}
+		});
+		if (!problems.isEmpty()) {
+			throw new IllegalStateException("Invalid level registry: " + String.join(", ", problems));
+		}
+	}
+
+	/**
+	 * Returns whether a level is registered under the given ID.
+	 *
+	 * @param levelId the ID to look up.
+	 * @return true if the level is registered, false otherwise.
+	 */
+	public synchronized boolean contains(String levelId) {
+		return levels.containsKey(levelId);
+	}
+
+	/**
+	 * Returns the IDs of all registered levels, in registration order.
+	 *
+	 * @return an unmodifiable view of the level IDs.
+	 */
+	public synchronized Set<String> getLevelIds() {
+		return Collections.unmodifiableSet(levels.keySet());
+	}
+
+	/**
+	 * Looks up the entry of a registered level.
+	 *
+	 * @param levelId the ID of the level.
+	 * @return the entry of the level.
+	 * @throws IllegalArgumentException if no level is registered under the ID.
+	 */
+	private synchronized Entry entry(String levelId) {
+		Entry entry = levels.get(levelId);
+		if (entry == null) {
+			throw new IllegalArgumentException("Unknown level: " + levelId);
+		}
+		return entry;
+	}
+
+	/**
+	 * A registered level: its factory and the images it needs.
+	 */
+	private static final class Entry {
+
+		/**
+		 * The factory that creates the level.
+		 */
+		private final LevelFactory factory;
+
+		/**
+		 * The absolute resource paths of the images the level needs.
+		 */
+		private final String[] assets;
+
+		/**
+		 * Constructs an entry.
+		 *
+		 * @param factory the factory that creates the level.
+		 * @param assets the absolute resource paths of the images the level needs.
+		 */
+		private Entry(LevelFactory factory, String[] assets) {
+			this.factory = factory;
+			this.assets = assets;
+		}
+	}
+}
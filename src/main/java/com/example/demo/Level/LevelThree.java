@@ -1,14 +1,13 @@
 package com.example.demo.Level;
 
 import com.example.demo.Actor.ActiveActorDestructible;
-import com.example.demo.Actor.Plane.HeavyEnemy;
-import com.example.demo.Actor.Plane.SpeedEnemy;
 import com.example.demo.Level.LevelManager.AudioManager;
+import com.example.demo.Level.LevelManager.GameEventType;
+import com.example.demo.Level.LevelManager.SceneLayer;
+import com.example.demo.Level.LevelManager.WaveManager;
 import com.example.demo.Level.LevelView.LevelView;
 import com.example.demo.Level.LevelView.LevelViewLevelThree;
 import com.example.demo.Actor.Plane.Boss.Boss;
-import com.example.demo.Actor.Plane.EnemyPlane;
-import javafx.animation.PauseTransition;
 import javafx.util.Duration;
 
 /**
@@ -31,13 +30,22 @@ public class LevelThree extends LevelParent {
     private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background3.jpg";
 
     /**
-     * The class path for the next level to load after the boss is defeated.
+     * The images this level needs that no earlier level has decoded yet.
+     * They are registered with the level in the {@link LevelRegistry}, and the previous level pre-warms them
+     * while it plays its exit animation.
+     */
+    static final String[] ASSETS = {
+        BACKGROUND_IMAGE_NAME
+    };
+
+    /**
+     * The ID of the next level to load after the boss is defeated.
      * <p>
-     * This constant specifies the fully qualified class path to the next level that will be loaded once the boss
+     * This constant specifies the {@link LevelRegistry} ID of the next level that will be loaded once the boss
      * in Level Three is defeated. This allows the game to transition smoothly to the next stage of the game.
      * </p>
      */
-    private static final String NEXT_LEVEL = "com.example.demo.Level.LevelFour";
+    private static final String NEXT_LEVEL = LevelRegistry.LEVEL_FOUR;
 
     /**
      * The initial health of the player at the start of Level Three.
@@ -57,15 +65,6 @@ public class LevelThree extends LevelParent {
      */
     private static final int BOSS_HEALTH = 20;
 
-    /**
-     * The total number of enemies to spawn before the boss appears.
-     * <p>
-     * This constant defines the maximum number of enemies that will spawn in Level Three before the boss is introduced.
-     * It serves as a threshold for how many enemies the player must face before progressing to the boss fight.
-     * </p>
-     */
-    private static final int TOTAL_ENEMIES = 5;
-
     /**
      * The number of kills required for the player to advance to the next level.
      * <p>
@@ -76,13 +75,13 @@ public class LevelThree extends LevelParent {
     private static final int KILLS_TO_ADVANCE = 30;
 
     /**
-     * The probability of spawning a new enemy.
+     * The wave script that schedules the regular enemies of Level Three.
      * <p>
-     * This constant defines the likelihood that a new enemy will spawn during Level Three. The value is between 0.0 and 1.0,
-     * with a higher value indicating a higher probability of enemy spawn.
+     * The script sends a mixed stream of enemies alongside the boss and stops once the kill target is reached,
+     * leaving the boss to fight alone.
      * </p>
      */
-    private static final double ENEMY_SPAWN_PROBABILITY = 0.20;
+    private static final String WAVE_SCRIPT = "/com/example/demo/waves/levelThree.waves";
 
     /**
      * The boss in Level Three.
@@ -112,9 +111,9 @@ public class LevelThree extends LevelParent {
     private boolean bossAdded = false;
 
     /**
-     * A flag indicating whether the boss active shield.
+     * Runs the enemy waves of Level Three.
      */
-    private boolean shieldAudioPlayed = false;
+    private final WaveManager waves;
 
     /**
      * Constructs the third level with the specified screen height and width.
@@ -129,6 +128,10 @@ public class LevelThree extends LevelParent {
     public LevelThree(double screenHeight, double screenWidth) {
         super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
         boss = new Boss(BOSS_HEALTH);
+        if (hasLevelView()) {
+            levelView.attachToBoss(boss);
+        }
+        waves = new WaveManager(WAVE_SCRIPT, getEnemyMinimumYPosition(), getEnemyMaximumYPosition());
     }
 
     /**
@@ -139,7 +142,7 @@ public class LevelThree extends LevelParent {
     @Override
     protected void initializeFriendlyUnits() {
         AudioManager.getInstance().triggerTeleportInAudio();
-        getRoot().getChildren().add(getUser());
+        getLayer(SceneLayer.PLAYER).getChildren().add(getUser());
         super.getUser().spiralPortalEnter();
     }
 
@@ -154,7 +157,9 @@ public class LevelThree extends LevelParent {
             loseGame();
         } else {
             if (userHasReachedKillTarget() && boss.isDestroyed()) {
-                levelView.hideHealthBar();
+                if (hasLevelView()) {
+                    levelView.hideHealthBar();
+                }
                 delayToNextLevel();
             }
         }
@@ -167,6 +172,7 @@ public class LevelThree extends LevelParent {
     private void delayToNextLevel() {
         if (!super.isGameOver()) {
             super.setGameOver(true);
+            prewarmLevel(NEXT_LEVEL); // Decode the next level's images during the exit animation
             AudioManager.getInstance().triggerTeleportOutAudio();
             super.getUser().stopHorizontalMovement();
             super.getUser().stopVerticalMovement();
@@ -174,80 +180,61 @@ public class LevelThree extends LevelParent {
             super.cleanUpForAnimation();
             // Play the exit animation
             getUser().spiralPortalExit(); // Assuming you have implemented the spiralPortalExit animation method
-            // Delay the transition to the next level by waiting for the animation to finish
-            PauseTransition delay = new PauseTransition(Duration.seconds(2)); // Delay for 2 seconds (adjust based on animation duration)
-            delay.setOnFinished(event -> goToNextLevel(NEXT_LEVEL)); // After the delay, load the next level
-            delay.play();
+            // Delay the transition to the next level by waiting for the animation to finish (2 seconds)
+            runAfterDelay(Duration.seconds(2), () -> goToNextLevel(NEXT_LEVEL));
         }
     }
 
     /**
-     * Spawns enemy units and introduces the boss after the kill target is reached.
-     * Standard enemies are spawned based on a kill count condition, with random selection
-     * of enemy types. Once the kill target is met, the boss is added to the level.
+     * Spawns the regular enemies scheduled by the level's wave script and adds the boss to the level once.
+     * The wave script stops sending regular enemies once the kill target is reached.
      */
     @Override
     protected void spawnEnemyUnits() {
         if (!super.isGameOver()) {
-            int currentNumberOfEnemies = getCurrentNumberOfEnemies();
-            if (getUser().getNumberOfKills() < KILLS_TO_ADVANCE) {
-                for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-                    if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-                        double minY = getEnemyMinimumYPosition();
-                        double maxY = getEnemyMaximumYPosition();
-                        double newEnemyInitialYPosition = minY + Math.random() * (maxY - minY);
-                        ActiveActorDestructible newEnemy;
-
-                        double randomValue = Math.random();
-                        if (randomValue < 0.4) {
-                            newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
-                        } else if (randomValue < 0.7) {
-                            newEnemy = new SpeedEnemy(getScreenWidth(), newEnemyInitialYPosition);
-                        } else {
-                            newEnemy = new HeavyEnemy(getScreenWidth(), newEnemyInitialYPosition);
-                        }
-                        addEnemyUnit(newEnemy);
-                    }
-                }
-            }
+            spawnScheduledEnemies(waves);
 
             if (!isBossAdded()) {
                 addEnemyUnit(boss);
-                levelView.showBossHealthBar();
+                if (hasLevelView()) {
+                    levelView.showBossHealthBar();
+                }
                 setBossAdded(true);
             }
         }
     }
 
     /**
-     * Updates the level view, including displaying the number of kills, boss health, position, and shield status.
-     * If the boss is destroyed, the health bar is hidden.
-     * <p>
-     * This method ensures that the graphical interface reflects the state of the game, including the
-     * boss's health and whether it is shielded.
-     * </p>
+     * Updates the level view, displaying the number of kills. The boss's health bar and shield are attached to
+     * the boss and follow it on their own; they are updated, shown and hidden through {@link #onGameEvent}.
      */
     @Override
     public void updateLevelView() {
         super.updateLevelView();
         levelView.updateKills(getUser().getNumberOfKills(), KILLS_TO_ADVANCE);
+    }
 
-        if (!boss.isDestroyed()) {
-            levelView.updateBossHealth(boss.getHealth());
-            levelView.updateBossHealthPosition(boss);
-            levelView.updateShieldPosition(boss);
-            if (boss.getShielded()) {
-                levelView.showShield();
-                if (!shieldAudioPlayed) {
-                    AudioManager.getInstance().triggerShieldAudio();
-                    shieldAudioPlayed = true;
-                }
-            } else {
-                levelView.hideShield();
-                shieldAudioPlayed = false;
+    /**
+     * Keeps the boss's health bar in line with its health, hiding it when the boss is killed, and shows or hides
+     * the boss's shield when the boss raises or lowers it.
+     *
+     * @param type   the type of the event
+     * @param source the actor the event concerns
+     * @param value  the value of the event
+     */
+    @Override
+    protected void onGameEvent(GameEventType type, ActiveActorDestructible source, int value) {
+        super.onGameEvent(type, source, value);
+        if (source != boss || !hasLevelView()) {
+            return;
+        }
+        switch (type) {
+            case BOSS_DAMAGED -> levelView.updateBossHealth(value);
+            case ENEMY_KILLED -> levelView.hideHealthBar();
+            case SHIELD_RAISED -> levelView.showShield();
+            case SHIELD_LOWERED -> levelView.hideShield();
+            default -> {
             }
-        } else {
-            levelView.hideHealthBar();
         }
     }
 
@@ -299,7 +286,7 @@ public class LevelThree extends LevelParent {
      */
     @Override
     protected LevelView instantiateLevelView() {
-        levelView = new LevelViewLevelThree(getRoot(), PLAYER_INITIAL_HEALTH, BOSS_HEALTH, 0, KILLS_TO_ADVANCE);
+        levelView = new LevelViewLevelThree(getSceneLayers(), PLAYER_INITIAL_HEALTH, BOSS_HEALTH, 0, KILLS_TO_ADVANCE);
         return levelView;
     }
 
@@ -1,10 +1,12 @@
 package com.example.demo.Level;
 
+import com.example.demo.Actor.ActiveActorDestructible;
 import com.example.demo.Level.LevelManager.AudioManager;
+import com.example.demo.Level.LevelManager.GameEventType;
+import com.example.demo.Level.LevelManager.SceneLayer;
 import com.example.demo.Level.LevelView.LevelView;
 import com.example.demo.Level.LevelView.LevelViewLevelTwo;
 import com.example.demo.Actor.Plane.Boss.Boss;
-import javafx.animation.PauseTransition;
 import javafx.util.Duration;
 
 /**
@@ -21,11 +23,23 @@ public class LevelTwo extends LevelParent {
 	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.jpg";
 
 	/**
-	 * The class path for the next level to load after the boss is defeated.
-	 * This constant specifies the fully qualified class path to the next level that will be loaded once the boss
+	 * The images this level needs that no earlier level has decoded yet.
+	 * They are registered with the level in the {@link LevelRegistry}, and the previous level pre-warms them
+	 * while it plays its exit animation.
+	 */
+	static final String[] ASSETS = {
+		BACKGROUND_IMAGE_NAME,
+		"/com/example/demo/images/bossplane.png",
+		"/com/example/demo/images/fireball.png",
+		"/com/example/demo/images/shield.png"
+	};
+
+	/**
+	 * The {@link LevelRegistry} ID of the next level to load after the boss is defeated.
+	 * This constant specifies the ID of the next level that will be loaded once the boss
 	 * in Level Two is defeated. After completing this level, the game transitions to Level Three.
 	 */
-	private static final String NEXT_LEVEL = "com.example.demo.Level.LevelThree";
+	private static final String NEXT_LEVEL = LevelRegistry.LEVEL_THREE;
 
 	/**
 	 * The initial health of the player at the start of Level Two.
@@ -41,11 +55,6 @@ public class LevelTwo extends LevelParent {
 	 */
 	private static final int BOSS_HEALTH = 15;
 
-	/**
-	 * A flag indicating whether the boss active shield.
-	 */
-	private boolean shieldAudioPlayed = false;
-
 	/**
 	 * The boss in Level Two.
 	 * This reference holds the instance of the boss that will appear in Level Two. The player must defeat this boss
@@ -63,7 +72,7 @@ public class LevelTwo extends LevelParent {
 	/**
 	 * Constructor to initialize the second level with the specified screen height and width.
 	 * This constructor initializes the level with the given screen size and sets up the boss
-	 * with the specified health.
+	 * with the specified health, with its health bar and shield attached to it.
 	 *
 	 * @param screenHeight the height of the screen
 	 * @param screenWidth the width of the screen
@@ -71,6 +80,9 @@ public class LevelTwo extends LevelParent {
 	public LevelTwo(double screenHeight, double screenWidth) {
 		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
 		boss = new Boss(BOSS_HEALTH);
+		if (hasLevelView()) {
+			levelView.attachToBoss(boss);
+		}
 	}
 
 	/**
@@ -79,7 +91,7 @@ public class LevelTwo extends LevelParent {
 	@Override
 	protected void initializeFriendlyUnits() {
 		AudioManager.getInstance().triggerTeleportInAudio();
-		getRoot().getChildren().add(getUser());
+		getLayer(SceneLayer.PLAYER).getChildren().add(getUser());
 		super.getUser().spiralPortalEnter();
 	}
 
@@ -92,7 +104,9 @@ public class LevelTwo extends LevelParent {
 		if (userIsDestroyed()) {
 			loseGame();
 		} else if (boss.isDestroyed()) {
-			levelView.hideBossHealthBar();
+			if (hasLevelView()) {
+				levelView.hideBossHealthBar();
+			}
 			delayToNextLevel();
 		}
 	}
@@ -105,6 +119,7 @@ public class LevelTwo extends LevelParent {
 	private void delayToNextLevel() {
 		if (!super.isGameOver()) {
 			super.setGameOver(true);
+			prewarmLevel(NEXT_LEVEL); // Decode the next level's images during the exit animation
 			AudioManager.getInstance().triggerTeleportOutAudio();
 			super.getUser().stopHorizontalMovement();
 			super.getUser().stopVerticalMovement();
@@ -112,10 +127,8 @@ public class LevelTwo extends LevelParent {
 			super.cleanUpForAnimation();
 			// Play the exit animation
 			getUser().spiralPortalExit(); // Assuming you have implemented the spiralPortalExit animation method
-			// Delay the transition to the next level by waiting for the animation to finish
-			PauseTransition delay = new PauseTransition(Duration.seconds(2)); // Delay for 2 seconds (adjust based on animation duration)
-			delay.setOnFinished(event -> goToNextLevel(NEXT_LEVEL)); // After the delay, load the next level
-			delay.play();
+			// Delay the transition to the next level by waiting for the animation to finish (2 seconds)
+			runAfterDelay(Duration.seconds(2), () -> goToNextLevel(NEXT_LEVEL));
 		}
 	}
 
@@ -129,32 +142,35 @@ public class LevelTwo extends LevelParent {
 		if (!super.isGameOver()) {
 			if (getCurrentNumberOfEnemies() == 0) {
 				addEnemyUnit(boss);
-				levelView.showBossHealthBar();
+				if (hasLevelView()) {
+					levelView.showBossHealthBar();
+				}
 			}
 		}
 	}
 
 	/**
-	 * Updates the level view, including the boss's health, position, and shield status.
-	 * This method is called to update the game’s visual representation, including displaying
-	 * the boss’s health and updating its shield status.
+	 * Keeps the boss's health bar in line with its health, hiding it when the boss is killed, and shows or hides the
+	 * boss's shield when the boss raises or lowers it.
+	 * The health bar and shield are attached to the boss and follow it on their own.
+	 *
+	 * @param type   the type of the event
+	 * @param source the actor the event concerns
+	 * @param value  the value of the event
 	 */
 	@Override
-	public void updateLevelView() {
-		super.updateLevelView();
-		levelView.updateBossHealth(boss.getHealth());
-		levelView.updateBossHealthPosition(boss);
-		levelView.updateShieldPosition(boss);
-
-		if (boss.getShielded()) {
-			levelView.showShield();
-			if (!shieldAudioPlayed) {
-				AudioManager.getInstance().triggerShieldAudio();
-				shieldAudioPlayed = true;
+	protected void onGameEvent(GameEventType type, ActiveActorDestructible source, int value) {
+		super.onGameEvent(type, source, value);
+		if (source != boss || !hasLevelView()) {
+			return;
+		}
+		switch (type) {
+			case BOSS_DAMAGED -> levelView.updateBossHealth(value);
+			case ENEMY_KILLED -> levelView.hideBossHealthBar();
+			case SHIELD_RAISED -> levelView.showShield();
+			case SHIELD_LOWERED -> levelView.hideShield();
+			default -> {
 			}
-		} else {
-			levelView.hideShield();
-			shieldAudioPlayed = false;
 		}
 	}
 
@@ -167,7 +183,7 @@ public class LevelTwo extends LevelParent {
 	 */
 	@Override
 	protected LevelView instantiateLevelView() {
-		levelView = new LevelViewLevelTwo(getRoot(), PLAYER_INITIAL_HEALTH, BOSS_HEALTH);
+		levelView = new LevelViewLevelTwo(getSceneLayers(), PLAYER_INITIAL_HEALTH, BOSS_HEALTH);
 		return levelView;
 	}
 
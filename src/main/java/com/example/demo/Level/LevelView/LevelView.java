@@ -4,6 +4,8 @@ import com.example.demo.Display.GameOverImage;
 import com.example.demo.Display.HeartDisplay;
 import com.example.demo.Display.WinImage;
 import com.example.demo.Level.LevelManager.AudioManager;
+import com.example.demo.Level.LevelManager.SceneLayer;
+import com.example.demo.Level.LevelManager.SceneLayerManager;
 import javafx.scene.Group;
 
 /**
@@ -18,10 +20,10 @@ import javafx.scene.Group;
 public class LevelView {
 
 	/**
-	 * The root container of the scene where the UI elements will be added.
-	 * This is a {@link Group} that holds all the UI elements for the game level.
+	 * The layers of the level scene where the UI elements will be added.
+	 * Each element goes into the {@link Group} of its {@link SceneLayer}, which fixes what it is drawn above.
 	 */
-	private final Group root;
+	private final SceneLayerManager layers;
 
 	/**
 	 * The image displayed when the player wins the level.
@@ -42,43 +44,78 @@ public class LevelView {
 	private final HeartDisplay heartDisplay;
 
 	/**
-	 * Constructs a LevelView instance with the specified root group and number of hearts to display.
+	 * The number of hearts currently shown by the heart display.
+	 * It lets {@link #updateHearts(int)} skip the display entirely while the player's health does not change.
+	 */
+	private int displayedHearts;
+
+	/**
+	 * Constructs a LevelView instance with the specified scene layers and number of hearts to display.
 	 * This constructor initializes the heart display, win image, and game over image based on the provided
-	 * root container and the number of hearts the player starts with.
+	 * scene layers and the number of hearts the player starts with.
 	 *
-	 * @param root the root container of the scene where the UI elements will be added.
+	 * @param layers the layers of the level scene where the UI elements will be added.
 	 * @param heartsToDisplay the initial number of hearts to be displayed, representing the player's health.
 	 */
-	public LevelView(Group root, int heartsToDisplay) {
-		this.root = root;
+	public LevelView(SceneLayerManager layers, int heartsToDisplay) {
+		this.layers = layers;
 		this.heartDisplay = new HeartDisplay(heartsToDisplay);
+		this.displayedHearts = heartsToDisplay;
 		this.winImage = new WinImage();
 		this.gameOverImage = new GameOverImage();
 	}
 
 	/**
 	 * Displays the heart display on the screen, showing the current number of hearts.
-	 * This method adds the heart display to the root container so that the player's health (represented
+	 * This method adds the heart display to the HUD layer so that the player's health (represented
 	 * by heart icons) is visible in the UI.
 	 */
 	public void showHeartDisplay() {
-		root.getChildren().add(heartDisplay.getContainer());
+		getLayer(SceneLayer.HUD).getChildren().add(heartDisplay.getContainer());
 	}
 
 	/**
 	 * Displays the win image on the screen when the player wins the game.
-	 * This method adds the win image to the root container to signal the end of the game.
+	 * This method adds the win image to the overlay layer to signal the end of the game.
 	 */
 	public void showWinImage() {
-		root.getChildren().add(winImage);
+		getLayer(SceneLayer.OVERLAYS).getChildren().add(winImage);
 	}
 
 	/**
 	 * Displays the game over image on the screen when the player loses the game.
-	 * This method adds the game over image to the root container to signal the end of the game.
+	 * This method adds the game over image to the overlay layer to signal the end of the game.
 	 */
 	public void showGameOverImage() {
-		root.getChildren().add(gameOverImage);
+		getLayer(SceneLayer.OVERLAYS).getChildren().add(gameOverImage);
+	}
+
+	/**
+	 * Returns the group of one layer of the level scene.
+	 *
+	 * @param layer the layer.
+	 * @return the group the UI elements of that layer are added to.
+	 */
+	protected Group getLayer(SceneLayer layer) {
+		return layers.getLayer(layer);
+	}
+
+	/**
+	 * Brings the heart display in line with the player's health.
+	 * This is called every frame, but the heart icons are only touched when the health differs from the
+	 * number of hearts already shown, so an unchanged health costs a single comparison.
+	 *
+	 * @param hearts the number of hearts to display, representing the player's current health.
+	 */
+	public void updateHearts(int hearts) {
+		if (hearts == displayedHearts) {
+			return;
+		}
+		if (hearts < displayedHearts) {
+			removeHearts(hearts);
+		} else {
+			addHearts(hearts);
+		}
 	}
 
 	/**
@@ -94,6 +131,7 @@ public class LevelView {
 		for (int i = 0; i < heartsToRemove; i++) {
 			heartDisplay.removeHeart();
 		}
+		displayedHearts = heartDisplay.getContainer().getChildren().size();
 	}
 
 	/**
@@ -108,6 +146,7 @@ public class LevelView {
 		for (int i = 0; i < heartsToAdd; i++) {
 			heartDisplay.addHeart();
 		}
+		displayedHearts = heartDisplay.getContainer().getChildren().size();
 	}
 
 	/**
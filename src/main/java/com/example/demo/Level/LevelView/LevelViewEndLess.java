@@ -1,8 +1,9 @@
 package com.example.demo.Level.LevelView;
 
+import com.example.demo.Level.LevelManager.SceneLayer;
+import com.example.demo.Level.LevelManager.SceneLayerManager;
 import com.example.demo.Display.ScoreBoard;
 import javafx.application.Platform;
-import javafx.scene.Group;
 
 /**
  * Represents the level view for Level 1, responsible for managing and displaying elements
@@ -13,41 +14,34 @@ import javafx.scene.Group;
  */
 public class LevelViewEndLess extends LevelView {
 
-    /**
-     * The root container of the scene where the UI elements will be added.
-     */
-    private final Group root;
-
     /**
      * The scoreboard that shows the current number of kills and the target kills for the level.
      */
     private final ScoreBoard scoreBoard;
 
     /**
-     * Constructs a LevelViewLevelOne instance with the specified root group, hearts to display,
+     * Constructs a LevelViewLevelOne instance with the specified scene layers, hearts to display,
      * and the initial and target kills for the scoreboard.
-     * This constructor initializes the scoreboard and adds it to the root container of the scene.
+     * This constructor initializes the scoreboard and adds it to the HUD layer of the scene.
      *
-     * @param root the root container of the scene where the UI elements will be added.
+     * @param layers the layers of the level scene where the UI elements will be added.
      * @param heartsToDisplay the initial number of hearts to display on the UI.
      * @param initialKills the initial number of kills to display on the scoreboard.
      */
-    public LevelViewEndLess(Group root, int heartsToDisplay, int initialKills) {
-        super(root, heartsToDisplay);
-        this.root = root;
-
+    public LevelViewEndLess(SceneLayerManager layers, int heartsToDisplay, int initialKills) {
+        super(layers, heartsToDisplay);
         this.scoreBoard = new ScoreBoard(initialKills);
         initializeUI();
     }
 
     /**
-     * Initializes the user interface for Level 1 by adding the score board to the root container.
+     * Initializes the user interface for Level 1 by adding the score board to the HUD layer.
      * This method runs on the JavaFX application thread to ensure UI updates are executed correctly.
-     * The scoreboard is added to the root container, and its visibility is updated using {@link Platform#runLater}
+     * The scoreboard is added to the HUD layer, and its visibility is updated using {@link Platform#runLater}
      * to ensure the element is displayed properly after initialization.
      */
     private void initializeUI() {
-        root.getChildren().add(scoreBoard);
+        getLayer(SceneLayer.HUD).getChildren().add(scoreBoard);
         Platform.runLater(() -> {
             scoreBoard.show();  // Show the score board after UI initialization
         });
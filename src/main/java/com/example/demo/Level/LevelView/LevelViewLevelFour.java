@@ -1,35 +1,46 @@
 package com.example.demo.Level.LevelView;
 
+import com.example.demo.Level.LevelManager.SceneLayer;
+import com.example.demo.Level.LevelManager.SceneLayerManager;
 import com.example.demo.Display.ShieldImage;
 import com.example.demo.Display.TargetLevel;
 import com.example.demo.Actor.Plane.Boss.Boss;
 import com.example.demo.Display.BossHealthBar;
 import javafx.application.Platform;
-import javafx.scene.Group;
 
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Represents the level view for Level 4, responsible for managing and displaying elements
- * such as the shield image, boss health bars, and other level-specific UI elements.
+ * such as the boss shields, boss health bars, and other level-specific UI elements.
  * <p>
  * This class is designed to manage and display the UI elements for Level 4 of the game,
- * which includes multiple bosses with their corresponding health bars and a shield image
- * that can be toggled depending on the status of the bosses.
+ * which includes multiple bosses, each with its own health bar and its own shield image
+ * that can be toggled depending on the status of that boss.
  * </p>
  */
 public class LevelViewLevelFour extends LevelView {
 
     /**
-     * The root container of the scene where the UI elements will be added.
+     * The horizontal offset of a boss's shield from the boss's origin.
      */
-    private final Group root;
+    private static final double SHIELD_OFFSET_X = 90;
 
     /**
-     * The shield image that is displayed when a boss has a shield.
+     * The vertical offset of a boss's shield from the boss's origin.
      */
-    private final ShieldImage shieldImage;
+    private static final double SHIELD_OFFSET_Y = 80;
+
+    /**
+     * The vertical offset of a boss's health bar from the boss's origin.
+     */
+    private static final double HEALTH_BAR_OFFSET_Y = 235;
+
+    /**
+     * A map that stores the relationship between each boss and its shield image.
+     */
+    private final Map<Boss, ShieldImage> shieldImages;
 
     /**
      * A map that stores the relationship between each boss and its corresponding health bar.
@@ -42,127 +53,128 @@ public class LevelViewLevelFour extends LevelView {
     private final TargetLevel hint;
 
     /**
-     * Constructs a LevelViewLevelFour instance with the specified root group and number of hearts to display.
+     * Constructs a LevelViewLevelFour instance with the specified scene layers and number of hearts to display.
      * This level view manages additional UI elements such as shield images and boss health bars.
      * <p>
-     * The constructor initializes the shield image, boss health bars map, and the hint, and sets up the UI.
+     * The constructor initializes the shield and boss health bar maps and the hint, and sets up the UI.
+     * The shields and health bars themselves are created when a boss is attached with {@link #attachToBoss}.
      * </p>
      *
-     * @param root the root container of the scene where the UI elements will be added.
+     * @param layers the layers of the level scene where the UI elements will be added.
      * @param heartsToDisplay the initial number of hearts to display on the UI.
      */
-    public LevelViewLevelFour(Group root, int heartsToDisplay) {
-        super(root, heartsToDisplay);
-        this.root = root;
-        this.shieldImage = new ShieldImage();
+    public LevelViewLevelFour(SceneLayerManager layers, int heartsToDisplay) {
+        super(layers, heartsToDisplay);
+        this.shieldImages = new HashMap<>();
         this.bossHealthBars = new HashMap<>();
         this.hint = new TargetLevel();
 
-        initializeUI();  // Initialize other UI elements (excluding health bars)
+        initializeUI();  // Initialize other UI elements (excluding shields and health bars)
     }
 
     /**
-     * Initializes the user interface for the level, adding the shield image and hint to the root.
+     * Initializes the user interface for the level, adding the hint to its scene layer.
      * This method runs on the JavaFX application thread to ensure UI updates are executed correctly.
      * <p>
-     * The hint and shield image are added to the root container, and their visibility is updated using {@link Platform#runLater}
-     * to ensure the elements are displayed properly after initialization.
+     * The hint is added to its scene layer, and its visibility is updated using {@link Platform#runLater}
+     * to ensure the element is displayed properly after initialization.
      * </p>
      */
     private void initializeUI() {
-        root.getChildren().addAll(shieldImage, hint);
+        getLayer(SceneLayer.HUD).getChildren().add(hint);
         Platform.runLater(() -> {
             hint.show();  // Show the hint after UI initialization
         });
     }
 
     /**
-     * Updates the health of the specified boss. If the boss does not yet have a health bar, one is created.
-     * The health bar is updated to reflect the current health of the boss.
+     * Creates a shield image and a hidden health bar for the specified boss and attaches them to it,
+     * so they follow the boss on the screen.
      * <p>
-     * This method ensures that each boss has its own health bar, and it updates the health bar whenever the boss's health changes.
+     * The shield is placed over the body of the boss and the health bar below it. Both are added to the
+     * effects layer of the scene. Attaching a boss that is already attached has no effect.
      * </p>
      *
-     * @param bossHealth the current health of the boss.
-     * @param boss the boss whose health bar should be updated.
+     * @param boss the boss the shield and the health bar belong to.
      */
-    public void updateBossHealth(int bossHealth, Boss boss) {
-        if (!bossHealthBars.containsKey(boss)) {
-            // If the health bar does not exist, create and add it to the UI
-            BossHealthBar healthBar = new BossHealthBar(bossHealth);
-            bossHealthBars.put(boss, healthBar);
-            root.getChildren().add(healthBar);
+    public void attachToBoss(Boss boss) {
+        if (shieldImages.containsKey(boss)) {
+            return;
         }
-
-        // Update the health of the existing health bar
-        BossHealthBar healthBar = bossHealthBars.get(boss);
-        Platform.runLater(() -> {
-            healthBar.updateHealth(bossHealth);
-        });
+        ShieldImage shieldImage = new ShieldImage();
+        BossHealthBar healthBar = new BossHealthBar(boss.getHealth());
+        healthBar.hide();
+        shieldImages.put(boss, shieldImage);
+        bossHealthBars.put(boss, healthBar);
+        boss.attach(shieldImage, SHIELD_OFFSET_X, SHIELD_OFFSET_Y);
+        boss.attach(healthBar, 0, HEALTH_BAR_OFFSET_Y);
+        getLayer(SceneLayer.EFFECTS).getChildren().addAll(shieldImage, healthBar);
     }
 
     /**
-     * Updates the position of the health bar for the specified boss based on the boss's position.
-     * The health bar is positioned slightly below the boss.
+     * Updates the health of the specified boss.
+     * The health bar is updated to reflect the current health of the boss.
      * <p>
-     * This method adjusts the Y position of the health bar to ensure it is placed correctly below the boss.
+     * It is called from the game loop, which already runs on the JavaFX application thread, so the bar is updated directly;
+     * the bar itself ignores updates that do not change the health. Bosses that were never attached are ignored.
      * </p>
      *
-     * @param boss the boss whose health bar position should be updated.
+     * @param bossHealth the current health of the boss.
+     * @param boss the boss whose health bar should be updated.
      */
-    public void updateBossHealthPosition(Boss boss) {
-        double bossPositionX = boss.getLayoutX() + boss.getTranslateX();
-        double bossPositionY = boss.getLayoutY() + boss.getTranslateY() + 235;
-
-        if (bossHealthBars.containsKey(boss)) {
-            BossHealthBar healthBar = bossHealthBars.get(boss);
-            healthBar.setLayout(bossPositionX, bossPositionY);
+    public void updateBossHealth(int bossHealth, Boss boss) {
+        BossHealthBar healthBar = bossHealthBars.get(boss);
+        if (healthBar != null) {
+            healthBar.updateHealth(bossHealth);
         }
     }
 
     /**
-     * Updates the position of the shield image relative to the position of the specified boss.
-     * The shield is positioned slightly to the right and above the boss.
-     * <p>
-     * This method adjusts the shield's position based on the boss's position, ensuring that the shield is
-     * correctly aligned with the boss's location.
-     * </p>
+     * Retrieves the shield image of the specified boss.
      *
-     * @param boss the boss whose shield position should be updated.
+     * @param boss the boss whose shield image should be returned.
+     * @return the shield image, or null if the boss was never attached
      */
-    public void updateShieldPosition(Boss boss) {
-        double bossPositionX = boss.getLayoutX() + boss.getTranslateX() + 90;
-        double bossPositionY = boss.getLayoutY() + boss.getTranslateY() + 80;
-        shieldImage.setLayout(bossPositionX, bossPositionY);
+    protected ShieldImage getShieldImage(Boss boss) {
+        return shieldImages.get(boss);
     }
 
     /**
-     * Retrieves the shield image.
+     * Retrieves the health bar of the specified boss.
      *
-     * @return the shield image
+     * @param boss the boss whose health bar should be returned.
+     * @return the health bar, or null if the boss was never attached
      */
-    protected ShieldImage getShieldImage() {
-        return shieldImage;
+    protected BossHealthBar getBossHealthBar(Boss boss) {
+        return bossHealthBars.get(boss);
     }
 
     /**
-     * Displays the shield image, typically used to indicate that a boss has a shield.
+     * Displays the shield image of the specified boss, typically used to indicate that the boss has a shield.
      * <p>
      * This method is called when the boss gains a shield or when the shield needs to be shown on the UI.
      * </p>
+     *
+     * @param boss the boss whose shield should be shown.
      */
-    public void showShield() {
-        shieldImage.show();
+    public void showShield(Boss boss) {
+        if (shieldImages.containsKey(boss)) {
+            shieldImages.get(boss).show();
+        }
     }
 
     /**
-     * Hides the shield image, typically used when the boss no longer has a shield.
+     * Hides the shield image of the specified boss, typically used when the boss no longer has a shield.
      * <p>
      * This method is called when the shield needs to be removed from the UI.
      * </p>
+     *
+     * @param boss the boss whose shield should be hidden.
      */
-    public void hideShield() {
-        shieldImage.hide();
+    public void hideShield(Boss boss) {
+        if (shieldImages.containsKey(boss)) {
+            shieldImages.get(boss).hide();
+        }
     }
 
     /**
@@ -194,4 +206,4 @@ public class LevelViewLevelFour extends LevelView {
             healthBar.show();
         }
     }
-}
\ No newline at end of file
+}
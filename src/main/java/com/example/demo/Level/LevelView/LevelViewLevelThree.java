@@ -1,12 +1,13 @@
 package com.example.demo.Level.LevelView;
 
+import com.example.demo.Level.LevelManager.SceneLayer;
+import com.example.demo.Level.LevelManager.SceneLayerManager;
 import com.example.demo.Display.ScoreBoard;
 import com.example.demo.Display.ShieldImage;
 import com.example.demo.Display.TargetLevel;
 import com.example.demo.Actor.Plane.Boss.Boss;
 import com.example.demo.Display.BossHealthBar;
 import javafx.application.Platform;
-import javafx.scene.Group;
 
 /**
  * Represents the level view for Level 3, responsible for managing and displaying elements
@@ -19,9 +20,9 @@ import javafx.scene.Group;
 public class LevelViewLevelThree extends LevelView {
 
     /**
-     * The root container of the scene where the UI elements will be added.
+     * The vertical offset of the boss health bar from the boss's origin.
      */
-    private final Group root;
+    private static final double HEALTH_BAR_OFFSET_Y = 65;
 
     /**
      * The shield image displayed for the boss when it is shielded.
@@ -44,22 +45,21 @@ public class LevelViewLevelThree extends LevelView {
     private final ScoreBoard scoreBoard;
 
     /**
-     * Constructs a LevelViewLevelThree instance with the specified root group, hearts to display,
+     * Constructs a LevelViewLevelThree instance with the specified scene layers, hearts to display,
      * the boss's health, initial kills, and target kills for the scoreboard.
      * <p>
      * This constructor initializes all the necessary UI components for the level, including the
-     * shield image, boss health bar, hint, and scoreboard, and adds them to the root container of the scene.
+     * shield image, boss health bar, hint, and scoreboard, and adds them to their layers of the scene.
      * </p>
      *
-     * @param root the root container of the scene where the UI elements will be added.
+     * @param layers the layers of the level scene where the UI elements will be added.
      * @param heartsToDisplay the initial number of hearts to display on the UI.
      * @param bossHealth the health of the boss to be displayed in the health bar.
      * @param initialKills the initial number of kills to display on the scoreboard.
      * @param targetKills the target number of kills required to complete the level.
      */
-    public LevelViewLevelThree(Group root, int heartsToDisplay, int bossHealth, int initialKills, int targetKills) {
-        super(root, heartsToDisplay);
-        this.root = root;
+    public LevelViewLevelThree(SceneLayerManager layers, int heartsToDisplay, int bossHealth, int initialKills, int targetKills) {
+        super(layers, heartsToDisplay);
         this.shieldImage = new ShieldImage();
         this.bossHealthBar = new BossHealthBar(bossHealth);
         this.hint = new TargetLevel();
@@ -70,15 +70,16 @@ public class LevelViewLevelThree extends LevelView {
 
     /**
      * Initializes the user interface for Level 3 by adding the shield image, boss health bar,
-     * hint, and score board to the root container. This method is run on the JavaFX application thread
+     * hint, and score board to their scene layers. This method is run on the JavaFX application thread
      * to ensure that the UI updates happen on the correct thread.
      * <p>
-     * The shield image, boss health bar, hint, and scoreboard are added to the root container, and their
+     * The shield image, boss health bar, hint, and scoreboard are added to their scene layers, and their
      * visibility is updated using {@link Platform#runLater} to ensure the elements are displayed properly.
      * </p>
      */
     private void initializeUI() {
-        root.getChildren().addAll(shieldImage, bossHealthBar, hint, scoreBoard);
+        getLayer(SceneLayer.EFFECTS).getChildren().addAll(shieldImage, bossHealthBar);
+        getLayer(SceneLayer.HUD).getChildren().addAll(hint, scoreBoard);
         Platform.runLater(() -> {
             bossHealthBar.hide();
             hint.show();
@@ -86,20 +87,6 @@ public class LevelViewLevelThree extends LevelView {
         });
     }
 
-    /**
-     * Updates the position of the shield image relative to the boss's current position.
-     * <p>
-     * This method ensures that the shield image follows the boss's movement on the screen.
-     * </p>
-     *
-     * @param boss the boss whose position is used to update the shield's position.
-     */
-    public void updateShieldPosition(Boss boss) {
-        double bossPositionX = boss.getLayoutX() + boss.getTranslateX();
-        double bossPositionY = boss.getLayoutY() + boss.getTranslateY();
-        shieldImage.setLayout(bossPositionX, bossPositionY);
-    }
-
     /**
      * Retrieves the shield image.
      *
@@ -130,17 +117,14 @@ public class LevelViewLevelThree extends LevelView {
     }
 
     /**
-     * Updates the position of the boss health bar relative to the boss's current position.
-     * <p>
-     * This method ensures that the health bar remains positioned correctly above the boss.
-     * </p>
+     * Attaches the shield image and the health bar to the boss, so they follow it on the screen.
+     * The shield covers the boss and the health bar sits just below it.
      *
-     * @param boss the boss whose position is used to update the health bar's position.
+     * @param boss the boss the shield and the health bar belong to.
      */
-    public void updateBossHealthPosition(Boss boss) {
-        double bossPositionX = boss.getLayoutX() + boss.getTranslateX();
-        double bossPositionY = boss.getLayoutY() + boss.getTranslateY() + 65;  // Adjusted Y position
-        bossHealthBar.setLayout(bossPositionX, bossPositionY);
+    public void attachToBoss(Boss boss) {
+        boss.attach(shieldImage, 0, 0);
+        boss.attach(bossHealthBar, 0, HEALTH_BAR_OFFSET_Y);
     }
 
     /**
@@ -1,11 +1,12 @@
 package com.example.demo.Level.LevelView;
 
+import com.example.demo.Level.LevelManager.SceneLayer;
+import com.example.demo.Level.LevelManager.SceneLayerManager;
 import com.example.demo.Display.ShieldImage;
 import com.example.demo.Display.TargetLevel;
 import com.example.demo.Actor.Plane.Boss.Boss;
 import com.example.demo.Display.BossHealthBar;
 import javafx.application.Platform;
-import javafx.scene.Group;
 
 /**
  * Represents the level view for Level 2, responsible for managing and displaying elements
@@ -17,9 +18,9 @@ import javafx.scene.Group;
 public class LevelViewLevelTwo extends LevelView {
 
     /**
-     * The root container of the scene where the UI elements will be added.
+     * The vertical offset of the boss health bar from the boss's origin.
      */
-    private final Group root;
+    private static final double HEALTH_BAR_OFFSET_Y = 65;
 
     /**
      * The shield image displayed for the boss when it is shielded.
@@ -37,18 +38,17 @@ public class LevelViewLevelTwo extends LevelView {
     private final TargetLevel hint;
 
     /**
-     * Constructs a LevelViewLevelTwo instance with the specified root group, hearts to display,
+     * Constructs a LevelViewLevelTwo instance with the specified scene layers, hearts to display,
      * and the boss's health for the health bar.
      * This constructor initializes the necessary UI components, such as the shield image, boss health bar,
-     * and the hint, and adds them to the root container of the scene.
+     * and the hint, and adds them to their layers of the scene.
      *
-     * @param root the root container of the scene where the UI elements will be added.
+     * @param layers the layers of the level scene where the UI elements will be added.
      * @param heartsToDisplay the initial number of hearts to display on the UI.
      * @param bossHealth the health of the boss to be displayed in the health bar.
      */
-    public LevelViewLevelTwo(Group root, int heartsToDisplay, int bossHealth) {
-        super(root, heartsToDisplay);
-        this.root = root;
+    public LevelViewLevelTwo(SceneLayerManager layers, int heartsToDisplay, int bossHealth) {
+        super(layers, heartsToDisplay);
         this.shieldImage = new ShieldImage();
         this.bossHealthBar = new BossHealthBar(bossHealth);
         this.hint = new TargetLevel();
@@ -58,31 +58,20 @@ public class LevelViewLevelTwo extends LevelView {
 
     /**
      * Initializes the user interface for Level 2 by adding the shield image, boss health bar,
-     * and hint to the root container. This method is run on the JavaFX application thread to ensure
+     * and hint to their scene layers. This method is run on the JavaFX application thread to ensure
      * that UI updates are performed on the correct thread.
-     * The shield image, boss health bar, and hint are added to the root container, and their visibility
+     * The shield image, boss health bar, and hint are added to their scene layers, and their visibility
      * is updated using the {@link Platform#runLater} method to ensure UI elements are shown on the screen.
      */
     private void initializeUI() {
-        root.getChildren().addAll(shieldImage, bossHealthBar, hint);
+        getLayer(SceneLayer.EFFECTS).getChildren().addAll(shieldImage, bossHealthBar);
+        getLayer(SceneLayer.HUD).getChildren().add(hint);
         Platform.runLater(() -> {
             bossHealthBar.hide();
             hint.show();
         });
     }
 
-    /**
-     * Updates the position of the shield image relative to the boss's current position.
-     * This method ensures that the shield image follows the boss's movement on the screen.
-     *
-     * @param boss the boss whose position is used to update the shield's position.
-     */
-    public void updateShieldPosition(Boss boss) {
-        double bossPositionX = boss.getLayoutX() + boss.getTranslateX();
-        double bossPositionY = boss.getLayoutY() + boss.getTranslateY();
-        shieldImage.setLayout(bossPositionX, bossPositionY);
-    }
-
     /**
      * Retrieves the shield image.
      *
@@ -109,15 +98,14 @@ public class LevelViewLevelTwo extends LevelView {
     }
 
     /**
-     * Updates the position of the boss health bar relative to the boss's current position.
-     * This method ensures that the health bar remains positioned correctly above the boss.
+     * Attaches the shield image and the health bar to the boss, so they follow it on the screen.
+     * The shield covers the boss and the health bar sits just below it.
      *
-     * @param boss the boss whose position is used to update the health bar's position.
+     * @param boss the boss the shield and the health bar belong to.
      */
-    public void updateBossHealthPosition(Boss boss) {
-        double bossPositionX = boss.getLayoutX() + boss.getTranslateX();
-        double bossPositionY = boss.getLayoutY() + boss.getTranslateY() + 65;  // Adjusted Y position
-        bossHealthBar.setLayout(bossPositionX, bossPositionY);
+    public void attachToBoss(Boss boss) {
+        boss.attach(shieldImage, 0, 0);
+        boss.attach(bossHealthBar, 0, HEALTH_BAR_OFFSET_Y);
     }
 
     /**
@@ -1,10 +1,10 @@
 package com.example.demo.Ui;
 
+import com.example.demo.Level.LevelManager.ImageManager;
 import javafx.animation.KeyFrame;
 import javafx.animation.PathTransition;
 import javafx.animation.Timeline;
 import javafx.fxml.FXML;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.shape.CubicCurveTo;
 import javafx.scene.shape.MoveTo;
@@ -156,13 +156,13 @@ public class Control_Animation {
      * Loads images for all elements including the background, plane, user bullets, enemy, enemy bullets, boss, and boss bullets.
      */
     private void loadImages() {
-        backgroundImageView.setImage(new Image(getClass().getResourceAsStream("/com/example/demo/images/start.jpg")));
-        planeImageView.setImage(new Image(getClass().getResourceAsStream("/com/example/demo/images/userplane.png")));
-        userfireImageView.setImage(new Image(getClass().getResourceAsStream("/com/example/demo/images/userfire_level1.png")));
-        enemyImageView.setImage(new Image(getClass().getResourceAsStream("/com/example/demo/images/enemyplane.png")));
-        enemyfireImageView.setImage(new Image(getClass().getResourceAsStream("/com/example/demo/images/enemyFire.png")));
-        bossImageView.setImage(new Image(getClass().getResourceAsStream("/com/example/demo/images/bossplane.png")));
-        bossfireImageView.setImage(new Image(getClass().getResourceAsStream("/com/example/demo/images/fireball.png")));
+        backgroundImageView.setImage(ImageManager.getInstance().getImage("/com/example/demo/images/start.jpg"));
+        planeImageView.setImage(ImageManager.getInstance().getImage("/com/example/demo/images/userplane.png"));
+        userfireImageView.setImage(ImageManager.getInstance().getImage("/com/example/demo/images/userfire_level1.png"));
+        enemyImageView.setImage(ImageManager.getInstance().getImage("/com/example/demo/images/enemyplane.png"));
+        enemyfireImageView.setImage(ImageManager.getInstance().getImage("/com/example/demo/images/enemyFire.png"));
+        bossImageView.setImage(ImageManager.getInstance().getImage("/com/example/demo/images/bossplane.png"));
+        bossfireImageView.setImage(ImageManager.getInstance().getImage("/com/example/demo/images/fireball.png"));
     }
 
     /**
@@ -1,10 +1,10 @@
 package com.example.demo.Ui;
 
 import com.example.demo.Level.LevelManager.AudioManager;
+import com.example.demo.Level.LevelManager.ImageManager;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.control.Button;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
 
@@ -105,14 +105,14 @@ public class Control_Control {
      * Loads the images for the control panel elements, such as the aircraft, bullets, heart, and ammo box.
      */
     private void loadImages() {
-        planeImageView.setImage(new Image(getClass().getResourceAsStream("/com/example/demo/images/userplane.png")));
-        userfire1ImageView.setImage(new Image(getClass().getResourceAsStream("/com/example/demo/images/userfire_level1.png")));
-        userfire2ImageView.setImage(new Image(getClass().getResourceAsStream("/com/example/demo/images/userfire_level2.png")));
-        userfire3ImageView.setImage(new Image(getClass().getResourceAsStream("/com/example/demo/images/userfire_level3.png")));
-        userfire4ImageView.setImage(new Image(getClass().getResourceAsStream("/com/example/demo/images/userfire_level4.png")));
-        userfire5ImageView.setImage(new Image(getClass().getResourceAsStream("/com/example/demo/images/userfire_level5.png")));
-        heartImageView.setImage(new Image(getClass().getResourceAsStream("/com/example/demo/images/heartItem.png")));
-        ammoboxImageView.setImage(new Image(getClass().getResourceAsStream("/com/example/demo/images/ammobox.png")));
+        planeImageView.setImage(ImageManager.getInstance().getImage("/com/example/demo/images/userplane.png"));
+        userfire1ImageView.setImage(ImageManager.getInstance().getImage("/com/example/demo/images/userfire_level1.png"));
+        userfire2ImageView.setImage(ImageManager.getInstance().getImage("/com/example/demo/images/userfire_level2.png"));
+        userfire3ImageView.setImage(ImageManager.getInstance().getImage("/com/example/demo/images/userfire_level3.png"));
+        userfire4ImageView.setImage(ImageManager.getInstance().getImage("/com/example/demo/images/userfire_level4.png"));
+        userfire5ImageView.setImage(ImageManager.getInstance().getImage("/com/example/demo/images/userfire_level5.png"));
+        heartImageView.setImage(ImageManager.getInstance().getImage("/com/example/demo/images/heartItem.png"));
+        ammoboxImageView.setImage(ImageManager.getInstance().getImage("/com/example/demo/images/ammobox.png"));
     }
 
     /**
@@ -113,10 +113,11 @@ public class Control_Main {
 
     /**
      * Initialization method called automatically by JavaFX.
-     * Sets up background music, button actions, and loads animations.
+     * Sets up background music, starts loading the sound effects, sets up button actions, and loads animations.
      */
     public void initialize() {
         initBackgroundMusic();
+        AudioManager.getInstance().preloadSoundEffects(); // Decode the sound effects while the menu is shown
         setupButtonActions();
         loadAnimation();
     }
@@ -125,9 +126,7 @@ public class Control_Main {
      * Initializes and plays background music if needed.
      */
     private void initBackgroundMusic() {
-        if (AudioManager.getInstance().getBackgroundMusic() == null) {
-            AudioManager.getInstance().initBackgroundMusic();
-        }
+        AudioManager.getInstance().initBackgroundMusic(); // Does nothing once the music has been loaded
 
         if (AudioManager.getInstance().isBackgroundMusicEnabled() && !AudioManager.getInstance().isBackgroundMusicPlaying()) {
             AudioManager.getInstance().playBackgroundMusic();
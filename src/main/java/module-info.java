@@ -13,6 +13,7 @@
  *   <li>{@code com.example.demo.Controller}: Game program entrance.</li>
  *   <li>{@code com.example.demo.Display}: Handles game display logic, including scene management and rendering of game visuals.</li>
  *   <li>{@code com.example.demo.Level}: Handles level management, including level logic, enemy spawning, and level progression.</li>
+ *   <li>{@code com.example.demo.Level.FlightRecorder}: Defines the JDK Flight Recorder events emitted by the game loop.</li>
  *   <li>{@code com.example.demo.Level.LevelManager}: Controls the flow and progression of levels within the game.</li>
  *   <li>{@code com.example.demo.Level.LevelView}: Responsible for rendering the view for each level, including background and enemies.</li>
  *   <li>{@code com.example.demo.Ui}: Manages the user interface components, including menus, settings, and HUD elements.</li>
@@ -26,6 +27,13 @@ module com.example.demo {
     requires javafx.graphics;
     requires javafx.media;
 
+    // Management beans read by the in-game performance overlay
+    requires java.management;
+    requires jdk.management;
+
+    // Flight Recorder events for the game loop, levels and effects
+    requires jdk.jfr;
+
     // Opens specific packages for reflection-based FXML loading
     opens com.example.demo.Actor to javafx.fxml;
     opens com.example.demo.Actor.Object to javafx.fxml;
@@ -35,6 +43,7 @@ module com.example.demo {
     opens com.example.demo.Controller to javafx.fxml;
     opens com.example.demo.Display to javafx.fxml;
     opens com.example.demo.Level to javafx.fxml;
+    opens com.example.demo.Level.FlightRecorder to javafx.fxml;
     opens com.example.demo.Level.LevelManager to javafx.fxml;
     opens com.example.demo.Level.LevelView to javafx.fxml;
     opens com.example.demo.Ui to javafx.fxml;
@@ -48,6 +57,7 @@ module com.example.demo {
     exports com.example.demo.Controller;
     exports com.example.demo.Display;
     exports com.example.demo.Level;
+    exports com.example.demo.Level.FlightRecorder;
     exports com.example.demo.Level.LevelManager;
     exports com.example.demo.Level.LevelView;
     exports com.example.demo.Ui;
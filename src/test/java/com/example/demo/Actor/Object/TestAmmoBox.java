@@ -28,7 +28,7 @@ public class TestAmmoBox {
         ammoBox.moveHorizontally(-20);
 
         // Test the new X position
-        assertEquals(980, ammoBox.getTranslateX(), "X position should decrease by 20.");
+        assertEquals(980, ammoBox.getState().getTranslationX(), "X position should decrease by 20.");
     }
 
     @Test
@@ -37,7 +37,7 @@ public class TestAmmoBox {
         ammoBox.updatePosition();
 
         // Test the new X position
-        assertEquals(994, ammoBox.getTranslateX(), "X position should decrease by HORIZONTAL_VELOCITY (-6).");
+        assertEquals(994, ammoBox.getState().getTranslationX(), "X position should decrease by HORIZONTAL_VELOCITY (-6).");
     }
 
     @Test
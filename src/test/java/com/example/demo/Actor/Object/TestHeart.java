@@ -30,30 +30,30 @@ public class TestHeart {
         heart.moveHorizontally(-20);
 
         // Test the new X position
-        assertEquals(980, heart.getTranslateX(), "X position should decrease by 20.");
+        assertEquals(980, heart.getState().getTranslationX(), "X position should decrease by 20.");
     }
 
     @Test
     void testMoveVertically() {
         // Test vertical oscillation effect
-        double initialY = heart.getTranslateY();
+        double initialY = heart.getState().getTranslationY();
         heart.updatePosition(); // Update to apply the vertical movement
 
-        double updatedY = heart.getTranslateY();
+        double updatedY = heart.getState().getTranslationY();
         assertNotEquals(initialY, updatedY, "Y position should change due to vertical oscillation.");
     }
 
     @Test
     void testUpdatePosition() {
         // Update position to simulate frame update
-        double initialX = heart.getTranslateX();
-        double initialY = heart.getTranslateY();
+        double initialX = heart.getState().getTranslationX();
+        double initialY = heart.getState().getTranslationY();
 
         heart.updatePosition();
 
         // Test the updated X and Y positions
-        assertTrue(heart.getTranslateX() < initialX, "X position should decrease due to HORIZONTAL_VELOCITY.");
-        assertNotEquals(initialY, heart.getTranslateY(), "Y position should oscillate vertically.");
+        assertTrue(heart.getState().getTranslationX() < initialX, "X position should decrease due to HORIZONTAL_VELOCITY.");
+        assertNotEquals(initialY, heart.getState().getTranslationY(), "Y position should oscillate vertically.");
     }
 
     @Test
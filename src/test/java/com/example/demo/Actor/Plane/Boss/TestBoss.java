@@ -1,8 +1,14 @@
 package com.example.demo.Actor.Plane.Boss;
 
+import com.example.demo.Level.LevelManager.GameEventListener;
+import com.example.demo.Level.LevelManager.GameEventManager;
+import com.example.demo.Level.LevelManager.GameEventType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class TestBoss {
@@ -42,4 +48,21 @@ public class TestBoss {
 		boss.takeDamage();
 		assertEquals(initialHealth - 1, boss.getHealth()); // Health should decrease by 1 if not shielded
 	}
+
+	@Test
+	void testTakeDamagePublishesRemainingHealth() {
+		List<String> received = new ArrayList<>();
+		GameEventListener listener = (type, source, value) -> received.add(type + " " + value);
+		GameEventManager.getInstance().subscribe(GameEventType.BOSS_DAMAGED, listener);
+		GameEventManager.getInstance().subscribe(GameEventType.ENEMY_KILLED, listener);
+		try {
+			Boss weakBoss = new Boss(2);
+			weakBoss.takeDamage();
+			weakBoss.takeDamage();
+			// The last hit is a kill, not a damage event
+			assertEquals(List.of("BOSS_DAMAGED 1", "ENEMY_KILLED 0"), received);
+		} finally {
+			GameEventManager.getInstance().unsubscribe(listener);
+		}
+	}
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.example.demo.Actor.Projectile.BossProjectile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -29,7 +30,8 @@ public class TestBossFirePattern {
 
     @Test
     void testCreateStraightProjectile() {
-        List<ActiveActorDestructible> projectiles = bossFirePattern.createStraightProjectile();
+        List<ActiveActorDestructible> projectiles = new ArrayList<>();
+        bossFirePattern.createStraightProjectile(projectiles);
 
         assertEquals(1, projectiles.size(), "Straight projectile list should contain one projectile.");
         BossProjectile projectile = (BossProjectile) projectiles.get(0);
@@ -40,7 +42,8 @@ public class TestBossFirePattern {
 
     @Test
     void testCreateTwoProjectiles() {
-        List<ActiveActorDestructible> projectiles = bossFirePattern.createTwoProjectiles();
+        List<ActiveActorDestructible> projectiles = new ArrayList<>();
+        bossFirePattern.createTwoProjectiles(projectiles);
 
         assertEquals(2, projectiles.size(), "Two projectiles should be created.");
 
@@ -56,7 +59,8 @@ public class TestBossFirePattern {
 
     @Test
     void testCreateScatterProjectiles() {
-        List<ActiveActorDestructible> projectiles = bossFirePattern.createScatterProjectiles();
+        List<ActiveActorDestructible> projectiles = new ArrayList<>();
+        bossFirePattern.createScatterProjectiles(projectiles);
 
         assertEquals(3, projectiles.size(), "Scatter projectile list should contain three projectiles.");
 
@@ -76,7 +80,8 @@ public class TestBossFirePattern {
 
     @Test
     void testCreateDirectionalProjectiles() {
-        List<ActiveActorDestructible> projectiles = bossFirePattern.createDirectionalProjectiles();
+        List<ActiveActorDestructible> projectiles = new ArrayList<>();
+        bossFirePattern.createDirectionalProjectiles(projectiles);
 
         assertEquals(3, projectiles.size(), "Directional projectile list should contain three projectiles.");
 
@@ -93,4 +98,15 @@ public class TestBossFirePattern {
         assertEquals(1000.0, leftDownProjectile.getLayoutX(), 0.01, "Left-down projectile X position is incorrect.");
         assertEquals(510.0, leftDownProjectile.getLayoutY(), 0.01, "Left-down projectile Y position is incorrect.");
     }
+
+    @Test
+    void testPatternsAppendToList() {
+        // Patterns add to the caller's list without clearing it
+        List<ActiveActorDestructible> projectiles = new ArrayList<>();
+        bossFirePattern.createStraightProjectile(projectiles);
+        bossFirePattern.createScatterProjectiles(projectiles);
+
+        assertEquals(4, projectiles.size(), "Both patterns should be in the list.");
+        assertEquals(460.0, projectiles.get(0).getLayoutY(), 0.01, "The straight projectile should be kept first.");
+    }
 }
\ No newline at end of file
@@ -25,7 +25,7 @@ public class TestEnemyPlane {
 		// Update the enemy plane's position and verify it has moved correctly
 		double initialX = enemyPlane.getLayoutX();
 		enemyPlane.updatePosition();
-		assertEquals(initialX - 2, enemyPlane.getLayoutX() + enemyPlane.getTranslateX());
+		assertEquals(initialX - 2, enemyPlane.getState().getX());
 	}
 
 	@Test
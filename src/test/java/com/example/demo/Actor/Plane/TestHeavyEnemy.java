@@ -31,15 +31,14 @@ public class TestHeavyEnemy {
         // Update the position and verify the enemy moves left
         double initialX = heavyEnemy.getLayoutX();
         heavyEnemy.updatePosition();
-        assertEquals(initialX - 1, heavyEnemy.getLayoutX() + heavyEnemy.getTranslateX());
+        assertEquals(initialX - 1, heavyEnemy.getState().getX());
     }
 
     @Test
     void testHitboxInitialization() {
         // Verify the hitbox is initialized with the correct dimensions
-        assertNotNull(heavyEnemy.getHitbox());
-        assertEquals(100, heavyEnemy.getHitbox().getWidth());
-        assertEquals(100, heavyEnemy.getHitbox().getHeight());
+        assertEquals(100, heavyEnemy.getState().getHitboxWidth());
+        assertEquals(100, heavyEnemy.getState().getHitboxHeight());
     }
 
     @Test
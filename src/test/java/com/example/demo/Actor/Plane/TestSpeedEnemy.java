@@ -26,9 +26,10 @@ public class TestSpeedEnemy {
     @Test
     void testInitialHitbox() {
         // Verify that the collision box width and height match the dimensions of the SpeedEnemy
-        assertNotNull(speedEnemy.getHitbox());
-        assertEquals(70, speedEnemy.getHitbox().getWidth());
-        assertEquals(70, speedEnemy.getHitbox().getHeight());
+        assertEquals(70, speedEnemy.getState().getHitboxWidth());
+        assertEquals(70, speedEnemy.getState().getHitboxHeight());
+        // No outline node is created outside the hitbox debug mode
+        assertNull(speedEnemy.getHitbox());
     }
 
     @Test
@@ -36,7 +37,7 @@ public class TestSpeedEnemy {
         // Test that SpeedEnemy is moving left as expected
         double initialX = speedEnemy.getLayoutX();
         speedEnemy.updatePosition();
-        assertEquals(initialX - 5, speedEnemy.getLayoutX() + speedEnemy.getTranslateX());
+        assertEquals(initialX - 5, speedEnemy.getState().getX());
     }
 
     @Test
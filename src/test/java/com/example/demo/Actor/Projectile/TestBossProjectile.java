@@ -19,8 +19,8 @@ public class TestBossProjectile {
 		bossProjectile.setVelocity(-5, 3);
 
 		bossProjectile.updatePosition();
-		assertEquals(95, bossProjectile.getLayoutX() + bossProjectile.getTranslateX());
-		assertEquals(203, bossProjectile.getLayoutY() + bossProjectile.getTranslateY());
+		assertEquals(95, bossProjectile.getState().getX());
+		assertEquals(203, bossProjectile.getState().getY());
 	}
 
 	@Test
@@ -32,8 +32,8 @@ public class TestBossProjectile {
 
 		bossProjectile.updatePosition();
 
-		assertEquals(initialX - 5, bossProjectile.getLayoutX() + bossProjectile.getTranslateX());
-		assertEquals(initialY + 3, bossProjectile.getLayoutY() + bossProjectile.getTranslateY());
+		assertEquals(initialX - 5, bossProjectile.getState().getX());
+		assertEquals(initialY + 3, bossProjectile.getState().getY());
 	}
 
 	@Test
@@ -45,10 +45,9 @@ public class TestBossProjectile {
 
 		bossProjectile.updateActor();
 
-		assertEquals(initialX - 7, bossProjectile.getLayoutX() + bossProjectile.getTranslateX());
-		assertEquals(initialY + 2, bossProjectile.getLayoutY() + bossProjectile.getTranslateY());
-		assertNotNull(bossProjectile.getHitbox());
-		assertEquals(initialX - 7, bossProjectile.getHitbox().getX());
-		assertEquals(initialY + 2, bossProjectile.getHitbox().getY());
+		assertEquals(initialX - 7, bossProjectile.getState().getX());
+		assertEquals(initialY + 2, bossProjectile.getState().getY());
+		assertEquals(initialX - 7, bossProjectile.getState().getHitboxX());
+		assertEquals(initialY + 2, bossProjectile.getState().getHitboxY());
 	}
 }
\ No newline at end of file
@@ -22,15 +22,14 @@ public class TestEnemyProjectile {
 		// Update the projectile's position and verify it has moved correctly
 		double initialX = enemyProjectile.getLayoutX();
 		enemyProjectile.updatePosition();
-		assertEquals(initialX - 5, enemyProjectile.getLayoutX() + enemyProjectile.getTranslateX());
+		assertEquals(initialX - 5, enemyProjectile.getState().getX());
 	}
 
 	@Test
 	void testHitboxInitialization() {
 		// Verify that the hitbox is initialized correctly
-		assertNotNull(enemyProjectile.getHitbox());
-		assertEquals(50, enemyProjectile.getHitbox().getWidth());
-		assertEquals(15, enemyProjectile.getHitbox().getHeight(), 0.1); // 50 * 0.3
+		assertEquals(50, enemyProjectile.getState().getHitboxWidth());
+		assertEquals(15, enemyProjectile.getState().getHitboxHeight(), 0.1); // 50 * 0.3
 	}
 
 	@Test
@@ -38,6 +37,6 @@ public class TestEnemyProjectile {
 		// Ensure updateActor correctly updates position
 		double initialX = enemyProjectile.getLayoutX();
 		enemyProjectile.updateActor();
-		assertEquals(initialX - 5, enemyProjectile.getLayoutX() + enemyProjectile.getTranslateX());
+		assertEquals(initialX - 5, enemyProjectile.getState().getX());
 	}
 }
\ No newline at end of file
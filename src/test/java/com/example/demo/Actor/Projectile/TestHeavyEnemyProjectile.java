@@ -20,9 +20,8 @@ public class TestHeavyEnemyProjectile {
     @Test
     void testInitialHitbox() {
         // Verify the hitbox dimensions match the projectile's size
-        assertNotNull(heavyEnemyProjectile.getHitbox());
-        assertEquals(50, heavyEnemyProjectile.getHitbox().getWidth());
-        assertEquals(50, heavyEnemyProjectile.getHitbox().getHeight());
+        assertEquals(50, heavyEnemyProjectile.getState().getHitboxWidth());
+        assertEquals(50, heavyEnemyProjectile.getState().getHitboxHeight());
     }
 
     @Test
@@ -30,7 +29,7 @@ public class TestHeavyEnemyProjectile {
         // Verify the projectile moves left when updatePosition is called
         double initialX = heavyEnemyProjectile.getLayoutX();
         heavyEnemyProjectile.updatePosition();
-        assertEquals(initialX - 7, heavyEnemyProjectile.getLayoutX() + heavyEnemyProjectile.getTranslateX());
+        assertEquals(initialX - 7, heavyEnemyProjectile.getState().getX());
     }
 
     @Test
@@ -38,6 +37,6 @@ public class TestHeavyEnemyProjectile {
         // Ensure updateActor calls updatePosition correctly
         double initialX = heavyEnemyProjectile.getLayoutX();
         heavyEnemyProjectile.updateActor();
-        assertEquals(initialX - 7, heavyEnemyProjectile.getLayoutX() + heavyEnemyProjectile.getTranslateX());
+        assertEquals(initialX - 7, heavyEnemyProjectile.getState().getX());
     }
 }
\ No newline at end of file
@@ -52,8 +52,8 @@ public class TestUserProjectile {
 		// Test update position
 		userProjectile.setPowerLevel(2);
 		userProjectile.updateProjectileState();
-		double initialPosition = userProjectile.getTranslateX();
+		double initialPosition = userProjectile.getState().getTranslationX();
 		userProjectile.updatePosition();
-		assertNotEquals(initialPosition, userProjectile.getTranslateX());
+		assertNotEquals(initialPosition, userProjectile.getState().getTranslationX());
 	}
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.example.demo.Actor;
+
+import com.example.demo.Actor.Projectile.BossProjectile;
+import com.example.demo.Controller.GameRuntime;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestActorAttachment {
+
+	@BeforeAll
+	static void enableHeadless() {
+		GameRuntime.setHeadless(true);
+	}
+
+	@AfterAll
+	static void disableHeadless() {
+		GameRuntime.setHeadless(false);
+	}
+
+	@Test
+	void testOverlayFollowsActor() {
+		BossProjectile actor = new BossProjectile(100, 200);
+		Rectangle overlay = new Rectangle();
+		actor.attach(overlay, 10, 20);
+		assertTrue(actor.hasAttachments());
+		assertEquals(110, overlay.getLayoutX());
+		assertEquals(220, overlay.getLayoutY());
+
+		// Moving the actor moves the overlay once the node is synced
+		actor.updateActor();
+		actor.syncNode();
+		assertEquals(actor.getState().getX() + 10, overlay.getLayoutX() + overlay.getTranslateX());
+		assertEquals(actor.getState().getY() + 20, overlay.getLayoutY() + overlay.getTranslateY());
+	}
+
+	@Test
+	void testDetachedOverlayStaysPut() {
+		BossProjectile actor = new BossProjectile(100, 200);
+		Rectangle overlay = new Rectangle();
+		actor.attach(overlay, 0, 0);
+		actor.detach(overlay);
+		actor.detach(overlay);
+		assertFalse(actor.hasAttachments());
+
+		actor.updateActor();
+		actor.syncNode();
+		assertEquals(0, overlay.getTranslateX());
+		// A detached overlay can be positioned by hand again
+		overlay.setLayoutX(5);
+		assertEquals(5, overlay.getLayoutX());
+	}
+}
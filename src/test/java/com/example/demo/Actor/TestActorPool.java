@@ -0,0 +1,84 @@
+package com.example.demo.Actor;
+
+import com.example.demo.Actor.Plane.HeavyEnemy;
+import com.example.demo.Actor.Projectile.BossProjectile;
+import com.example.demo.Actor.Projectile.MutationBossProjectile1;
+import com.example.demo.Controller.GameRuntime;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestActorPool {
+
+	@BeforeAll
+	static void enableHeadless() {
+		GameRuntime.setHeadless(true);
+	}
+
+	@AfterAll
+	static void disableHeadless() {
+		GameRuntime.setHeadless(false);
+	}
+
+	@Test
+	void testReleasedActorIsReusedAndReset() {
+		ActorPool<BossProjectile> pool = new ActorPool<>(BossProjectile::new, 4);
+		BossProjectile projectile = pool.acquire(100, 200);
+		projectile.setVelocity(-3, 2);
+		projectile.updateActor();
+		projectile.destroy();
+
+		pool.release(projectile);
+		assertEquals(1, pool.getFreeCount());
+
+		BossProjectile reused = pool.acquire(300, 400);
+		assertSame(projectile, reused);
+		assertFalse(reused.isDestroyed());
+		assertEquals(300, reused.getState().getX());
+		assertEquals(400, reused.getState().getY());
+		// The default velocity is restored
+		reused.updateActor();
+		assertEquals(293, reused.getState().getX());
+		assertEquals(400, reused.getState().getY());
+	}
+
+	@Test
+	void testReleasingTwiceKeepsOneCopy() {
+		ActorPool<BossProjectile> pool = new ActorPool<>(BossProjectile::new, 4);
+		BossProjectile projectile = pool.acquire(0, 0);
+		pool.release(projectile);
+		pool.release(projectile);
+		assertEquals(1, pool.getFreeCount());
+	}
+
+	@Test
+	void testCapacityLimitsFreeActors() {
+		ActorPool<BossProjectile> pool = new ActorPool<>(BossProjectile::new, 1);
+		pool.release(pool.acquire(0, 0));
+		pool.release(new BossProjectile(0, 0));
+		assertEquals(1, pool.getFreeCount());
+	}
+
+	@Test
+	void testRecycledPlaneGetsFullHealth() {
+		HeavyEnemy enemy = HeavyEnemy.obtain(500, 100);
+		enemy.takeDamage();
+		enemy.takeDamage();
+		enemy.recycle();
+
+		HeavyEnemy reused = HeavyEnemy.obtain(600, 150);
+		assertSame(enemy, reused);
+		assertEquals(5, reused.getHealth());
+	}
+
+	@Test
+	void testSubclassesUseTheirOwnPool() {
+		MutationBossProjectile1 projectile = MutationBossProjectile1.obtain(0, 0);
+		projectile.recycle();
+		// A plain boss projectile must not be served from the mutation projectile pool
+		assertNotSame(projectile, BossProjectile.obtain(0, 0));
+		assertSame(projectile, MutationBossProjectile1.obtain(0, 0));
+	}
+}
@@ -0,0 +1,54 @@
+package com.example.demo.Actor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestActorState {
+
+	private ActorState state;
+
+	@BeforeEach
+	void setUp() {
+		// A 100x50 sprite whose origin is at (200, 300)
+		state = new ActorState(200, 300, 100, 50);
+	}
+
+	@Test
+	void testPositionIsOriginPlusTranslation() {
+		state.setTranslationX(-20);
+		state.setTranslationY(15);
+		assertEquals(180, state.getX());
+		assertEquals(315, state.getY());
+	}
+
+	@Test
+	void testHitboxFollowsPosition() {
+		state.setHitboxSize(40, 10);
+		state.setTranslationX(5);
+		state.updateHitboxPosition();
+		assertEquals(205, state.getHitboxX());
+		assertEquals(300, state.getHitboxY());
+		assertEquals(40, state.getHitboxWidth());
+		assertEquals(10, state.getHitboxHeight());
+	}
+
+	@Test
+	void testIntersectsIncludesTouchingEdges() {
+		// Same convention as javafx.geometry.Bounds#intersects: touching edges overlap
+		ActorState touching = new ActorState(300, 300, 10, 10);
+		ActorState apart = new ActorState(301, 300, 10, 10);
+		assertTrue(state.intersects(touching));
+		assertTrue(touching.intersects(state));
+		assertFalse(state.intersects(apart));
+	}
+
+	@Test
+	void testHitboxIntersectsRectangle() {
+		state.setHitboxSize(100, 50);
+		state.updateHitboxPosition();
+		assertTrue(state.hitboxIntersects(300, 0, 1, 1000));
+		assertFalse(state.hitboxIntersects(-10, 0, 1, 1000));
+	}
+}
@@ -33,6 +33,18 @@ public class TestBossHealthBar {
         assertEquals(0.0, bar.getProgress(), "The health bar should reflect 0 progress when health is 0.");
     }
 
+    @Test
+    void testUpdateHealthUnchanged() {
+        // Repeating the same health keeps the progress as it is
+        healthBar.updateHealth(40);
+        healthBar.updateHealth(40);
+        ProgressBar bar = (ProgressBar) healthBar.getChildren().get(0);
+        assertEquals(0.4, bar.getProgress(), 1e-9, "The health bar should still reflect the last health.");
+
+        healthBar.updateHealth(100);
+        assertEquals(1.0, bar.getProgress(), "The health bar should be full again.");
+    }
+
     @Test
     void testSetLayout() {
         // Set the position and verify it is correct
@@ -0,0 +1,104 @@
+package com.example.demo.Level.FlightRecorder;
+
+import com.example.demo.Controller.GameRuntime;
+import com.example.demo.Level.LevelEndLess;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestFlightRecorderEvents {
+
+	private LevelEndLess level;
+
+	@BeforeEach
+	void setUp() {
+		GameRuntime.setHeadless(true);
+		level = new LevelEndLess(750, 1300);
+	}
+
+	@AfterEach
+	void tearDown() {
+		level.cleanUp();
+		GameRuntime.setHeadless(false);
+	}
+
+	@Test
+	void testTicksAreRecorded() throws Exception {
+		List<RecordedEvent> events = record("com.example.demo.Tick", 100);
+
+		// Every tick is recorded once the threshold is lowered to zero
+		assertEquals(100, events.size());
+		for (RecordedEvent event : events) {
+			assertEquals("LevelEndLess", event.getString("level"));
+			assertTrue(event.getDuration().toNanos() >= event.getDuration("collisions").toNanos());
+		}
+	}
+
+	@Test
+	void testPhasesAreRecorded() throws Exception {
+		List<RecordedEvent> events = record("com.example.demo.TickPhase", 10);
+
+		// One event per phase of every tick
+		assertEquals(10 * 6, events.size());
+		assertEquals("UPDATE_ACTORS", events.get(0).getString("phase"));
+	}
+
+	@Test
+	void testCollisionPassesAreRecorded() throws Exception {
+		List<RecordedEvent> events = record("com.example.demo.CollisionPass", 10);
+
+		// Several passes per tick, each with the sizes of its lists
+		assertTrue(events.size() >= 10);
+		assertTrue(events.get(0).getInt("firstCount") >= 0);
+	}
+
+	@Test
+	void testNothingIsRecordedAboveThreshold() throws Exception {
+		try (Recording recording = new Recording()) {
+			recording.enable("com.example.demo.Tick").withThreshold(Duration.ofSeconds(10));
+			recording.start();
+			for (int i = 0; i < 100; i++) {
+				level.tick();
+			}
+			recording.stop();
+			// Headless ticks are far below ten seconds
+			assertTrue(read(recording, "com.example.demo.Tick").isEmpty());
+		}
+	}
+
+	// Runs ticks of the level with one event type recorded at no threshold, and returns the events
+	private List<RecordedEvent> record(String eventName, int ticks) throws Exception {
+		try (Recording recording = new Recording()) {
+			recording.enable(eventName).withThreshold(Duration.ZERO);
+			recording.start();
+			for (int i = 0; i < ticks; i++) {
+				level.tick();
+			}
+			recording.stop();
+			return read(recording, eventName);
+		}
+	}
+
+	// Dumps a stopped recording and reads back the events of one type
+	private List<RecordedEvent> read(Recording recording, String eventName) throws Exception {
+		Path file = Files.createTempFile("skybattle", ".jfr");
+		try {
+			recording.dump(file);
+			return RecordingFile.readAllEvents(file).stream()
+					.filter(event -> event.getEventType().getName().equals(eventName))
+					.toList();
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package com.example.demo.Level.LevelManager;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestAudioCommandThread {
+
+	@Test
+	void testCommandsRunInOrderOnTheAudioThread() {
+		AudioCommandThread audioThread = new AudioCommandThread("test-audio");
+		List<Integer> order = new CopyOnWriteArrayList<>();
+		List<Boolean> onAudioThread = new CopyOnWriteArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			int command = i;
+			audioThread.post(() -> {
+				order.add(command);
+				onAudioThread.add(audioThread.isAudioThread());
+			});
+		}
+		assertTrue(audioThread.awaitIdle(5000));
+		assertEquals(100, order.size());
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i, order.get(i));
+		}
+		assertFalse(onAudioThread.contains(false));
+		assertFalse(audioThread.isAudioThread());
+	}
+
+	@Test
+	void testFailingCommandDoesNotStopTheThread() {
+		AudioCommandThread audioThread = new AudioCommandThread("test-audio");
+		audioThread.post(() -> { throw new IllegalStateException("Could not create player"); });
+		List<String> ran = new CopyOnWriteArrayList<>();
+		audioThread.post(() -> ran.add("next"));
+		assertTrue(audioThread.awaitIdle(5000));
+		assertEquals(List.of("next"), ran);
+		// Both commands were counted, with their queue latency
+		assertEquals(2, audioThread.getProcessedCount());
+		assertEquals(0, audioThread.getQueueDepth());
+		assertTrue(audioThread.getMaxQueueDepth() >= 1);
+		assertTrue(audioThread.getMaxLatencyNanos() >= audioThread.getAverageLatencyNanos());
+	}
+}
@@ -3,6 +3,9 @@ package com.example.demo.Level.LevelManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class TestAudioManager {
@@ -28,6 +31,14 @@ public class TestAudioManager {
         assertFalse(AudioManager.getInstance().isBackgroundMusicEnabled(), "Background music should be disabled.");
     }
 
+    @Test
+    void testBackgroundMusicPlayingStateFollowsTheAudioThread() {
+        AudioManager.getInstance().initBackgroundMusic();
+        AudioManager.pauseBackgroundMusic();
+        assertTrue(AudioManager.getAudioThread().awaitIdle(5000), "The audio thread should run the pause.");
+        assertFalse(AudioManager.isBackgroundMusicPlaying(), "Paused background music should not be reported as playing.");
+    }
+
     @Test
     void testHoverSoundInitializationAndPlay() {
         AudioManager.getInstance().initHoverSound();
@@ -95,4 +106,13 @@ public class TestAudioManager {
         AudioManager.getInstance().setInteractionSoundEnabled(false);
         assertFalse(AudioManager.isInteractionSoundEnabled(), "Interaction sounds should be disabled.");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testPreloadSoundEffects() throws Exception {
+        CompletableFuture<Void> ready = AudioManager.preloadSoundEffects();
+        ready.get(10, TimeUnit.SECONDS);
+        // The preload runs once, and every sound effect resource exists
+        assertSame(ready, AudioManager.preloadSoundEffects());
+        assertTrue(AudioManager.getLoadFailures().isEmpty(), "Sound effects failed to load: " + AudioManager.getLoadFailures());
+    }
+}
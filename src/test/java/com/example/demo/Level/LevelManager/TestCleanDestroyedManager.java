@@ -0,0 +1,57 @@
+package com.example.demo.Level.LevelManager;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.Boundary;
+import com.example.demo.Actor.Object.AmmoBox;
+import com.example.demo.Controller.GameRuntime;
+import javafx.scene.Group;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestCleanDestroyedManager {
+
+	@BeforeAll
+	static void enableHeadless() {
+		GameRuntime.setHeadless(true);
+	}
+
+	@AfterAll
+	static void disableHeadless() {
+		GameRuntime.setHeadless(false);
+	}
+
+	// Cleans the given ammo boxes against the game's boundaries and returns the ones removed
+	private static List<ActiveActorDestructible> clean(List<ActiveActorDestructible> ammoBoxes) {
+		CleanDestroyedManager manager = new CleanDestroyedManager(new Group(), null, new ActiveActorManager());
+		List<ActiveActorDestructible> removed = new ArrayList<>();
+		manager.cleanObjects(new ArrayList<>(), new ArrayList<>(), ammoBoxes, new ArrayList<>(),
+				Boundary.createRightBoundary(), Boundary.createLeftBoundary(), removed::add);
+		return removed;
+	}
+
+	@Test
+	void testPickupBelowTheBoundaryIsRemovedAtTheLeftEdge() {
+		AmmoBox onScreen = new AmmoBox(250, 150);
+		AmmoBox atEdge = new AmmoBox(-5, 150);
+		// Spawned further down than the boundary reaches
+		AmmoBox belowAtEdge = new AmmoBox(-5, 600);
+		for (AmmoBox box : List.of(onScreen, atEdge, belowAtEdge)) {
+			box.updateActor();
+		}
+		assertTrue(belowAtEdge.getState().getHitboxY() > Boundary.BOUNDARY_Y + Boundary.BOUNDARY_HEIGHT);
+
+		List<ActiveActorDestructible> ammoBoxes = new ArrayList<>(List.of(onScreen, atEdge, belowAtEdge));
+		List<ActiveActorDestructible> removed = clean(ammoBoxes);
+
+		assertEquals(List.of(atEdge, belowAtEdge), removed);
+		assertEquals(List.of(onScreen), ammoBoxes);
+		assertTrue(belowAtEdge.isDestroyed());
+		assertFalse(onScreen.isDestroyed());
+	}
+}
@@ -0,0 +1,121 @@
+package com.example.demo.Level.LevelManager;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Controller.GameRuntime;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestCollisionManager {
+
+	// Every takeDamage call, in order, as the name of the damaged actor
+	private final List<String> damageLog = new ArrayList<>();
+
+	private class TestActor extends ActiveActorDestructible {
+
+		private final String name;
+
+		TestActor(String name, double x, double y, double width, double height) {
+			super("userplane.png", width, (int) height, x, y);
+			this.name = name;
+			getState().setSize(width, height);
+		}
+
+		@Override
+		public void updatePosition() {
+		}
+
+		@Override
+		public void updateActor() {
+		}
+
+		@Override
+		public void takeDamage() {
+			damageLog.add(name);
+		}
+	}
+
+	@BeforeAll
+	static void enableHeadless() {
+		GameRuntime.setHeadless(true);
+	}
+
+	@AfterAll
+	static void disableHeadless() {
+		GameRuntime.setHeadless(false);
+	}
+
+	private List<ActiveActorDestructible> randomActors(Random random, String prefix, int count) {
+		List<ActiveActorDestructible> actors = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			// Sizes from projectiles to bosses, some actors partly off screen
+			actors.add(new TestActor(prefix + i, random.nextInt(1400) - 100, random.nextInt(900) - 100,
+					10 + random.nextInt(300), 10 + random.nextInt(200)));
+		}
+		return actors;
+	}
+
+	@Test
+	void testBroadphaseMatchesBruteForce() {
+		Random random = new Random(42);
+		for (int round = 0; round < 20; round++) {
+			List<ActiveActorDestructible> actors1 = randomActors(random, "a", 10 + random.nextInt(60));
+			List<ActiveActorDestructible> actors2 = randomActors(random, "b", 10 + random.nextInt(60));
+
+			damageLog.clear();
+			CollisionManager.handleCollisionsBruteForce(actors1, actors2);
+			List<String> expected = new ArrayList<>(damageLog);
+
+			damageLog.clear();
+			CollisionManager.handleCollisions(actors1, actors2);
+			assertEquals(expected, damageLog);
+		}
+	}
+
+	@Test
+	void testUpdatedGridMatchesBruteForceOverManyTicks() {
+		// The same lists are checked tick after tick while actors move, leave and join
+		Random random = new Random(7);
+		List<ActiveActorDestructible> actors1 = randomActors(random, "a", 60);
+		List<ActiveActorDestructible> actors2 = randomActors(random, "b", 60);
+		for (int tick = 0; tick < 200; tick++) {
+			for (ActiveActorDestructible actor : actors1) {
+				actor.getState().setTranslationX(actor.getState().getTranslationX() + random.nextInt(41) - 20);
+				actor.getState().setTranslationY(actor.getState().getTranslationY() + random.nextInt(21) - 10);
+			}
+			if (tick % 10 == 0) {
+				actors1.remove(random.nextInt(actors1.size()));
+				actors1.add(random.nextInt(actors1.size()), randomActors(random, "c" + tick + "_", 1).get(0));
+			}
+
+			damageLog.clear();
+			CollisionManager.handleCollisionsBruteForce(actors1, actors2);
+			List<String> expected = new ArrayList<>(damageLog);
+
+			damageLog.clear();
+			CollisionManager.handleCollisions(actors1, actors2);
+			assertEquals(expected, damageLog, "tick " + tick);
+		}
+	}
+
+	@Test
+	void testTouchingActorsInNeighbouringCellsCollide() {
+		// The edge at x = 128 lies on a cell border; touching edges still count as a hit
+		List<ActiveActorDestructible> actors1 = new ArrayList<>();
+		List<ActiveActorDestructible> actors2 = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			actors1.add(new TestActor("a" + i, 100, i * 300, 28, 10));
+			actors2.add(new TestActor("b" + i, 128, i * 300, 10, 10));
+		}
+
+		CollisionManager.handleCollisions(actors1, actors2);
+		assertEquals(20, damageLog.size());
+		assertEquals(List.of("b0", "a0"), damageLog.subList(0, 2));
+	}
+}
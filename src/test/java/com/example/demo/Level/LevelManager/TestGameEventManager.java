@@ -0,0 +1,70 @@
+package com.example.demo.Level.LevelManager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestGameEventManager {
+
+	private final GameEventManager events = GameEventManager.getInstance();
+	private final List<GameEventListener> subscribed = new ArrayList<>();
+
+	@AfterEach
+	void tearDown() {
+		// The manager is shared, so leave no listeners behind
+		subscribed.forEach(events::unsubscribe);
+	}
+
+	private void subscribe(GameEventType type, GameEventListener listener) {
+		events.subscribe(type, listener);
+		subscribed.add(listener);
+	}
+
+	@Test
+	void testPublishReachesListenersOfThatTypeInOrder() {
+		List<String> received = new ArrayList<>();
+		subscribe(GameEventType.PLAYER_DAMAGED, (type, source, value) -> received.add("first " + value));
+		subscribe(GameEventType.PLAYER_DAMAGED, (type, source, value) -> received.add("second " + value));
+		subscribe(GameEventType.ENEMY_KILLED, (type, source, value) -> received.add("kill"));
+
+		events.publish(GameEventType.PLAYER_DAMAGED, null, 3);
+		assertEquals(List.of("first 3", "second 3"), received);
+	}
+
+	@Test
+	void testUnsubscribeRemovesListenerFromAllTypes() {
+		int[] calls = new int[1];
+		GameEventListener listener = (type, source, value) -> calls[0]++;
+		int before = events.getListenerCount(GameEventType.SHIELD_RAISED);
+		subscribe(GameEventType.SHIELD_RAISED, listener);
+		subscribe(GameEventType.SHIELD_LOWERED, listener);
+		assertEquals(before + 1, events.getListenerCount(GameEventType.SHIELD_RAISED));
+
+		events.unsubscribe(listener);
+		events.publish(GameEventType.SHIELD_RAISED, null, 0);
+		events.publish(GameEventType.SHIELD_LOWERED, null, 0);
+		assertEquals(0, calls[0]);
+		assertEquals(before, events.getListenerCount(GameEventType.SHIELD_RAISED));
+	}
+
+	@Test
+	void testListenerCanUnsubscribeWhileBeingNotified() {
+		int[] calls = new int[2];
+		GameEventListener[] self = new GameEventListener[1];
+		self[0] = (type, source, value) -> {
+			calls[0]++;
+			events.unsubscribe(self[0]);
+		};
+		subscribe(GameEventType.PICKUP_COLLECTED, self[0]);
+		subscribe(GameEventType.PICKUP_COLLECTED, (type, source, value) -> calls[1]++);
+
+		events.publish(GameEventType.PICKUP_COLLECTED, null, 0);
+		events.publish(GameEventType.PICKUP_COLLECTED, null, 0);
+		// The removed listener still sees the event being delivered, then no more
+		assertArrayEquals(new int[]{1, 2}, calls);
+	}
+}
@@ -0,0 +1,55 @@
+package com.example.demo.Level.LevelManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestGameLoopManager {
+
+	private static final long STEP = GameLoopManager.STEP_NANOS;
+
+	private int steps;
+
+	private int renders;
+
+	private GameLoopManager gameLoop;
+
+	@BeforeEach
+	void setUp() {
+		steps = 0;
+		renders = 0;
+		gameLoop = new GameLoopManager(() -> steps++, () -> renders++);
+		// The first pulse only establishes the frame clock
+		gameLoop.advance(0);
+	}
+
+	@Test
+	void testOneStepPerStepDuration() {
+		assertEquals(1, gameLoop.advance(STEP));
+		assertEquals(1, steps);
+		assertEquals(2, renders);
+	}
+
+	@Test
+	void testLeftoverTimeIsCarriedOver() {
+		// Two short frames add up to one step
+		assertEquals(0, gameLoop.advance(STEP / 2));
+		assertEquals(1, gameLoop.advance(STEP));
+		assertEquals(1, steps);
+	}
+
+	@Test
+	void testSlowFrameCatchesUp() {
+		// A frame three steps long runs three steps instead of losing time
+		assertEquals(3, gameLoop.advance(3 * STEP));
+		assertEquals(3 * STEP / 1_000_000_000.0, gameLoop.getFrameDeltaSeconds(), 1e-9);
+	}
+
+	@Test
+	void testCatchUpIsCapped() {
+		// A long stall runs at most MAX_STEPS_PER_FRAME steps and drops the rest
+		assertEquals(GameLoopManager.MAX_STEPS_PER_FRAME, gameLoop.advance(100 * STEP));
+		assertEquals(1, gameLoop.advance(101 * STEP));
+	}
+}
@@ -0,0 +1,64 @@
+package com.example.demo.Level.LevelManager;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class TestImageManager {
+
+    private static final String HEART = "/com/example/demo/images/heart.png";
+
+    private static boolean toolkitStarted;
+
+    private static synchronized boolean startToolkit() {
+        if (!toolkitStarted) {
+            try {
+                Platform.startup(() -> {}); // Initialize JavaFX runtime
+                toolkitStarted = true;
+            } catch (IllegalStateException e) {
+                toolkitStarted = true; // Already started by another test
+            } catch (RuntimeException e) {
+                return false;
+            }
+        }
+        try {
+            ImageManager.getInstance().getImage(HEART, 1, 1);
+            return true;
+        } catch (RuntimeException e) {
+            return false; // The toolkit could not start, e.g. there is no display
+        }
+    }
+
+    @Test
+    void testSameImageIsDecodedOnce() {
+        assumeTrue(startToolkit(), "Decoding images needs the JavaFX toolkit");
+        ImageManager images = ImageManager.getInstance();
+        long misses = images.getMissCount();
+        long hits = images.getHitCount();
+
+        Image first = images.getImage(HEART);
+        Image second = images.getImage(HEART);
+        assertSame(first, second);
+        assertTrue(images.getMissCount() <= misses + 1);
+        assertTrue(images.getHitCount() >= hits + 1);
+    }
+
+    @Test
+    void testRequestedSizeIsPartOfTheKey() {
+        assumeTrue(startToolkit(), "Decoding images needs the JavaFX toolkit");
+        ImageManager images = ImageManager.getInstance();
+        Image natural = images.getImage(HEART);
+        Image small = images.getImage(HEART, 10, 10);
+        assertNotSame(natural, small);
+        assertSame(small, images.getImage(HEART, 10, 10));
+    }
+
+    @Test
+    void testMissingImageIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ImageManager.getInstance().getImage("/com/example/demo/images/missing.png"));
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.demo.Level.LevelManager;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestLatencyHistogram {
+
+	@Test
+	void testPercentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 1; i <= 1000; i++) {
+			histogram.record(i * 1000L);
+		}
+		assertEquals(1000, histogram.getCount());
+		assertEquals(1_000_000, histogram.getMax());
+		// Buckets are exact to within one sixteenth of a power of two
+		assertEquals(500_000, histogram.getPercentile(50), 500_000 / 16.0);
+		assertEquals(990_000, histogram.getPercentile(99), 990_000 / 16.0);
+		assertTrue(histogram.getPercentile(99) <= histogram.getMax());
+	}
+
+	@Test
+	void testSmallAndHugeValues() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(-5);
+		histogram.record(7);
+		histogram.record(Long.MAX_VALUE);
+		assertEquals(0, histogram.getPercentile(0));
+		assertEquals(7, histogram.getPercentile(50));
+		assertEquals(Long.MAX_VALUE, histogram.getMax());
+		histogram.reset();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getPercentile(99));
+	}
+}
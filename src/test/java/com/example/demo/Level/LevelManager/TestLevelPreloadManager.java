@@ -0,0 +1,31 @@
+package com.example.demo.Level.LevelManager;
+
+import com.example.demo.Controller.GameRuntime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestLevelPreloadManager {
+
+	@AfterEach
+	void tearDown() {
+		GameRuntime.setHeadless(false);
+	}
+
+	@Test
+	void testPreloadDoesNothingWhenHeadless() {
+		GameRuntime.setHeadless(true);
+		long misses = ImageManager.getInstance().getMissCount();
+		assertTrue(LevelPreloadManager.getInstance().preload("/com/example/demo/images/background2.jpg").isDone());
+		assertEquals(misses, ImageManager.getInstance().getMissCount());
+	}
+
+	@Test
+	void testMissingImageDoesNotFailPreload() throws Exception {
+		// A missing resource is reported and skipped; it never reaches the decoder
+		LevelPreloadManager.getInstance().preload("/com/example/demo/images/missing.png").get(10, TimeUnit.SECONDS);
+	}
+}
@@ -0,0 +1,44 @@
+package com.example.demo.Level.LevelManager;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestPerformanceStats {
+
+	@Test
+	void testFrameHistoryKeepsLatestFrames() {
+		PerformanceStats stats = new PerformanceStats();
+		for (int i = 1; i <= PerformanceStats.FRAME_HISTORY + 10; i++) {
+			stats.recordFrame(i);
+		}
+		// Only the last FRAME_HISTORY frames are kept, oldest first
+		assertEquals(PerformanceStats.FRAME_HISTORY, stats.getFrameCount());
+		assertEquals(11, stats.getFrameNanos(0));
+		assertEquals(PerformanceStats.FRAME_HISTORY + 10, stats.getFrameNanos(PerformanceStats.FRAME_HISTORY - 1));
+	}
+
+	@Test
+	void testFramesPerSecond() {
+		PerformanceStats stats = new PerformanceStats();
+		assertEquals(0, stats.getFramesPerSecond());
+		for (int i = 0; i < 30; i++) {
+			stats.recordFrame(20_000_000L);
+		}
+		assertEquals(50, stats.getFramesPerSecond(), 0.001);
+		stats.reset();
+		assertEquals(0, stats.getFrameCount());
+	}
+
+	@Test
+	void testMemorySamples() throws Exception {
+		PerformanceStats stats = new PerformanceStats();
+		stats.sampleMemory(System.nanoTime());
+		// The first sample has nothing to compare against
+		assertTrue(Double.isNaN(stats.getAllocationBytesPerSecond()));
+		Thread.sleep(5);
+		stats.sampleMemory(System.nanoTime());
+		assertTrue(stats.getGcCount() >= 0);
+		assertFalse(stats.getAllocationBytesPerSecond() < 0);
+	}
+}
@@ -0,0 +1,114 @@
+package com.example.demo.Level.LevelManager;
+
+import javafx.scene.Group;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestSceneUpdateManager {
+
+	private Group root;
+	private SceneLayerManager layers;
+	private Group group;
+	private SceneUpdateManager updates;
+
+	@BeforeEach
+	void setUp() {
+		root = new Group();
+		layers = new SceneLayerManager(root);
+		group = layers.getLayer(SceneLayer.PROJECTILES);
+		updates = new SceneUpdateManager(layers);
+	}
+
+	@Test
+	void testChangesWaitForFlush() {
+		Rectangle first = new Rectangle();
+		Rectangle second = new Rectangle();
+		updates.add(SceneLayer.PROJECTILES, first);
+		updates.add(SceneLayer.PROJECTILES, second);
+		assertTrue(group.getChildren().isEmpty(), "Nothing should change before the flush.");
+
+		updates.flush();
+		assertEquals(List.of(first, second), group.getChildren());
+
+		updates.remove(first);
+		assertEquals(2, group.getChildren().size());
+		updates.flush();
+		assertEquals(List.of(second), group.getChildren());
+	}
+
+	@Test
+	void testAddThenRemoveInSameTickNeverReachesScene() {
+		Rectangle node = new Rectangle();
+		updates.add(SceneLayer.PROJECTILES, node);
+		updates.remove(node);
+		updates.flush();
+		assertTrue(group.getChildren().isEmpty());
+	}
+
+	@Test
+	void testRemoveThenAddKeepsNodeOnTop() {
+		// A pooled actor removed and reused within the same tick
+		Rectangle reused = new Rectangle();
+		Rectangle other = new Rectangle();
+		group.getChildren().addAll(reused, other);
+		updates.remove(reused);
+		updates.add(SceneLayer.PROJECTILES, reused);
+		updates.flush();
+		assertEquals(List.of(other, reused), group.getChildren());
+	}
+
+	@Test
+	void testClearDropsPendingChanges() {
+		Rectangle node = new Rectangle();
+		updates.add(SceneLayer.PROJECTILES, node);
+		updates.clear();
+		updates.flush();
+		assertTrue(group.getChildren().isEmpty());
+	}
+
+	@Test
+	void testNodesGoToTheirLayer() {
+		Rectangle enemy = new Rectangle();
+		Rectangle projectile = new Rectangle();
+		Rectangle pickup = new Rectangle();
+		updates.add(SceneLayer.ENEMIES, enemy);
+		updates.add(SceneLayer.PROJECTILES, projectile);
+		updates.add(SceneLayer.PICKUPS, pickup);
+		updates.flush();
+		assertEquals(List.of(enemy), layers.getLayer(SceneLayer.ENEMIES).getChildren());
+		assertEquals(List.of(projectile), group.getChildren());
+		assertEquals(List.of(pickup), layers.getLayer(SceneLayer.PICKUPS).getChildren());
+
+		// A node is removed from whichever layer holds it
+		updates.remove(enemy);
+		updates.flush();
+		assertTrue(layers.getLayer(SceneLayer.ENEMIES).getChildren().isEmpty());
+		assertEquals(List.of(projectile), group.getChildren());
+	}
+
+	@Test
+	void testLayerOrderIsFixed() {
+		// The layers sit under the root in drawing order and do not move as nodes come and go
+		List<Group> expected = List.of(SceneLayer.values()).stream().map(layers::getLayer).toList();
+		assertEquals(expected, root.getChildren());
+
+		updates.add(SceneLayer.BACKGROUND, new Rectangle());
+		updates.add(SceneLayer.ENEMIES, new Rectangle());
+		updates.flush();
+		layers.clear();
+		assertEquals(expected, root.getChildren());
+	}
+
+	@Test
+	void testCanvasActorLayersAreDetached() {
+		SceneLayerManager canvasLayers = new SceneLayerManager(new Group(), true);
+		for (SceneLayer layer : SceneLayer.values()) {
+			assertEquals(!layer.isCanvasActorLayer(), canvasLayers.getLayer(layer).getParent() != null, layer.name());
+		}
+	}
+}
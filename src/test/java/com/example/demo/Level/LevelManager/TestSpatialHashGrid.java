@@ -0,0 +1,73 @@
+package com.example.demo.Level.LevelManager;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.Projectile.BossProjectile;
+import com.example.demo.Controller.GameRuntime;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestSpatialHashGrid {
+
+	@BeforeAll
+	static void enableHeadless() {
+		GameRuntime.setHeadless(true);
+	}
+
+	@AfterAll
+	static void disableHeadless() {
+		GameRuntime.setHeadless(false);
+	}
+
+	@Test
+	void testOnlyActorsThatChangeCellsAreMoved() {
+		SpatialHashGrid grid = new SpatialHashGrid(128);
+		List<ActiveActorDestructible> actors = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			actors.add(new BossProjectile(10, i * 200 + 10));
+		}
+		grid.update(actors);
+		assertEquals(10, grid.getMovedCount());
+
+		// A few pixels keep every actor in its cells
+		for (ActiveActorDestructible actor : actors) {
+			actor.getState().setTranslationX(5);
+		}
+		grid.update(actors);
+		assertEquals(0, grid.getMovedCount());
+
+		// Crossing a cell border moves only that actor
+		actors.get(3).getState().setTranslationX(300);
+		grid.update(actors);
+		assertEquals(1, grid.getMovedCount());
+		assertEquals(1, grid.query(actors.get(3)));
+		assertEquals(3, grid.getCandidate(0));
+	}
+
+	@Test
+	void testActorsThatLeaveTheListAreDropped() {
+		SpatialHashGrid grid = new SpatialHashGrid(128);
+		BossProjectile first = new BossProjectile(10, 10);
+		BossProjectile second = new BossProjectile(10, 10);
+		List<ActiveActorDestructible> actors = new ArrayList<>(List.of(first, second));
+		grid.update(actors);
+		assertEquals(2, grid.query(first));
+
+		// The second actor is now at index 0 and the first one is gone
+		actors.remove(first);
+		grid.update(actors);
+		assertEquals(1, grid.size());
+		assertEquals(1, grid.query(first));
+		assertEquals(0, grid.getCandidate(0));
+
+		grid.clear();
+		assertEquals(0, grid.size());
+		assertNull(grid.getIndexedList());
+		assertEquals(0, grid.query(first));
+	}
+}
@@ -0,0 +1,53 @@
+package com.example.demo.Level.LevelManager;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestVoiceLimiter {
+
+	private static final long MS = 1_000_000L;
+
+	@Test
+	void testSameTickTriggersAreCoalesced() {
+		VoiceLimiter limiter = new VoiceLimiter(8, effect -> { });
+		assertTrue(limiter.tryStart(SoundEffect.EXPLOSION, 0));
+		// Ten explosions on the same tick play once
+		for (int i = 0; i < 10; i++) {
+			assertFalse(limiter.tryStart(SoundEffect.EXPLOSION, MS));
+		}
+		assertEquals(1, limiter.getPlayedCount());
+		assertEquals(10, limiter.getCoalescedCount());
+	}
+
+	@Test
+	void testVoiceCapPerEffect() {
+		VoiceLimiter limiter = new VoiceLimiter(8, effect -> { });
+		long now = 0;
+		for (int i = 0; i < SoundEffect.EXPLOSION.getMaxVoices(); i++) {
+			assertTrue(limiter.tryStart(SoundEffect.EXPLOSION, now));
+			now += 100 * MS;
+		}
+		assertFalse(limiter.tryStart(SoundEffect.EXPLOSION, now));
+		assertEquals(1, limiter.getLimitedCount());
+		// The first voice is free again once its clip has ended
+		assertTrue(limiter.tryStart(SoundEffect.EXPLOSION, SoundEffect.EXPLOSION.getLengthMillis() * MS + 1));
+	}
+
+	@Test
+	void testHigherPriorityStealsVoices() {
+		List<SoundEffect> stopped = new ArrayList<>();
+		VoiceLimiter limiter = new VoiceLimiter(2, stopped::add);
+		assertTrue(limiter.tryStart(SoundEffect.SHOOT, 0));
+		assertTrue(limiter.tryStart(SoundEffect.EXPLOSION, 0));
+		// All voices are busy: damage outranks the shot, which is stopped
+		assertTrue(limiter.tryStart(SoundEffect.USER_DAMAGE, MS));
+		assertEquals(List.of(SoundEffect.SHOOT), stopped);
+		// A shot cannot take the voice of anything playing
+		assertFalse(limiter.tryStart(SoundEffect.SHOOT, 100 * MS));
+		assertEquals(1, limiter.getStolenCount());
+	}
+}
@@ -0,0 +1,157 @@
+package com.example.demo.Level.LevelManager;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestWaveManager {
+
+	private static WaveManager manager(String... lines) {
+		return new WaveManager(Arrays.stream(lines).map(WaveDefinition::parse).toList(), 100, 200, new Random(1));
+	}
+
+	// Advances one tick and returns the first enemy due on it, as a level with that many enemies would
+	private static EnemyArchetype update(WaveManager waves, int kills, int enemyCount) {
+		waves.advance(kills, enemyCount);
+		return waves.poll(kills, enemyCount);
+	}
+
+	@Test
+	void testParseWave() {
+		WaveDefinition wave = WaveDefinition.parse("wave kills=10 count=4 every=3 mix=speed:2,heavy:1 band=0.5-1 cap=6 grow=5 loop");
+		assertFalse(wave.isTriggered(1000, 9));
+		assertTrue(wave.isTriggered(0, 10));
+		assertEquals(4, wave.getCount());
+		assertEquals(0, wave.getWeight(EnemyArchetype.PLANE));
+		assertEquals(2, wave.getWeight(EnemyArchetype.SPEED));
+		assertEquals(8, wave.getCap(10));
+		assertTrue(wave.isLoop());
+	}
+
+	@Test
+	void testInvalidWavesAreRejected() {
+		assertThrows(IllegalArgumentException.class, () -> WaveDefinition.parse("wave count=3"));
+		assertThrows(IllegalArgumentException.class, () -> WaveDefinition.parse("wave at=0 kills=1"));
+		assertThrows(IllegalArgumentException.class, () -> WaveDefinition.parse("wave at=0 mix=dragon:1"));
+		assertThrows(IllegalArgumentException.class, () -> WaveDefinition.parse("wave at=0 band=0-2"));
+	}
+
+	@Test
+	void testScheduleFollowsDelayBandAndCount() {
+		WaveManager waves = manager("wave at=2 count=3 every=4 mix=heavy:1 band=0.5-1");
+		int spawned = 0;
+		for (int tick = 0; tick < 40; tick++) {
+			EnemyArchetype archetype = update(waves, 0, 0);
+			if (archetype != null) {
+				// Spawns start at tick 2 and are four ticks apart
+				assertEquals(2 + 4 * spawned, tick);
+				assertEquals(EnemyArchetype.HEAVY, archetype);
+				assertTrue(waves.getLastSpawnY() >= 150 && waves.getLastSpawnY() <= 200);
+				spawned++;
+			}
+		}
+		assertEquals(3, spawned);
+	}
+
+	@Test
+	void testCapHoldsBackSpawns() {
+		WaveManager waves = manager("wave at=0 count=10 cap=2 grow=5 loop");
+		assertNotNull(update(waves, 0, 0));
+		assertNull(update(waves, 0, 2));
+		// Five kills raise the cap to three
+		assertNotNull(update(waves, 5, 2));
+	}
+
+	@Test
+	void testGrowthWithoutCapStaysUnlimited() {
+		WaveManager waves = manager("wave at=0 count=3 grow=5");
+		assertEquals(Integer.MAX_VALUE, WaveDefinition.parse("wave at=0 grow=5").getCap(1000));
+		// Neither the kills nor the enemies on screen hold the wave back
+		for (int tick = 0; tick < 3; tick++) {
+			assertNotNull(update(waves, 1000, 500));
+		}
+	}
+
+	@Test
+	void testKillTriggerStartsNextWave() {
+		WaveManager waves = manager("wave at=0 count=5 loop", "wave kills=3");
+		assertNotNull(update(waves, 0, 0));
+		assertEquals(0, waves.getWaveIndex());
+		// The empty second wave stops all spawning
+		for (int tick = 0; tick < 10; tick++) {
+			assertNull(update(waves, 3, 0));
+		}
+		assertEquals(1, waves.getWaveIndex());
+	}
+
+	@Test
+	void testFreeSlotsRefillAtTheOldRate() {
+		// Each free slot is refilled after five ticks on average, like the old 20% roll per slot and tick
+		WaveManager waves = manager("wave at=0 count=40 every=1 jitter=8 cap=5 loop");
+		int enemies = 0;
+		int ticksToFill = 0;
+		waves.advance(0, enemies);
+		while (enemies < 5) {
+			while (waves.poll(0, enemies) != null) {
+				enemies++;
+			}
+			if (enemies < 5) {
+				waves.advance(0, enemies);
+				ticksToFill++;
+			}
+		}
+		// Five free slots fill up in about 5 * (1 + 1/2 + 1/3 + 1/4 + 1/5) = 11 ticks, not one enemy every five ticks
+		assertTrue(ticksToFill <= 20, "took " + ticksToFill + " ticks");
+
+		// A full screen does not build up spawns, a freed slot is refilled after its delay
+		for (int tick = 0; tick < 100; tick++) {
+			update(waves, 0, 5);
+		}
+		int wait = 0;
+		while (update(waves, 0, 4) == null) {
+			wait++;
+		}
+		assertTrue(wait >= 0 && wait < 9, "waited " + wait + " ticks");
+	}
+
+	@Test
+	void testSeveralEnemiesCanSpawnOnOneTick() {
+		WaveManager waves = manager("wave at=0 count=10 every=1 cap=10");
+		waves.advance(0, 0);
+		assertNotNull(waves.poll(0, 0));
+		assertNull(waves.poll(0, 1));
+		// Ten free slots count ten slot ticks on the next tick
+		waves.advance(0, 1);
+		int spawned = 0;
+		while (waves.poll(0, 1 + spawned) != null) {
+			spawned++;
+		}
+		assertEquals(9, spawned);
+	}
+
+	@Test
+	void testLoopRollsAFreshSchedule() {
+		WaveManager waves = manager("wave at=0 count=5 loop");
+		List<Double> first = new ArrayList<>();
+		List<Double> second = new ArrayList<>();
+		while (second.size() < 5) {
+			if (update(waves, 0, 0) != null) {
+				(first.size() < 5 ? first : second).add(waves.getLastSpawnY());
+			}
+		}
+		assertNotEquals(first, second);
+	}
+
+	@Test
+	void testLevelScriptsLoad() {
+		for (String level : List.of("levelOne", "levelThree", "levelEndLess")) {
+			assertFalse(WaveManager.load("/com/example/demo/waves/" + level + ".waves").isEmpty());
+		}
+		assertThrows(IllegalStateException.class, () -> WaveManager.load("/com/example/demo/waves/missing.waves"));
+	}
+}
@@ -1,5 +1,7 @@
 package com.example.demo.Level.LevelView;
 
+import com.example.demo.Level.LevelManager.SceneLayer;
+import com.example.demo.Level.LevelManager.SceneLayerManager;
 import javafx.scene.Group;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,12 +12,14 @@ public class TestLevelView {
 
 	private LevelView levelView;
 	private Group root;
+	private SceneLayerManager layers;
 
 	@BeforeEach
 	void setUp() {
 		// Initialize the root group and the LevelView with 5 hearts to be displayed
 		root = new Group();
-		levelView = new LevelView(root, 5);
+		layers = new SceneLayerManager(root);
+		levelView = new LevelView(layers, 5);
 	}
 
 	@Test
@@ -38,16 +42,30 @@ public class TestLevelView {
 		assertEquals(3, levelView.getHeartDisplay().getContainer().getChildren().size(), "There should be 3 hearts after removing.");
 	}
 
+	@Test
+	void testUpdateHearts() {
+		levelView.showHeartDisplay();
+		levelView.updateHearts(2);
+		assertEquals(2, levelView.getHeartDisplay().getContainer().getChildren().size(), "There should be 2 hearts after the health drops.");
+
+		// An unchanged health leaves the display alone
+		levelView.updateHearts(2);
+		assertEquals(2, levelView.getHeartDisplay().getContainer().getChildren().size(), "The heart display should not change for the same health.");
+
+		levelView.updateHearts(4);
+		assertEquals(4, levelView.getHeartDisplay().getContainer().getChildren().size(), "There should be 4 hearts after the health rises.");
+	}
+
 	@Test
 	void testShowWinImage() {
 		levelView.showWinImage();
-		assertTrue(root.getChildren().contains(levelView.getWinImage()), "The win image should be displayed in the root group.");
+		assertTrue(layers.getLayer(SceneLayer.OVERLAYS).getChildren().contains(levelView.getWinImage()), "The win image should be displayed in the overlay layer.");
 	}
 
 	@Test
 	void testShowGameOverImage() {
 		levelView.showGameOverImage();
-		assertTrue(root.getChildren().contains(levelView.getGameOverImage()), "The game over image should be displayed in the root group.");
+		assertTrue(layers.getLayer(SceneLayer.OVERLAYS).getChildren().contains(levelView.getGameOverImage()), "The game over image should be displayed in the overlay layer.");
 	}
 
 	@Test
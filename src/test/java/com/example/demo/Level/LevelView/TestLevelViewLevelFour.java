@@ -4,6 +4,7 @@ import com.example.demo.Actor.Plane.Boss.Boss;
 import com.example.demo.Display.BossHealthBar;
 import com.example.demo.Display.ShieldImage;
 import com.example.demo.Display.TargetLevel;
+import com.example.demo.Level.LevelManager.SceneLayerManager;
 import javafx.application.Platform;
 import javafx.scene.Group;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,7 +32,7 @@ public class TestLevelViewLevelFour {
         shieldImage = new ShieldImage();
         bossHealthBar = new BossHealthBar(100);
         hint = new TargetLevel();
-        levelView = new LevelViewLevelFour(root, 5);
+        levelView = new LevelViewLevelFour(new SceneLayerManager(root), 5);
     }
 
     @Test
@@ -55,26 +56,40 @@ public class TestLevelViewLevelFour {
     }
 
     @Test
-    public void testUpdateShieldPosition() {
-        // Set position for the boss
+    public void testShieldFollowsBoss() {
+        // Attach the shield, then move the boss
+        levelView.attachToBoss(boss);
         boss.setLayoutX(50.0);
         boss.setLayoutY(100.0);
+        boss.setTranslateX(30.0);
 
-        // Update the shield position based on the boss's position
-        levelView.updateShieldPosition(boss);
+        // The shield moves with the boss, at its offset, without being repositioned
+        assertEquals(50 + 90, levelView.getShieldImage(boss).getLayoutX());
+        assertEquals(100 + 80, levelView.getShieldImage(boss).getLayoutY());
+        assertEquals(30, levelView.getShieldImage(boss).getTranslateX());
+        assertEquals(100 + 235, levelView.getBossHealthBar(boss).getLayoutY());
+    }
+
+    @Test
+    public void testEachBossHasItsOwnShield() {
+        Boss other = new Boss(100);
+        levelView.attachToBoss(boss);
+        levelView.attachToBoss(other);
+        assertNotSame(levelView.getShieldImage(boss), levelView.getShieldImage(other));
 
-        // Ensure that the shield image's position is updated correctly
-        // Assuming getLayoutX() and getLayoutY() return the actual positions of the shield
-        assertEquals(50 + boss.getTranslateX() + 90, levelView.getShieldImage().getLayoutX());
-        assertEquals(100 + boss.getTranslateY() + 80, levelView.getShieldImage().getLayoutY());
+        // Raising one boss's shield leaves the other one hidden
+        levelView.showShield(other);
+        assertFalse(levelView.getShieldImage(boss).isVisible());
+        assertTrue(levelView.getShieldImage(other).isVisible());
     }
 
     @Test
     void hideShieldMakesShieldInvisible() {
         Platform.runLater(() -> {
-            levelView.showShield();
-            levelView.hideShield();
-            assertFalse(levelView.getShieldImage().isVisible());
+            levelView.attachToBoss(boss);
+            levelView.showShield(boss);
+            levelView.hideShield(boss);
+            assertFalse(levelView.getShieldImage(boss).isVisible());
         });
     }
 }
\ No newline at end of file
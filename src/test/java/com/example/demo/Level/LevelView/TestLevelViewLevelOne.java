@@ -1,6 +1,7 @@
 package com.example.demo.Level.LevelView;
 
 import com.example.demo.Display.ScoreBoard;
+import com.example.demo.Level.LevelManager.SceneLayerManager;
 import javafx.application.Platform;
 import javafx.scene.Group;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,7 +20,7 @@ public class TestLevelViewLevelOne {
     @BeforeEach
     public void setUp() {
         root = new Group();
-        levelView = new LevelViewLevelOne(root, 5, 0, 10);  // Hearts to display: 5, initial kills: 0, target kills: 10
+        levelView = new LevelViewLevelOne(new SceneLayerManager(root), 5, 0, 10);  // Hearts to display: 5, initial kills: 0, target kills: 10
     }
 
     @Test
@@ -4,6 +4,7 @@ import com.example.demo.Actor.Plane.Boss.Boss;
 import com.example.demo.Display.ShieldImage;
 import com.example.demo.Display.TargetLevel;
 import com.example.demo.Display.BossHealthBar;
+import com.example.demo.Level.LevelManager.SceneLayerManager;
 import javafx.application.Platform;
 import javafx.scene.Group;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,7 +30,7 @@ public class TestLevelViewLevelTwo {
         hint = new TargetLevel();
 
         // Create an instance of LevelViewLevelTwo
-        levelView = new LevelViewLevelTwo(root, 3, 100);
+        levelView = new LevelViewLevelTwo(new SceneLayerManager(root), 3, 100);
     }
 
     @Test
@@ -53,17 +54,17 @@ public class TestLevelViewLevelTwo {
     }
 
     @Test
-    public void testUpdateShieldPosition() {
-        // Set position for the boss
+    public void testShieldFollowsBoss() {
+        // Attach the shield, then move the boss
+        levelView.attachToBoss(boss);
         boss.setLayoutX(50.0);
         boss.setLayoutY(100.0);
+        boss.setTranslateX(30.0);
 
-        // Update the shield position based on the boss's position
-        levelView.updateShieldPosition(boss);
-
-        // Verify that the shield image's position is updated correctly
-        assertEquals(50 + boss.getTranslateX(), levelView.getShieldImage().getLayoutX());
-        assertEquals(100 + boss.getTranslateY(), levelView.getShieldImage().getLayoutY());
+        // The shield moves with the boss without being repositioned
+        assertEquals(50, levelView.getShieldImage().getLayoutX());
+        assertEquals(100, levelView.getShieldImage().getLayoutY());
+        assertEquals(30, levelView.getShieldImage().getTranslateX());
     }
 
     @Test
@@ -76,15 +77,16 @@ public class TestLevelViewLevelTwo {
     }
 
     @Test
-    public void testUpdateBossHealthPosition() {
-        // Set position for the boss
+    public void testBossHealthBarFollowsBoss() {
+        // Attach the health bar, then move the boss
+        levelView.attachToBoss(boss);
         boss.setLayoutX(100.0);
         boss.setLayoutY(200.0);
-        // Update the health bar position based on the boss's position
-        levelView.updateBossHealthPosition(boss);
+        boss.setTranslateY(-40.0);
 
-        // Verify that the boss health bar's position is updated correctly
-        assertEquals(100 + boss.getTranslateX(), levelView.getBossHealthBar().getLayoutX());
-        assertEquals(200 + boss.getTranslateY() + 65, levelView.getBossHealthBar().getLayoutY());
+        // The health bar stays just below the boss
+        assertEquals(100, levelView.getBossHealthBar().getLayoutX());
+        assertEquals(200 + 65, levelView.getBossHealthBar().getLayoutY());
+        assertEquals(-40, levelView.getBossHealthBar().getTranslateY());
     }
 }
\ No newline at end of file
@@ -0,0 +1,199 @@
+package com.example.demo.Level;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.Plane.UserPlane;
+import com.example.demo.Controller.GameRuntime;
+import com.example.demo.Display.PerformanceOverlay;
+import com.example.demo.Level.LevelManager.GameLoopManager;
+import com.example.demo.Level.LevelManager.LatencyHistogram;
+import com.example.demo.Level.LevelManager.TickPhase;
+import com.example.demo.Level.LevelManager.TickProfilerManager;
+import com.example.demo.Level.LevelManager.UserInputManager;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Runs a level headless for a long stretch of simulated time, with an autopilot in place of the player, and samples
+ * how the level behaves as play goes on.
+ * <p>
+ * The ticks are run back to back instead of every 16 ms, so an hour of play takes a fraction of that in real time.
+ * Every {@code sampleIntervalTicks} ticks a {@link SoakReport.Sample} is taken: the mean and 99th percentile time of
+ * every {@link TickPhase} over the window, the size of every actor list, the scene node count and the heap in use
+ * after a garbage collection. The level's {@link TickProfilerManager} histograms are reset after each sample, so each
+ * sample only covers its own window.
+ * </p>
+ * <p>
+ * The autopilot sweeps the player up and down the screen and fires as often as the fire key allows at the player's
+ * power level. When the player is down to its last point of health it is healed back up, and the heal is counted in
+ * the report, so the whole run is one session of the level, as an hour of endless play would be. Whatever grows over
+ * that session, the actors, the nodes or the cost of a tick, shows up in the samples and is reported by
+ * {@link SoakReport#findGrowth()}.
+ * </p>
+ */
+public class SoakHarness {
+
+	/**
+	 * The number of ticks in one minute of simulated time.
+	 */
+	public static final int TICKS_PER_MINUTE = (int) (60_000_000_000L / GameLoopManager.STEP_NANOS);
+
+	/**
+	 * The height of the screen the level is created with.
+	 */
+	private static final double SCREEN_HEIGHT = 750;
+
+	/**
+	 * The width of the screen the level is created with.
+	 */
+	private static final double SCREEN_WIDTH = 1300;
+
+	/**
+	 * The health at or below which the autopilot heals the player.
+	 */
+	private static final int HEAL_HEALTH = 1;
+
+	/**
+	 * The top of the autopilot's sweep.
+	 */
+	private static final double SWEEP_TOP_Y = 80;
+
+	/**
+	 * The bottom of the autopilot's sweep.
+	 */
+	private static final double SWEEP_BOTTOM_Y = 680;
+
+	/**
+	 * The ID of the level to run, in the {@link LevelRegistry}.
+	 */
+	private final String levelId;
+
+	/**
+	 * The number of ticks between two samples.
+	 */
+	private final int sampleIntervalTicks;
+
+	/**
+	 * Whether the autopilot is currently moving the player down.
+	 */
+	private boolean sweepingDown = true;
+
+	/**
+	 * The number of ticks until the autopilot may fire again.
+	 */
+	private int fireCooldownTicks;
+
+	/**
+	 * Constructs a harness for a level.
+	 *
+	 * @param levelId the ID of the level to run, in the {@link LevelRegistry}.
+	 * @param sampleIntervalTicks the number of ticks between two samples.
+	 * @throws IllegalArgumentException if the sample interval is not positive.
+	 */
+	public SoakHarness(String levelId, int sampleIntervalTicks) {
+		if (sampleIntervalTicks <= 0) {
+			throw new IllegalArgumentException("The sample interval must be at least one tick");
+		}
+		this.levelId = levelId;
+		this.sampleIntervalTicks = sampleIntervalTicks;
+	}
+
+	/**
+	 * Creates the level, runs it for the given simulated time and cleans it up.
+	 * The player is healed whenever it is about to lose; the run stops early if the level ends on its own, which the
+	 * report records.
+	 *
+	 * @param simulatedMinutes the simulated time to run the level for, in minutes.
+	 * @return the report of the run.
+	 * @throws IllegalStateException if the game is not running headless.
+	 */
+	public SoakReport run(double simulatedMinutes) {
+		if (!GameRuntime.isHeadless()) {
+			throw new IllegalStateException("The soak harness only runs headless");
+		}
+		long totalTicks = Math.round(simulatedMinutes * TICKS_PER_MINUTE);
+		LevelParent level = LevelRegistry.getInstance().create(levelId, SCREEN_HEIGHT, SCREEN_WIDTH);
+		level.startGame();
+		SoakReport report = new SoakReport(level.getClass().getSimpleName());
+		try {
+			for (long tick = 1; tick <= totalTicks; tick++) {
+				UserPlane user = level.getUser();
+				while (user.getHealth() <= HEAL_HEALTH) {
+					user.increaseHealth();
+					report.countHeal();
+				}
+				steer(level);
+				level.tick();
+				if (level.isGameOver() || level.currentLevelNameProperty().get() != null) {
+					report.markEndedEarly();
+					break;
+				}
+				if (tick % sampleIntervalTicks == 0) {
+					report.addSample(sample(level, tick));
+				}
+			}
+		} finally {
+			level.cleanUp();
+		}
+		return report;
+	}
+
+	/**
+	 * Plays one tick as the autopilot: moves the player along the sweep and fires when allowed.
+	 *
+	 * @param level the level being run.
+	 */
+	private void steer(LevelParent level) {
+		UserPlane user = level.getUser();
+		double y = user.getState().getY();
+		if (y >= SWEEP_BOTTOM_Y) {
+			sweepingDown = false;
+		} else if (y <= SWEEP_TOP_Y) {
+			sweepingDown = true;
+		}
+		if (sweepingDown) {
+			user.moveDown();
+		} else {
+			user.moveUp();
+		}
+
+		if (fireCooldownTicks > 0) {
+			fireCooldownTicks--;
+			return;
+		}
+		List<ActiveActorDestructible> projectiles = user.fireProjectiles();
+		level.addUserProjectiles(projectiles);
+		long cooldownNanos = UserInputManager.calculateCooldownBasedOnPower(user.getCurrentProjectilePowerLevel())
+				* 1_000_000L;
+		fireCooldownTicks = (int) (cooldownNanos / GameLoopManager.STEP_NANOS);
+	}
+
+	/**
+	 * Takes a sample of the level and starts a new timing window.
+	 *
+	 * @param level the level being run.
+	 * @param tick the number of ticks run so far.
+	 * @return the sample.
+	 */
+	private SoakReport.Sample sample(LevelParent level, long tick) {
+		TickProfilerManager profiler = level.getTickProfiler();
+		TickPhase[] phases = TickPhase.values();
+		long[] meanNanos = new long[phases.length];
+		long[] p99Nanos = new long[phases.length];
+		for (TickPhase phase : phases) {
+			LatencyHistogram histogram = profiler.getHistogram(phase);
+			meanNanos[phase.ordinal()] = histogram.getMean();
+			p99Nanos[phase.ordinal()] = histogram.getPercentile(99);
+			histogram.reset();
+		}
+		int[] actorCounts = new int[TickProfilerManager.getActorListNames().length];
+		for (int i = 0; i < actorCounts.length; i++) {
+			actorCounts[i] = profiler.getActorCount(i);
+		}
+		System.gc();
+		long heapAfterGc = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+		return new SoakReport.Sample(tick * GameLoopManager.getStepSeconds(), tick,
+				level.getUser().getNumberOfKills(), level.getUser().getHealth(), heapAfterGc,
+				PerformanceOverlay.countNodes(level.getRoot()), actorCounts, meanNanos, p99Nanos);
+	}
+}
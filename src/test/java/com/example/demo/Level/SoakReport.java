@@ -0,0 +1,457 @@
+package com.example.demo.Level;
+
+import com.example.demo.Level.LevelManager.TickPhase;
+import com.example.demo.Level.LevelManager.TickProfilerManager;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * The samples taken during a run of the {@link SoakHarness}, and the check that the level settles down.
+ * <p>
+ * Each {@link Sample} covers one window of simulated time: the time each tick phase took in that window, the size
+ * of each actor list, the number of scene nodes and the heap left after a garbage collection at its end. The report
+ * can be written as CSV, one row per sample, or as JSON.
+ * </p>
+ * <p>
+ * {@link #findGrowth()} decides whether the level has plateaued. The first third of the samples is left out as
+ * warm-up (class loading, JIT compilation, pools filling up); the mean of the middle third is then compared with the
+ * mean of the last third for the heap, the mean tick time and the node count. A level that has settled shows about
+ * the same figures in both; a leak or a cost that grows with play time shows clearly higher ones at the end.
+ * </p>
+ */
+public class SoakReport {
+
+	/**
+	 * The fewest samples needed for {@link #findGrowth()} to give a verdict.
+	 */
+	static final int MIN_SAMPLES_FOR_VERDICT = 6;
+
+	/**
+	 * The share the heap may grow by between the middle and the last third of the run.
+	 */
+	private static final double HEAP_GROWTH_TOLERANCE = 0.25;
+
+	/**
+	 * The heap growth, in bytes, that is always tolerated, so small heaps do not fail on noise.
+	 */
+	private static final long HEAP_GROWTH_SLACK_BYTES = 8L * 1024 * 1024;
+
+	/**
+	 * The share the mean tick time may grow by between the middle and the last third of the run.
+	 */
+	private static final double TICK_GROWTH_TOLERANCE = 0.5;
+
+	/**
+	 * The growth of the mean tick time, in nanoseconds, that is always tolerated, so short ticks do not fail on noise.
+	 */
+	private static final long TICK_GROWTH_SLACK_NANOS = 20_000L;
+
+	/**
+	 * The share the node count may grow by between the middle and the last third of the run.
+	 */
+	private static final double NODE_GROWTH_TOLERANCE = 0.25;
+
+	/**
+	 * The growth of the node count that is always tolerated, as enemies come and go.
+	 */
+	private static final int NODE_GROWTH_SLACK = 50;
+
+	/**
+	 * The name of the level the report is about.
+	 */
+	private final String levelName;
+
+	/**
+	 * The samples, in the order they were taken.
+	 */
+	private final List<Sample> samples = new ArrayList<>();
+
+	/**
+	 * The number of times the player was about to lose and was healed.
+	 */
+	private int heals;
+
+	/**
+	 * Whether the level ended before the requested simulated duration.
+	 */
+	private boolean endedEarly;
+
+	/**
+	 * Constructs an empty report.
+	 *
+	 * @param levelName the name of the level the report is about.
+	 */
+	public SoakReport(String levelName) {
+		this.levelName = levelName;
+	}
+
+	/**
+	 * Adds a sample.
+	 *
+	 * @param sample the sample, taken after the previous one.
+	 */
+	void addSample(Sample sample) {
+		samples.add(sample);
+	}
+
+	/**
+	 * Records that the player was about to lose and was healed.
+	 */
+	void countHeal() {
+		heals++;
+	}
+
+	/**
+	 * Records that the level ended before the requested simulated duration.
+	 */
+	void markEndedEarly() {
+		endedEarly = true;
+	}
+
+	/**
+	 * Returns the name of the level the report is about.
+	 *
+	 * @return the level name.
+	 */
+	public String getLevelName() {
+		return levelName;
+	}
+
+	/**
+	 * Returns the samples, in the order they were taken.
+	 *
+	 * @return an unmodifiable view of the samples.
+	 */
+	public List<Sample> getSamples() {
+		return Collections.unmodifiableList(samples);
+	}
+
+	/**
+	 * Returns the number of times the player was about to lose and was healed.
+	 *
+	 * @return the number of heals.
+	 */
+	public int getHeals() {
+		return heals;
+	}
+
+	/**
+	 * Returns whether the level ended before the requested simulated duration.
+	 *
+	 * @return true if the run was cut short, false otherwise.
+	 */
+	public boolean isEndedEarly() {
+		return endedEarly;
+	}
+
+	/**
+	 * Checks whether the heap, the tick time and the node count have plateaued.
+	 *
+	 * @return a description of every figure still growing at the end of the run; empty if the level has settled,
+	 * or if there are fewer than {@link #MIN_SAMPLES_FOR_VERDICT} samples to judge from.
+	 */
+	public List<String> findGrowth() {
+		List<String> problems = new ArrayList<>();
+		if (samples.size() < MIN_SAMPLES_FOR_VERDICT) {
+			return problems;
+		}
+		int third = samples.size() / 3;
+		List<Sample> middle = samples.subList(third, 2 * third);
+		List<Sample> last = samples.subList(samples.size() - third, samples.size());
+
+		double earlyHeap = mean(middle, Sample::getHeapAfterGcBytes);
+		double lateHeap = mean(last, Sample::getHeapAfterGcBytes);
+		if (lateHeap > earlyHeap * (1 + HEAP_GROWTH_TOLERANCE) + HEAP_GROWTH_SLACK_BYTES) {
+			problems.add(String.format(Locale.ROOT, "heap after GC grew from %.1f MB to %.1f MB",
+					earlyHeap / (1024 * 1024), lateHeap / (1024 * 1024)));
+		}
+		double earlyTick = mean(middle, sample -> sample.getMeanNanos(TickPhase.TOTAL));
+		double lateTick = mean(last, sample -> sample.getMeanNanos(TickPhase.TOTAL));
+		if (lateTick > earlyTick * (1 + TICK_GROWTH_TOLERANCE) + TICK_GROWTH_SLACK_NANOS) {
+			problems.add(String.format(Locale.ROOT, "mean tick time grew from %.1f us to %.1f us",
+					earlyTick / 1000, lateTick / 1000));
+		}
+		double earlyNodes = mean(middle, Sample::getNodeCount);
+		double lateNodes = mean(last, Sample::getNodeCount);
+		if (lateNodes > earlyNodes * (1 + NODE_GROWTH_TOLERANCE) + NODE_GROWTH_SLACK) {
+			problems.add(String.format(Locale.ROOT, "scene node count grew from %.0f to %.0f", earlyNodes, lateNodes));
+		}
+		return problems;
+	}
+
+	/**
+	 * Writes the report as CSV: a header, then one row per sample.
+	 *
+	 * @param file the file to write, replaced if it exists.
+	 * @throws IOException if the file cannot be written.
+	 */
+	public void writeCsv(Path file) throws IOException {
+		createParent(file);
+		try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			out.write("simulatedSeconds,ticks,kills,health,heapAfterGcBytes,nodeCount");
+			for (String list : TickProfilerManager.getActorListNames()) {
+				out.write(',');
+				out.write(list);
+			}
+			for (TickPhase phase : TickPhase.values()) {
+				String name = phase.name().toLowerCase(Locale.ROOT);
+				out.write(',' + name + "MeanUs," + name + "P99Us");
+			}
+			out.write('\n');
+			for (Sample sample : samples) {
+				out.write(String.format(Locale.ROOT, "%.1f,%d,%d,%d,%d,%d", sample.simulatedSeconds, sample.ticks,
+						sample.kills, sample.health, sample.heapAfterGcBytes, sample.nodeCount));
+				for (int count : sample.actorCounts) {
+					out.write("," + count);
+				}
+				for (TickPhase phase : TickPhase.values()) {
+					out.write(String.format(Locale.ROOT, ",%.1f,%.1f", sample.getMeanNanos(phase) / 1000.0,
+							sample.getP99Nanos(phase) / 1000.0));
+				}
+				out.write('\n');
+			}
+		}
+	}
+
+	/**
+	 * Writes the report as JSON: the level, the outcome of the run, the growth found and the samples.
+	 *
+	 * @param file the file to write, replaced if it exists.
+	 * @throws IOException if the file cannot be written.
+	 */
+	public void writeJson(Path file) throws IOException {
+		createParent(file);
+		String[] listNames = TickProfilerManager.getActorListNames();
+		StringBuilder json = new StringBuilder();
+		json.append("{\n  \"level\": \"").append(levelName).append("\",\n");
+		json.append("  \"endedEarly\": ").append(endedEarly).append(",\n");
+		json.append("  \"heals\": ").append(heals).append(",\n");
+		json.append("  \"growth\": [");
+		List<String> growth = findGrowth();
+		for (int i = 0; i < growth.size(); i++) {
+			json.append(i == 0 ? "" : ", ").append('"').append(growth.get(i)).append('"');
+		}
+		json.append("],\n  \"samples\": [\n");
+		for (int s = 0; s < samples.size(); s++) {
+			Sample sample = samples.get(s);
+			json.append(String.format(Locale.ROOT,
+					"    {\"simulatedSeconds\": %.1f, \"ticks\": %d, \"kills\": %d, \"health\": %d, "
+							+ "\"heapAfterGcBytes\": %d, \"nodeCount\": %d, \"actors\": {",
+					sample.simulatedSeconds, sample.ticks, sample.kills, sample.health, sample.heapAfterGcBytes,
+					sample.nodeCount));
+			for (int i = 0; i < listNames.length; i++) {
+				json.append(i == 0 ? "" : ", ").append('"').append(listNames[i]).append("\": ")
+						.append(sample.actorCounts[i]);
+			}
+			json.append("}, \"phasesUs\": {");
+			for (TickPhase phase : TickPhase.values()) {
+				json.append(phase.ordinal() == 0 ? "" : ", ");
+				json.append(String.format(Locale.ROOT, "\"%s\": {\"mean\": %.1f, \"p99\": %.1f}",
+						phase.name().toLowerCase(Locale.ROOT), sample.getMeanNanos(phase) / 1000.0,
+						sample.getP99Nanos(phase) / 1000.0));
+			}
+			json.append("}}").append(s == samples.size() - 1 ? "\n" : ",\n");
+		}
+		json.append("  ]\n}\n");
+		Files.writeString(file, json, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Creates the directory a file goes into, if it does not exist yet.
+	 *
+	 * @param file the file about to be written.
+	 * @throws IOException if the directory cannot be created.
+	 */
+	private static void createParent(Path file) throws IOException {
+		Path parent = file.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+	}
+
+	/**
+	 * Returns the mean of one figure over a range of samples.
+	 *
+	 * @param range the samples.
+	 * @param figure the figure to average.
+	 * @return the mean of the figure.
+	 */
+	private static double mean(List<Sample> range, ToDoubleFunction<Sample> figure) {
+		double sum = 0;
+		for (Sample sample : range) {
+			sum += figure.applyAsDouble(sample);
+		}
+		return sum / range.size();
+	}
+
+	/**
+	 * The state of the level at the end of one window of simulated time, and the tick times over that window.
+	 */
+	public static final class Sample {
+
+		/**
+		 * The simulated time since the start of the run, in seconds.
+		 */
+		private final double simulatedSeconds;
+
+		/**
+		 * The number of ticks run since the start of the run.
+		 */
+		private final long ticks;
+
+		/**
+		 * The player's kill count.
+		 */
+		private final int kills;
+
+		/**
+		 * The player's health.
+		 */
+		private final int health;
+
+		/**
+		 * The heap in use right after a garbage collection, in bytes.
+		 */
+		private final long heapAfterGcBytes;
+
+		/**
+		 * The number of nodes in the scene graph of the level.
+		 */
+		private final int nodeCount;
+
+		/**
+		 * The size of each actor list, in the order of {@link TickProfilerManager#getActorListNames()}.
+		 */
+		private final int[] actorCounts;
+
+		/**
+		 * The mean time of each phase over the window, in nanoseconds, indexed by {@link TickPhase#ordinal()}.
+		 */
+		private final long[] meanNanos;
+
+		/**
+		 * The 99th percentile time of each phase over the window, in nanoseconds, indexed by
+		 * {@link TickPhase#ordinal()}.
+		 */
+		private final long[] p99Nanos;
+
+		/**
+		 * Constructs a sample.
+		 *
+		 * @param simulatedSeconds the simulated time since the start of the run, in seconds.
+		 * @param ticks the number of ticks run since the start of the run.
+		 * @param kills the player's kill count.
+		 * @param health the player's health.
+		 * @param heapAfterGcBytes the heap in use right after a garbage collection, in bytes.
+		 * @param nodeCount the number of nodes in the scene graph of the level.
+		 * @param actorCounts the size of each actor list.
+		 * @param meanNanos the mean time of each phase over the window, in nanoseconds.
+		 * @param p99Nanos the 99th percentile time of each phase over the window, in nanoseconds.
+		 */
+		Sample(double simulatedSeconds, long ticks, int kills, int health, long heapAfterGcBytes, int nodeCount,
+			   int[] actorCounts, long[] meanNanos, long[] p99Nanos) {
+			this.simulatedSeconds = simulatedSeconds;
+			this.ticks = ticks;
+			this.kills = kills;
+			this.health = health;
+			this.heapAfterGcBytes = heapAfterGcBytes;
+			this.nodeCount = nodeCount;
+			this.actorCounts = actorCounts;
+			this.meanNanos = meanNanos;
+			this.p99Nanos = p99Nanos;
+		}
+
+		/**
+		 * Returns the simulated time since the start of the run.
+		 *
+		 * @return the simulated time in seconds.
+		 */
+		public double getSimulatedSeconds() {
+			return simulatedSeconds;
+		}
+
+		/**
+		 * Returns the number of ticks run since the start of the run.
+		 *
+		 * @return the tick count.
+		 */
+		public long getTicks() {
+			return ticks;
+		}
+
+		/**
+		 * Returns the player's kill count.
+		 *
+		 * @return the kill count.
+		 */
+		public int getKills() {
+			return kills;
+		}
+
+		/**
+		 * Returns the player's health.
+		 *
+		 * @return the health.
+		 */
+		public int getHealth() {
+			return health;
+		}
+
+		/**
+		 * Returns the heap in use right after a garbage collection.
+		 *
+		 * @return the heap in bytes.
+		 */
+		public long getHeapAfterGcBytes() {
+			return heapAfterGcBytes;
+		}
+
+		/**
+		 * Returns the number of nodes in the scene graph of the level.
+		 *
+		 * @return the node count.
+		 */
+		public int getNodeCount() {
+			return nodeCount;
+		}
+
+		/**
+		 * Returns the size of an actor list.
+		 *
+		 * @param index the index of the list in {@link TickProfilerManager#getActorListNames()}.
+		 * @return the size of the list.
+		 */
+		public int getActorCount(int index) {
+			return actorCounts[index];
+		}
+
+		/**
+		 * Returns the mean time of a phase over the window.
+		 *
+		 * @param phase the phase.
+		 * @return the mean time in nanoseconds.
+		 */
+		public long getMeanNanos(TickPhase phase) {
+			return meanNanos[phase.ordinal()];
+		}
+
+		/**
+		 * Returns the 99th percentile time of a phase over the window.
+		 *
+		 * @param phase the phase.
+		 * @return the 99th percentile time in nanoseconds.
+		 */
+		public long getP99Nanos(TickPhase phase) {
+			return p99Nanos[phase.ordinal()];
+		}
+	}
+}
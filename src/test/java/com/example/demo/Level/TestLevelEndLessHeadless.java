@@ -0,0 +1,136 @@
+package com.example.demo.Level;
+
+import com.example.demo.Actor.Plane.EnemyPlane;
+import com.example.demo.Controller.GameRuntime;
+import com.example.demo.Level.LevelManager.TickPhase;
+import com.example.demo.Level.LevelManager.TickProfilerManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestLevelEndLessHeadless {
+
+	private LevelEndLess level;
+
+	@BeforeEach
+	void setUp() {
+		// Run the simulation without a display or JavaFX toolkit
+		GameRuntime.setHeadless(true);
+		level = new LevelEndLess(750, 1300);
+		level.startGame();
+	}
+
+	@AfterEach
+	void tearDown() {
+		level.cleanUp();
+		GameRuntime.setHeadless(false);
+	}
+
+	@Test
+	void testLevelHasNoViewWhenHeadless() {
+		assertNull(level.getLevelView());
+	}
+
+	@Test
+	void testTickRunsWithoutToolkit() {
+		int maxEnemies = 0;
+		for (int i = 0; i < 2000; i++) {
+			level.tick();
+			maxEnemies = Math.max(maxEnemies, level.getCurrentNumberOfEnemies());
+		}
+		// Enemies have been spawned and fought purely through the simulation state
+		assertTrue(maxEnemies > 0);
+		assertTrue(maxEnemies <= 5 + level.getUser().getNumberOfKills() / 10);
+	}
+
+	@Test
+	void testKillIsCountedFromEvent() {
+		EnemyPlane enemy = EnemyPlane.obtain(1000, 300);
+		level.addEnemyUnit(enemy);
+		while (!enemy.isDestroyed()) {
+			enemy.takeDamage();
+		}
+		level.tick();
+		assertEquals(1, level.getUser().getNumberOfKills());
+	}
+
+	@Test
+	void testKillsOfAnotherLevelAreNotCounted() {
+		// A second level that is started and one that is never started
+		LevelEndLess other = new LevelEndLess(750, 1300);
+		LevelEndLess idle = new LevelEndLess(750, 1300);
+		other.startGame();
+		try {
+			EnemyPlane enemy = EnemyPlane.obtain(1000, 300);
+			other.addEnemyUnit(enemy);
+			while (!enemy.isDestroyed()) {
+				enemy.takeDamage();
+			}
+			assertEquals(1, other.getUser().getNumberOfKills());
+			assertEquals(0, level.getUser().getNumberOfKills());
+			assertEquals(0, idle.getUser().getNumberOfKills());
+		} finally {
+			other.cleanUp();
+			idle.cleanUp();
+		}
+	}
+
+	@Test
+	void testPenetrationIsNotAKill() {
+		int initialHealth = level.getUser().getHealth();
+		EnemyPlane enemy = EnemyPlane.obtain(1000, 300);
+		level.addEnemyUnit(enemy);
+		// Move the enemy past the left edge of the screen
+		enemy.getState().setTranslationX(-2000);
+		level.tick();
+		assertTrue(enemy.isDestroyed());
+		assertEquals(0, level.getUser().getNumberOfKills());
+		assertEquals(initialHealth - 1, level.getUser().getHealth());
+	}
+
+	@Test
+	void testTickMovesActorsWithoutTouchingNodes() {
+		level.getUser().moveRight();
+		level.tick();
+		// The model has moved, the node is only synced by the renderer
+		assertEquals(12, level.getUser().getState().getX());
+		assertEquals(0, level.getUser().getTranslateX());
+	}
+
+	@Test
+	void testTicksAreProfiled() {
+		for (int i = 0; i < 100; i++) {
+			level.tick();
+		}
+		// Every phase of every tick was timed, and the actor lists were sampled
+		TickProfilerManager profiler = level.getTickProfiler();
+		assertEquals(100, profiler.getTickCount());
+		assertEquals(100, profiler.getHistogram(TickPhase.COLLISIONS).getCount());
+		assertEquals(1, profiler.getActorCount(0));
+		assertTrue(profiler.report("LevelEndLess").contains("collisions"));
+	}
+
+	@Test
+	void testTickReportIsOnlyPrintedWhenEnabled() {
+		level.tick();
+		PrintStream out = System.out;
+		ByteArrayOutputStream printed = new ByteArrayOutputStream();
+		System.setOut(new PrintStream(printed));
+		try {
+			level.cleanUp();
+			assertEquals("", printed.toString());
+
+			GameRuntime.setTickReport(true);
+			level.cleanUp();
+			assertTrue(printed.toString().contains("LevelEndLess"));
+		} finally {
+			GameRuntime.setTickReport(false);
+			System.setOut(out);
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package com.example.demo.Level;
 
+import com.example.demo.Level.LevelManager.SceneLayer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -26,7 +27,7 @@ public class TestLevelOne {
 	public void testInitializeFriendlyUnits() {
 		levelOne.initializeFriendlyUnits();
 		assertNotNull(levelOne.getUser());
-		assertTrue(levelOne.getRoot().getChildren().contains(levelOne.getUser()));
+		assertTrue(levelOne.getLayer(SceneLayer.PLAYER).getChildren().contains(levelOne.getUser()));
 	}
 
 	@Test
@@ -0,0 +1,42 @@
+package com.example.demo.Level;
+
+import com.example.demo.Controller.GameRuntime;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestLevelRegistry {
+
+	@Test
+	void testBuiltInLevelsAreValid() {
+		// Every built-in level has a factory and all of its images
+		assertDoesNotThrow(() -> LevelRegistry.getInstance().validate());
+		assertTrue(LevelRegistry.getInstance().contains(LevelRegistry.LEVEL_ONE));
+		assertTrue(LevelRegistry.getInstance().contains(LevelRegistry.LEVEL_ENDLESS));
+	}
+
+	@Test
+	void testUnknownLevelThrows() {
+		assertThrows(IllegalArgumentException.class,
+				() -> LevelRegistry.getInstance().create("NoSuchLevel", 750, 1300));
+	}
+
+	@Test
+	void testDuplicateRegistrationThrows() {
+		assertThrows(IllegalArgumentException.class,
+				() -> LevelRegistry.getInstance().register(LevelRegistry.LEVEL_ONE, LevelOne::new));
+	}
+
+	@Test
+	void testCreateLevel() {
+		GameRuntime.setHeadless(true);
+		LevelParent level = LevelRegistry.getInstance().create(LevelRegistry.LEVEL_ENDLESS, 750, 1300);
+		try {
+			// The registered factory builds the level without reflection
+			assertInstanceOf(LevelEndLess.class, level);
+		} finally {
+			level.cleanUp();
+			GameRuntime.setHeadless(false);
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package com.example.demo.Level;
 
+import com.example.demo.Level.LevelManager.SceneLayer;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,7 +43,7 @@ public class TestLevelThree {
         levelThree.spawnEnemyUnits();
 
         // Check if the boss is added to the scene
-        assertTrue(levelThree.getRoot().getChildren().contains(levelThree.getBoss()), "Boss should be added to the scene");
+        assertTrue(levelThree.getLayer(SceneLayer.ENEMIES).getChildren().contains(levelThree.getBoss()), "Boss should be added to the scene");
     }
 
     @Test
@@ -0,0 +1,66 @@
+package com.example.demo.Level;
+
+import com.example.demo.Controller.GameRuntime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Minutes of simulated play; left out of the default test run, run with -Psoak
+@Tag("soak")
+public class TestSoakHarness {
+
+	// Simulated minutes of endless play; raise it for a real soak, e.g. -Dskybattle.soak.minutes=60
+	private static final double SOAK_MINUTES = Double.parseDouble(System.getProperty("skybattle.soak.minutes", "10"));
+
+	// Where the reports of the soak are written
+	private static final Path REPORT_DIR = Path.of("target", "soak");
+
+	@BeforeEach
+	void setUp() {
+		GameRuntime.setHeadless(true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		GameRuntime.setHeadless(false);
+	}
+
+	@Test
+	void testEndlessModePlateaus() throws Exception {
+		// One sample every 20 simulated seconds
+		SoakHarness harness = new SoakHarness(LevelRegistry.LEVEL_ENDLESS, SoakHarness.TICKS_PER_MINUTE / 3);
+		SoakReport report = harness.run(SOAK_MINUTES);
+		report.writeCsv(REPORT_DIR.resolve("levelEndLess.csv"));
+		report.writeJson(REPORT_DIR.resolve("levelEndLess.json"));
+
+		assertFalse(report.isEndedEarly());
+		assertEquals((int) (SOAK_MINUTES * 3), report.getSamples().size());
+		assertTrue(report.getSamples().get(report.getSamples().size() - 1).getKills() > 0);
+		// One session throughout: the kill count never starts over
+		for (int i = 1; i < report.getSamples().size(); i++) {
+			assertTrue(report.getSamples().get(i).getKills() >= report.getSamples().get(i - 1).getKills());
+		}
+		assertEquals(List.of(), report.findGrowth());
+	}
+
+	@Test
+	void testReportsAreWritten() throws Exception {
+		SoakReport report = new SoakHarness(LevelRegistry.LEVEL_ENDLESS, 100).run(0.5);
+		Path csv = REPORT_DIR.resolve("short.csv");
+		Path json = REPORT_DIR.resolve("short.json");
+		report.writeCsv(csv);
+		report.writeJson(json);
+
+		// A header and one row per sample; too few samples for a verdict
+		assertEquals(report.getSamples().size() + 1, Files.readAllLines(csv).size());
+		assertTrue(Files.readString(json).contains("\"level\": \"LevelEndLess\""));
+		assertEquals(List.of(), report.findGrowth());
+	}
+}